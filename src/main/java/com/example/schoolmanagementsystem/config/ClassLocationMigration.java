@@ -0,0 +1,51 @@
+package com.example.schoolmanagementsystem.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 班級上課教室欄位遷移
+ * 班級原以文字欄位 location 記錄上課教室，改為關聯教室（room_code）後，ddl-auto=update 不會刪除舊欄位；
+ * 啟動時若舊欄位仍在，先把對應得到教室代碼的值搬到 room_code，全部對應完成後刪除舊欄位
+ *
+ * 仍有對應不到的地點時保留舊欄位並記錄警告，建立對應的教室後下次啟動會再遷移
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class ClassLocationMigration implements CommandLineRunner {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(String... args) {
+        Integer columns = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.COLUMNS " +
+                "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'Classes' AND COLUMN_NAME = 'location'",
+                Integer.class);
+        if (columns == null || columns == 0) {
+            return;
+        }
+
+        int moved = jdbcTemplate.update("UPDATE Classes c JOIN Rooms r ON r.room_code = c.location " +
+                "SET c.room_code = r.room_code WHERE c.room_code IS NULL");
+        List<String> unmatched = jdbcTemplate.queryForList("SELECT DISTINCT location FROM Classes " +
+                "WHERE location IS NOT NULL AND location <> '' AND room_code IS NULL", String.class);
+        if (!unmatched.isEmpty()) {
+            log.warn("班級舊上課地點遷移：{} 班已對應教室，仍有地點沒有對應的教室代碼，暫不刪除 location 欄位: {}",
+                    moved, unmatched);
+            return;
+        }
+
+        jdbcTemplate.execute("ALTER TABLE Classes DROP COLUMN location");
+        log.info("班級舊上課地點遷移完成：{} 班已對應教室，已刪除 location 欄位", moved);
+    }
+}
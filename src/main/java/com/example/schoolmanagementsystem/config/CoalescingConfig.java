@@ -0,0 +1,24 @@
+package com.example.schoolmanagementsystem.config;
+
+import com.example.schoolmanagementsystem.util.RequestCoalescer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 請求合併配置類別
+ * 讓熱門的唯讀查詢在高併發時共用同一次計算
+ */
+@Configuration
+public class CoalescingConfig {
+
+    /**
+     * 唯讀查詢合併器
+     * 結果保留時間由 app.coalescing.result-ttl-ms 設定
+     */
+    @Bean
+    public RequestCoalescer readCoalescer(
+            @Value("${app.coalescing.result-ttl-ms:200}") long resultTtlMillis) {
+        return new RequestCoalescer(resultTtlMillis);
+    }
+}
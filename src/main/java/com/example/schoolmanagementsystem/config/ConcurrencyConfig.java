@@ -0,0 +1,41 @@
+package com.example.schoolmanagementsystem.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 並行執行配置類別
+ * 提供以虛擬執行緒執行的共用執行器，用於聚合查詢的平行分派；
+ * 提供 CPU 密集求解專用的 fork/join 池；並啟用排程，供記憶體內快照定期增量更新
+ */
+@Configuration
+@EnableScheduling
+public class ConcurrencyConfig {
+
+    /**
+     * 虛擬執行緒執行器（每個任務一條虛擬執行緒）
+     * 適合大部分時間在等待資料庫回應的 I/O 型子任務
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService virtualThreadExecutor() {
+        return Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    /**
+     * 排程求解專用的 fork/join 池
+     * 考試排程、課表排程的局部搜尋可能持續數十秒，與 ForkJoinPool.commonPool 分開，
+     * 不會佔住平行串流、CompletableFuture 等共用池使用者；平行度未設定時為 CPU 核心數減一
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ForkJoinPool solverPool(@Value("${app.solver.parallelism:0}") int parallelism) {
+        return new ForkJoinPool(parallelism > 0
+                ? parallelism
+                : Math.max(1, Runtime.getRuntime().availableProcessors() - 1));
+    }
+}
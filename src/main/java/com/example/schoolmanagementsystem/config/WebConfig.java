@@ -0,0 +1,29 @@
+package com.example.schoolmanagementsystem.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Web 回應格式配置類別
+ * 除了 JSON 之外，提供 CBOR 二進位格式，由請求的 Accept 標頭決定
+ */
+@Configuration
+public class WebConfig {
+
+    /**
+     * CBOR 訊息轉換器
+     * 使用與 JSON 相同的 Jackson 設定（日期格式、模組等），客戶端送出
+     * Accept: application/cbor 時，ApiResponse 會以串流方式直接編碼為 CBOR，
+     * 欄位名稱與中文字串不需經過 JSON 文字轉義，體積與編解碼成本都較低
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(
+            Jackson2ObjectMapperBuilder objectMapperBuilder) {
+        ObjectMapper cborMapper = objectMapperBuilder.factory(new CBORFactory()).build();
+        return new MappingJackson2CborHttpMessageConverter(cborMapper);
+    }
+}
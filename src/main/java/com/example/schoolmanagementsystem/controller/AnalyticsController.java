@@ -0,0 +1,75 @@
+package com.example.schoolmanagementsystem.controller;
+
+import com.example.schoolmanagementsystem.dto.response.ApiResponse;
+import com.example.schoolmanagementsystem.dto.response.GradeAnalyticsResponse;
+import com.example.schoolmanagementsystem.service.GradeAnalyticsService;
+import com.example.schoolmanagementsystem.util.GradeSnapshot;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 成績分析控制器
+ * 提供管理員在記憶體成績快照上進行全校報表查詢
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/analytics")
+@RequiredArgsConstructor
+@Tag(name = "成績分析", description = "全校成績報表（管理員）")
+public class AnalyticsController {
+
+    private final GradeAnalyticsService gradeAnalyticsService;
+
+    /**
+     * 成績分組彙總
+     */
+    @GetMapping("/grades")
+    @Operation(summary = "成績分組彙總",
+            description = "依課程、學期、班級（groupBy=COURSE,TERM,CLASS，可組合）計算及格率與加權平均，"
+                    + "例如 groupBy=COURSE,TERM 可作為不及格熱點圖")
+    public ResponseEntity<ApiResponse<GradeAnalyticsResponse>> analyzeGrades(
+            @RequestParam(required = false) String groupBy,
+            @RequestParam(required = false) String courseId,
+            @RequestParam(required = false) Integer academicYear,
+            @RequestParam(required = false) String semester,
+            @RequestParam(required = false) Integer classId) {
+
+        List<GradeSnapshot.Dimension> dimensions = new ArrayList<>();
+        if (groupBy != null && !groupBy.isBlank()) {
+            for (String name : groupBy.split(",")) {
+                try {
+                    dimensions.add(GradeSnapshot.Dimension.valueOf(name.trim().toUpperCase(Locale.ROOT)));
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException("無效的分組維度: " + name + "（可用: COURSE、TERM、CLASS）");
+                }
+            }
+        }
+
+        GradeSnapshot.Filter filter = new GradeSnapshot.Filter(courseId, academicYear, semester, classId);
+        GradeAnalyticsResponse response = gradeAnalyticsService.analyze(filter, dimensions);
+        return ResponseEntity.ok(ApiResponse.success("查詢成功", response));
+    }
+
+    /**
+     * 重建成績快照
+     */
+    @PostMapping("/rebuild")
+    @Operation(summary = "重建成績快照", description = "從資料庫完整重新掃描成績資料")
+    public ResponseEntity<ApiResponse<Void>> rebuild() {
+        log.info("重建成績分析快照");
+        gradeAnalyticsService.rebuild();
+        return ResponseEntity.ok(ApiResponse.success("重建完成", null));
+    }
+}
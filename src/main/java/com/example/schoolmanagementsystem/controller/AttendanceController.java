@@ -0,0 +1,78 @@
+package com.example.schoolmanagementsystem.controller;
+
+import com.example.schoolmanagementsystem.dto.request.AttendanceRequest;
+import com.example.schoolmanagementsystem.dto.response.ApiResponse;
+import com.example.schoolmanagementsystem.dto.response.AttendanceSummaryResponse;
+import com.example.schoolmanagementsystem.dto.response.StudentAttendanceResponse;
+import com.example.schoolmanagementsystem.service.AttendanceService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 出缺勤控制器
+ * 提供教師批次點名與班級、學生出缺勤統計查詢
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/teacher/attendance")
+@RequiredArgsConstructor
+@Tag(name = "出缺勤", description = "批次點名與出席率、缺席次數查詢")
+public class AttendanceController {
+
+    private final AttendanceService attendanceService;
+
+    /**
+     * 批次點名
+     */
+    @PostMapping("/classes/{classId}/sessions")
+    @Operation(summary = "批次點名",
+            description = "送出一堂課的出席與請假名單，未列出的在班學生視為缺席；預設與同堂次的既有紀錄合併")
+    public ResponseEntity<ApiResponse<AttendanceSummaryResponse.SessionSummary>> recordAttendance(
+            @Parameter(description = "班級ID") @PathVariable Integer classId,
+            @Valid @RequestBody AttendanceRequest request) {
+
+        log.info("班級 {} 點名: {} 第 {} 堂", classId, request.getSessionDate(), request.getPeriod());
+
+        AttendanceSummaryResponse.SessionSummary summary = attendanceService.recordAttendance(classId, request);
+        return ResponseEntity.ok(ApiResponse.success("點名完成", summary));
+    }
+
+    /**
+     * 查詢班級出缺勤統計
+     */
+    @GetMapping("/classes/{classId}")
+    @Operation(summary = "班級出缺勤統計", description = "回傳每堂課的出席率與每位學生的出席、請假、缺席次數")
+    public ResponseEntity<ApiResponse<AttendanceSummaryResponse>> getClassSummary(
+            @Parameter(description = "班級ID") @PathVariable Integer classId) {
+
+        log.info("查詢班級 {} 出缺勤統計", classId);
+
+        AttendanceSummaryResponse summary = attendanceService.getClassSummary(classId);
+        return ResponseEntity.ok(ApiResponse.success("查詢成功", summary));
+    }
+
+    /**
+     * 查詢學生出缺勤
+     */
+    @GetMapping("/students/{studentId}")
+    @Operation(summary = "學生出缺勤", description = "回傳學生在各班級的出席、請假與缺席次數")
+    public ResponseEntity<ApiResponse<StudentAttendanceResponse>> getStudentAttendance(
+            @Parameter(description = "學號") @PathVariable String studentId) {
+
+        log.info("查詢學生 {} 出缺勤", studentId);
+
+        StudentAttendanceResponse attendance = attendanceService.getStudentAttendance(studentId);
+        return ResponseEntity.ok(ApiResponse.success("查詢成功", attendance));
+    }
+}
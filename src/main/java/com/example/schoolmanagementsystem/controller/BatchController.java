@@ -0,0 +1,48 @@
+package com.example.schoolmanagementsystem.controller;
+
+import com.example.schoolmanagementsystem.dto.request.BatchRequest;
+import com.example.schoolmanagementsystem.dto.response.ApiResponse;
+import com.example.schoolmanagementsystem.dto.response.BatchItemResponse;
+import com.example.schoolmanagementsystem.service.BatchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import java.util.List;
+
+/**
+ * 批次請求控制器
+ * 讓前端把頁面載入時的多個小型 GET 請求合併為一次呼叫
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/batch")
+@RequiredArgsConstructor
+@Tag(name = "批次請求", description = "合併多個查詢請求")
+public class BatchController {
+
+    private final BatchService batchService;
+
+    /**
+     * 執行批次請求
+     */
+    @PostMapping
+    @Operation(summary = "批次請求",
+            description = "一次送出多個 /api/courses/** 或 /api/student/** 的 GET 請求，平行處理後合併回傳")
+    public ResponseEntity<ApiResponse<List<BatchItemResponse>>> executeBatch(
+            @Valid @RequestBody BatchRequest request,
+            HttpServletRequest servletRequest,
+            HttpServletResponse servletResponse) {
+
+        List<BatchItemResponse> results = batchService.execute(request, servletRequest, servletResponse);
+        return ResponseEntity.ok(ApiResponse.success("批次處理完成", results));
+    }
+}
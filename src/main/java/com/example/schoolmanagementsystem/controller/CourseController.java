@@ -1,11 +1,16 @@
 package com.example.schoolmanagementsystem.controller;
 
 import com.example.schoolmanagementsystem.dto.response.ApiResponse;
+import com.example.schoolmanagementsystem.dto.response.SuggestionResponse;
 import com.example.schoolmanagementsystem.model.ClassInfo;
 import com.example.schoolmanagementsystem.model.Course;
 import com.example.schoolmanagementsystem.repository.ClassInfoRepository;
 import com.example.schoolmanagementsystem.repository.CourseRepository;
 import com.example.schoolmanagementsystem.repository.EnrollmentRepository;
+import com.example.schoolmanagementsystem.service.CourseService;
+import com.example.schoolmanagementsystem.service.PrerequisiteService;
+import com.example.schoolmanagementsystem.service.SuggestService;
+import com.example.schoolmanagementsystem.util.SparseFieldSet;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -32,6 +37,9 @@ public class CourseController {
     private final CourseRepository courseRepository;
     private final ClassInfoRepository classInfoRepository;
     private final EnrollmentRepository enrollmentRepository;
+    private final CourseService courseService;
+    private final SuggestService suggestService;
+    private final PrerequisiteService prerequisiteService;
 
     /**
      * 查詢所有課程
@@ -60,36 +68,52 @@ public class CourseController {
         return ResponseEntity.ok(ApiResponse.success("查詢成功", courseList));
     }
 
+    /**
+     * 課程代碼 / 教職員編號自動完成
+     */
+    @GetMapping("/suggest")
+    @Operation(summary = "自動完成建議",
+            description = "依輸入的前綴（例如 CS1、T00 或名稱開頭）回傳課程或教師建議，不查詢資料庫")
+    public ResponseEntity<ApiResponse<List<SuggestionResponse>>> suggest(
+            @RequestParam String q,
+            @RequestParam(required = false) String type,
+            @RequestParam(defaultValue = "10") int limit) {
+
+        if (limit < 1 || limit > 50) {
+            throw new IllegalArgumentException("limit 必須介於 1 到 50 之間");
+        }
+
+        List<SuggestionResponse> suggestions = suggestService.suggest(q, type, limit);
+        return ResponseEntity.ok(ApiResponse.success("查詢成功", suggestions));
+    }
+
+    /**
+     * 查詢課程的先修課程
+     */
+    @GetMapping("/{courseId}/prerequisites")
+    @Operation(summary = "查詢先修課程", description = "transitive = true 時包含間接先修課程")
+    public ResponseEntity<ApiResponse<List<String>>> getPrerequisites(
+            @PathVariable String courseId,
+            @RequestParam(defaultValue = "false") boolean transitive) {
+
+        List<String> prerequisites = prerequisiteService.getPrerequisites(courseId, transitive);
+        return ResponseEntity.ok(ApiResponse.success("查詢成功", prerequisites));
+    }
+
     /**
      * 查詢特定課程的所有班級
      */
     @GetMapping("/{courseId}/classes")
-    @Operation(summary = "查詢課程班級", description = "查詢特定課程的所有開課班級")
+    @Operation(summary = "查詢課程班級",
+            description = "查詢特定課程的所有開課班級，可用 fields=classId,courseName,remainingSeats 只取需要的欄位")
     public ResponseEntity<ApiResponse<List<Map<String, Object>>>> getClassesByCourse(
-            @PathVariable String courseId) {
+            @PathVariable String courseId,
+            @RequestParam(required = false) String fields) {
 
         log.info("查詢課程 {} 的所有班級", courseId);
 
-        List<ClassInfo> classes = classInfoRepository.findByCourse_CourseId(courseId);
-        List<Map<String, Object>> classList = classes.stream()
-                .map(classInfo -> {
-                    Map<String, Object> classMap = new HashMap<>();
-                    classMap.put("classId", classInfo.getClassId());
-                    classMap.put("courseId", classInfo.getCourse().getCourseId());
-                    classMap.put("courseName", classInfo.getCourse().getCourseName());
-                    classMap.put("teacherName", classInfo.getTeacher().getTeacherName());
-                    classMap.put("academicYear", classInfo.getAcademicYear());
-                    classMap.put("semester", classInfo.getSemester());
-                    classMap.put("capacity", classInfo.getCapacity());
-
-                    // 查詢目前選課人數
-                    Long currentEnrollment = enrollmentRepository.countByClassId(classInfo.getClassId());
-                    classMap.put("currentEnrollment", currentEnrollment);
-                    classMap.put("available", classInfo.getCapacity() - currentEnrollment);
-
-                    return classMap;
-                })
-                .collect(Collectors.toList());
+        List<Map<String, Object>> classList =
+                courseService.getClassesByCourse(courseId, SparseFieldSet.parse(fields));
 
         return ResponseEntity.ok(ApiResponse.success("查詢成功", classList));
     }
@@ -98,35 +122,17 @@ public class CourseController {
      * 查詢可選班級（當前學期）
      */
     @GetMapping("/available")
-    @Operation(summary = "查詢可選班級", description = "查詢當前學期所有可選的班級")
+    @Operation(summary = "查詢可選班級",
+            description = "查詢當前學期所有可選的班級，可用 fields=classId,courseName,remainingSeats 只取需要的欄位")
     public ResponseEntity<ApiResponse<List<Map<String, Object>>>> getAvailableClasses(
             @RequestParam(defaultValue = "2024") Integer academicYear,
-            @RequestParam(defaultValue = "上學期") String semester) {
+            @RequestParam(defaultValue = "上學期") String semester,
+            @RequestParam(required = false) String fields) {
 
         log.info("查詢 {} 年 {} 的可選班級", academicYear, semester);
 
-        List<ClassInfo> classes = classInfoRepository.findByAcademicYearAndSemester(academicYear, semester);
-        List<Map<String, Object>> availableClasses = classes.stream()
-                .map(classInfo -> {
-                    Map<String, Object> classMap = new HashMap<>();
-                    classMap.put("classId", classInfo.getClassId());
-                    classMap.put("courseId", classInfo.getCourse().getCourseId());
-                    classMap.put("courseName", classInfo.getCourse().getCourseName());
-                    classMap.put("credits", classInfo.getCourse().getCredits());
-                    classMap.put("teacherId", classInfo.getTeacher().getTeacherId());
-                    classMap.put("teacherName", classInfo.getTeacher().getTeacherName());
-                    classMap.put("capacity", classInfo.getCapacity());
-
-                    // 查詢目前選課人數
-                    Long currentEnrollment = enrollmentRepository.countByClassId(classInfo.getClassId());
-                    classMap.put("currentEnrollment", currentEnrollment);
-                    classMap.put("remainingSeats", classInfo.getCapacity() - currentEnrollment);
-                    classMap.put("isFull", currentEnrollment >= classInfo.getCapacity());
-
-                    return classMap;
-                })
-                .filter(classMap -> !(Boolean) classMap.get("isFull"))  // 只顯示未滿的班級
-                .collect(Collectors.toList());
+        List<Map<String, Object>> availableClasses =
+                courseService.getAvailableClasses(academicYear, semester, SparseFieldSet.parse(fields));
 
         return ResponseEntity.ok(ApiResponse.success("查詢成功", availableClasses));
     }
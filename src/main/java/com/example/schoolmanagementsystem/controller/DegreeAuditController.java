@@ -0,0 +1,92 @@
+package com.example.schoolmanagementsystem.controller;
+
+import com.example.schoolmanagementsystem.dto.request.DegreeProgramRequest;
+import com.example.schoolmanagementsystem.dto.response.ApiResponse;
+import com.example.schoolmanagementsystem.dto.response.DegreeAuditBatchResponse;
+import com.example.schoolmanagementsystem.dto.response.DegreeAuditResponse;
+import com.example.schoolmanagementsystem.dto.response.DegreeProgramResponse;
+import com.example.schoolmanagementsystem.service.DegreeAuditService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 畢業審查控制器
+ * 提供管理員維護畢業學程並審查單一學生或整個應屆群體
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/degree-audits")
+@RequiredArgsConstructor
+@Tag(name = "畢業審查", description = "畢業學程門檻與畢業資格審查（管理員）")
+public class DegreeAuditController {
+
+    private final DegreeAuditService degreeAuditService;
+
+    /**
+     * 建立畢業學程
+     */
+    @PostMapping("/programs")
+    @Operation(summary = "建立畢業學程", description = "設定必修課程、學分類別、最低總學分與最低平均")
+    public ResponseEntity<ApiResponse<DegreeProgramResponse>> createProgram(
+            @Valid @RequestBody DegreeProgramRequest request) {
+
+        log.info("建立畢業學程: {}（{}）", request.getProgramName(), request.getDepartment());
+
+        DegreeProgramResponse program = degreeAuditService.createProgram(request);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success("建立成功", program));
+    }
+
+    /**
+     * 列出所有畢業學程
+     */
+    @GetMapping("/programs")
+    @Operation(summary = "畢業學程清單", description = "列出所有畢業學程與門檻")
+    public ResponseEntity<ApiResponse<List<DegreeProgramResponse>>> getPrograms() {
+        return ResponseEntity.ok(ApiResponse.success("查詢成功", degreeAuditService.getPrograms()));
+    }
+
+    /**
+     * 審查單一學生
+     */
+    @GetMapping("/students/{studentId}")
+    @Operation(summary = "審查單一學生", description = "未指定 programId 時依學生系所與入學學年選擇學程")
+    public ResponseEntity<ApiResponse<DegreeAuditResponse>> auditStudent(
+            @PathVariable String studentId,
+            @RequestParam(required = false) Integer programId) {
+
+        DegreeAuditResponse audit = degreeAuditService.auditStudent(studentId, programId);
+        return ResponseEntity.ok(ApiResponse.success("審查完成", audit));
+    }
+
+    /**
+     * 批次審查應屆群體
+     */
+    @PostMapping("/cohorts")
+    @Operation(summary = "批次審查群體",
+            description = "審查學程系所在指定入學學年的所有學生；includeEligible = false 時只回傳未符合者")
+    public ResponseEntity<ApiResponse<DegreeAuditBatchResponse>> auditCohort(
+            @RequestParam Integer programId,
+            @RequestParam(required = false) Integer enrollmentYear,
+            @RequestParam(defaultValue = "false") boolean includeEligible) {
+
+        log.info("批次畢業審查: 學程 {}，入學學年 {}", programId, enrollmentYear);
+
+        DegreeAuditBatchResponse result = degreeAuditService.auditCohort(programId, enrollmentYear, includeEligible);
+        return ResponseEntity.ok(ApiResponse.success("審查完成", result));
+    }
+}
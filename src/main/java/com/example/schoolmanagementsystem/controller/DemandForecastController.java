@@ -0,0 +1,46 @@
+package com.example.schoolmanagementsystem.controller;
+
+import com.example.schoolmanagementsystem.dto.request.DemandForecastRequest;
+import com.example.schoolmanagementsystem.dto.response.ApiResponse;
+import com.example.schoolmanagementsystem.dto.response.DemandForecastResponse;
+import com.example.schoolmanagementsystem.service.DemandForecastService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 選課需求預測控制器
+ * 提供管理員預測下學期各課程需求並取得開班建議
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/demand-forecasts")
+@RequiredArgsConstructor
+@Tag(name = "選課需求預測", description = "蒙地卡羅模擬下學期選課需求與開班建議（管理員）")
+public class DemandForecastController {
+
+    private final DemandForecastService demandForecastService;
+
+    /**
+     * 預測學期選課需求
+     */
+    @PostMapping
+    @Operation(summary = "預測選課需求",
+            description = "依歷史修課率與先修完成情況模擬各課程需求，回傳信賴區間與建議開班數、人數上限")
+    public ResponseEntity<ApiResponse<DemandForecastResponse>> forecast(
+            @Valid @RequestBody DemandForecastRequest request) {
+
+        log.info("預測選課需求: {}-{}，{} 次模擬", request.getAcademicYear(), request.getSemester(),
+                request.getTrials());
+
+        DemandForecastResponse forecast = demandForecastService.forecast(request);
+        return ResponseEntity.ok(ApiResponse.success("預測完成", forecast));
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.schoolmanagementsystem.controller;
+
+import com.example.schoolmanagementsystem.dto.response.ApiResponse;
+import com.example.schoolmanagementsystem.dto.response.CourseOverlapResponse;
+import com.example.schoolmanagementsystem.service.EnrollmentGraphService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 選課圖分析控制器
+ * 提供管理員查詢同學期課程間的共同修課情形，作為排課與開課規劃參考
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/enrollment-graph")
+@RequiredArgsConstructor
+@Tag(name = "選課圖分析", description = "共同修課分析（管理員）")
+public class EnrollmentGraphController {
+
+    private final EnrollmentGraphService enrollmentGraphService;
+
+    /**
+     * 查詢課程共同修課人數
+     */
+    @GetMapping("/course-overlaps")
+    @Operation(summary = "課程共同修課人數",
+            description = "列出同學期課程兩兩之間同時修課的學生數；指定 courseId 時只列出與該課程的重疊")
+    public ResponseEntity<ApiResponse<List<CourseOverlapResponse>>> getCourseOverlaps(
+            @RequestParam Integer academicYear,
+            @RequestParam String semester,
+            @RequestParam(required = false) String courseId,
+            @RequestParam(defaultValue = "1") int minShared,
+            @RequestParam(defaultValue = "50") int limit) {
+
+        if (limit < 1 || limit > 1000) {
+            throw new IllegalArgumentException("limit 必須介於 1 到 1000 之間");
+        }
+
+        List<CourseOverlapResponse> overlaps = enrollmentGraphService.getCourseOverlaps(
+                academicYear, semester, courseId, Math.max(1, minShared), limit);
+        return ResponseEntity.ok(ApiResponse.success("查詢成功", overlaps));
+    }
+
+    /**
+     * 查詢選課圖規模
+     */
+    @GetMapping("/summary")
+    @Operation(summary = "選課圖規模", description = "查看學期選課圖的學生數、班級數與選課數")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getSummary(
+            @RequestParam Integer academicYear,
+            @RequestParam String semester) {
+
+        EnrollmentGraphService.TermGraph termGraph = enrollmentGraphService.getTermGraph(academicYear, semester);
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("students", termGraph.graph().studentCount());
+        summary.put("classes", termGraph.graph().classCount());
+        summary.put("courses", termGraph.courseIds().length);
+        summary.put("enrollments", termGraph.graph().edgeCount());
+        summary.put("builtAt", termGraph.builtAt());
+        return ResponseEntity.ok(ApiResponse.success(summary));
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.schoolmanagementsystem.controller;
+
+import com.example.schoolmanagementsystem.dto.request.EvaluationRequest;
+import com.example.schoolmanagementsystem.dto.response.ApiResponse;
+import com.example.schoolmanagementsystem.service.EvaluationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 課程評鑑控制器
+ * 提供學生取得評鑑題目與填寫課程評鑑
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/student/evaluations")
+@RequiredArgsConstructor
+@Tag(name = "課程評鑑", description = "期末課程評鑑問卷填寫")
+public class EvaluationController {
+
+    private final EvaluationService evaluationService;
+
+    /**
+     * 取得評鑑題目
+     */
+    @GetMapping("/questions")
+    @Operation(summary = "評鑑題目", description = "依題號順序回傳評鑑題目，每題以 1 ~ 5 分作答")
+    public ResponseEntity<ApiResponse<List<String>>> getQuestions() {
+        return ResponseEntity.ok(ApiResponse.success("查詢成功", evaluationService.getQuestions()));
+    }
+
+    /**
+     * 填寫課程評鑑
+     */
+    @PostMapping
+    @Operation(summary = "填寫課程評鑑", description = "驗證後排入佇列由背景批次寫入，回應 202 時統計結果可能尚未更新")
+    public ResponseEntity<ApiResponse<Void>> submit(@Valid @RequestBody EvaluationRequest request) {
+        log.info("學生 {} 填寫班級 {} 的課程評鑑", request.getStudentId(), request.getClassId());
+
+        evaluationService.submit(request);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success("已收到評鑑", null));
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.schoolmanagementsystem.controller;
+
+import com.example.schoolmanagementsystem.dto.response.ApiResponse;
+import com.example.schoolmanagementsystem.dto.response.EvaluationSummaryResponse;
+import com.example.schoolmanagementsystem.service.EvaluationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 課程評鑑結果控制器
+ * 提供教師查詢班級評鑑統計
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/teacher/evaluations")
+@RequiredArgsConstructor
+@Tag(name = "課程評鑑結果", description = "班級各題評鑑統計（教師）")
+public class EvaluationResultController {
+
+    private final EvaluationService evaluationService;
+
+    /**
+     * 查詢班級評鑑結果
+     */
+    @GetMapping("/classes/{classId}")
+    @Operation(summary = "班級評鑑結果", description = "回傳各題的填答數、平均分數與 1 ~ 5 分分布")
+    public ResponseEntity<ApiResponse<EvaluationSummaryResponse>> getSummary(
+            @Parameter(description = "班級ID") @PathVariable Integer classId) {
+
+        log.info("查詢班級 {} 評鑑結果", classId);
+
+        EvaluationSummaryResponse summary = evaluationService.getSummary(classId);
+        return ResponseEntity.ok(ApiResponse.success("查詢成功", summary));
+    }
+}
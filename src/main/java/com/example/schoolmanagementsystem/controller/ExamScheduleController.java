@@ -0,0 +1,40 @@
+package com.example.schoolmanagementsystem.controller;
+
+import com.example.schoolmanagementsystem.dto.request.ExamScheduleRequest;
+import com.example.schoolmanagementsystem.dto.response.ApiResponse;
+import com.example.schoolmanagementsystem.dto.response.ExamScheduleResponse;
+import com.example.schoolmanagementsystem.service.ExamScheduleService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 期末考排程控制器
+ * 提供管理員依選課資料產生期末考時段建議
+ */
+@RestController
+@RequestMapping("/api/admin/exam-schedules")
+@RequiredArgsConstructor
+@Tag(name = "期末考排程", description = "依選課衝突自動安排考試時段（管理員）")
+public class ExamScheduleController {
+
+    private final ExamScheduleService examScheduleService;
+
+    /**
+     * 產生期末考排程
+     */
+    @PostMapping
+    @Operation(summary = "產生期末考排程",
+            description = "以圖著色與平行局部搜尋安排各班考試時段，盡量避免學生同時段或同一天連續考試，並回報剩餘衝突")
+    public ResponseEntity<ApiResponse<ExamScheduleResponse>> generateSchedule(
+            @Valid @RequestBody ExamScheduleRequest request) {
+        ExamScheduleResponse schedule = examScheduleService.generateSchedule(request);
+        return ResponseEntity.ok(ApiResponse.success("排程完成", schedule));
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.schoolmanagementsystem.controller;
+
+import com.example.schoolmanagementsystem.dto.response.ApiResponse;
+import com.example.schoolmanagementsystem.service.GradeRollupService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 成績彙總管理控制器
+ * 提供管理員重建成績彙總（會刪除並重寫所有學年的彙總資料）
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/grade-rollups")
+@RequiredArgsConstructor
+@Tag(name = "成績彙總管理", description = "成績彙總維護（管理員）")
+public class GradeRollupAdminController {
+
+    private final GradeRollupService gradeRollupService;
+
+    /**
+     * 重建成績彙總
+     */
+    @PostMapping("/rebuild")
+    @Operation(summary = "重建成績彙總", description = "從成績資料重新計算所有學年的彙總（各學年平行處理）")
+    public ResponseEntity<ApiResponse<Integer>> rebuild() {
+        log.info("重建成績彙總");
+        return ResponseEntity.ok(ApiResponse.success("重建完成", gradeRollupService.rebuildRollups()));
+    }
+}
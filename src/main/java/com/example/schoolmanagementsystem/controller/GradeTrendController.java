@@ -0,0 +1,60 @@
+package com.example.schoolmanagementsystem.controller;
+
+import com.example.schoolmanagementsystem.dto.response.ApiResponse;
+import com.example.schoolmanagementsystem.dto.response.GradeTrendResponse;
+import com.example.schoolmanagementsystem.service.GradeRollupService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 成績趨勢控制器
+ * 提供課程與教師歷年平均分數、標準差與及格率查詢（只讀取預先彙總的資料）
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/teacher/grade-trends")
+@RequiredArgsConstructor
+@Tag(name = "成績趨勢", description = "課程與教師歷年成績趨勢")
+public class GradeTrendController {
+
+    private final GradeRollupService gradeRollupService;
+
+    /**
+     * 查詢課程歷年成績趨勢
+     */
+    @GetMapping("/courses/{courseId}")
+    @Operation(summary = "課程成績趨勢", description = "回傳課程各學期的平均分數、標準差與及格率，可指定授課教師")
+    public ResponseEntity<ApiResponse<GradeTrendResponse>> getCourseTrend(
+            @Parameter(description = "課程ID") @PathVariable String courseId,
+            @Parameter(description = "教師ID（選填）") @RequestParam(required = false) String teacherId) {
+
+        log.info("查詢課程成績趨勢: {}，教師: {}", courseId, teacherId);
+
+        GradeTrendResponse trend = gradeRollupService.getCourseTrend(courseId, teacherId);
+        return ResponseEntity.ok(ApiResponse.success("查詢成功", trend));
+    }
+
+    /**
+     * 查詢教師歷年成績趨勢
+     */
+    @GetMapping("/teachers/{teacherId}")
+    @Operation(summary = "教師成績趨勢", description = "回傳教師各學期的平均分數、標準差與及格率，可指定課程")
+    public ResponseEntity<ApiResponse<GradeTrendResponse>> getTeacherTrend(
+            @Parameter(description = "教師ID") @PathVariable String teacherId,
+            @Parameter(description = "課程ID（選填）") @RequestParam(required = false) String courseId) {
+
+        log.info("查詢教師成績趨勢: {}，課程: {}", teacherId, courseId);
+
+        GradeTrendResponse trend = gradeRollupService.getTeacherTrend(teacherId, courseId);
+        return ResponseEntity.ok(ApiResponse.success("查詢成功", trend));
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.schoolmanagementsystem.controller;
+
+import com.example.schoolmanagementsystem.dto.response.ApiResponse;
+import com.example.schoolmanagementsystem.util.RequestCoalescer;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 系統監控控制器
+ * 提供管理員查看系統執行期統計
+ */
+@RestController
+@RequestMapping("/api/admin/monitor")
+@RequiredArgsConstructor
+@Tag(name = "系統監控", description = "系統執行期統計（管理員）")
+public class MonitorController {
+
+    private final RequestCoalescer readCoalescer;
+
+    /**
+     * 查詢請求合併統計
+     */
+    @GetMapping("/coalescing")
+    @Operation(summary = "請求合併統計", description = "查看熱門唯讀查詢的合併比例")
+    public ResponseEntity<ApiResponse<RequestCoalescer.Stats>> getCoalescingStats() {
+        return ResponseEntity.ok(ApiResponse.success(readCoalescer.getStats()));
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.schoolmanagementsystem.controller;
+
+import com.example.schoolmanagementsystem.dto.request.PrerequisiteRequest;
+import com.example.schoolmanagementsystem.dto.response.ApiResponse;
+import com.example.schoolmanagementsystem.service.PrerequisiteService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 先修課程管理控制器
+ * 提供管理員設定課程的先修關係
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/courses")
+@RequiredArgsConstructor
+@Tag(name = "先修課程管理", description = "課程先修關係維護（管理員）")
+public class PrerequisiteController {
+
+    private final PrerequisiteService prerequisiteService;
+
+    /**
+     * 設定課程的直接先修課程
+     */
+    @PutMapping("/{courseId}/prerequisites")
+    @Operation(summary = "設定先修課程", description = "取代課程的直接先修課程；形成循環時回傳 400")
+    public ResponseEntity<ApiResponse<List<String>>> updatePrerequisites(
+            @PathVariable String courseId,
+            @Valid @RequestBody PrerequisiteRequest request) {
+
+        log.info("設定課程 {} 的先修課程: {}", courseId, request.getPrerequisiteIds());
+
+        List<String> prerequisites = prerequisiteService.updatePrerequisites(courseId, request.getPrerequisiteIds());
+        return ResponseEntity.ok(ApiResponse.success("更新成功", prerequisites));
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.schoolmanagementsystem.controller;
+
+import com.example.schoolmanagementsystem.dto.response.ApiResponse;
+import com.example.schoolmanagementsystem.dto.response.RankingResponse;
+import com.example.schoolmanagementsystem.service.RankingService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * GPA 排名控制器
+ * 提供管理員查詢同屆、同系所的排行榜
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/rankings")
+@RequiredArgsConstructor
+@Tag(name = "GPA 排名", description = "同屆與同系所 GPA 排行榜（管理員）")
+public class RankingController {
+
+    private final RankingService rankingService;
+
+    /**
+     * 查詢排行榜
+     */
+    @GetMapping("/leaderboard")
+    @Operation(summary = "GPA 排行榜", description = "依群體類型（YEAR、DEPARTMENT）與群體值取得前幾名")
+    public ResponseEntity<ApiResponse<List<RankingResponse>>> getLeaderboard(
+            @RequestParam String type,
+            @RequestParam String cohort,
+            @RequestParam(defaultValue = "10") int limit) {
+
+        if (limit < 1 || limit > 500) {
+            throw new IllegalArgumentException("limit 必須介於 1 到 500 之間");
+        }
+
+        List<RankingResponse> leaderboard = rankingService.getLeaderboard(type, cohort, limit);
+        return ResponseEntity.ok(ApiResponse.success("查詢成功", leaderboard));
+    }
+
+    /**
+     * 列出所有群體
+     */
+    @GetMapping("/cohorts")
+    @Operation(summary = "群體清單", description = "列出目前所有排名群體與人數")
+    public ResponseEntity<ApiResponse<Map<String, Integer>>> getCohorts() {
+        return ResponseEntity.ok(ApiResponse.success(rankingService.getCohortSizes()));
+    }
+
+    /**
+     * 重建排名索引
+     */
+    @PostMapping("/rebuild")
+    @Operation(summary = "重建排名索引", description = "從資料庫重新計算所有學生的 GPA 與名次")
+    public ResponseEntity<ApiResponse<Map<String, Integer>>> rebuild() {
+        log.info("重建 GPA 排名索引");
+        rankingService.rebuild();
+        return ResponseEntity.ok(ApiResponse.success("重建完成", rankingService.getCohortSizes()));
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.schoolmanagementsystem.controller;
+
+import com.example.schoolmanagementsystem.dto.request.RolloverRequest;
+import com.example.schoolmanagementsystem.dto.response.ApiResponse;
+import com.example.schoolmanagementsystem.dto.response.RolloverResponse;
+import com.example.schoolmanagementsystem.service.RolloverService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 學期轉換控制器
+ * 提供管理員將上一學期的開課班級批次複製到新學期
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/rollovers")
+@RequiredArgsConstructor
+@Tag(name = "學期轉換", description = "批次複製開課班級到新學期（管理員）")
+public class RolloverController {
+
+    private final RolloverService rolloverService;
+
+    /**
+     * 學期轉換
+     */
+    @PostMapping
+    @Operation(summary = "學期轉換",
+            description = "將來源學期的班級複製到目標學期，可停開課程、更換教師或調整人數；apply 為 false 時只回傳差異預覽；教室或教師時段衝突時拒絕寫入")
+    public ResponseEntity<ApiResponse<RolloverResponse>> rollover(@Valid @RequestBody RolloverRequest request) {
+        log.info("學期轉換: {}-{} → {}-{}（{}）", request.getSourceAcademicYear(), request.getSourceSemester(),
+                request.getTargetAcademicYear(), request.getTargetSemester(),
+                Boolean.TRUE.equals(request.getApply()) ? "寫入" : "試算");
+
+        RolloverResponse result = rolloverService.rollover(request);
+        return ResponseEntity.ok(ApiResponse.success(result.getApplied() ? "轉換完成" : "試算完成", result));
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.schoolmanagementsystem.controller;
+
+import com.example.schoolmanagementsystem.dto.request.RoomRequest;
+import com.example.schoolmanagementsystem.dto.response.ApiResponse;
+import com.example.schoolmanagementsystem.dto.response.RoomResponse;
+import com.example.schoolmanagementsystem.service.RoomService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 教室管理控制器
+ * 提供管理員維護教室資料
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/rooms")
+@RequiredArgsConstructor
+@Tag(name = "教室管理", description = "教室資料維護（管理員）")
+public class RoomAdminController {
+
+    private final RoomService roomService;
+
+    /**
+     * 列出所有教室
+     */
+    @GetMapping
+    @Operation(summary = "教室清單", description = "列出所有教室與容量")
+    public ResponseEntity<ApiResponse<List<RoomResponse>>> getAllRooms() {
+        return ResponseEntity.ok(ApiResponse.success("查詢成功", roomService.getAllRooms()));
+    }
+
+    /**
+     * 建立教室
+     */
+    @PostMapping
+    @Operation(summary = "建立教室", description = "新增教室與容量")
+    public ResponseEntity<ApiResponse<RoomResponse>> createRoom(@Valid @RequestBody RoomRequest request) {
+        log.info("建立教室: {}", request.getRoomCode());
+
+        RoomResponse room = roomService.createRoom(request);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success("建立成功", room));
+    }
+
+    /**
+     * 更新教室
+     */
+    @PutMapping("/{roomCode}")
+    @Operation(summary = "更新教室", description = "更新教室名稱與容量")
+    public ResponseEntity<ApiResponse<RoomResponse>> updateRoom(
+            @PathVariable String roomCode,
+            @Valid @RequestBody RoomRequest request) {
+
+        log.info("更新教室: {}", roomCode);
+
+        RoomResponse room = roomService.updateRoom(roomCode, request);
+        return ResponseEntity.ok(ApiResponse.success("更新成功", room));
+    }
+}
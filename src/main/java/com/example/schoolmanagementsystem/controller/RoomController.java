@@ -0,0 +1,103 @@
+package com.example.schoolmanagementsystem.controller;
+
+import com.example.schoolmanagementsystem.dto.request.RoomBookingRequest;
+import com.example.schoolmanagementsystem.dto.response.ApiResponse;
+import com.example.schoolmanagementsystem.dto.response.FreeSlotResponse;
+import com.example.schoolmanagementsystem.dto.response.RoomBookingResponse;
+import com.example.schoolmanagementsystem.dto.response.RoomResponse;
+import com.example.schoolmanagementsystem.service.RoomService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * 教室預約控制器
+ * 提供教師查詢空教室、教室空檔與臨時借用教室
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/teacher/rooms")
+@RequiredArgsConstructor
+@Tag(name = "教室預約", description = "空教室查詢與臨時借用")
+public class RoomController {
+
+    private final RoomService roomService;
+
+    /**
+     * 查詢可用教室
+     */
+    @GetMapping("/available")
+    @Operation(summary = "查詢空教室",
+            description = "列出時段內沒有課程也沒有預約、且容量足夠的教室（依容量遞增排序）")
+    public ResponseEntity<ApiResponse<List<RoomResponse>>> getAvailableRooms(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
+            @RequestParam(defaultValue = "0") int minCapacity) {
+
+        List<RoomResponse> rooms = roomService.findAvailableRooms(start, end, minCapacity);
+        return ResponseEntity.ok(ApiResponse.success("查詢成功", rooms));
+    }
+
+    /**
+     * 查詢教室空檔
+     */
+    @GetMapping("/{roomCode}/free-slots")
+    @Operation(summary = "教室空檔", description = "列出教室某天在查詢時段內長度足夠的空檔")
+    public ResponseEntity<ApiResponse<List<FreeSlotResponse>>> getFreeSlots(
+            @PathVariable String roomCode,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(defaultValue = "08:00") @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime from,
+            @RequestParam(defaultValue = "22:00") @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime to,
+            @RequestParam(defaultValue = "30") int minMinutes) {
+
+        List<FreeSlotResponse> freeSlots = roomService.findFreeSlots(roomCode, date, from, to, minMinutes);
+        return ResponseEntity.ok(ApiResponse.success("查詢成功", freeSlots));
+    }
+
+    /**
+     * 預約教室
+     */
+    @PostMapping("/{roomCode}/bookings")
+    @Operation(summary = "預約教室", description = "臨時借用教室；與課程或其他預約重疊時回傳 409")
+    public ResponseEntity<ApiResponse<RoomBookingResponse>> createBooking(
+            @PathVariable String roomCode,
+            @Valid @RequestBody RoomBookingRequest request) {
+
+        log.info("{} 預約教室 {}: {} ~ {}", request.getBookedBy(), roomCode,
+                request.getStartTime(), request.getEndTime());
+
+        RoomBookingResponse booking = roomService.createBooking(roomCode, request);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success("預約成功", booking));
+    }
+
+    /**
+     * 取消預約
+     */
+    @DeleteMapping("/bookings/{bookingId}")
+    @Operation(summary = "取消預約", description = "取消教室預約")
+    public ResponseEntity<ApiResponse<String>> cancelBooking(@PathVariable Long bookingId) {
+        log.info("取消教室預約: {}", bookingId);
+
+        roomService.cancelBooking(bookingId);
+        return ResponseEntity.ok(ApiResponse.success("取消成功", "已取消預約"));
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.schoolmanagementsystem.controller;
+
+import com.example.schoolmanagementsystem.dto.response.ApiResponse;
+import com.example.schoolmanagementsystem.dto.response.SearchResultResponse;
+import com.example.schoolmanagementsystem.service.SearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import java.util.List;
+
+/**
+ * 搜尋控制器
+ * 處理課程、學生、教師的名稱搜尋
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+@Tag(name = "搜尋", description = "課程、學生、教師名稱搜尋")
+public class SearchController {
+
+    private final SearchService searchService;
+
+    /**
+     * 名稱搜尋
+     */
+    @GetMapping
+    @Operation(summary = "名稱搜尋", description = "以部分名稱搜尋課程、學生或教師，結果依相關度排序")
+    public ResponseEntity<ApiResponse<List<SearchResultResponse>>> search(
+            @RequestParam String q,
+            @RequestParam(required = false) String type,
+            @RequestParam(defaultValue = "20") int limit) {
+
+        log.info("名稱搜尋: {}（類型: {}）", q, type);
+
+        if (limit < 1 || limit > 100) {
+            throw new IllegalArgumentException("limit 必須介於 1 到 100 之間");
+        }
+
+        List<SearchResultResponse> results = searchService.search(q, type, limit);
+        return ResponseEntity.ok(ApiResponse.success("查詢成功", results));
+    }
+}
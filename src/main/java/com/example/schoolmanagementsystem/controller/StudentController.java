@@ -3,11 +3,18 @@ package com.example.schoolmanagementsystem.controller;
 import com.example.schoolmanagementsystem.dto.request.EnrollmentRequest;
 import com.example.schoolmanagementsystem.dto.response.ApiResponse;
 import com.example.schoolmanagementsystem.dto.response.CourseResponse;
+import com.example.schoolmanagementsystem.dto.response.DegreeAuditResponse;
 import com.example.schoolmanagementsystem.dto.response.EnrollmentResponse;
+import com.example.schoolmanagementsystem.dto.response.StudentAttendanceResponse;
+import com.example.schoolmanagementsystem.dto.response.StudentDashboardResponse;
 import com.example.schoolmanagementsystem.dto.response.StudentResponse;
 import com.example.schoolmanagementsystem.model.Course;
 import com.example.schoolmanagementsystem.repository.CourseRepository;
+import com.example.schoolmanagementsystem.service.AttendanceService;
+import com.example.schoolmanagementsystem.service.DegreeAuditService;
+import com.example.schoolmanagementsystem.service.StudentDashboardService;
 import com.example.schoolmanagementsystem.service.StudentService;
+import com.example.schoolmanagementsystem.util.SparseFieldSet;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -17,6 +24,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -31,6 +40,9 @@ import java.util.stream.Collectors;
 public class StudentController {
 
     private final StudentService studentService;
+    private final StudentDashboardService studentDashboardService;
+    private final DegreeAuditService degreeAuditService;
+    private final AttendanceService attendanceService;
     private final CourseRepository courseRepository;
 
     /**
@@ -53,6 +65,49 @@ public class StudentController {
         }
     }
 
+    /**
+     * 查詢學生首頁儀表板
+     */
+    @GetMapping("/{studentId}/dashboard")
+    @Operation(summary = "學生首頁儀表板",
+            description = "一次取得學生資訊、目前選課、未繳學費與最近登入時間（各區塊並行查詢）")
+    public ResponseEntity<ApiResponse<StudentDashboardResponse>> getDashboard(
+            @PathVariable String studentId) {
+
+        log.info("查詢學生 {} 的儀表板", studentId);
+
+        StudentDashboardResponse dashboard = studentDashboardService.getDashboard(studentId);
+        return ResponseEntity.ok(ApiResponse.success("查詢成功", dashboard));
+    }
+
+    /**
+     * 查詢畢業審查結果
+     */
+    @GetMapping("/{studentId}/degree-audit")
+    @Operation(summary = "畢業審查", description = "依學生系所與入學學年的畢業學程，檢查必修、學分與平均是否符合")
+    public ResponseEntity<ApiResponse<DegreeAuditResponse>> getDegreeAudit(
+            @PathVariable String studentId) {
+
+        log.info("查詢學生 {} 的畢業審查", studentId);
+
+        DegreeAuditResponse audit = degreeAuditService.auditStudent(studentId, null);
+        return ResponseEntity.ok(ApiResponse.success("查詢成功", audit));
+    }
+
+    /**
+     * 查詢出缺勤紀錄
+     */
+    @GetMapping("/{studentId}/attendance")
+    @Operation(summary = "出缺勤紀錄", description = "查詢學生在各班級的出席、請假與缺席次數")
+    public ResponseEntity<ApiResponse<StudentAttendanceResponse>> getAttendance(
+            @PathVariable String studentId) {
+
+        log.info("查詢學生 {} 的出缺勤紀錄", studentId);
+
+        StudentAttendanceResponse attendance = attendanceService.getStudentAttendance(studentId);
+        return ResponseEntity.ok(ApiResponse.success("查詢成功", attendance));
+    }
+
     /**
      * 查詢可選課程
      */
@@ -77,15 +132,24 @@ public class StudentController {
      * 查詢我的選課
      */
     @GetMapping("/enrollments/{studentId}")
-    @Operation(summary = "查詢選課清單", description = "查詢特定學生的選課記錄")
-    public ResponseEntity<ApiResponse<List<EnrollmentResponse>>> getMyEnrollments(
-            @PathVariable String studentId) {
+    @Operation(summary = "查詢選課清單",
+            description = "查詢特定學生的選課記錄，可用 fields=courseName,classId 只取需要的欄位")
+    public ResponseEntity<ApiResponse<List<?>>> getMyEnrollments(
+            @PathVariable String studentId,
+            @RequestParam(required = false) String fields) {
 
         log.info("查詢學生 {} 的選課記錄", studentId);
 
+        Set<String> fieldSet = SparseFieldSet.parse(fields);
+        if (fieldSet != null) {
+            List<Map<String, Object>> enrollments =
+                    studentService.getEnrollmentFields(studentId, null, null, fieldSet);
+            return ResponseEntity.ok(ApiResponse.<List<?>>success("查詢成功", enrollments));
+        }
+
         try {
             List<EnrollmentResponse> enrollments = studentService.getEnrollments(studentId);
-            return ResponseEntity.ok(ApiResponse.success("查詢成功", enrollments));
+            return ResponseEntity.ok(ApiResponse.<List<?>>success("查詢成功", enrollments));
         } catch (Exception e) {
             log.error("查詢選課記錄失敗: ", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -97,18 +161,27 @@ public class StudentController {
      * 查詢特定學期選課
      */
     @GetMapping("/enrollments/{studentId}/semester")
-    @Operation(summary = "查詢學期選課", description = "查詢特定學期的選課記錄")
-    public ResponseEntity<ApiResponse<List<EnrollmentResponse>>> getEnrollmentsBySemester(
+    @Operation(summary = "查詢學期選課",
+            description = "查詢特定學期的選課記錄，可用 fields=courseName,classId 只取需要的欄位")
+    public ResponseEntity<ApiResponse<List<?>>> getEnrollmentsBySemester(
             @PathVariable String studentId,
             @RequestParam Integer academicYear,
-            @RequestParam String semester) {
+            @RequestParam String semester,
+            @RequestParam(required = false) String fields) {
 
         log.info("查詢學生 {} 在 {} 年 {} 的選課記錄", studentId, academicYear, semester);
 
+        Set<String> fieldSet = SparseFieldSet.parse(fields);
+        if (fieldSet != null) {
+            List<Map<String, Object>> enrollments =
+                    studentService.getEnrollmentFields(studentId, academicYear, semester, fieldSet);
+            return ResponseEntity.ok(ApiResponse.<List<?>>success("查詢成功", enrollments));
+        }
+
         try {
             List<EnrollmentResponse> enrollments =
                     studentService.getEnrollmentsBySemester(studentId, academicYear, semester);
-            return ResponseEntity.ok(ApiResponse.success("查詢成功", enrollments));
+            return ResponseEntity.ok(ApiResponse.<List<?>>success("查詢成功", enrollments));
         } catch (Exception e) {
             log.error("查詢學期選課失敗: ", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -0,0 +1,164 @@
+package com.example.schoolmanagementsystem.controller;
+
+import com.example.schoolmanagementsystem.dto.request.GradeSyncRequest;
+import com.example.schoolmanagementsystem.dto.request.GradeUploadRequest;
+import com.example.schoolmanagementsystem.dto.response.ApiResponse;
+import com.example.schoolmanagementsystem.dto.response.ClassGradeReportResponse;
+import com.example.schoolmanagementsystem.dto.response.GradeSyncResponse;
+import com.example.schoolmanagementsystem.dto.response.GradeUploadResponse;
+import com.example.schoolmanagementsystem.dto.response.TeacherDashboardResponse;
+import com.example.schoolmanagementsystem.service.GradeStatisticsService;
+import com.example.schoolmanagementsystem.service.GradeSyncService;
+import com.example.schoolmanagementsystem.service.GradeUploadService;
+import com.example.schoolmanagementsystem.service.RosterService;
+import com.example.schoolmanagementsystem.service.TeacherDashboardService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * 教師功能控制器
+ * 處理教師相關的操作（儀表板、成績報表、批次上傳成績、班級名冊等）
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/teacher")
+@RequiredArgsConstructor
+@Tag(name = "教師功能", description = "教師成績管理與報表")
+public class TeacherController {
+
+    private final GradeStatisticsService gradeStatisticsService;
+    private final GradeUploadService gradeUploadService;
+    private final GradeSyncService gradeSyncService;
+    private final RosterService rosterService;
+    private final TeacherDashboardService teacherDashboardService;
+
+    /**
+     * 查詢教師學期儀表板
+     */
+    @GetMapping("/teachers/{teacherId}/dashboard")
+    @Operation(summary = "教師學期儀表板",
+            description = "一次取得教師某學期所有授課班級的選課人數、評分進度、平均分數與及格率")
+    public ResponseEntity<ApiResponse<TeacherDashboardResponse>> getDashboard(
+            @PathVariable String teacherId,
+            @RequestParam Integer academicYear,
+            @RequestParam String semester) {
+
+        log.info("查詢教師 {} 儀表板: {}-{}", teacherId, academicYear, semester);
+
+        TeacherDashboardResponse dashboard = teacherDashboardService.getDashboard(teacherId, academicYear, semester);
+        return ResponseEntity.ok(ApiResponse.success("查詢成功", dashboard));
+    }
+
+    /**
+     * 查詢班級成績報表
+     */
+    @GetMapping("/classes/{classId}/grade-report")
+    @Operation(summary = "班級成績報表",
+            description = "取得班級成績的平均、中位數、百分位數、標準差、及格率與分數分布")
+    public ResponseEntity<ApiResponse<ClassGradeReportResponse>> getClassGradeReport(
+            @PathVariable Integer classId) {
+
+        log.info("查詢班級成績報表: {}", classId);
+
+        ClassGradeReportResponse report = gradeStatisticsService.getClassReport(classId);
+        return ResponseEntity.ok(ApiResponse.success("查詢成功", report));
+    }
+
+    /**
+     * 批次上傳班級成績（JSON）
+     */
+    @PostMapping(value = "/classes/{classId}/grades", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "批次上傳成績（JSON）",
+            description = "一次上傳整個班級的成績，已有成績者更新；有錯誤的資料列列於錯誤報告，其餘照常寫入")
+    public ResponseEntity<ApiResponse<GradeUploadResponse>> uploadGrades(
+            @PathVariable Integer classId,
+            @Valid @RequestBody GradeUploadRequest request) {
+
+        log.info("批次上傳班級 {} 成績: {} 筆", classId, request.getGrades().size());
+
+        GradeUploadResponse result = gradeUploadService.uploadGrades(classId, request);
+        return ResponseEntity.ok(ApiResponse.success("上傳完成", result));
+    }
+
+    /**
+     * 批次上傳班級成績（CSV）
+     */
+    @PostMapping(value = "/classes/{classId}/grades", consumes = "text/csv")
+    @Operation(summary = "批次上傳成績（CSV）",
+            description = "每行「學號,分數」，第一行可為標題列；有錯誤的資料列以行號列於錯誤報告，其餘照常寫入")
+    public ResponseEntity<ApiResponse<GradeUploadResponse>> uploadGradesCsv(
+            @PathVariable Integer classId,
+            @RequestBody String csv) {
+
+        log.info("批次上傳班級 {} 成績（CSV）", classId);
+
+        GradeUploadResponse result = gradeUploadService.uploadGradesCsv(classId, csv);
+        return ResponseEntity.ok(ApiResponse.success("上傳完成", result));
+    }
+
+    /**
+     * 成績差異同步
+     */
+    @PostMapping("/classes/{classId}/grades/sync")
+    @Operation(summary = "成績差異同步",
+            description = "只送出修改的儲存格與修改前的版本號，版本不符的儲存格回報為衝突；"
+                    + "同時回傳上次同步標記之後其他人做的修改與新的同步標記")
+    public ResponseEntity<ApiResponse<GradeSyncResponse>> syncGrades(
+            @PathVariable Integer classId,
+            @Valid @RequestBody GradeSyncRequest request) {
+
+        log.info("班級 {} 成績同步: 標記 {}，{} 格修改", classId, request.getSyncToken(), request.getChanges().size());
+
+        GradeSyncResponse result = gradeSyncService.sync(classId, request);
+        return ResponseEntity.ok(ApiResponse.success("同步完成", result));
+    }
+
+    /**
+     * 串流匯出班級名冊
+     */
+    @GetMapping("/classes/{classId}/roster")
+    @Operation(summary = "班級名冊",
+            description = "逐列串流輸出學生學號、姓名、Email、系所與目前成績；format 可為 jsonl（預設）或 csv")
+    public ResponseEntity<StreamingResponseBody> getRoster(
+            @PathVariable Integer classId,
+            @RequestParam(defaultValue = "jsonl") String format) {
+
+        RosterService.Format rosterFormat;
+        try {
+            rosterFormat = RosterService.Format.valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("不支援的名冊格式: " + format + "（可用 jsonl、csv）");
+        }
+        rosterService.requireClass(classId);
+
+        log.info("匯出班級 {} 名冊（{}）", classId, rosterFormat);
+
+        StreamingResponseBody body = out -> rosterService.writeRoster(classId, rosterFormat, out);
+        if (rosterFormat == RosterService.Format.CSV) {
+            return ResponseEntity.ok()
+                    .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"roster-" + classId + ".csv\"")
+                    .body(body);
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.schoolmanagementsystem.controller;
+
+import com.example.schoolmanagementsystem.dto.request.TimetableRequest;
+import com.example.schoolmanagementsystem.dto.response.ApiResponse;
+import com.example.schoolmanagementsystem.dto.response.TimetableResponse;
+import com.example.schoolmanagementsystem.service.TimetableService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 課表排程控制器
+ * 提供管理員自動安排學期班級的上課時段與教室
+ */
+@RestController
+@RequestMapping("/api/admin/timetables")
+@RequiredArgsConstructor
+@Tag(name = "課表排程", description = "班級上課時段與教室自動安排（管理員）")
+public class TimetableController {
+
+    private final TimetableService timetableService;
+
+    /**
+     * 產生學期課表
+     */
+    @PostMapping
+    @Operation(summary = "產生學期課表",
+            description = "避免教師衝堂、分配容量足夠的教室，並盡量錯開常一起修的課程；apply = true 時寫入班級")
+    public ResponseEntity<ApiResponse<TimetableResponse>> generateTimetable(
+            @Valid @RequestBody TimetableRequest request) {
+        TimetableResponse timetable = timetableService.generateTimetable(request);
+        return ResponseEntity.ok(ApiResponse.success("排程完成", timetable));
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.schoolmanagementsystem.dto.request;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 點名請求 DTO
+ * 一次送出一堂課的出席與請假名單；預設與既有紀錄合併（可分批報到），replace 為 true 時整筆覆寫
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AttendanceRequest {
+
+    @NotNull(message = "上課日期不可為空")
+    private LocalDate sessionDate;
+
+    @NotNull(message = "堂次不可為空")
+    @Min(value = 1, message = "堂次至少為 1")
+    private Integer period;
+
+    @Builder.Default
+    private List<String> presentStudentIds = new ArrayList<>();
+
+    @Builder.Default
+    private List<String> excusedStudentIds = new ArrayList<>();
+
+    private boolean replace;
+}
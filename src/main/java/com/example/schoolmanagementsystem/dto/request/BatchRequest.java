@@ -0,0 +1,46 @@
+package com.example.schoolmanagementsystem.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+/**
+ * 批次請求 DTO
+ * 將多個小型 GET 請求合併為一次呼叫
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchRequest {
+
+    @NotEmpty(message = "子請求不可為空")
+    @Size(max = 20, message = "單次批次最多 20 個子請求")
+    private List<@Valid Item> requests;
+
+    /**
+     * 單一子請求
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Item {
+
+        // 子請求識別碼（由前端自訂，原樣回傳）
+        private String id;
+
+        // HTTP 方法（目前僅支援 GET）
+        @Builder.Default
+        private String method = "GET";
+
+        @NotBlank(message = "子請求路徑不可為空")
+        private String path; // 例：/api/courses/available?academicYear=2024
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.schoolmanagementsystem.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 畢業學程建立請求 DTO
+ * 定義必修課程、學分類別、總學分與最低平均
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DegreeProgramRequest {
+
+    @NotBlank(message = "學程名稱不可為空")
+    @Size(max = 100, message = "學程名稱最多 100 個字元")
+    private String programName;
+
+    @NotBlank(message = "系所不可為空")
+    @Size(max = 100, message = "系所最多 100 個字元")
+    private String department;
+
+    // 適用的入學學年（未指定時適用該系所所有學年）
+    private Integer enrollmentYear;
+
+    @NotNull(message = "最低總學分不可為空")
+    @Positive(message = "最低總學分必須為正數")
+    private BigDecimal minTotalCredits;
+
+    // 最低學分加權平均（百分制）
+    @DecimalMin(value = "0", message = "最低平均不可小於 0")
+    @DecimalMax(value = "100", message = "最低平均不可大於 100")
+    private BigDecimal minGpa;
+
+    @Builder.Default
+    private List<String> requiredCourseIds = new ArrayList<>();
+
+    // 依比對順序排列，課程計入第一個前綴相符的類別
+    @Builder.Default
+    private List<@Valid Bucket> buckets = new ArrayList<>();
+
+    /**
+     * 學分類別
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Bucket {
+
+        @NotBlank(message = "類別名稱不可為空")
+        @Size(max = 50, message = "類別名稱最多 50 個字元")
+        private String bucketName;
+
+        // 課程代碼前綴（空字串表示其餘所有課程）
+        @NotNull(message = "課程代碼前綴不可為空")
+        @Size(max = 20, message = "課程代碼前綴最多 20 個字元")
+        private String coursePrefix;
+
+        @NotNull(message = "類別最低學分不可為空")
+        @PositiveOrZero(message = "類別最低學分不可為負數")
+        private BigDecimal minCredits;
+    }
+}
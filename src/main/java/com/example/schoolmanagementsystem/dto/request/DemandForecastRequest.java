@@ -0,0 +1,52 @@
+package com.example.schoolmanagementsystem.dto.request;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 選課需求預測請求 DTO
+ * 指定要預測的學期與模擬參數
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DemandForecastRequest {
+
+    @NotNull(message = "學年不可為空")
+    private Integer academicYear;
+
+    @NotBlank(message = "學期不可為空")
+    private String semester;
+
+    // 參考過去幾個學年的同名學期
+    @Builder.Default
+    @Min(value = 1, message = "參考學年數至少 1")
+    @Max(value = 10, message = "參考學年數最多 10")
+    private Integer historyYears = 3;
+
+    // 模擬次數
+    @Builder.Default
+    @Min(value = 100, message = "模擬次數至少 100")
+    @Max(value = 10000, message = "模擬次數最多 10000")
+    private Integer trials = 5000;
+
+    // 信賴水準
+    @Builder.Default
+    @DecimalMin(value = "0.5", message = "信賴水準至少 0.5")
+    @DecimalMax(value = "0.99", message = "信賴水準最多 0.99")
+    private Double confidence = 0.9;
+
+    // 沒有歷史班級時使用的每班人數
+    @Builder.Default
+    @Min(value = 1, message = "每班人數至少 1")
+    private Integer defaultSectionSize = 50;
+}
@@ -0,0 +1,35 @@
+package com.example.schoolmanagementsystem.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 課程評鑑請求 DTO
+ * 各題依題號順序作答，分數為 1 ~ 5
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EvaluationRequest {
+
+    @NotBlank(message = "學號不可為空")
+    private String studentId;
+
+    @NotNull(message = "班級ID不可為空")
+    private Integer classId;
+
+    @NotEmpty(message = "作答不可為空")
+    private List<Integer> answers;
+
+    @Size(max = 2000, message = "意見最多 2000 個字元")
+    private String comment;
+}
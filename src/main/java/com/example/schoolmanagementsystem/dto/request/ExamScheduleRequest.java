@@ -0,0 +1,49 @@
+package com.example.schoolmanagementsystem.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 期末考排程請求 DTO
+ * 指定學期與考試時段配置
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ExamScheduleRequest {
+
+    @NotNull(message = "學年不可為空")
+    private Integer academicYear;
+
+    @NotBlank(message = "學期不可為空")
+    private String semester;
+
+    @NotNull(message = "考試天數不可為空")
+    @Min(value = 1, message = "考試天數至少 1 天")
+    @Max(value = 30, message = "考試天數最多 30 天")
+    private Integer days;
+
+    @NotNull(message = "每天時段數不可為空")
+    @Min(value = 1, message = "每天至少 1 個時段")
+    @Max(value = 10, message = "每天最多 10 個時段")
+    private Integer slotsPerDay;
+
+    // 搜尋時間上限（秒）
+    @Builder.Default
+    @Min(value = 1, message = "搜尋時間至少 1 秒")
+    @Max(value = 55, message = "搜尋時間最多 55 秒")
+    private Integer timeLimitSeconds = 20;
+
+    // 同一天連續考試的懲罰權重（同時段衝突固定為 100）
+    @Builder.Default
+    @Min(value = 0, message = "連續考試權重不可為負數")
+    @Max(value = 100, message = "連續考試權重最多 100")
+    private Integer backToBackWeight = 5;
+}
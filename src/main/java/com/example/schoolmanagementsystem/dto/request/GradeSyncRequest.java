@@ -0,0 +1,48 @@
+package com.example.schoolmanagementsystem.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 成績差異同步請求 DTO
+ * 只送出有修改的儲存格與修改前看到的版本號；syncToken 為上次同步取得的標記，首次同步時省略
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GradeSyncRequest {
+
+    private Long syncToken;
+
+    @Valid
+    @NotNull(message = "修改列表不可為空")
+    @Builder.Default
+    private List<@NotNull(message = "修改內容不可為空") Change> changes = new ArrayList<>();
+
+    /**
+     * 單一儲存格的修改
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Change {
+
+        @NotBlank(message = "學號不可為空")
+        private String studentId;
+
+        private BigDecimal score; // null 表示清除成績
+
+        private Long baseVersion; // 修改前看到的版本號；原本沒有成績時為 null
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.schoolmanagementsystem.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 批次上傳成績請求 DTO
+ * 個別資料列的錯誤（學號不在班級、分數超出範圍等）不會讓整批失敗，而是列在回應的錯誤報告中
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GradeUploadRequest {
+
+    @NotEmpty(message = "成績資料不可為空")
+    private List<Entry> grades;
+
+    /**
+     * 單一學生的成績
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Entry {
+        private String studentId;
+        private BigDecimal score;
+    }
+}
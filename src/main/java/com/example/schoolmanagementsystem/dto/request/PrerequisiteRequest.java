@@ -0,0 +1,23 @@
+package com.example.schoolmanagementsystem.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 先修課程設定請求 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PrerequisiteRequest {
+
+    // 直接先修課程ID（空列表表示取消所有先修）
+    @NotNull(message = "先修課程列表不可為空")
+    private List<String> prerequisiteIds;
+}
@@ -0,0 +1,79 @@
+package com.example.schoolmanagementsystem.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 學期轉換請求 DTO
+ * 將來源學期的開課班級複製到目標學期，可停開課程、更換教師或調整個別班級
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RolloverRequest {
+
+    @NotNull(message = "來源學年不可為空")
+    private Integer sourceAcademicYear;
+
+    @NotBlank(message = "來源學期不可為空")
+    private String sourceSemester;
+
+    @NotNull(message = "目標學年不可為空")
+    private Integer targetAcademicYear;
+
+    @NotBlank(message = "目標學期不可為空")
+    private String targetSemester;
+
+    // 停開的課程ID
+    @Builder.Default
+    private List<String> droppedCourseIds = new ArrayList<>();
+
+    // 教師替換：原教師ID → 新教師ID（套用到該教師的所有班級）
+    @Builder.Default
+    private Map<String, String> teacherSwaps = new HashMap<>();
+
+    // 個別班級調整（優先於教師替換）
+    @Valid
+    @Builder.Default
+    private List<SectionOverride> sectionOverrides = new ArrayList<>();
+
+    // 是否沿用上課時段與教室
+    @Builder.Default
+    private Boolean copySchedule = true;
+
+    // 是否寫入目標學期（false 僅試算並回傳差異）
+    @Builder.Default
+    private Boolean apply = false;
+
+    /**
+     * 單一來源班級的調整
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class SectionOverride {
+
+        @NotNull(message = "來源班級ID不可為空")
+        private Integer sourceClassId;
+
+        @Min(value = 1, message = "人數上限至少為 1")
+        private Integer capacity;
+
+        private String teacherId;
+
+        private boolean drop;
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.schoolmanagementsystem.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 教室預約請求 DTO
+ * 預約必須在同一天內開始與結束
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RoomBookingRequest {
+
+    @NotNull(message = "開始時間不可為空")
+    private LocalDateTime startTime;
+
+    @NotNull(message = "結束時間不可為空")
+    private LocalDateTime endTime;
+
+    @Size(max = 255, message = "借用用途最多 255 個字元")
+    private String purpose;
+
+    @NotBlank(message = "借用人不可為空")
+    @Size(max = 50, message = "借用人最多 50 個字元")
+    private String bookedBy; // 教職員編號
+}
@@ -0,0 +1,31 @@
+package com.example.schoolmanagementsystem.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 教室建立/更新請求 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RoomRequest {
+
+    @NotBlank(message = "教室代碼不可為空")
+    @Size(max = 20, message = "教室代碼最多 20 個字元")
+    private String roomCode;
+
+    @Size(max = 100, message = "教室名稱最多 100 個字元")
+    private String roomName;
+
+    @NotNull(message = "教室容量不可為空")
+    @Positive(message = "教室容量必須為正數")
+    private Integer capacity;
+}
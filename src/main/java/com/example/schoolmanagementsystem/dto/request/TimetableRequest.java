@@ -0,0 +1,58 @@
+package com.example.schoolmanagementsystem.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 課表排程請求 DTO
+ * 指定學期、每週時段配置與可用教室（教室容量取自教室資料）
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TimetableRequest {
+
+    @NotNull(message = "學年不可為空")
+    private Integer academicYear;
+
+    @NotBlank(message = "學期不可為空")
+    private String semester;
+
+    // 每週上課天數
+    @Builder.Default
+    @Min(value = 1, message = "上課天數至少 1 天")
+    @Max(value = 7, message = "上課天數最多 7 天")
+    private Integer days = 5;
+
+    // 每天時段數（不可超過 app.rooms.slot-times 設定的時段數）
+    @Builder.Default
+    @Min(value = 1, message = "每天至少 1 個時段")
+    @Max(value = 6, message = "每天最多 6 個時段")
+    private Integer slotsPerDay = 4;
+
+    // 可用教室代碼（未指定時使用所有教室）
+    private List<String> roomCodes;
+
+    // 共同修課參考學期（未指定時使用排程學期本身的選課資料）
+    private Integer referenceAcademicYear;
+    private String referenceSemester;
+
+    // 搜尋時間上限（秒）
+    @Builder.Default
+    @Min(value = 1, message = "搜尋時間至少 1 秒")
+    @Max(value = 55, message = "搜尋時間最多 55 秒")
+    private Integer timeLimitSeconds = 20;
+
+    // 是否將結果寫入班級（false 僅試算）
+    @Builder.Default
+    private Boolean apply = false;
+}
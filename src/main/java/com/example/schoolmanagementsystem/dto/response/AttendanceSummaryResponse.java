@@ -0,0 +1,62 @@
+package com.example.schoolmanagementsystem.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 班級出缺勤統計回應 DTO
+ * 用於回傳班級每堂課的出席率與每位學生的缺席次數
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AttendanceSummaryResponse {
+
+    private Integer classId;
+    private String courseName;
+    private Integer sessionCount;
+    private Double attendanceRate; // 所有堂次合計的出席率（0 ~ 1）
+
+    private List<SessionSummary> sessions;
+    private List<StudentAttendance> students;
+
+    /**
+     * 單堂課的統計
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class SessionSummary {
+        private Long sessionId;
+        private LocalDate sessionDate;
+        private Integer period;
+        private Integer enrolled; // 當堂在班人數
+        private Integer present;
+        private Integer excused;
+        private Integer absent;
+        private Double attendanceRate;
+    }
+
+    /**
+     * 單一學生的統計
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class StudentAttendance {
+        private String studentId;
+        private String studentName;
+        private Integer sessions; // 在班期間的堂數
+        private Integer present;
+        private Integer excused;
+        private Integer absences;
+    }
+}
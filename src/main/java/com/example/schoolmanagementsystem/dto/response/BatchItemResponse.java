@@ -0,0 +1,22 @@
+package com.example.schoolmanagementsystem.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 批次子請求結果 DTO
+ * 每個子請求各自帶有狀態碼與回應內容
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchItemResponse {
+
+    private String id; // 對應請求中的 id
+    private String path;
+    private int status; // HTTP 狀態碼
+    private Object body; // 子請求的回應內容（JSON 會原樣嵌入）
+}
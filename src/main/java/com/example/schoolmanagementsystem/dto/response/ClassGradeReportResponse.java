@@ -0,0 +1,44 @@
+package com.example.schoolmanagementsystem.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 班級成績報表回應 DTO
+ * 用於回傳單一班級的成績統計
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ClassGradeReportResponse {
+
+    // 班級資訊
+    private Integer classId;
+    private String courseId;
+    private String courseName;
+    private String teacherName;
+    private Integer academicYear;
+    private String semester;
+
+    // 人數
+    private Integer enrolledCount; // 選課人數
+    private Integer gradedCount; // 已登錄成績人數
+
+    // 統計值
+    private Double average;
+    private Double median;
+    private Double standardDeviation;
+    private Double highest;
+    private Double lowest;
+    private Double passRate; // 及格率（0 ~ 1）
+    private Map<Integer, Double> percentiles; // 百分位數 → 分數
+    private Map<String, Integer> distribution; // 分數級距 → 人數
+
+    private LocalDateTime generatedAt; // 統計產生時間（可能來自快取）
+}
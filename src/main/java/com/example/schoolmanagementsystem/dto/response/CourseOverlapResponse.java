@@ -0,0 +1,24 @@
+package com.example.schoolmanagementsystem.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 課程共同修課回應 DTO
+ * 用於回傳同學期兩門課程的修課學生重疊情形
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CourseOverlapResponse {
+
+    private String courseIdA;
+    private Integer studentsA; // 修 A 的學生數
+    private String courseIdB;
+    private Integer studentsB; // 修 B 的學生數
+    private Integer sharedStudents; // 同時修 A 與 B 的學生數
+    private Double overlapRatioA; // 修 A 的學生中也修 B 的比例
+}
@@ -0,0 +1,31 @@
+package com.example.schoolmanagementsystem.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 批次畢業審查回應 DTO
+ * 用於回傳整個群體的審查統計與各學生結果
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DegreeAuditBatchResponse {
+
+    private Integer programId;
+    private String programName;
+    private String department;
+    private Integer enrollmentYear;
+
+    private Integer audited; // 審查人數（有修課紀錄的學生）
+    private Integer eligible; // 符合畢業資格人數
+    private Integer projectedEligible; // 修課中課程全部通過時符合的人數
+    private Long elapsedMillis;
+
+    private List<DegreeAuditResponse> results; // 審查結果（預設只含未符合者）
+}
@@ -0,0 +1,53 @@
+package com.example.schoolmanagementsystem.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 畢業審查回應 DTO
+ * 用於回傳單一學生對照畢業學程的審查結果
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DegreeAuditResponse {
+
+    private String studentId;
+    private String studentName;
+    private Integer programId;
+    private String programName;
+
+    private Boolean eligible; // 以已通過課程計算是否符合畢業資格
+    private Boolean projectedEligible; // 修課中的課程全部通過時是否符合
+
+    private Double earnedCredits; // 已通過學分
+    private Double inProgressCredits; // 修課中學分
+    private Double minTotalCredits;
+    private Double gpa; // 學分加權平均
+    private Double minGpa;
+
+    private List<String> missingCourses; // 尚未通過的必修課程
+    private List<String> inProgressCourses; // 修課中的必修課程
+    private List<BucketResult> buckets; // 各學分類別
+    private List<String> failures; // 未符合項目說明
+
+    /**
+     * 學分類別審查結果
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class BucketResult {
+        private String bucketName;
+        private Double minCredits;
+        private Double earnedCredits;
+        private Double inProgressCredits;
+        private Boolean satisfied;
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.schoolmanagementsystem.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 畢業學程回應 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DegreeProgramResponse {
+
+    private Integer programId;
+    private String programName;
+    private String department;
+    private Integer enrollmentYear;
+    private BigDecimal minTotalCredits;
+    private BigDecimal minGpa;
+    private List<String> requiredCourseIds;
+    private List<Bucket> buckets;
+
+    /**
+     * 學分類別
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Bucket {
+        private String bucketName;
+        private String coursePrefix;
+        private BigDecimal minCredits;
+    }
+}
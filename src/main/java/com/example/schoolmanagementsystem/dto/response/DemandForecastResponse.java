@@ -0,0 +1,54 @@
+package com.example.schoolmanagementsystem.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 選課需求預測回應 DTO
+ * 用於回傳各課程的預測需求、信賴區間與建議開班數
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DemandForecastResponse {
+
+    private Integer academicYear;
+    private String semester;
+    private List<String> referenceTerms; // 用來估計修課率的學期
+    private String baseTerm; // 推估合格人數所依據的最近學期
+    private Integer population; // 下學期預計在學的學生數（不含新生）
+    private Integer incomingStudents; // 預估新生人數
+    private Integer trials;
+    private Double confidence;
+    private Long elapsedMillis;
+
+    private List<CourseForecast> courses;
+
+    /**
+     * 單一課程的預測
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class CourseForecast {
+        private String courseId;
+        private String courseName;
+        private Double uptakeRate; // 歷史修課率（修課人數 / 合格人數）
+        private Integer eligibleStudents; // 確定符合先修條件的人數
+        private Integer pendingStudents; // 先修課程修習中的人數
+        private Double meanDemand;
+        private Integer lowerDemand; // 信賴區間下界
+        private Integer medianDemand;
+        private Integer upperDemand; // 信賴區間上界
+        private Integer historicalSectionSize; // 歷史每班人數上限中位數
+        private Integer lastTermSections; // 參考學期中最近一次的開班數
+        private Integer recommendedSections;
+        private Integer recommendedCapacity; // 建議每班人數上限
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.schoolmanagementsystem.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 課程評鑑結果回應 DTO
+ * 用於回傳班級各題的填答數、平均分數與分數分布
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EvaluationSummaryResponse {
+
+    private Integer classId;
+    private String courseName;
+    private Long responseCount;
+    private List<QuestionSummary> questions;
+
+    /**
+     * 單一題目的統計
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class QuestionSummary {
+        private Integer questionNo;
+        private String question;
+        private Long responseCount;
+        private Double mean;
+        private List<Long> histogram; // 1 ~ 5 分各自的人數
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.schoolmanagementsystem.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 期末考排程回應 DTO
+ * 用於回傳各班考試時段與仍無法避免的衝突
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ExamScheduleResponse {
+
+    private Integer academicYear;
+    private String semester;
+    private Integer days;
+    private Integer slotsPerDay;
+
+    private List<Assignment> assignments; // 各班考試時段
+
+    // 剩餘衝突
+    private Integer sameSlotStudents; // 同一時段有兩場以上考試的學生數
+    private Integer backToBackStudents; // 同一天有連續考試的學生數
+    private List<Conflict> sameSlotConflicts; // 同時段衝突最嚴重的班級配對
+
+    // 求解資訊
+    private Long cost; // 總懲罰
+    private Long iterations; // 局部搜尋移動嘗試次數
+    private Long elapsedMillis; // 總耗時（含建圖）
+
+    /**
+     * 單一班級的考試時段
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Assignment {
+        private Integer classId;
+        private String courseId;
+        private Integer day; // 第幾天（從 1 起算）
+        private Integer period; // 當天第幾節（從 1 起算）
+        private Integer students; // 應考人數
+    }
+
+    /**
+     * 排在同一時段的兩個班級
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Conflict {
+        private Integer classIdA;
+        private Integer classIdB;
+        private Integer day;
+        private Integer period;
+        private Integer sharedStudents;
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.schoolmanagementsystem.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 教室空檔回應 DTO
+ * 用於回傳教室在查詢區間內未被課程或預約占用的時段
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FreeSlotResponse {
+
+    private String roomCode;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private Integer minutes; // 空檔長度（分鐘）
+}
@@ -0,0 +1,29 @@
+package com.example.schoolmanagementsystem.dto.response;
+
+import com.example.schoolmanagementsystem.util.GradeSnapshot;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 成績分析回應 DTO
+ * 用於回傳欄式快照上的篩選與分組彙總結果
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GradeAnalyticsResponse {
+
+    private List<String> groupBy; // 分組維度
+    private List<GradeSnapshot.Group> groups; // 分組結果
+
+    // 快照資訊
+    private Integer snapshotRows; // 快照成績筆數
+    private LocalDateTime snapshotBuiltAt; // 快照產生時間
+    private Long elapsedMicros; // 查詢耗時（微秒）
+}
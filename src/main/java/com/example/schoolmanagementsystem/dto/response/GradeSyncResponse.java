@@ -0,0 +1,67 @@
+package com.example.schoolmanagementsystem.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 成績差異同步回應 DTO
+ * 用於回傳已套用的修改、逐格衝突，以及上次同步後其他人做的修改
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GradeSyncResponse {
+
+    private Integer classId;
+    private Long syncToken; // 下次同步時送回
+    private List<Cell> applied; // 本次套用成功的儲存格（含新版本號）
+    private List<Conflict> conflicts;
+    private List<CellError> errors;
+    private List<Cell> changes; // 上次同步後其他人修改的儲存格
+
+    /**
+     * 儲存格目前的值
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Cell {
+        private String studentId;
+        private BigDecimal score;
+        private Long version;
+    }
+
+    /**
+     * 版本衝突：儲存格在用戶端看到之後已被其他人修改，本次修改未套用
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Conflict {
+        private String studentId;
+        private Long baseVersion;
+        private BigDecimal yourScore;
+        private Long currentVersion;
+        private BigDecimal currentScore;
+    }
+
+    /**
+     * 不合法的修改（學生不在班級、分數超出範圍等）
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class CellError {
+        private String studentId;
+        private String message;
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.schoolmanagementsystem.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 成績趨勢回應 DTO
+ * 用於回傳課程或教師歷年各學期的平均分數、標準差與及格率
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GradeTrendResponse {
+
+    private String courseId; // 依教師查詢且未指定課程時為 null
+    private String teacherId; // 依課程查詢且未指定教師時為 null
+    private List<TrendPoint> points;
+
+    /**
+     * 單一學期的統計
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class TrendPoint {
+        private Integer academicYear;
+        private String semester;
+        private Long gradeCount;
+        private Double mean;
+        private Double standardDeviation; // 母體標準差
+        private Double passRate; // 0 ~ 1
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.schoolmanagementsystem.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 批次上傳成績回應 DTO
+ * 用於回傳寫入筆數與逐列錯誤報告
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GradeUploadResponse {
+
+    private Integer classId;
+    private Integer totalRows;
+    private Integer inserted;
+    private Integer updated;
+    private Integer unchanged; // 分數與現有成績相同，未寫入
+    private Integer failed;
+    private List<RowError> errors;
+
+    /**
+     * 單列錯誤
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class RowError {
+        private Integer row; // JSON 為陣列位置（從 1 起算），CSV 為行號
+        private String studentId;
+        private String message;
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.schoolmanagementsystem.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * GPA 排名回應 DTO
+ * 用於回傳學生在同屆或同系群體中的名次
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RankingResponse {
+
+    private String cohortType; // YEAR（同入學學年）、DEPARTMENT（同系所）
+    private String cohort; // 群體值，例如 2024 或 資訊工程學系
+    private String studentId;
+    private String studentName;
+    private Double gpa;
+    private Integer rank; // 名次（同分同名次）
+    private Integer cohortSize; // 群體人數
+    private Double percentile; // PR 值：GPA 小於等於此學生的比例（0 ~ 100）
+}
@@ -0,0 +1,48 @@
+package com.example.schoolmanagementsystem.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 學期轉換回應 DTO
+ * 用於回傳每個來源班級的處理結果（試算時為預覽）
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RolloverResponse {
+
+    private String sourceTerm;
+    private String targetTerm;
+    private Boolean applied;
+    private Integer created;
+    private Integer dropped;
+    private Integer skipped; // 目標學期已有相同課程與教師的班級
+    private Integer conflicts; // 教室或教師與目標學期時段衝突的班級（有衝突時不會寫入）
+    private Long elapsedMillis;
+    private List<Item> items;
+
+    /**
+     * 單一來源班級
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Item {
+        private Integer sourceClassId;
+        private String courseId;
+        private String courseName;
+        private String action; // CREATE、DROP、SKIP_EXISTING、CONFLICT
+        private String teacherId;
+        private String previousTeacherId; // 與 teacherId 不同時表示更換教師
+        private Integer capacity;
+        private Integer previousCapacity;
+        private String reason; // action 為 CONFLICT 時的衝突原因
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.schoolmanagementsystem.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 教室預約回應 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RoomBookingResponse {
+
+    private Long bookingId;
+    private String roomCode;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private String purpose;
+    private String bookedBy;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,25 @@
+package com.example.schoolmanagementsystem.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * 班級名冊項目 DTO
+ * 名冊以 JSON Lines 串流輸出時，每行為一個項目
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RosterEntryResponse {
+
+    private String studentId;
+    private String studentName;
+    private String email;
+    private String department;
+    private BigDecimal score; // 尚未評分時為 null
+}
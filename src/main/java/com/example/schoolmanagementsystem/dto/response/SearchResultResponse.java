@@ -0,0 +1,22 @@
+package com.example.schoolmanagementsystem.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 搜尋結果回應 DTO
+ * 用於回傳課程、學生、教師的名稱搜尋結果
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SearchResultResponse {
+
+    private String type; // COURSE, STUDENT, TEACHER
+    private String id; // 課程ID、學號或教職員編號
+    private String name;
+    private Double score; // 相關度，越高越相關
+}
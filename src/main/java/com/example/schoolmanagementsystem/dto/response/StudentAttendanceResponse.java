@@ -0,0 +1,41 @@
+package com.example.schoolmanagementsystem.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 學生出缺勤回應 DTO
+ * 用於回傳學生在各班級的出席與缺席次數
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StudentAttendanceResponse {
+
+    private String studentId;
+    private Integer totalAbsences;
+    private List<ClassAttendance> classes;
+
+    /**
+     * 單一班級的統計
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ClassAttendance {
+        private Integer classId;
+        private String courseName;
+        private Integer academicYear;
+        private String semester;
+        private Integer sessions; // 在班期間的堂數
+        private Integer present;
+        private Integer excused;
+        private Integer absences;
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.schoolmanagementsystem.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 學生首頁儀表板回應 DTO
+ * 將學生首頁需要的資料合併為單一回應
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StudentDashboardResponse {
+
+    private StudentResponse profile; // 基本資料與 GPA
+    private List<EnrollmentResponse> enrollments; // 目前選課
+    private BigDecimal unpaidTuition; // 未繳學費總額
+    private LocalDateTime lastLoginTime; // 最近登入時間
+
+    // 逾時或失敗而未能取得的區塊（其餘區塊仍會回傳）
+    private List<String> unavailableSections;
+}
@@ -27,4 +27,12 @@ public class StudentResponse {
     // 統計資訊
     private Integer currentCourses; // 本學期選課數
     private Integer completedCourses; // 已完成課程數
+
+    // 排名資訊（尚無成績時為 null）
+    private Integer yearRank; // 同入學學年名次
+    private Integer yearCohortSize; // 同入學學年人數
+    private Double yearPercentile; // 同入學學年 PR 值
+    private Integer departmentRank; // 同系所名次
+    private Integer departmentCohortSize; // 同系所人數
+    private Double departmentPercentile; // 同系所 PR 值
 }
\ No newline at end of file
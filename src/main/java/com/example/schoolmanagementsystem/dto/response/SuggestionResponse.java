@@ -0,0 +1,21 @@
+package com.example.schoolmanagementsystem.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 自動完成建議回應 DTO
+ * 用於選課表單輸入課程代碼或教職員編號時的即時建議
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SuggestionResponse {
+
+    private String type; // COURSE, TEACHER
+    private String id; // 課程ID 或教職員編號
+    private String label; // 課程名稱或教師姓名
+}
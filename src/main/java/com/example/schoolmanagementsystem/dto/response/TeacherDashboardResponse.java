@@ -0,0 +1,49 @@
+package com.example.schoolmanagementsystem.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 教師學期儀表板回應 DTO
+ * 用於回傳教師某學期所有授課班級的選課人數、評分進度與平均分數
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TeacherDashboardResponse {
+
+    private String teacherId;
+    private Integer academicYear;
+    private String semester;
+    private Integer sectionCount;
+    private Integer totalEnrolled;
+    private Integer totalGraded;
+    private List<Section> sections;
+
+    /**
+     * 單一授課班級
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Section {
+        private Integer classId;
+        private String courseId;
+        private String courseName;
+        private Integer meetingDay;
+        private Integer meetingSlot;
+        private String roomCode;
+        private Integer capacity;
+        private Integer enrolled;
+        private Integer graded;
+        private Double gradingProgress; // 已評分人數 / 選課人數（0 ~ 1）
+        private Double averageScore;
+        private Double passRate;
+    }
+}
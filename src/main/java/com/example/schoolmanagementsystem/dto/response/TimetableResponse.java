@@ -0,0 +1,55 @@
+package com.example.schoolmanagementsystem.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 課表排程回應 DTO
+ * 用於回傳各班上課時段、教室與排程品質
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TimetableResponse {
+
+    private Integer academicYear;
+    private String semester;
+    private Integer days;
+    private Integer slotsPerDay;
+
+    private List<Assignment> assignments; // 各班上課時段
+
+    // 排程品質
+    private Integer teacherClashes; // 教師同時段重複次數（硬性限制）
+    private Integer roomShortages; // 分不到合適教室的班級數（硬性限制）
+    private Long overlapStudents; // 常一起修的課程排在同時段的預估人數（越少越好）
+    private Boolean feasible; // 是否滿足所有硬性限制
+    private Boolean applied; // 是否已寫入班級
+
+    // 求解資訊
+    private Integer restarts; // 平行重啟數
+    private Long iterations; // 移動嘗試次數
+    private Long solveMillis; // 求解耗時
+
+    /**
+     * 單一班級的排程結果
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Assignment {
+        private Integer classId;
+        private String courseId;
+        private String teacherId;
+        private Integer capacity;
+        private Integer day; // 星期幾（1 = 星期一）
+        private Integer slot; // 當天第幾個時段（從 1 起算）
+        private String room; // 教室代碼（null 表示分不到）
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.schoolmanagementsystem.event;
+
+/**
+ * 學期班級批次新增事件
+ * 學期轉換以 JDBC 一次寫入目標學期的所有班級，不經過 JPA 實體監聽器，也沒有逐筆的班級實體可發布，
+ * 由轉換服務在交易內發布一次；訂閱端以學期為單位處理（例如只讓該學期的快取失效、只載入該學期的班級時段）
+ *
+ * @param academicYear 新班級所屬學年
+ * @param semester 新班級所屬學期
+ */
+public record ClassesBulkCreatedEvent(Integer academicYear, String semester) {
+}
@@ -0,0 +1,19 @@
+package com.example.schoolmanagementsystem.event;
+
+/**
+ * 實體異動事件
+ * 由 {@link com.example.schoolmanagementsystem.listener.EntityChangeListener} 在實體新增、修改、刪除後發布，
+ * 供記憶體內索引等元件同步更新
+ *
+ * @param entity 異動的實體
+ * @param changeType 異動類型
+ */
+public record EntityChangedEvent(Object entity, ChangeType changeType) {
+
+    /**
+     * 異動類型
+     */
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.schoolmanagementsystem.event;
+
+import com.example.schoolmanagementsystem.model.ClassInfo;
+import com.example.schoolmanagementsystem.model.Grade;
+
+import java.util.List;
+
+/**
+ * 班級成績批次異動事件
+ * 批次上傳以 JDBC 寫入整個班級的成績，不經過 JPA 實體監聽器，由上傳服務在交易內發布一次；
+ * 訂閱端以班級為單位合併處理（例如彙總只累加一次增量、排名只更新一次），不必逐筆處理成績
+ *
+ * @param classInfo 成績所屬班級
+ * @param grades 異動的成績（loadedScore 為寫入前的分數；新增的成績已回填資料庫產生的成績ID）
+ */
+public record GradesBulkChangedEvent(ClassInfo classInfo, List<Grade> grades) {
+}
@@ -55,6 +55,40 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(response, HttpStatus.CONFLICT);
     }
 
+    /**
+     * 處理資源衝突例外
+     */
+    @ExceptionHandler(ResourceConflictException.class)
+    public ResponseEntity<ApiResponse<Object>> handleResourceConflictException(
+            ResourceConflictException ex, WebRequest request) {
+
+        log.warn("資源衝突: {}", ex.getMessage());
+
+        ApiResponse<Object> response = ApiResponse.error(
+                "RESOURCE_CONFLICT",
+                ex.getMessage()
+        );
+
+        return new ResponseEntity<>(response, HttpStatus.CONFLICT);
+    }
+
+    /**
+     * 處理服務暫時無法使用例外
+     */
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ApiResponse<Object>> handleServiceUnavailableException(
+            ServiceUnavailableException ex, WebRequest request) {
+
+        log.warn("服務暫時無法使用: {}", ex.getMessage());
+
+        ApiResponse<Object> response = ApiResponse.error(
+                "SERVICE_UNAVAILABLE",
+                ex.getMessage()
+        );
+
+        return new ResponseEntity<>(response, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
     /**
      * 處理驗證錯誤（@Valid 觸發）
      */
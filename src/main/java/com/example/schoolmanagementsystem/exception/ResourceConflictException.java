@@ -0,0 +1,12 @@
+package com.example.schoolmanagementsystem.exception;
+
+/**
+ * 資源衝突例外
+ * 當要求的資源已被占用（例如教室時段重疊）時拋出
+ */
+public class ResourceConflictException extends RuntimeException {
+
+    public ResourceConflictException(String message) {
+        super(message);
+    }
+}
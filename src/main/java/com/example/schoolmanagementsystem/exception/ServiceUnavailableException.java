@@ -0,0 +1,12 @@
+package com.example.schoolmanagementsystem.exception;
+
+/**
+ * 服務暫時無法使用例外
+ * 當系統暫時無法受理請求（例如寫入佇列已滿）、使用者稍後重送即可成功時拋出
+ */
+public class ServiceUnavailableException extends RuntimeException {
+
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
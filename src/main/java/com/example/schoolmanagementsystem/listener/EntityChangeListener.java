@@ -0,0 +1,37 @@
+package com.example.schoolmanagementsystem.listener;
+
+import com.example.schoolmanagementsystem.event.EntityChangedEvent;
+import com.example.schoolmanagementsystem.event.EntityChangedEvent.ChangeType;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA 實體異動監聽器
+ * 透過 @EntityListeners 掛在實體上，將異動轉為 Spring 事件；
+ * 訂閱端使用 @TransactionalEventListener，交易提交後才會收到
+ */
+@Component
+@RequiredArgsConstructor
+public class EntityChangeListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    public void onCreated(Object entity) {
+        eventPublisher.publishEvent(new EntityChangedEvent(entity, ChangeType.CREATED));
+    }
+
+    @PostUpdate
+    public void onUpdated(Object entity) {
+        eventPublisher.publishEvent(new EntityChangedEvent(entity, ChangeType.UPDATED));
+    }
+
+    @PostRemove
+    public void onDeleted(Object entity) {
+        eventPublisher.publishEvent(new EntityChangedEvent(entity, ChangeType.DELETED));
+    }
+}
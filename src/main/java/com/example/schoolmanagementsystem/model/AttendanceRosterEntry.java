@@ -0,0 +1,43 @@
+package com.example.schoolmanagementsystem.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 點名名冊實體類別
+ * 為班級中的每位學生配置固定的序號（0, 1, 2 ...），出缺勤點陣圖的位元位置即為此序號；
+ * 序號只增不減，學生退選後仍保留，歷次點名紀錄不會錯位
+ */
+@Entity
+@Table(name = "AttendanceRosters",
+        uniqueConstraints = {
+                @UniqueConstraint(columnNames = {"class_id", "ordinal"}),
+                @UniqueConstraint(columnNames = {"class_id", "student_id"})
+        })
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AttendanceRosterEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "roster_id")
+    private Long rosterId;
+
+    // 多個名冊項目對應一個班級
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "class_id", nullable = false)
+    private ClassInfo classInfo;
+
+    @Column(name = "ordinal", nullable = false)
+    private Integer ordinal;
+
+    // 多個名冊項目對應一個學生
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "student_id", nullable = false)
+    private Student student;
+}
@@ -0,0 +1,64 @@
+package com.example.schoolmanagementsystem.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 點名紀錄實體類別
+ * 每堂課一筆，以名冊序號為位元位置儲存三個壓縮點陣圖（{@link com.example.schoolmanagementsystem.util.RunLengthBitmap}）：
+ * 當時在班名單、出席、請假；缺席 = 在班名單 − 出席 − 請假
+ */
+@Entity
+@Table(name = "AttendanceSessions",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"class_id", "session_date", "period"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AttendanceSession {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "session_id")
+    private Long sessionId;
+
+    // 多筆點名紀錄對應一個班級
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "class_id", nullable = false)
+    private ClassInfo classInfo;
+
+    @Column(name = "session_date", nullable = false)
+    private LocalDate sessionDate;
+
+    @Column(name = "period", nullable = false)
+    private Integer period; // 當天第幾堂
+
+    @Lob
+    @Column(name = "roster_bits", nullable = false)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private byte[] rosterBits;
+
+    @Lob
+    @Column(name = "present_bits", nullable = false)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private byte[] presentBits;
+
+    @Lob
+    @Column(name = "excused_bits", nullable = false)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private byte[] excusedBits;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
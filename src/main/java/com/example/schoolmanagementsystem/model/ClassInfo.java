@@ -1,5 +1,6 @@
 package com.example.schoolmanagementsystem.model;
 
+import com.example.schoolmanagementsystem.listener.EntityChangeListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -13,6 +14,7 @@ import lombok.NoArgsConstructor;
  * 注意：使用 ClassInfo 而非 Class，避免與 Java 關鍵字衝突
  */
 @Entity
+@EntityListeners(EntityChangeListener.class)
 @Table(name = "Classes")
 @Data
 @NoArgsConstructor
@@ -34,6 +36,19 @@ public class ClassInfo {
     @Column(name = "capacity", nullable = false)
     private Integer capacity;
 
+    // 上課時段（由課表排程寫入，尚未排定時為 null）
+    @Column(name = "meeting_day")
+    private Integer meetingDay; // 星期幾（1 = 星期一）
+
+    @Column(name = "meeting_slot")
+    private Integer meetingSlot; // 當天第幾個時段（從 1 起算）
+
+    // 成績修訂號：班級成績每次儲存遞增，作為差異同步的同步標記；
+    // 只由成績服務以原生 SQL 更新，實體儲存時不寫入，避免覆蓋成較舊的值
+    @Column(name = "grade_revision", insertable = false, updatable = false,
+            columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+    private Long gradeRevision;
+
     // 多個班級對應一個課程
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "course_id", nullable = false)
@@ -44,4 +59,9 @@ public class ClassInfo {
     @JoinColumn(name = "teacher_id", nullable = false)
     private Teacher teacher;
 
+    // 多個班級對應一間上課教室（尚未排定時為 null）
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "room_code")
+    private Room room;
+
 }
\ No newline at end of file
@@ -1,17 +1,23 @@
 package com.example.schoolmanagementsystem.model;
 
+import com.example.schoolmanagementsystem.listener.EntityChangeListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.Set;
 
 /**
  * 課程實體類別
  * 儲存課程的基本資訊
  */
 @Entity
+@EntityListeners(EntityChangeListener.class)
 @Table(name = "Courses")
 @Data
 @NoArgsConstructor
@@ -29,4 +35,14 @@ public class Course {
     @Column(name = "credits", precision = 3, scale = 1, nullable = false)
     private BigDecimal credits;
 
+    // 先修課程（修習本課程前必須通過的課程）
+    @ManyToMany(fetch = FetchType.LAZY)
+    @JoinTable(name = "CoursePrerequisites",
+            joinColumns = @JoinColumn(name = "course_id"),
+            inverseJoinColumns = @JoinColumn(name = "prerequisite_id"))
+    @Builder.Default
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Set<Course> prerequisites = new HashSet<>();
+
 }
\ No newline at end of file
@@ -0,0 +1,34 @@
+package com.example.schoolmanagementsystem.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * 學分類別（嵌入於畢業學程）
+ * 課程代碼以 coursePrefix 開頭者計入此類別；前綴為空字串時收納其餘所有課程（自由選修）
+ */
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CreditBucket {
+
+    @Column(name = "bucket_name", length = 50, nullable = false)
+    private String bucketName;
+
+    @Column(name = "course_prefix", length = 20, nullable = false)
+    private String coursePrefix;
+
+    @Column(name = "min_credits", precision = 4, scale = 1, nullable = false)
+    private BigDecimal minCredits;
+
+    @Column(name = "sort_order", nullable = false)
+    private Integer sortOrder; // 比對順序（課程計入第一個符合的類別）
+}
@@ -0,0 +1,60 @@
+package com.example.schoolmanagementsystem.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 畢業學程實體類別
+ * 定義系所（與入學學年）的畢業門檻：必修課程、各類別最低學分、總學分與最低平均
+ */
+@Entity
+@Table(name = "DegreePrograms")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DegreeProgram {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "program_id")
+    private Integer programId;
+
+    @Column(name = "program_name", length = 100, nullable = false)
+    private String programName;
+
+    @Column(name = "department", length = 100, nullable = false)
+    private String department;
+
+    @Column(name = "enrollment_year")
+    private Integer enrollmentYear; // 適用的入學學年（null 表示適用該系所所有學年）
+
+    @Column(name = "min_total_credits", precision = 4, scale = 1, nullable = false)
+    private BigDecimal minTotalCredits;
+
+    @Column(name = "min_gpa", precision = 5, scale = 2)
+    private BigDecimal minGpa; // 最低學分加權平均（百分制，null 表示不限制）
+
+    // 必修課程
+    @ElementCollection
+    @CollectionTable(name = "DegreeRequiredCourses", joinColumns = @JoinColumn(name = "program_id"))
+    @Column(name = "course_id", length = 20)
+    @Builder.Default
+    private Set<String> requiredCourseIds = new HashSet<>();
+
+    // 學分類別
+    @ElementCollection
+    @CollectionTable(name = "DegreeCreditBuckets", joinColumns = @JoinColumn(name = "program_id"))
+    @OrderBy("sortOrder")
+    @Builder.Default
+    private List<CreditBucket> creditBuckets = new ArrayList<>();
+}
@@ -1,5 +1,6 @@
 package com.example.schoolmanagementsystem.model;
 
+import com.example.schoolmanagementsystem.listener.EntityChangeListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -11,6 +12,7 @@ import lombok.NoArgsConstructor;
  * 記錄學生選修課程的資訊
  */
 @Entity
+@EntityListeners(EntityChangeListener.class)
 @Table(name = "Enrollments",
         uniqueConstraints = @UniqueConstraint(columnNames = {"student_id", "class_id"}))
 @Data
@@ -0,0 +1,44 @@
+package com.example.schoolmanagementsystem.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 課程評鑑統計實體類別
+ * 每個班級每一題一筆，記錄填答數、分數總和與 1 ~ 5 分各自的人數；問卷寫入時以增量累加
+ */
+@Entity
+@Table(name = "EvaluationAggregates")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EvaluationAggregate {
+
+    @EmbeddedId
+    private EvaluationAggregateId id;
+
+    @Column(name = "response_count", nullable = false)
+    private Long responseCount;
+
+    @Column(name = "score_sum", nullable = false)
+    private Long scoreSum;
+
+    @Column(name = "count_1", nullable = false)
+    private Long count1;
+
+    @Column(name = "count_2", nullable = false)
+    private Long count2;
+
+    @Column(name = "count_3", nullable = false)
+    private Long count3;
+
+    @Column(name = "count_4", nullable = false)
+    private Long count4;
+
+    @Column(name = "count_5", nullable = false)
+    private Long count5;
+}
@@ -0,0 +1,27 @@
+package com.example.schoolmanagementsystem.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * 課程評鑑統計主鍵（班級、題號）
+ */
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EvaluationAggregateId implements Serializable {
+
+    @Column(name = "class_id")
+    private Integer classId;
+
+    @Column(name = "question_no")
+    private Integer questionNo;
+}
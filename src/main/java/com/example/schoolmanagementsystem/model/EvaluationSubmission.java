@@ -0,0 +1,44 @@
+package com.example.schoolmanagementsystem.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 課程評鑑問卷實體類別
+ * 只新增不修改；各題分數以逗號分隔存成一個欄位，統計結果另存於 {@link EvaluationAggregate}
+ */
+@Entity
+@Table(name = "EvaluationSubmissions",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"class_id", "student_id"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EvaluationSubmission {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "submission_id")
+    private Long submissionId;
+
+    // 只存ID，批次寫入時不需載入班級與學生實體
+    @Column(name = "class_id", nullable = false)
+    private Integer classId;
+
+    @Column(name = "student_id", length = 20, nullable = false)
+    private String studentId;
+
+    @Column(name = "answers", length = 200, nullable = false)
+    private String answers; // 例如 "5,4,4,3,5"
+
+    @Column(name = "comment", columnDefinition = "TEXT")
+    private String comment;
+
+    @Column(name = "submitted_at", nullable = false)
+    private LocalDateTime submittedAt;
+}
@@ -1,10 +1,13 @@
 package com.example.schoolmanagementsystem.model;
 
+import com.example.schoolmanagementsystem.listener.EntityChangeListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 import java.math.BigDecimal;
 
 /**
@@ -12,6 +15,7 @@ import java.math.BigDecimal;
  * 記錄學生的課程成績
  */
 @Entity
+@EntityListeners(EntityChangeListener.class)
 @Table(name = "Grades")
 @Data
 @NoArgsConstructor
@@ -27,8 +31,29 @@ public class Grade {
     @Column(name = "score_numeric", precision = 4, scale = 1)
     private BigDecimal scoreNumeric;
 
+    // 版本號：每次修改遞增，差異同步時逐格比對以偵測衝突
+    @Version
+    @Column(name = "version", columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+    private Long version;
+
+    // 最後一次修改時的班級成績修訂號（對應 ClassInfo.gradeRevision）
+    @Column(name = "revision", columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+    @Builder.Default
+    private Long revision = 0L;
+
     // 一個成績對應一個選課記錄
     @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "enrollment_id", unique = true, nullable = false)
     private Enrollment enrollment;
+
+    // 從資料庫載入時的分數（不寫入資料庫），成績異動時用來計算彙總的增量
+    @Transient
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private BigDecimal loadedScore;
+
+    @PostLoad
+    void rememberLoadedScore() {
+        this.loadedScore = scoreNumeric;
+    }
 }
\ No newline at end of file
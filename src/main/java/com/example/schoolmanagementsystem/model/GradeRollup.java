@@ -0,0 +1,38 @@
+package com.example.schoolmanagementsystem.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * 成績彙總實體類別
+ * 依（課程、教師、學年、學期）預先彙總的成績筆數、分數總和、平方和與及格人數；
+ * 各欄位皆可相加，成績異動時以增量更新，平均、標準差與及格率都可由此算出
+ */
+@Entity
+@Table(name = "GradeRollups")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GradeRollup {
+
+    @EmbeddedId
+    private GradeRollupId id;
+
+    @Column(name = "grade_count", nullable = false)
+    private Long gradeCount;
+
+    @Column(name = "score_sum", precision = 15, scale = 1, nullable = false)
+    private BigDecimal scoreSum;
+
+    @Column(name = "score_square_sum", precision = 19, scale = 2, nullable = false)
+    private BigDecimal scoreSquareSum;
+
+    @Column(name = "pass_count", nullable = false)
+    private Long passCount;
+}
@@ -0,0 +1,33 @@
+package com.example.schoolmanagementsystem.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * 成績彙總主鍵（課程、教師、學年、學期）
+ */
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GradeRollupId implements Serializable {
+
+    @Column(name = "course_id", length = 20)
+    private String courseId;
+
+    @Column(name = "teacher_id", length = 20)
+    private String teacherId;
+
+    @Column(name = "academic_year")
+    private Integer academicYear;
+
+    @Column(name = "semester", length = 50)
+    private String semester;
+}
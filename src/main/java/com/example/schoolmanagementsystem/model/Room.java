@@ -0,0 +1,31 @@
+package com.example.schoolmanagementsystem.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 教室實體類別
+ * 儲存教室的基本資訊與容量
+ */
+@Entity
+@Table(name = "Rooms")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Room {
+
+    @Id
+    @Column(name = "room_code", length = 20)
+    private String roomCode;
+
+    @Column(name = "room_name", length = 100)
+    private String roomName;
+
+    @Column(name = "capacity", nullable = false)
+    private Integer capacity;
+
+}
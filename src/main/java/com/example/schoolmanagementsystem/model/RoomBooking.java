@@ -0,0 +1,48 @@
+package com.example.schoolmanagementsystem.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 教室預約實體類別
+ * 記錄非課程用途的臨時借用（演講、考試、會議等）
+ */
+@Entity
+@Table(name = "RoomBookings",
+        indexes = @Index(name = "idx_room_bookings_room_time", columnList = "room_code, start_time"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RoomBooking {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "booking_id")
+    private Long bookingId;
+
+    // 多個預約對應一間教室
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "room_code", nullable = false)
+    private Room room;
+
+    @Column(name = "start_time", nullable = false)
+    private LocalDateTime startTime;
+
+    @Column(name = "end_time", nullable = false)
+    private LocalDateTime endTime;
+
+    @Column(name = "purpose", length = 255)
+    private String purpose; // 借用用途
+
+    @Column(name = "booked_by", length = 50, nullable = false)
+    private String bookedBy; // 借用人（教職員編號）
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -1,5 +1,6 @@
 package com.example.schoolmanagementsystem.model;
 
+import com.example.schoolmanagementsystem.listener.EntityChangeListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -12,6 +13,7 @@ import lombok.NoArgsConstructor;
  * 儲存學生的基本資訊
  */
 @Entity
+@EntityListeners(EntityChangeListener.class)
 @Table(name = "Students")
 @Data
 @NoArgsConstructor
@@ -26,6 +28,13 @@ public class Student {
     @Column(name = "student_name", nullable = false)
     private String studentName;
 
+    @Column(name = "department", length = 100)
+    private String department;
+
+    // 入學學年（西元，例如 2024）
+    @Column(name = "enrollment_year")
+    private Integer enrollmentYear;
+
     // 一個學生對應一個使用者帳號
     @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", unique = true, nullable = false)
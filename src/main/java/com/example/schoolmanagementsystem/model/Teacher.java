@@ -1,5 +1,6 @@
 package com.example.schoolmanagementsystem.model;
 
+import com.example.schoolmanagementsystem.listener.EntityChangeListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -11,6 +12,7 @@ import lombok.NoArgsConstructor;
  * 儲存教師的基本資訊
  */
 @Entity
+@EntityListeners(EntityChangeListener.class)
 @Table(name = "Teachers")
 @Data
 @NoArgsConstructor
@@ -0,0 +1,33 @@
+package com.example.schoolmanagementsystem.repository;
+
+import com.example.schoolmanagementsystem.model.AttendanceRosterEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.util.List;
+
+/**
+ * 點名名冊資料存取介面
+ * 提供名冊序號的查詢
+ */
+@Repository
+public interface AttendanceRosterRepository extends JpaRepository<AttendanceRosterEntry, Long> {
+
+    /**
+     * 查詢班級名冊（不載入實體）
+     * @param classId 班級ID
+     * @return [序號, 學號, 學生姓名] 列表（依序號排序）
+     */
+    @Query("SELECT r.ordinal, s.studentId, s.studentName FROM AttendanceRosterEntry r JOIN r.student s " +
+           "WHERE r.classInfo.classId = :classId ORDER BY r.ordinal")
+    List<Object[]> findRosterByClassId(@Param("classId") Integer classId);
+
+    /**
+     * 查詢學生在各班級的名冊序號
+     * @param studentId 學號
+     * @return [班級ID, 序號] 列表
+     */
+    @Query("SELECT r.classInfo.classId, r.ordinal FROM AttendanceRosterEntry r WHERE r.student.studentId = :studentId")
+    List<Object[]> findOrdinalsByStudentId(@Param("studentId") String studentId);
+}
@@ -0,0 +1,41 @@
+package com.example.schoolmanagementsystem.repository;
+
+import com.example.schoolmanagementsystem.model.AttendanceSession;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 點名紀錄資料存取介面
+ * 提供點名紀錄相關的資料庫操作
+ */
+@Repository
+public interface AttendanceSessionRepository extends JpaRepository<AttendanceSession, Long> {
+
+    /**
+     * 查詢班級的所有點名紀錄
+     * @param classId 班級ID
+     * @return 點名紀錄列表（依日期與堂次排序）
+     */
+    List<AttendanceSession> findByClassInfo_ClassIdOrderBySessionDateAscPeriodAsc(Integer classId);
+
+    /**
+     * 查詢多個班級的所有點名紀錄
+     * @param classIds 班級ID集合
+     * @return 點名紀錄列表
+     */
+    List<AttendanceSession> findByClassInfo_ClassIdIn(Collection<Integer> classIds);
+
+    /**
+     * 查詢班級特定日期與堂次的點名紀錄
+     * @param classId 班級ID
+     * @param sessionDate 上課日期
+     * @param period 堂次
+     * @return 點名紀錄（Optional）
+     */
+    Optional<AttendanceSession> findByClassInfo_ClassIdAndSessionDateAndPeriod(
+            Integer classId, LocalDate sessionDate, Integer period);
+}
@@ -4,7 +4,11 @@ import com.example.schoolmanagementsystem.model.ClassInfo;
 import com.example.schoolmanagementsystem.model.Course;
 import com.example.schoolmanagementsystem.model.Teacher;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -12,7 +16,7 @@ import java.util.List;
  * 提供班級相關的資料庫操作
  */
 @Repository
-public interface ClassInfoRepository extends JpaRepository<ClassInfo, Integer> {
+public interface ClassInfoRepository extends JpaRepository<ClassInfo, Integer>, ClassInfoRepositoryCustom {
 
     /**
      * 查詢特定學年學期的所有班級
@@ -52,4 +56,123 @@ public interface ClassInfoRepository extends JpaRepository<ClassInfo, Integer> {
      * @return 班級列表
      */
     List<ClassInfo> findByCourse_CourseId(String courseId);
-}
\ No newline at end of file
+
+    /**
+     * 查詢已排定教室與上課時段的班級（建立教室占用索引用）
+     * @return [班級ID, 教室代碼, 學年, 學期, 星期, 時段] 列表
+     */
+    @Query("SELECT c.classId, c.room.roomCode, c.academicYear, c.semester, c.meetingDay, c.meetingSlot " +
+           "FROM ClassInfo c WHERE c.room IS NOT NULL AND c.meetingDay IS NOT NULL AND c.meetingSlot IS NOT NULL")
+    List<Object[]> findRoomMeetings();
+
+    /**
+     * 查詢單一班級的教室與上課時段
+     * @param classId 班級ID
+     * @return [班級ID, 教室代碼, 學年, 學期, 星期, 時段]，未排定教室或時段時為空
+     */
+    @Query("SELECT c.classId, c.room.roomCode, c.academicYear, c.semester, c.meetingDay, c.meetingSlot " +
+           "FROM ClassInfo c WHERE c.classId = :classId AND c.room IS NOT NULL " +
+           "AND c.meetingDay IS NOT NULL AND c.meetingSlot IS NOT NULL")
+    List<Object[]> findRoomMeetingByClassId(@Param("classId") Integer classId);
+
+    /**
+     * 查詢學期內已排定教室與上課時段的班級（學期轉換後更新教室占用索引用）
+     * @param academicYear 學年
+     * @param semester 學期
+     * @return [班級ID, 教室代碼, 學年, 學期, 星期, 時段] 列表
+     */
+    @Query("SELECT c.classId, c.room.roomCode, c.academicYear, c.semester, c.meetingDay, c.meetingSlot " +
+           "FROM ClassInfo c WHERE c.academicYear = :academicYear AND c.semester = :semester " +
+           "AND c.room IS NOT NULL AND c.meetingDay IS NOT NULL AND c.meetingSlot IS NOT NULL")
+    List<Object[]> findRoomMeetingsByTerm(@Param("academicYear") Integer academicYear,
+                                          @Param("semester") String semester);
+
+    /**
+     * 查詢學年範圍內各班級的課程、學期與人數上限（選課需求預測用）
+     * @param fromYear 起始學年（含）
+     * @param toYear 結束學年（含）
+     * @return [課程ID, 學年, 學期, 人數上限] 列表
+     */
+    @Query("SELECT c.course.courseId, c.academicYear, c.semester, c.capacity FROM ClassInfo c " +
+           "WHERE c.academicYear BETWEEN :fromYear AND :toYear")
+    List<Object[]> findOfferings(@Param("fromYear") Integer fromYear, @Param("toYear") Integer toYear);
+
+    /**
+     * 查詢所有開課學年
+     * @return 學年列表（遞增）
+     */
+    @Query("SELECT DISTINCT c.academicYear FROM ClassInfo c ORDER BY c.academicYear")
+    List<Integer> findDistinctAcademicYears();
+
+    /**
+     * 鎖定班級並取得目前的成績修訂號（SELECT ... FOR UPDATE，同一班級的成績寫入依序進行）
+     * @param classId 班級ID
+     * @return 成績修訂號（班級不存在時為 null）
+     */
+    @Query(value = "SELECT grade_revision FROM Classes WHERE class_id = :classId FOR UPDATE", nativeQuery = true)
+    Long lockGradeRevision(@Param("classId") Integer classId);
+
+    /**
+     * 更新班級成績修訂號（不經過實體，不觸發班級異動事件）
+     * @param classId 班級ID
+     * @param revision 新的修訂號
+     * @return 影響筆數
+     */
+    @Modifying
+    @Query(value = "UPDATE Classes SET grade_revision = :revision WHERE class_id = :classId", nativeQuery = true)
+    int updateGradeRevision(@Param("classId") Integer classId, @Param("revision") Long revision);
+
+    /**
+     * 彙總教師某學期各授課班級的選課人數與評分進度（教師儀表板用）
+     * @param teacherId 教師ID
+     * @param academicYear 學年
+     * @param semester 學期
+     * @return [班級ID, 課程ID, 課程名稱, 人數上限, 星期, 時段, 教室代碼, 選課人數, 已評分人數, 分數總和, 及格人數] 列表
+     */
+    @Query("SELECT ci.classId, c.courseId, c.courseName, ci.capacity, ci.meetingDay, ci.meetingSlot, r.roomCode, " +
+           "COUNT(e), COUNT(g.scoreNumeric), SUM(g.scoreNumeric), SUM(CASE WHEN g.scoreNumeric >= 60 THEN 1 ELSE 0 END) " +
+           "FROM ClassInfo ci JOIN ci.course c LEFT JOIN ci.room r " +
+           "LEFT JOIN Enrollment e ON e.classInfo = ci LEFT JOIN Grade g ON g.enrollment = e " +
+           "WHERE ci.teacher.teacherId = :teacherId AND ci.academicYear = :academicYear AND ci.semester = :semester " +
+           "GROUP BY ci.classId, c.courseId, c.courseName, ci.capacity, ci.meetingDay, ci.meetingSlot, r.roomCode")
+    List<Object[]> summarizeTeacherTerm(@Param("teacherId") String teacherId,
+                                        @Param("academicYear") Integer academicYear,
+                                        @Param("semester") String semester);
+
+    /**
+     * 重新彙總指定班級的選課人數與評分進度（教師儀表板增量更新用）
+     * @param classIds 班級ID集合
+     * @return [班級ID, 課程ID, 課程名稱, 人數上限, 星期, 時段, 教室代碼, 選課人數, 已評分人數, 分數總和, 及格人數] 列表
+     */
+    @Query("SELECT ci.classId, c.courseId, c.courseName, ci.capacity, ci.meetingDay, ci.meetingSlot, r.roomCode, " +
+           "COUNT(e), COUNT(g.scoreNumeric), SUM(g.scoreNumeric), SUM(CASE WHEN g.scoreNumeric >= 60 THEN 1 ELSE 0 END) " +
+           "FROM ClassInfo ci JOIN ci.course c LEFT JOIN ci.room r " +
+           "LEFT JOIN Enrollment e ON e.classInfo = ci LEFT JOIN Grade g ON g.enrollment = e " +
+           "WHERE ci.classId IN :classIds " +
+           "GROUP BY ci.classId, c.courseId, c.courseName, ci.capacity, ci.meetingDay, ci.meetingSlot, r.roomCode")
+    List<Object[]> summarizeClasses(@Param("classIds") Collection<Integer> classIds);
+
+    /**
+     * 查詢學期所有開課班級（學期轉換用，不載入實體）
+     * @param academicYear 學年
+     * @param semester 學期
+     * @return [班級ID, 課程ID, 課程名稱, 教師ID, 人數上限, 星期, 時段, 教室代碼] 列表（依課程ID、班級ID排序）
+     */
+    @Query("SELECT ci.classId, c.courseId, c.courseName, ci.teacher.teacherId, ci.capacity, " +
+           "ci.meetingDay, ci.meetingSlot, r.roomCode FROM ClassInfo ci JOIN ci.course c LEFT JOIN ci.room r " +
+           "WHERE ci.academicYear = :academicYear AND ci.semester = :semester ORDER BY c.courseId, ci.classId")
+    List<Object[]> findRolloverRows(@Param("academicYear") Integer academicYear,
+                                    @Param("semester") String semester);
+
+    /**
+     * 查詢學期已開設班級的課程、教師與上課時段（學期轉換比對重複開課與時段衝突用）
+     * @param academicYear 學年
+     * @param semester 學期
+     * @return [課程ID, 教師ID, 星期, 時段, 教室代碼] 列表（尚未排定時星期、時段、教室為 null）
+     */
+    @Query("SELECT ci.course.courseId, ci.teacher.teacherId, ci.meetingDay, ci.meetingSlot, r.roomCode " +
+           "FROM ClassInfo ci LEFT JOIN ci.room r " +
+           "WHERE ci.academicYear = :academicYear AND ci.semester = :semester")
+    List<Object[]> findTermSchedules(@Param("academicYear") Integer academicYear,
+                                     @Param("semester") String semester);
+}
@@ -0,0 +1,30 @@
+package com.example.schoolmanagementsystem.repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 開課班級自訂查詢介面
+ * 提供無法以方法命名衍生的班級查詢
+ */
+public interface ClassInfoRepositoryCustom {
+
+    /**
+     * 以稀疏欄位投影查詢課程的所有開課班級
+     * @param courseId 課程ID
+     * @param fields 請求的欄位
+     * @return 班級資料（每筆只包含請求的欄位）
+     */
+    List<Map<String, Object>> findProjectedByCourseId(String courseId, Set<String> fields);
+
+    /**
+     * 以稀疏欄位投影查詢特定學年學期尚有名額的班級
+     * @param academicYear 學年
+     * @param semester 學期
+     * @param fields 請求的欄位
+     * @return 班級資料（每筆只包含請求的欄位）
+     */
+    List<Map<String, Object>> findProjectedAvailableByTerm(
+            Integer academicYear, String semester, Set<String> fields);
+}
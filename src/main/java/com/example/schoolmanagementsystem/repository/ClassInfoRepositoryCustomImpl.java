@@ -0,0 +1,55 @@
+package com.example.schoolmanagementsystem.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 開課班級自訂查詢實作
+ */
+public class ClassInfoRepositoryCustomImpl implements ClassInfoRepositoryCustom {
+
+    private static final String ENROLLMENT_COUNT =
+            "(SELECT COUNT(e) FROM Enrollment e WHERE e.classInfo = c)";
+
+    private static final SparseProjectionQuery CLASS_FIELDS =
+            new SparseProjectionQuery("FROM ClassInfo c")
+                    .join("co", "JOIN c.course co")
+                    .join("t", "JOIN c.teacher t")
+                    .column("classId", "c.classId")
+                    .column("courseId", "c.course.courseId")
+                    .column("courseName", "co.courseName", "co")
+                    .column("credits", "co.credits", "co")
+                    .column("teacherId", "c.teacher.teacherId")
+                    .column("teacherName", "t.teacherName", "t")
+                    .column("academicYear", "c.academicYear")
+                    .column("semester", "c.semester")
+                    .column("capacity", "c.capacity")
+                    .column("currentEnrollment", ENROLLMENT_COUNT)
+                    .column("remainingSeats", "c.capacity - " + ENROLLMENT_COUNT)
+                    .column("available", "c.capacity - " + ENROLLMENT_COUNT)
+                    .column("isFull", "CASE WHEN " + ENROLLMENT_COUNT
+                            + " >= c.capacity THEN true ELSE false END");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Map<String, Object>> findProjectedByCourseId(String courseId, Set<String> fields) {
+        return CLASS_FIELDS.execute(entityManager, fields,
+                "c.course.courseId = :courseId", Set.of(),
+                Map.of("courseId", courseId));
+    }
+
+    @Override
+    public List<Map<String, Object>> findProjectedAvailableByTerm(
+            Integer academicYear, String semester, Set<String> fields) {
+        return CLASS_FIELDS.execute(entityManager, fields,
+                "c.academicYear = :academicYear AND c.semester = :semester AND c.capacity > "
+                        + ENROLLMENT_COUNT, Set.of(),
+                Map.of("academicYear", academicYear, "semester", semester));
+    }
+}
@@ -1,10 +1,15 @@
 package com.example.schoolmanagementsystem.repository;
 
 import com.example.schoolmanagementsystem.model.Course;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * 課程資料存取介面
@@ -41,4 +46,19 @@ public interface CourseRepository extends JpaRepository<Course, String> {
      * @return 是否存在
      */
     boolean existsByCourseId(String courseId);
-}
\ No newline at end of file
+
+    /**
+     * 串流讀取所有課程的ID與名稱（用於建立記憶體內索引）
+     * @return 每列為 [courseId, courseName]
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT c.courseId, c.courseName FROM Course c")
+    Stream<Object[]> streamIdAndName();
+
+    /**
+     * 查詢所有先修關係
+     * @return [課程ID, 先修課程ID] 列表
+     */
+    @Query("SELECT c.courseId, p.courseId FROM Course c JOIN c.prerequisites p")
+    List<Object[]> findPrerequisitePairs();
+}
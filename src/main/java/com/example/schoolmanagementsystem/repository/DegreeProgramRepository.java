@@ -0,0 +1,21 @@
+package com.example.schoolmanagementsystem.repository;
+
+import com.example.schoolmanagementsystem.model.DegreeProgram;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import java.util.List;
+
+/**
+ * 畢業學程資料存取介面
+ * 提供畢業學程相關的資料庫操作
+ */
+@Repository
+public interface DegreeProgramRepository extends JpaRepository<DegreeProgram, Integer> {
+
+    /**
+     * 查詢系所的所有畢業學程
+     * @param department 系所
+     * @return 畢業學程列表
+     */
+    List<DegreeProgram> findByDepartment(String department);
+}
@@ -3,19 +3,24 @@ package com.example.schoolmanagementsystem.repository;
 import com.example.schoolmanagementsystem.model.Enrollment;
 import com.example.schoolmanagementsystem.model.Student;
 import com.example.schoolmanagementsystem.model.ClassInfo;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * 選課記錄資料存取介面
  * 提供選課相關的資料庫操作
  */
 @Repository
-public interface EnrollmentRepository extends JpaRepository<Enrollment, Integer> {
+public interface EnrollmentRepository extends JpaRepository<Enrollment, Integer>, EnrollmentRepositoryCustom {
 
     /**
      * 查詢學生的所有選課記錄
@@ -68,4 +73,83 @@ public interface EnrollmentRepository extends JpaRepository<Enrollment, Integer>
      */
     @Query("SELECT COUNT(e) FROM Enrollment e WHERE e.classInfo.classId = :classId")
     Long countByClassId(@Param("classId") Integer classId);
-}
\ No newline at end of file
+
+    /**
+     * 串流特定學年學期的所有選課關係（建立選課圖用，不載入實體）
+     * @param academicYear 學年
+     * @param semester 學期
+     * @return [學號, 班級ID, 課程ID] 的串流，呼叫端需負責關閉
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT e.student.studentId, ci.classId, ci.course.courseId FROM Enrollment e JOIN e.classInfo ci " +
+           "WHERE ci.academicYear = :academicYear AND ci.semester = :semester")
+    Stream<Object[]> streamPairsByTerm(@Param("academicYear") Integer academicYear,
+                                       @Param("semester") String semester);
+
+    /**
+     * 查詢學生所有修課紀錄與成績（畢業審查用）
+     * @param studentId 學生ID
+     * @return [課程ID, 學分, 分數] 列表（尚未評分時分數為 null）
+     */
+    @Query("SELECT c.courseId, c.credits, g.scoreNumeric FROM Enrollment e " +
+           "JOIN e.classInfo ci JOIN ci.course c LEFT JOIN Grade g ON g.enrollment = e " +
+           "WHERE e.student.studentId = :studentId")
+    List<Object[]> findAuditRowsByStudentId(@Param("studentId") String studentId);
+
+    /**
+     * 依學號排序串流整個群體的修課紀錄與成績（批次畢業審查用）
+     * 以學生為主表外部連結修課紀錄，沒有任何修課的學生也會有一列（課程ID 為 null）
+     * @param department 系所
+     * @param enrollmentYear 入學學年
+     * @return [學號, 姓名, 課程ID, 學分, 分數] 的串流，呼叫端需負責關閉
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT s.studentId, s.studentName, c.courseId, c.credits, g.scoreNumeric FROM Student s " +
+           "LEFT JOIN Enrollment e ON e.student = s LEFT JOIN e.classInfo ci LEFT JOIN ci.course c " +
+           "LEFT JOIN Grade g ON g.enrollment = e " +
+           "WHERE s.department = :department AND s.enrollmentYear = :enrollmentYear ORDER BY s.studentId")
+    Stream<Object[]> streamAuditRowsByCohort(@Param("department") String department,
+                                             @Param("enrollmentYear") Integer enrollmentYear);
+
+    /**
+     * 串流截至某學年的所有修課紀錄與成績（選課需求預測用）
+     * @param maxYear 最大學年（含）
+     * @return [學號, 入學學年, 課程ID, 學年, 學期, 分數] 的串流，呼叫端需負責關閉
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT s.studentId, s.enrollmentYear, c.courseId, ci.academicYear, ci.semester, g.scoreNumeric " +
+           "FROM Enrollment e JOIN e.student s JOIN e.classInfo ci JOIN ci.course c " +
+           "LEFT JOIN Grade g ON g.enrollment = e WHERE ci.academicYear <= :maxYear")
+    Stream<Object[]> streamForecastRows(@Param("maxYear") Integer maxYear);
+
+    /**
+     * 查詢班級所有選課記錄與現有成績（批次上傳成績用，一次查詢解析整個班級）
+     * @param classId 班級ID
+     * @return [選課記錄（含學生）, 成績ID, 分數] 列表（尚未評分時成績ID與分數為 null）
+     */
+    @Query("SELECT e, g.gradeId, g.scoreNumeric FROM Enrollment e JOIN FETCH e.student " +
+           "LEFT JOIN Grade g ON g.enrollment = e WHERE e.classInfo.classId = :classId")
+    List<Object[]> findWithGradesByClassId(@Param("classId") Integer classId);
+
+    /**
+     * 依學號排序串流班級名冊（學生、Email、系所與目前成績，單一投影查詢）
+     * @param classId 班級ID
+     * @return [學號, 姓名, Email, 系所, 分數] 的串流，呼叫端需負責關閉
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT s.studentId, s.studentName, u.email, s.department, g.scoreNumeric FROM Enrollment e " +
+           "JOIN e.student s JOIN s.user u LEFT JOIN Grade g ON g.enrollment = e " +
+           "WHERE e.classInfo.classId = :classId ORDER BY s.studentId")
+    Stream<Object[]> streamRosterByClassId(@Param("classId") Integer classId);
+
+    /**
+     * 查詢班級中指定學生的選課記錄與成績實體（差異同步用，只載入有異動的儲存格）
+     * @param classId 班級ID
+     * @param studentIds 學號集合
+     * @return [選課記錄（含學生）, 成績（尚未評分時為 null）] 列表
+     */
+    @Query("SELECT e, g FROM Enrollment e JOIN FETCH e.student s LEFT JOIN Grade g ON g.enrollment = e " +
+           "WHERE e.classInfo.classId = :classId AND s.studentId IN :studentIds")
+    List<Object[]> findWithGradeEntities(@Param("classId") Integer classId,
+                                         @Param("studentIds") Collection<String> studentIds);
+}
@@ -0,0 +1,23 @@
+package com.example.schoolmanagementsystem.repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 選課記錄自訂查詢介面
+ * 提供無法以方法命名衍生的選課查詢
+ */
+public interface EnrollmentRepositoryCustom {
+
+    /**
+     * 以稀疏欄位投影查詢學生的選課記錄（只載入請求的欄位與必要的關聯）
+     * @param studentId 學生ID
+     * @param academicYear 學年（選填，為 null 時不過濾）
+     * @param semester 學期（選填，為 null 時不過濾）
+     * @param fields 請求的欄位
+     * @return 選課記錄（每筆只包含請求的欄位）
+     */
+    List<Map<String, Object>> findProjectedByStudentId(
+            String studentId, Integer academicYear, String semester, Set<String> fields);
+}
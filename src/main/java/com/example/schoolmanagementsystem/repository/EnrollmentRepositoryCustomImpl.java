@@ -0,0 +1,58 @@
+package com.example.schoolmanagementsystem.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 選課記錄自訂查詢實作
+ */
+public class EnrollmentRepositoryCustomImpl implements EnrollmentRepositoryCustom {
+
+    private static final SparseProjectionQuery ENROLLMENT_FIELDS =
+            new SparseProjectionQuery("FROM Enrollment e")
+                    .join("s", "JOIN e.student s")
+                    .join("c", "JOIN e.classInfo c")
+                    .join("co", "JOIN c.course co")
+                    .join("t", "JOIN c.teacher t")
+                    .join("g", "LEFT JOIN Grade g ON g.enrollment = e")
+                    .column("enrollmentId", "e.enrollmentId")
+                    .column("studentId", "e.student.studentId")
+                    .column("studentName", "s.studentName", "s")
+                    .column("classId", "e.classInfo.classId")
+                    .column("courseId", "c.course.courseId", "c")
+                    .column("courseName", "co.courseName", "c", "co")
+                    .column("credits", "co.credits", "c", "co")
+                    .column("teacherName", "t.teacherName", "c", "t")
+                    .column("semester", "c.semester", "c")
+                    .column("academicYear", "c.academicYear", "c")
+                    .column("score", "g.scoreNumeric", "g")
+                    .column("isPassed",
+                            "CASE WHEN g.scoreNumeric >= 60 THEN true ELSE false END", "g");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Map<String, Object>> findProjectedByStudentId(
+            String studentId, Integer academicYear, String semester, Set<String> fields) {
+
+        StringBuilder where = new StringBuilder("e.student.studentId = :studentId");
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("studentId", studentId);
+
+        boolean filterByTerm = academicYear != null && semester != null;
+        if (filterByTerm) {
+            where.append(" AND c.academicYear = :academicYear AND c.semester = :semester");
+            parameters.put("academicYear", academicYear);
+            parameters.put("semester", semester);
+        }
+
+        return ENROLLMENT_FIELDS.execute(entityManager, fields, where.toString(),
+                filterByTerm ? Set.of("c") : Set.of(), parameters);
+    }
+}
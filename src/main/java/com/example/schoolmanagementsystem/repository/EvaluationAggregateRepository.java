@@ -0,0 +1,58 @@
+package com.example.schoolmanagementsystem.repository;
+
+import com.example.schoolmanagementsystem.model.EvaluationAggregate;
+import com.example.schoolmanagementsystem.model.EvaluationAggregateId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.util.List;
+
+/**
+ * 課程評鑑統計資料存取介面
+ * 提供評鑑統計的查詢與增量更新
+ */
+@Repository
+public interface EvaluationAggregateRepository extends JpaRepository<EvaluationAggregate, EvaluationAggregateId> {
+
+    /**
+     * 查詢班級各題的統計
+     * @param classId 班級ID
+     * @return 統計列表（依題號排序）
+     */
+    List<EvaluationAggregate> findById_ClassIdOrderById_QuestionNo(Integer classId);
+
+    /**
+     * 累加增量（資料列不存在時新增），使用 MariaDB 的 INSERT ... ON DUPLICATE KEY UPDATE
+     * @param classId 班級ID
+     * @param questionNo 題號
+     * @param count 填答數增量
+     * @param sum 分數總和增量
+     * @param c1 1 分人數增量
+     * @param c2 2 分人數增量
+     * @param c3 3 分人數增量
+     * @param c4 4 分人數增量
+     * @param c5 5 分人數增量
+     * @return 影響筆數
+     */
+    @Modifying
+    @Query(value = "INSERT INTO EvaluationAggregates " +
+            "(class_id, question_no, response_count, score_sum, count_1, count_2, count_3, count_4, count_5) " +
+            "VALUES (:classId, :questionNo, :count, :sum, :c1, :c2, :c3, :c4, :c5) " +
+            "ON DUPLICATE KEY UPDATE response_count = response_count + VALUES(response_count), " +
+            "score_sum = score_sum + VALUES(score_sum), " +
+            "count_1 = count_1 + VALUES(count_1), count_2 = count_2 + VALUES(count_2), " +
+            "count_3 = count_3 + VALUES(count_3), count_4 = count_4 + VALUES(count_4), " +
+            "count_5 = count_5 + VALUES(count_5)",
+            nativeQuery = true)
+    int addDelta(@Param("classId") Integer classId,
+                 @Param("questionNo") Integer questionNo,
+                 @Param("count") long count,
+                 @Param("sum") long sum,
+                 @Param("c1") long c1,
+                 @Param("c2") long c2,
+                 @Param("c3") long c3,
+                 @Param("c4") long c4,
+                 @Param("c5") long c5);
+}
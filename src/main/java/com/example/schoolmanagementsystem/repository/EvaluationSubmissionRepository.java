@@ -0,0 +1,21 @@
+package com.example.schoolmanagementsystem.repository;
+
+import com.example.schoolmanagementsystem.model.EvaluationSubmission;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 課程評鑑問卷資料存取介面
+ * 提供問卷的新增與重複填答檢查
+ */
+@Repository
+public interface EvaluationSubmissionRepository extends JpaRepository<EvaluationSubmission, Long> {
+
+    /**
+     * 檢查學生是否已填寫班級的評鑑
+     * @param classId 班級ID
+     * @param studentId 學號
+     * @return 是否已填寫
+     */
+    boolean existsByClassIdAndStudentId(Integer classId, String studentId);
+}
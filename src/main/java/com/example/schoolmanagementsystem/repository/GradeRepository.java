@@ -2,13 +2,18 @@ package com.example.schoolmanagementsystem.repository;
 
 import com.example.schoolmanagementsystem.model.Grade;
 import com.example.schoolmanagementsystem.model.Enrollment;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * 成績資料存取介面
@@ -62,4 +67,100 @@ public interface GradeRepository extends JpaRepository<Grade, Integer> {
      */
     @Query("SELECT AVG(g.scoreNumeric) FROM Grade g JOIN g.enrollment e WHERE e.classInfo.classId = :classId")
     BigDecimal calculateAverageScoreByClassId(@Param("classId") Integer classId);
-}
\ No newline at end of file
+
+    /**
+     * 查詢特定班級所有已登錄的分數（只取分數欄位，不載入成績實體）
+     * @param classId 班級ID
+     * @return 分數列表
+     */
+    @Query("SELECT g.scoreNumeric FROM Grade g JOIN g.enrollment e " +
+           "WHERE e.classInfo.classId = :classId AND g.scoreNumeric IS NOT NULL")
+    List<BigDecimal> findScoresByClassId(@Param("classId") Integer classId);
+
+    /**
+     * 計算特定學生的學分加權分數總和與已評分學分數
+     * @param studentId 學生ID
+     * @return 單列結果 [加權分數總和, 學分總和]（沒有成績時兩者皆為 null）
+     */
+    @Query("SELECT SUM(g.scoreNumeric * c.credits), SUM(c.credits) FROM Grade g " +
+           "JOIN g.enrollment e JOIN e.classInfo ci JOIN ci.course c " +
+           "WHERE e.student.studentId = :studentId AND g.scoreNumeric IS NOT NULL")
+    List<Object[]> sumWeightedScoresByStudentId(@Param("studentId") String studentId);
+
+    /**
+     * 計算多位學生的學分加權分數總和（批次上傳成績後更新排名用）
+     * @param studentIds 學號集合
+     * @return [學號, 入學學年, 系所, 加權分數總和, 學分總和] 列表（沒有成績的學生不會出現）
+     */
+    @Query("SELECT s.studentId, s.enrollmentYear, s.department, SUM(g.scoreNumeric * c.credits), SUM(c.credits) " +
+           "FROM Grade g JOIN g.enrollment e JOIN e.student s JOIN e.classInfo ci JOIN ci.course c " +
+           "WHERE s.studentId IN :studentIds AND g.scoreNumeric IS NOT NULL " +
+           "GROUP BY s.studentId, s.enrollmentYear, s.department")
+    List<Object[]> sumWeightedScoresByStudentIds(@Param("studentIds") Collection<String> studentIds);
+
+    /**
+     * 串流所有學生的學分加權分數總和（建立排名索引用）
+     * @return [學號, 入學學年, 系所, 加權分數總和, 學分總和] 的串流，呼叫端需負責關閉
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT s.studentId, s.enrollmentYear, s.department, SUM(g.scoreNumeric * c.credits), SUM(c.credits) " +
+           "FROM Grade g JOIN g.enrollment e JOIN e.student s JOIN e.classInfo ci JOIN ci.course c " +
+           "WHERE g.scoreNumeric IS NOT NULL " +
+           "GROUP BY s.studentId, s.enrollmentYear, s.department")
+    Stream<Object[]> streamWeightedScoresByStudent();
+
+    /**
+     * 依成績ID遞增串流新增的成績（建立分析快照用）
+     * @param afterGradeId 只取成績ID大於此值的資料（0 表示全部）
+     * @return [成績ID, 班級ID, 課程ID, 學年, 學期, 分數, 學分] 的串流，呼叫端需負責關閉
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT g.gradeId, ci.classId, c.courseId, ci.academicYear, ci.semester, g.scoreNumeric, c.credits " +
+           "FROM Grade g JOIN g.enrollment e JOIN e.classInfo ci JOIN ci.course c " +
+           "WHERE g.gradeId > :afterGradeId AND g.scoreNumeric IS NOT NULL ORDER BY g.gradeId")
+    Stream<Object[]> streamAnalyticsRowsAfter(@Param("afterGradeId") Integer afterGradeId);
+
+    /**
+     * 查詢指定成績的分析資料列（增量更新分析快照用）
+     * @param gradeIds 成績ID集合
+     * @return [成績ID, 班級ID, 課程ID, 學年, 學期, 分數, 學分] 列表（已刪除或未評分者不會出現）
+     */
+    @Query("SELECT g.gradeId, ci.classId, c.courseId, ci.academicYear, ci.semester, g.scoreNumeric, c.credits " +
+           "FROM Grade g JOIN g.enrollment e JOIN e.classInfo ci JOIN ci.course c " +
+           "WHERE g.gradeId IN :gradeIds AND g.scoreNumeric IS NOT NULL")
+    List<Object[]> findAnalyticsRowsByIds(@Param("gradeIds") Collection<Integer> gradeIds);
+
+    /**
+     * 查詢學生已通過的課程
+     * @param studentId 學生ID
+     * @param passingScore 及格分數
+     * @return 課程ID列表（不重複）
+     */
+    @Query("SELECT DISTINCT c.courseId FROM Grade g JOIN g.enrollment e JOIN e.classInfo ci JOIN ci.course c " +
+           "WHERE e.student.studentId = :studentId AND g.scoreNumeric >= :passingScore")
+    List<String> findPassedCourseIdsByStudentId(@Param("studentId") String studentId,
+                                                @Param("passingScore") BigDecimal passingScore);
+
+    /**
+     * 依（課程、教師、學年、學期）彙總單一學年的成績（回填成績彙總用）
+     * @param academicYear 學年
+     * @return [課程ID, 教師ID, 學年, 學期, 筆數, 分數總和, 分數平方和, 及格人數] 列表
+     */
+    @Query("SELECT c.courseId, ci.teacher.teacherId, ci.academicYear, ci.semester, COUNT(g), " +
+           "SUM(g.scoreNumeric), SUM(g.scoreNumeric * g.scoreNumeric), " +
+           "SUM(CASE WHEN g.scoreNumeric >= 60 THEN 1 ELSE 0 END) " +
+           "FROM Grade g JOIN g.enrollment e JOIN e.classInfo ci JOIN ci.course c " +
+           "WHERE ci.academicYear = :academicYear AND g.scoreNumeric IS NOT NULL " +
+           "GROUP BY c.courseId, ci.teacher.teacherId, ci.academicYear, ci.semester")
+    List<Object[]> aggregateRollupsByYear(@Param("academicYear") Integer academicYear);
+
+    /**
+     * 查詢班級在某修訂號之後異動的成績（差異同步用）
+     * @param classId 班級ID
+     * @param revision 修訂號（不含）
+     * @return [學號, 分數, 版本號] 列表
+     */
+    @Query("SELECT s.studentId, g.scoreNumeric, g.version FROM Grade g JOIN g.enrollment e JOIN e.student s " +
+           "WHERE e.classInfo.classId = :classId AND g.revision > :revision")
+    List<Object[]> findSyncChanges(@Param("classId") Integer classId, @Param("revision") Long revision);
+}
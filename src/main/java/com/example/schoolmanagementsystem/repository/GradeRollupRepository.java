@@ -0,0 +1,80 @@
+package com.example.schoolmanagementsystem.repository;
+
+import com.example.schoolmanagementsystem.model.GradeRollup;
+import com.example.schoolmanagementsystem.model.GradeRollupId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 成績彙總資料存取介面
+ * 提供成績彙總的查詢與增量更新
+ */
+@Repository
+public interface GradeRollupRepository extends JpaRepository<GradeRollup, GradeRollupId> {
+
+    /**
+     * 查詢課程的所有彙總
+     * @param courseId 課程ID
+     * @return 彙總列表
+     */
+    List<GradeRollup> findById_CourseId(String courseId);
+
+    /**
+     * 查詢教師的所有彙總
+     * @param teacherId 教師ID
+     * @return 彙總列表
+     */
+    List<GradeRollup> findById_TeacherId(String teacherId);
+
+    /**
+     * 查詢特定課程與教師的彙總
+     * @param courseId 課程ID
+     * @param teacherId 教師ID
+     * @return 彙總列表
+     */
+    List<GradeRollup> findById_CourseIdAndId_TeacherId(String courseId, String teacherId);
+
+    /**
+     * 刪除學年的所有彙總（回填前清除）
+     * @param academicYear 學年
+     * @return 刪除筆數
+     */
+    @Modifying
+    @Query("DELETE FROM GradeRollup r WHERE r.id.academicYear = :academicYear")
+    int deleteByAcademicYear(@Param("academicYear") Integer academicYear);
+
+    /**
+     * 累加增量（資料列不存在時新增），使用 MariaDB 的 INSERT ... ON DUPLICATE KEY UPDATE
+     * @param courseId 課程ID
+     * @param teacherId 教師ID
+     * @param academicYear 學年
+     * @param semester 學期
+     * @param count 成績筆數增量
+     * @param sum 分數總和增量
+     * @param squareSum 分數平方和增量
+     * @param passCount 及格人數增量
+     * @return 影響筆數
+     */
+    @Modifying
+    @Query(value = "INSERT INTO GradeRollups " +
+            "(course_id, teacher_id, academic_year, semester, grade_count, score_sum, score_square_sum, pass_count) " +
+            "VALUES (:courseId, :teacherId, :academicYear, :semester, :count, :sum, :squareSum, :passCount) " +
+            "ON DUPLICATE KEY UPDATE grade_count = grade_count + VALUES(grade_count), " +
+            "score_sum = score_sum + VALUES(score_sum), " +
+            "score_square_sum = score_square_sum + VALUES(score_square_sum), " +
+            "pass_count = pass_count + VALUES(pass_count)",
+            nativeQuery = true)
+    int addDelta(@Param("courseId") String courseId,
+                 @Param("teacherId") String teacherId,
+                 @Param("academicYear") Integer academicYear,
+                 @Param("semester") String semester,
+                 @Param("count") long count,
+                 @Param("sum") BigDecimal sum,
+                 @Param("squareSum") BigDecimal squareSum,
+                 @Param("passCount") long passCount);
+}
@@ -0,0 +1,29 @@
+package com.example.schoolmanagementsystem.repository;
+
+import com.example.schoolmanagementsystem.model.RoomBooking;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+/**
+ * 教室預約資料存取介面
+ * 提供教室預約相關的資料庫操作
+ */
+@Repository
+public interface RoomBookingRepository extends JpaRepository<RoomBooking, Long> {
+
+    /**
+     * 串流尚未結束的預約（建立預約索引用）
+     * @param now 目前時間
+     * @return [預約ID, 教室代碼, 開始時間, 結束時間] 的串流，呼叫端需負責關閉
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT b.bookingId, b.room.roomCode, b.startTime, b.endTime FROM RoomBooking b WHERE b.endTime > :now")
+    Stream<Object[]> streamActive(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,21 @@
+package com.example.schoolmanagementsystem.repository;
+
+import com.example.schoolmanagementsystem.model.Room;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import java.util.List;
+
+/**
+ * 教室資料存取介面
+ * 提供教室相關的資料庫操作
+ */
+@Repository
+public interface RoomRepository extends JpaRepository<Room, String> {
+
+    /**
+     * 查詢容量足夠的教室
+     * @param capacity 最小容量
+     * @return 依容量遞增排序的教室列表
+     */
+    List<Room> findByCapacityGreaterThanEqualOrderByCapacityAsc(Integer capacity);
+}
@@ -0,0 +1,109 @@
+package com.example.schoolmanagementsystem.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 稀疏欄位投影查詢建構器
+ * 依照請求的欄位動態組出 JPQL：只 SELECT 需要的欄位，也只 JOIN 這些欄位用到的關聯
+ */
+final class SparseProjectionQuery {
+
+    /**
+     * 單一欄位定義
+     * @param expression JPQL 運算式
+     * @param joins 此欄位需要的 JOIN 別名
+     */
+    private record Column(String expression, List<String> joins) {
+    }
+
+    private final String from;
+    private final Map<String, String> joins = new LinkedHashMap<>();
+    private final Map<String, Column> columns = new LinkedHashMap<>();
+
+    SparseProjectionQuery(String from) {
+        this.from = from;
+    }
+
+    /**
+     * 宣告可用的 JOIN（依宣告順序輸出，後宣告者可引用先宣告的別名）
+     */
+    SparseProjectionQuery join(String alias, String clause) {
+        joins.put(alias, clause);
+        return this;
+    }
+
+    /**
+     * 宣告可選欄位
+     */
+    SparseProjectionQuery column(String name, String expression, String... requiredJoins) {
+        columns.put(name, new Column(expression, List.of(requiredJoins)));
+        return this;
+    }
+
+    /**
+     * 執行投影查詢
+     * @param entityManager EntityManager
+     * @param fields 請求的欄位（需為已宣告的欄位）
+     * @param where WHERE 條件（不含 WHERE 關鍵字）
+     * @param whereJoins WHERE 條件需要的 JOIN 別名
+     * @param parameters 具名參數
+     * @return 每列一個 Map，只包含請求的欄位
+     */
+    List<Map<String, Object>> execute(EntityManager entityManager, Set<String> fields,
+                                      String where, Set<String> whereJoins,
+                                      Map<String, Object> parameters) {
+        List<String> unknown = fields.stream()
+                .filter(field -> !columns.containsKey(field))
+                .toList();
+        if (!unknown.isEmpty()) {
+            throw new IllegalArgumentException(
+                    String.format("不支援的欄位: %s（可用欄位: %s）",
+                            String.join(", ", unknown), String.join(", ", columns.keySet())));
+        }
+
+        List<String> names = new ArrayList<>(fields);
+        Set<String> usedJoins = new LinkedHashSet<>(whereJoins);
+        List<String> selections = new ArrayList<>(names.size());
+        for (String name : names) {
+            Column column = columns.get(name);
+            selections.add(column.expression());
+            usedJoins.addAll(column.joins());
+        }
+
+        StringBuilder jpql = new StringBuilder("SELECT ")
+                .append(String.join(", ", selections))
+                .append(' ')
+                .append(from);
+        joins.forEach((alias, clause) -> {
+            if (usedJoins.contains(alias)) {
+                jpql.append(' ').append(clause);
+            }
+        });
+        if (where != null) {
+            jpql.append(" WHERE ").append(where);
+        }
+
+        Query query = entityManager.createQuery(jpql.toString());
+        parameters.forEach(query::setParameter);
+
+        List<?> rows = query.getResultList();
+        List<Map<String, Object>> result = new ArrayList<>(rows.size());
+        for (Object row : rows) {
+            Object[] values = row instanceof Object[] array ? array : new Object[]{row};
+            Map<String, Object> map = new LinkedHashMap<>();
+            for (int i = 0; i < names.size(); i++) {
+                map.put(names.get(i), values[i]);
+            }
+            result.add(map);
+        }
+        return result;
+    }
+}
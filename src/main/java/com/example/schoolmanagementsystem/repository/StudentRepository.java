@@ -2,9 +2,15 @@ package com.example.schoolmanagementsystem.repository;
 
 import com.example.schoolmanagementsystem.model.Student;
 import com.example.schoolmanagementsystem.model.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * 學生資料存取介面
@@ -40,4 +46,27 @@ public interface StudentRepository extends JpaRepository<Student, String> {
      * @return 是否存在
      */
     boolean existsByUser(User user);
-}
\ No newline at end of file
+
+    /**
+     * 查詢學生對應的使用者ID（不載入學生與使用者實體）
+     * @param studentId 學生ID
+     * @return 使用者ID（Optional）
+     */
+    @Query("SELECT s.user.userId FROM Student s WHERE s.studentId = :studentId")
+    Optional<Integer> findUserIdByStudentId(@Param("studentId") String studentId);
+
+    /**
+     * 串流讀取所有學生的學號與姓名（用於建立記憶體內索引）
+     * @return 每列為 [studentId, studentName]
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT s.studentId, s.studentName FROM Student s")
+    Stream<Object[]> streamIdAndName();
+
+    /**
+     * 計算特定入學學年的學生人數
+     * @param enrollmentYear 入學學年
+     * @return 學生人數
+     */
+    long countByEnrollmentYear(Integer enrollmentYear);
+}
@@ -2,9 +2,14 @@ package com.example.schoolmanagementsystem.repository;
 
 import com.example.schoolmanagementsystem.model.Teacher;
 import com.example.schoolmanagementsystem.model.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * 教師資料存取介面
@@ -40,4 +45,12 @@ public interface TeacherRepository extends JpaRepository<Teacher, String> {
      * @return 是否存在
      */
     boolean existsByUser(User user);
+
+    /**
+     * 串流讀取所有教師的編號與姓名（用於建立記憶體內索引）
+     * @return 每列為 [teacherId, teacherName]
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT t.teacherId, t.teacherName FROM Teacher t")
+    Stream<Object[]> streamIdAndName();
 }
\ No newline at end of file
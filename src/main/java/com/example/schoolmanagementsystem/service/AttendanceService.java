@@ -0,0 +1,34 @@
+package com.example.schoolmanagementsystem.service;
+
+import com.example.schoolmanagementsystem.dto.request.AttendanceRequest;
+import com.example.schoolmanagementsystem.dto.response.AttendanceSummaryResponse;
+import com.example.schoolmanagementsystem.dto.response.StudentAttendanceResponse;
+
+/**
+ * 出缺勤服務介面
+ * 定義點名紀錄的寫入與出席率、缺席次數查詢
+ */
+public interface AttendanceService {
+
+    /**
+     * 批次點名（一堂課的出席與請假名單）
+     * @param classId 班級ID
+     * @param request 上課日期、堂次與名單
+     * @return 該堂課點名後的統計
+     */
+    AttendanceSummaryResponse.SessionSummary recordAttendance(Integer classId, AttendanceRequest request);
+
+    /**
+     * 查詢班級出缺勤統計
+     * @param classId 班級ID
+     * @return 每堂課的出席率與每位學生的缺席次數
+     */
+    AttendanceSummaryResponse getClassSummary(Integer classId);
+
+    /**
+     * 查詢學生在各班級的出缺勤
+     * @param studentId 學號
+     * @return 各班級的出席與缺席次數
+     */
+    StudentAttendanceResponse getStudentAttendance(String studentId);
+}
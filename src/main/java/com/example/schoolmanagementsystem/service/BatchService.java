@@ -0,0 +1,24 @@
+package com.example.schoolmanagementsystem.service;
+
+import com.example.schoolmanagementsystem.dto.request.BatchRequest;
+import com.example.schoolmanagementsystem.dto.response.BatchItemResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.List;
+
+/**
+ * 批次請求服務介面
+ * 定義批次子請求的分派邏輯
+ */
+public interface BatchService {
+
+    /**
+     * 平行分派批次中的所有子請求
+     * @param request 批次請求
+     * @param servletRequest 原始 HTTP 請求（方法返回後子請求即無法存取）
+     * @param servletResponse 原始 HTTP 回應（子請求不會寫入）
+     * @return 每個子請求的結果（順序與請求相同）
+     */
+    List<BatchItemResponse> execute(BatchRequest request, HttpServletRequest servletRequest,
+                                    HttpServletResponse servletResponse);
+}
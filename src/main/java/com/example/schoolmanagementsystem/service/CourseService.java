@@ -0,0 +1,29 @@
+package com.example.schoolmanagementsystem.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 課程服務介面
+ * 定義課程與開課班級查詢的業務邏輯
+ */
+public interface CourseService {
+
+    /**
+     * 查詢特定課程的所有開課班級
+     * @param courseId 課程ID
+     * @param fields 請求的欄位（null 表示完整欄位）
+     * @return 班級清單（唯讀，可能與其他請求共用）
+     */
+    List<Map<String, Object>> getClassesByCourse(String courseId, Set<String> fields);
+
+    /**
+     * 查詢特定學年學期尚有名額的班級
+     * @param academicYear 學年
+     * @param semester 學期
+     * @param fields 請求的欄位（null 表示完整欄位）
+     * @return 班級清單（唯讀，可能與其他請求共用）
+     */
+    List<Map<String, Object>> getAvailableClasses(Integer academicYear, String semester, Set<String> fields);
+}
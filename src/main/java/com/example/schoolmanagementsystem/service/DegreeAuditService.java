@@ -0,0 +1,45 @@
+package com.example.schoolmanagementsystem.service;
+
+import com.example.schoolmanagementsystem.dto.request.DegreeProgramRequest;
+import com.example.schoolmanagementsystem.dto.response.DegreeAuditBatchResponse;
+import com.example.schoolmanagementsystem.dto.response.DegreeAuditResponse;
+import com.example.schoolmanagementsystem.dto.response.DegreeProgramResponse;
+
+import java.util.List;
+
+/**
+ * 畢業審查服務介面
+ * 定義畢業學程維護與單一學生、整個群體的畢業審查
+ */
+public interface DegreeAuditService {
+
+    /**
+     * 建立畢業學程
+     * @param request 學程門檻
+     * @return 建立後的學程
+     */
+    DegreeProgramResponse createProgram(DegreeProgramRequest request);
+
+    /**
+     * 列出所有畢業學程
+     * @return 學程列表
+     */
+    List<DegreeProgramResponse> getPrograms();
+
+    /**
+     * 審查單一學生
+     * @param studentId 學生ID
+     * @param programId 學程ID（未指定時依學生系所與入學學年選擇）
+     * @return 審查結果
+     */
+    DegreeAuditResponse auditStudent(String studentId, Integer programId);
+
+    /**
+     * 批次審查整個群體（學程系所 + 入學學年）
+     * @param programId 學程ID
+     * @param enrollmentYear 入學學年（未指定時使用學程的適用學年）
+     * @param includeEligible 結果是否包含已符合資格的學生
+     * @return 審查統計與結果
+     */
+    DegreeAuditBatchResponse auditCohort(Integer programId, Integer enrollmentYear, boolean includeEligible);
+}
@@ -0,0 +1,18 @@
+package com.example.schoolmanagementsystem.service;
+
+import com.example.schoolmanagementsystem.dto.request.DemandForecastRequest;
+import com.example.schoolmanagementsystem.dto.response.DemandForecastResponse;
+
+/**
+ * 選課需求預測服務介面
+ * 定義下學期各課程需求的模擬與開班建議
+ */
+public interface DemandForecastService {
+
+    /**
+     * 預測學期各課程的選課需求
+     * @param request 預測學期與模擬參數
+     * @return 各課程的需求分布與建議開班數
+     */
+    DemandForecastResponse forecast(DemandForecastRequest request);
+}
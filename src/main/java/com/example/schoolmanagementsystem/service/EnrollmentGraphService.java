@@ -0,0 +1,62 @@
+package com.example.schoolmanagementsystem.service;
+
+import com.example.schoolmanagementsystem.dto.response.CourseOverlapResponse;
+import com.example.schoolmanagementsystem.util.EnrollmentGraph;
+import com.example.schoolmanagementsystem.util.SparseIntMatrix;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 選課圖服務介面
+ * 定義學期選課二分圖的建立與共同修課分析
+ */
+public interface EnrollmentGraphService {
+
+    /**
+     * 學期選課圖
+     * @param graph 學生 ↔ 班級二分圖
+     * @param classToCourse 班級序號 → 課程序號
+     * @param courseIds 課程序號 → 課程ID
+     * @param builtAt 建立時間
+     */
+    record TermGraph(EnrollmentGraph graph, int[] classToCourse, String[] courseIds, LocalDateTime builtAt) {
+    }
+
+    /**
+     * 課程層級共同修課矩陣
+     * @param courseIds 課程序號 → 課程ID（與 TermGraph 相同）
+     * @param shared 第 i 列第 j 欄為同時修課程 i 與 j 的學生數
+     * @param courseSizes 各課程的不重複修課人數
+     */
+    record CourseCoEnrollment(String[] courseIds, SparseIntMatrix shared, int[] courseSizes) {
+    }
+
+    /**
+     * 取得學期選課圖（有快取，選課異動後失效）
+     * @param academicYear 學年
+     * @param semester 學期
+     * @return 學期選課圖
+     */
+    TermGraph getTermGraph(Integer academicYear, String semester);
+
+    /**
+     * 取得學期的課程共同修課矩陣（有快取，選課異動後失效）
+     * @param academicYear 學年
+     * @param semester 學期
+     * @return 課程共同修課矩陣
+     */
+    CourseCoEnrollment getCourseCoEnrollment(Integer academicYear, String semester);
+
+    /**
+     * 查詢課程兩兩之間的共同修課人數
+     * @param academicYear 學年
+     * @param semester 學期
+     * @param courseId 只看與此課程的重疊（null 表示全部課程配對）
+     * @param minShared 最少共同人數
+     * @param limit 最多回傳筆數
+     * @return 依共同人數遞減排序的課程配對
+     */
+    List<CourseOverlapResponse> getCourseOverlaps(Integer academicYear, String semester, String courseId,
+                                                  int minShared, int limit);
+}
@@ -0,0 +1,37 @@
+package com.example.schoolmanagementsystem.service;
+
+import com.example.schoolmanagementsystem.dto.request.EvaluationRequest;
+import com.example.schoolmanagementsystem.dto.response.EvaluationSummaryResponse;
+
+import java.util.List;
+
+/**
+ * 課程評鑑服務介面
+ * 定義評鑑問卷的填寫與結果查詢
+ */
+public interface EvaluationService {
+
+    /**
+     * 取得評鑑題目
+     * @return 題目列表（依題號順序）
+     */
+    List<String> getQuestions();
+
+    /**
+     * 填寫課程評鑑（驗證後排入佇列，由背景批次寫入）
+     * @param request 學號、班級與作答
+     */
+    void submit(EvaluationRequest request);
+
+    /**
+     * 查詢班級評鑑結果（讀取預先累加的統計）
+     * @param classId 班級ID
+     * @return 各題的平均分數與分數分布
+     */
+    EvaluationSummaryResponse getSummary(Integer classId);
+
+    /**
+     * 把佇列中的問卷寫入資料庫並累加統計
+     */
+    void flush();
+}
@@ -0,0 +1,18 @@
+package com.example.schoolmanagementsystem.service;
+
+import com.example.schoolmanagementsystem.dto.request.ExamScheduleRequest;
+import com.example.schoolmanagementsystem.dto.response.ExamScheduleResponse;
+
+/**
+ * 期末考排程服務介面
+ * 定義依選課衝突產生考試時段的業務邏輯
+ */
+public interface ExamScheduleService {
+
+    /**
+     * 產生學期期末考時段（只回傳建議方案，不寫入資料庫）
+     * @param request 學期與時段配置
+     * @return 排程結果與剩餘衝突
+     */
+    ExamScheduleResponse generateSchedule(ExamScheduleRequest request);
+}
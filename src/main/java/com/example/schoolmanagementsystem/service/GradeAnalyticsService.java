@@ -0,0 +1,31 @@
+package com.example.schoolmanagementsystem.service;
+
+import com.example.schoolmanagementsystem.dto.response.GradeAnalyticsResponse;
+import com.example.schoolmanagementsystem.util.GradeSnapshot;
+
+import java.util.List;
+
+/**
+ * 成績分析服務介面
+ * 定義全校成績報表（各課程及格率、各學期加權平均、不及格熱點）的查詢
+ */
+public interface GradeAnalyticsService {
+
+    /**
+     * 在記憶體快照上篩選並分組彙總
+     * @param filter 篩選條件
+     * @param groupBy 分組維度
+     * @return 分析結果
+     */
+    GradeAnalyticsResponse analyze(GradeSnapshot.Filter filter, List<GradeSnapshot.Dimension> groupBy);
+
+    /**
+     * 套用累積的成績異動（增量更新快照）
+     */
+    void refresh();
+
+    /**
+     * 從資料庫完整重建快照
+     */
+    void rebuild();
+}
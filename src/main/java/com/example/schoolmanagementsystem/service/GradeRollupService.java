@@ -0,0 +1,32 @@
+package com.example.schoolmanagementsystem.service;
+
+import com.example.schoolmanagementsystem.dto.response.GradeTrendResponse;
+
+/**
+ * 成績彙總服務介面
+ * 定義以（課程、教師、學年、學期）預先彙總的成績趨勢查詢與回填
+ */
+public interface GradeRollupService {
+
+    /**
+     * 查詢課程歷年成績趨勢
+     * @param courseId 課程ID
+     * @param teacherId 教師ID（選填，未指定時合併所有授課教師）
+     * @return 各學期的統計
+     */
+    GradeTrendResponse getCourseTrend(String courseId, String teacherId);
+
+    /**
+     * 查詢教師歷年成績趨勢
+     * @param teacherId 教師ID
+     * @param courseId 課程ID（選填，未指定時合併所有授課課程）
+     * @return 各學期的統計
+     */
+    GradeTrendResponse getTeacherTrend(String teacherId, String courseId);
+
+    /**
+     * 由成績資料重建全部彙總（各學年平行處理）
+     * @return 重建的彙總筆數
+     */
+    int rebuildRollups();
+}
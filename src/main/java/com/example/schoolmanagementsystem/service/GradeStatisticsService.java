@@ -0,0 +1,23 @@
+package com.example.schoolmanagementsystem.service;
+
+import com.example.schoolmanagementsystem.dto.response.ClassGradeReportResponse;
+
+/**
+ * 成績統計服務介面
+ * 定義班級成績報表的業務邏輯
+ */
+public interface GradeStatisticsService {
+
+    /**
+     * 取得班級成績報表（有快取，成績異動後自動失效）
+     * @param classId 班級ID
+     * @return 班級成績報表
+     */
+    ClassGradeReportResponse getClassReport(Integer classId);
+
+    /**
+     * 使特定班級的快取失效
+     * @param classId 班級ID（null 表示全部）
+     */
+    void invalidate(Integer classId);
+}
@@ -0,0 +1,19 @@
+package com.example.schoolmanagementsystem.service;
+
+import com.example.schoolmanagementsystem.dto.request.GradeSyncRequest;
+import com.example.schoolmanagementsystem.dto.response.GradeSyncResponse;
+
+/**
+ * 成績差異同步服務介面
+ * 定義試算表式成績輸入的增量儲存與衝突偵測
+ */
+public interface GradeSyncService {
+
+    /**
+     * 套用有修改的儲存格，並回傳上次同步後其他人的修改
+     * @param classId 班級ID
+     * @param request 同步標記與修改的儲存格
+     * @return 套用結果、衝突與其他人的修改
+     */
+    GradeSyncResponse sync(Integer classId, GradeSyncRequest request);
+}
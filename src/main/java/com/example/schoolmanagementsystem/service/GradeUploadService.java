@@ -0,0 +1,27 @@
+package com.example.schoolmanagementsystem.service;
+
+import com.example.schoolmanagementsystem.dto.request.GradeUploadRequest;
+import com.example.schoolmanagementsystem.dto.response.GradeUploadResponse;
+
+/**
+ * 批次上傳成績服務介面
+ * 定義以 JSON 或 CSV 一次上傳整個班級的成績
+ */
+public interface GradeUploadService {
+
+    /**
+     * 上傳班級成績（JSON）
+     * @param classId 班級ID
+     * @param request 學號與分數列表
+     * @return 寫入筆數與逐列錯誤報告
+     */
+    GradeUploadResponse uploadGrades(Integer classId, GradeUploadRequest request);
+
+    /**
+     * 上傳班級成績（CSV，每行「學號,分數」，可有標題列）
+     * @param classId 班級ID
+     * @param csv CSV 內容
+     * @return 寫入筆數與逐列錯誤報告
+     */
+    GradeUploadResponse uploadGradesCsv(Integer classId, String csv);
+}
@@ -0,0 +1,47 @@
+package com.example.schoolmanagementsystem.service;
+
+import com.example.schoolmanagementsystem.util.PrerequisiteGraph;
+
+import java.util.List;
+
+/**
+ * 先修課程服務介面
+ * 定義先修關係維護與選課時的先修條件檢查
+ */
+public interface PrerequisiteService {
+
+    /**
+     * 查詢課程的先修課程
+     * @param courseId 課程ID
+     * @param transitive true 時包含間接先修課程
+     * @return 先修課程ID列表
+     */
+    List<String> getPrerequisites(String courseId, boolean transitive);
+
+    /**
+     * 設定課程的直接先修課程（會形成循環時拒絕）
+     * @param courseId 課程ID
+     * @param prerequisiteIds 先修課程ID列表
+     * @return 設定後的直接先修課程ID列表
+     */
+    List<String> updatePrerequisites(String courseId, List<String> prerequisiteIds);
+
+    /**
+     * 查詢學生修習課程前尚未通過的先修課程
+     * @param studentId 學生ID
+     * @param courseId 課程ID
+     * @return 尚未通過的先修課程ID列表（空列表表示符合資格）
+     */
+    List<String> getMissingPrerequisites(String studentId, String courseId);
+
+    /**
+     * 取得目前的先修課程圖（不可變快照）
+     * @return 先修課程圖
+     */
+    PrerequisiteGraph getGraph();
+
+    /**
+     * 從資料庫重建先修課程圖與遞移閉包
+     */
+    void rebuildGraph();
+}
@@ -0,0 +1,44 @@
+package com.example.schoolmanagementsystem.service;
+
+import com.example.schoolmanagementsystem.dto.response.RankingResponse;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * GPA 排名服務介面
+ * 定義同屆（入學學年）與同系所群體內的名次、PR 值與排行榜查詢
+ */
+public interface RankingService {
+
+    String YEAR = "YEAR";
+    String DEPARTMENT = "DEPARTMENT";
+
+    /**
+     * 查詢學生在群體中的名次
+     * @param studentId 學生ID
+     * @param cohortType 群體類型（YEAR、DEPARTMENT）
+     * @return 名次資訊；學生尚無成績或不屬於該類群體時回傳 null
+     */
+    RankingResponse getRank(String studentId, String cohortType);
+
+    /**
+     * 查詢群體排行榜
+     * @param cohortType 群體類型（YEAR、DEPARTMENT）
+     * @param cohort 群體值（例如 2024 或系所名稱）
+     * @param limit 最多回傳筆數
+     * @return 依名次排序的清單
+     */
+    List<RankingResponse> getLeaderboard(String cohortType, String cohort, int limit);
+
+    /**
+     * 列出所有群體與人數
+     * @return 群體鍵值（類型:值）→ 人數
+     */
+    Map<String, Integer> getCohortSizes();
+
+    /**
+     * 從資料庫重建排名索引
+     */
+    void rebuild();
+}
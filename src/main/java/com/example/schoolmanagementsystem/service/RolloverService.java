@@ -0,0 +1,18 @@
+package com.example.schoolmanagementsystem.service;
+
+import com.example.schoolmanagementsystem.dto.request.RolloverRequest;
+import com.example.schoolmanagementsystem.dto.response.RolloverResponse;
+
+/**
+ * 學期轉換服務介面
+ * 定義將來源學期開課班級批次複製到目標學期
+ */
+public interface RolloverService {
+
+    /**
+     * 學期轉換（apply 為 false 時只試算）
+     * @param request 來源、目標學期與調整
+     * @return 每個來源班級的處理結果
+     */
+    RolloverResponse rollover(RolloverRequest request);
+}
@@ -0,0 +1,85 @@
+package com.example.schoolmanagementsystem.service;
+
+import com.example.schoolmanagementsystem.dto.request.RoomBookingRequest;
+import com.example.schoolmanagementsystem.dto.request.RoomRequest;
+import com.example.schoolmanagementsystem.dto.response.FreeSlotResponse;
+import com.example.schoolmanagementsystem.dto.response.RoomBookingResponse;
+import com.example.schoolmanagementsystem.dto.response.RoomResponse;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * 教室服務介面
+ * 定義教室管理、空教室查詢與臨時預約等業務邏輯
+ */
+public interface RoomService {
+
+    /**
+     * 建立教室
+     * @param request 教室資料
+     * @return 建立後的教室
+     */
+    RoomResponse createRoom(RoomRequest request);
+
+    /**
+     * 更新教室名稱與容量
+     * @param roomCode 教室代碼
+     * @param request 教室資料
+     * @return 更新後的教室
+     */
+    RoomResponse updateRoom(String roomCode, RoomRequest request);
+
+    /**
+     * 列出所有教室
+     * @return 教室列表
+     */
+    List<RoomResponse> getAllRooms();
+
+    /**
+     * 查詢時段內可用的教室
+     * @param start 開始時間
+     * @param end 結束時間（須與開始時間同一天）
+     * @param minCapacity 最小容量
+     * @return 依容量遞增排序的可用教室
+     */
+    List<RoomResponse> findAvailableRooms(LocalDateTime start, LocalDateTime end, int minCapacity);
+
+    /**
+     * 查詢教室某天的空檔
+     * @param roomCode 教室代碼
+     * @param date 日期
+     * @param from 查詢起始時刻
+     * @param to 查詢結束時刻
+     * @param minMinutes 最短空檔長度（分鐘）
+     * @return 依時間排序的空檔
+     */
+    List<FreeSlotResponse> findFreeSlots(String roomCode, LocalDate date, LocalTime from, LocalTime to, int minMinutes);
+
+    /**
+     * 預約教室（與課程或其他預約重疊時拒絕）
+     * @param roomCode 教室代碼
+     * @param request 預約資料
+     * @return 預約結果
+     */
+    RoomBookingResponse createBooking(String roomCode, RoomBookingRequest request);
+
+    /**
+     * 取消預約
+     * @param bookingId 預約ID
+     */
+    void cancelBooking(Long bookingId);
+
+    /**
+     * 從資料庫重建教室占用索引
+     */
+    void rebuildIndex();
+
+    /**
+     * 每天可排課的時段數（app.rooms.slot-times 設定的時段數）
+     * 超出此範圍的班級上課時段無法對應到時刻，不會列入教室占用索引
+     */
+    int slotsPerDay();
+}
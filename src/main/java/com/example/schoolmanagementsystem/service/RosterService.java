@@ -0,0 +1,33 @@
+package com.example.schoolmanagementsystem.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 班級名冊服務介面
+ * 定義以串流方式匯出班級名冊
+ */
+public interface RosterService {
+
+    /**
+     * 名冊輸出格式
+     */
+    enum Format {
+        JSONL, CSV
+    }
+
+    /**
+     * 確認班級存在（開始串流前呼叫，串流開始後就無法再回傳錯誤狀態碼）
+     * @param classId 班級ID
+     */
+    void requireClass(Integer classId);
+
+    /**
+     * 逐列寫出班級名冊，記憶體用量與班級人數無關
+     * @param classId 班級ID
+     * @param format 輸出格式
+     * @param out 輸出串流
+     * @return 寫出的學生數
+     */
+    int writeRoster(Integer classId, Format format, OutputStream out) throws IOException;
+}
@@ -0,0 +1,25 @@
+package com.example.schoolmanagementsystem.service;
+
+import com.example.schoolmanagementsystem.dto.response.SearchResultResponse;
+import java.util.List;
+
+/**
+ * 搜尋服務介面
+ * 定義課程、學生、教師名稱搜尋的業務邏輯
+ */
+public interface SearchService {
+
+    /**
+     * 依名稱搜尋
+     * @param query 查詢字串（可為部分名稱）
+     * @param type 搜尋類型（COURSE、STUDENT、TEACHER，null 表示全部）
+     * @param limit 最多回傳筆數
+     * @return 依相關度排序的結果
+     */
+    List<SearchResultResponse> search(String query, String type, int limit);
+
+    /**
+     * 從資料庫重建所有索引
+     */
+    void rebuildIndexes();
+}
@@ -0,0 +1,17 @@
+package com.example.schoolmanagementsystem.service;
+
+import com.example.schoolmanagementsystem.dto.response.StudentDashboardResponse;
+
+/**
+ * 學生儀表板服務介面
+ * 定義學生首頁聚合查詢的業務邏輯
+ */
+public interface StudentDashboardService {
+
+    /**
+     * 取得學生首頁儀表板
+     * @param studentId 學號
+     * @return 儀表板資料
+     */
+    StudentDashboardResponse getDashboard(String studentId);
+}
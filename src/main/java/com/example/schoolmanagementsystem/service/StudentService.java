@@ -4,6 +4,8 @@ import com.example.schoolmanagementsystem.dto.request.EnrollmentRequest;
 import com.example.schoolmanagementsystem.dto.response.EnrollmentResponse;
 import com.example.schoolmanagementsystem.dto.response.StudentResponse;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * 學生服務介面
@@ -50,6 +52,18 @@ public interface StudentService {
     List<EnrollmentResponse> getEnrollmentsBySemester(
             String studentId, Integer academicYear, String semester);
 
+    /**
+     * 查詢學生的選課清單（稀疏欄位）
+     * 只查詢請求的欄位，未請求的關聯（教師、成績、課程）不會被 JOIN
+     * @param studentId 學號
+     * @param academicYear 學年（選填）
+     * @param semester 學期（選填）
+     * @param fields 請求的欄位
+     * @return 選課清單（每筆只包含請求的欄位）
+     */
+    List<Map<String, Object>> getEnrollmentFields(
+            String studentId, Integer academicYear, String semester, Set<String> fields);
+
     /**
      * 檢查是否有選課衝堂
      * @param studentId 學號
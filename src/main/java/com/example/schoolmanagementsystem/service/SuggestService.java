@@ -0,0 +1,25 @@
+package com.example.schoolmanagementsystem.service;
+
+import com.example.schoolmanagementsystem.dto.response.SuggestionResponse;
+import java.util.List;
+
+/**
+ * 自動完成建議服務介面
+ * 定義課程代碼、教職員編號與名稱的前綴建議
+ */
+public interface SuggestService {
+
+    /**
+     * 依前綴取得建議
+     * @param prefix 輸入的前綴（例如 CS1、T00、計算）
+     * @param type 建議類型（COURSE、TEACHER，null 表示全部）
+     * @param limit 最多回傳筆數
+     * @return 建議清單
+     */
+    List<SuggestionResponse> suggest(String prefix, String type, int limit);
+
+    /**
+     * 從資料庫重建前綴索引
+     */
+    void rebuildIndexes();
+}
@@ -0,0 +1,19 @@
+package com.example.schoolmanagementsystem.service;
+
+import com.example.schoolmanagementsystem.dto.response.TeacherDashboardResponse;
+
+/**
+ * 教師儀表板服務介面
+ * 定義教師學期授課班級總覽的查詢
+ */
+public interface TeacherDashboardService {
+
+    /**
+     * 取得教師學期儀表板
+     * @param teacherId 教師ID
+     * @param academicYear 學年
+     * @param semester 學期
+     * @return 所有授課班級的選課人數、評分進度與平均分數
+     */
+    TeacherDashboardResponse getDashboard(String teacherId, Integer academicYear, String semester);
+}
@@ -0,0 +1,18 @@
+package com.example.schoolmanagementsystem.service;
+
+import com.example.schoolmanagementsystem.dto.request.TimetableRequest;
+import com.example.schoolmanagementsystem.dto.response.TimetableResponse;
+
+/**
+ * 課表排程服務介面
+ * 定義學期班級上課時段與教室的自動安排
+ */
+public interface TimetableService {
+
+    /**
+     * 為學期所有班級安排上課時段與教室
+     * @param request 學期、時段配置與可用教室
+     * @return 排程結果與品質
+     */
+    TimetableResponse generateTimetable(TimetableRequest request);
+}
@@ -0,0 +1,294 @@
+package com.example.schoolmanagementsystem.service.impl;
+
+import com.example.schoolmanagementsystem.dto.request.AttendanceRequest;
+import com.example.schoolmanagementsystem.dto.response.AttendanceSummaryResponse;
+import com.example.schoolmanagementsystem.dto.response.StudentAttendanceResponse;
+import com.example.schoolmanagementsystem.exception.ResourceNotFoundException;
+import com.example.schoolmanagementsystem.model.AttendanceRosterEntry;
+import com.example.schoolmanagementsystem.model.AttendanceSession;
+import com.example.schoolmanagementsystem.model.ClassInfo;
+import com.example.schoolmanagementsystem.model.Enrollment;
+import com.example.schoolmanagementsystem.repository.AttendanceRosterRepository;
+import com.example.schoolmanagementsystem.repository.AttendanceSessionRepository;
+import com.example.schoolmanagementsystem.repository.ClassInfoRepository;
+import com.example.schoolmanagementsystem.repository.EnrollmentRepository;
+import com.example.schoolmanagementsystem.repository.StudentRepository;
+import com.example.schoolmanagementsystem.service.AttendanceService;
+import com.example.schoolmanagementsystem.util.RunLengthBitmap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 出缺勤服務實作類別
+ * 每堂課只存一筆紀錄，名單以名冊序號為位元位置壓縮成點陣圖；
+ * 缺席 = 在班名單 − 出席 − 請假，班級出席率與學生缺席次數都由點陣圖運算與計數陣列得出，不需逐人逐堂的資料列
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AttendanceServiceImpl implements AttendanceService {
+
+    private final AttendanceSessionRepository attendanceSessionRepository;
+    private final AttendanceRosterRepository attendanceRosterRepository;
+    private final ClassInfoRepository classInfoRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final StudentRepository studentRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    // 同一班級的點名依序寫入（名冊序號配置與點陣圖合併都需讀取後再寫入）
+    private final Map<Integer, Object> classLocks = new ConcurrentHashMap<>();
+
+    /**
+     * 出缺勤點陣圖（皆已限縮在當堂在班名單內，且出席、請假互斥）
+     */
+    private record SessionBits(RunLengthBitmap enrolled, RunLengthBitmap present,
+                               RunLengthBitmap excused, RunLengthBitmap absent) {
+
+        static SessionBits of(AttendanceSession session) {
+            RunLengthBitmap enrolled = RunLengthBitmap.fromBytes(session.getRosterBits());
+            RunLengthBitmap present = RunLengthBitmap.fromBytes(session.getPresentBits()).and(enrolled);
+            RunLengthBitmap excused = RunLengthBitmap.fromBytes(session.getExcusedBits()).and(enrolled).andNot(present);
+            return new SessionBits(enrolled, present, excused, enrolled.andNot(present).andNot(excused));
+        }
+    }
+
+    @Override
+    public AttendanceSummaryResponse.SessionSummary recordAttendance(Integer classId, AttendanceRequest request) {
+        Set<String> presentIds = new LinkedHashSet<>(request.getPresentStudentIds());
+        Set<String> excusedIds = new LinkedHashSet<>(request.getExcusedStudentIds());
+        Set<String> both = new LinkedHashSet<>(presentIds);
+        both.retainAll(excusedIds);
+        if (!both.isEmpty()) {
+            throw new IllegalArgumentException("學生不可同時為出席與請假: " + String.join(", ", both));
+        }
+
+        synchronized (classLocks.computeIfAbsent(classId, id -> new Object())) {
+            TransactionTemplate template = new TransactionTemplate(transactionManager);
+            AttendanceSession saved = template.execute(status -> {
+                ClassInfo classInfo = classInfoRepository.findById(classId)
+                        .orElseThrow(() -> new ResourceNotFoundException("班級", "班級ID", classId));
+                Map<String, Integer> enrolled = syncRoster(classInfo);
+
+                RunLengthBitmap enrolledBits = RunLengthBitmap.of(enrolled.values());
+                RunLengthBitmap presentBits = toBits(presentIds, enrolled);
+                RunLengthBitmap excusedBits = toBits(excusedIds, enrolled);
+
+                AttendanceSession session = attendanceSessionRepository
+                        .findByClassInfo_ClassIdAndSessionDateAndPeriod(classId, request.getSessionDate(), request.getPeriod())
+                        .orElse(null);
+                if (session == null) {
+                    session = AttendanceSession.builder()
+                            .classInfo(classInfo)
+                            .sessionDate(request.getSessionDate())
+                            .period(request.getPeriod())
+                            .build();
+                } else if (!request.isReplace()) {
+                    // 合併：新送出的出席覆蓋舊的請假，反之亦然；當堂之後才加選的學生併入在班名單
+                    SessionBits existing = SessionBits.of(session);
+                    enrolledBits = existing.enrolled().or(enrolledBits);
+                    presentBits = existing.present().andNot(excusedBits).or(presentBits);
+                    excusedBits = existing.excused().andNot(presentBits).or(excusedBits);
+                }
+
+                session.setRosterBits(enrolledBits.toBytes());
+                session.setPresentBits(presentBits.toBytes());
+                session.setExcusedBits(excusedBits.toBytes());
+                session.setUpdatedAt(LocalDateTime.now());
+                return attendanceSessionRepository.save(session);
+            });
+
+            log.info("點名完成: 班級 {}，{} 第 {} 堂，出席 {} 人、請假 {} 人", classId,
+                    request.getSessionDate(), request.getPeriod(), presentIds.size(), excusedIds.size());
+            return toSessionSummary(saved, SessionBits.of(saved));
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public AttendanceSummaryResponse getClassSummary(Integer classId) {
+        ClassInfo classInfo = classInfoRepository.findById(classId)
+                .orElseThrow(() -> new ResourceNotFoundException("班級", "班級ID", classId));
+
+        List<Object[]> roster = attendanceRosterRepository.findRosterByClassId(classId);
+        int size = roster.isEmpty() ? 0 : (Integer) roster.get(roster.size() - 1)[0] + 1;
+        int[] enrolledCounts = new int[size];
+        int[] presentCounts = new int[size];
+        int[] excusedCounts = new int[size];
+        int[] absentCounts = new int[size];
+
+        List<AttendanceSummaryResponse.SessionSummary> sessions = new ArrayList<>();
+        long totalEnrolled = 0;
+        long totalPresent = 0;
+        for (AttendanceSession session : attendanceSessionRepository.findByClassInfo_ClassIdOrderBySessionDateAscPeriodAsc(classId)) {
+            SessionBits bits = SessionBits.of(session);
+            bits.enrolled().addTo(enrolledCounts);
+            bits.present().addTo(presentCounts);
+            bits.excused().addTo(excusedCounts);
+            bits.absent().addTo(absentCounts);
+            totalEnrolled += bits.enrolled().cardinality();
+            totalPresent += bits.present().cardinality();
+            sessions.add(toSessionSummary(session, bits));
+        }
+
+        List<AttendanceSummaryResponse.StudentAttendance> students = new ArrayList<>(roster.size());
+        for (Object[] row : roster) {
+            int ordinal = (Integer) row[0];
+            students.add(AttendanceSummaryResponse.StudentAttendance.builder()
+                    .studentId((String) row[1])
+                    .studentName((String) row[2])
+                    .sessions(enrolledCounts[ordinal])
+                    .present(presentCounts[ordinal])
+                    .excused(excusedCounts[ordinal])
+                    .absences(absentCounts[ordinal])
+                    .build());
+        }
+
+        return AttendanceSummaryResponse.builder()
+                .classId(classId)
+                .courseName(classInfo.getCourse().getCourseName())
+                .sessionCount(sessions.size())
+                .attendanceRate(rate(totalPresent, totalEnrolled))
+                .sessions(sessions)
+                .students(students)
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public StudentAttendanceResponse getStudentAttendance(String studentId) {
+        if (!studentRepository.existsById(studentId)) {
+            throw new ResourceNotFoundException("學生", "學號", studentId);
+        }
+
+        Map<Integer, Integer> ordinalByClass = new HashMap<>();
+        for (Object[] row : attendanceRosterRepository.findOrdinalsByStudentId(studentId)) {
+            ordinalByClass.put((Integer) row[0], (Integer) row[1]);
+        }
+        Map<Integer, ClassInfo> classes = classInfoRepository.findAllById(ordinalByClass.keySet()).stream()
+                .collect(Collectors.toMap(ClassInfo::getClassId, Function.identity()));
+
+        // 每個班級：[在班堂數, 出席, 請假, 缺席]
+        Map<Integer, int[]> counts = new HashMap<>();
+        for (AttendanceSession session : attendanceSessionRepository.findByClassInfo_ClassIdIn(ordinalByClass.keySet())) {
+            Integer classId = session.getClassInfo().getClassId();
+            int ordinal = ordinalByClass.get(classId);
+            SessionBits bits = SessionBits.of(session);
+            if (!bits.enrolled().contains(ordinal)) {
+                continue;
+            }
+            int[] tally = counts.computeIfAbsent(classId, id -> new int[4]);
+            tally[0]++;
+            tally[bits.present().contains(ordinal) ? 1 : bits.excused().contains(ordinal) ? 2 : 3]++;
+        }
+
+        List<StudentAttendanceResponse.ClassAttendance> result = new ArrayList<>();
+        int totalAbsences = 0;
+        for (ClassInfo classInfo : classes.values()) {
+            int[] tally = counts.getOrDefault(classInfo.getClassId(), new int[4]);
+            totalAbsences += tally[3];
+            result.add(StudentAttendanceResponse.ClassAttendance.builder()
+                    .classId(classInfo.getClassId())
+                    .courseName(classInfo.getCourse().getCourseName())
+                    .academicYear(classInfo.getAcademicYear())
+                    .semester(classInfo.getSemester())
+                    .sessions(tally[0])
+                    .present(tally[1])
+                    .excused(tally[2])
+                    .absences(tally[3])
+                    .build());
+        }
+        result.sort(Comparator.comparing(StudentAttendanceResponse.ClassAttendance::getAcademicYear).reversed()
+                .thenComparing(StudentAttendanceResponse.ClassAttendance::getSemester, Comparator.reverseOrder())
+                .thenComparing(StudentAttendanceResponse.ClassAttendance::getClassId));
+
+        return StudentAttendanceResponse.builder()
+                .studentId(studentId)
+                .totalAbsences(totalAbsences)
+                .classes(result)
+                .build();
+    }
+
+    /**
+     * 為目前選課但尚無名冊序號的學生配置新序號
+     * @return 目前在班學生的學號 → 序號
+     */
+    private Map<String, Integer> syncRoster(ClassInfo classInfo) {
+        Map<String, Integer> ordinals = new HashMap<>();
+        int next = 0;
+        for (Object[] row : attendanceRosterRepository.findRosterByClassId(classInfo.getClassId())) {
+            int ordinal = (Integer) row[0];
+            ordinals.put((String) row[1], ordinal);
+            next = Math.max(next, ordinal + 1);
+        }
+
+        Map<String, Integer> enrolled = new HashMap<>();
+        List<AttendanceRosterEntry> added = new ArrayList<>();
+        for (Enrollment enrollment : enrollmentRepository.findByClassInfo_ClassId(classInfo.getClassId())) {
+            String studentId = enrollment.getStudent().getStudentId();
+            Integer ordinal = ordinals.get(studentId);
+            if (ordinal == null) {
+                ordinal = next++;
+                added.add(AttendanceRosterEntry.builder()
+                        .classInfo(classInfo)
+                        .ordinal(ordinal)
+                        .student(enrollment.getStudent())
+                        .build());
+            }
+            enrolled.put(studentId, ordinal);
+        }
+        attendanceRosterRepository.saveAll(added);
+        return enrolled;
+    }
+
+    private static RunLengthBitmap toBits(Set<String> studentIds, Map<String, Integer> enrolled) {
+        List<Integer> ordinals = new ArrayList<>(studentIds.size());
+        List<String> unknown = new ArrayList<>();
+        for (String studentId : studentIds) {
+            Integer ordinal = enrolled.get(studentId);
+            if (ordinal == null) {
+                unknown.add(studentId);
+            } else {
+                ordinals.add(ordinal);
+            }
+        }
+        if (!unknown.isEmpty()) {
+            throw new IllegalArgumentException("學生未選修此班級: " + String.join(", ", unknown));
+        }
+        return RunLengthBitmap.of(ordinals);
+    }
+
+    private static AttendanceSummaryResponse.SessionSummary toSessionSummary(AttendanceSession session, SessionBits bits) {
+        int enrolled = bits.enrolled().cardinality();
+        int present = bits.present().cardinality();
+        return AttendanceSummaryResponse.SessionSummary.builder()
+                .sessionId(session.getSessionId())
+                .sessionDate(session.getSessionDate())
+                .period(session.getPeriod())
+                .enrolled(enrolled)
+                .present(present)
+                .excused(bits.excused().cardinality())
+                .absent(bits.absent().cardinality())
+                .attendanceRate(rate(present, enrolled))
+                .build();
+    }
+
+    private static Double rate(long part, long total) {
+        return total == 0 ? null : Math.round((double) part / total * 10000) / 10000.0;
+    }
+}
@@ -6,12 +6,15 @@ import com.example.schoolmanagementsystem.dto.response.UserResponse;
 import com.example.schoolmanagementsystem.model.*;
 import com.example.schoolmanagementsystem.repository.*;
 import com.example.schoolmanagementsystem.service.AuthService;
+import com.example.schoolmanagementsystem.util.AcademicTerms;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+
 /**
  * 認證服務實作類別
  * 實作使用者認證相關的業務邏輯
@@ -71,6 +74,8 @@ public class AuthServiceImpl implements AuthService {
             Student student = Student.builder()
                     .studentId(request.getStudentId())
                     .studentName(request.getName())
+                    .department(request.getDepartment())
+                    .enrollmentYear(AcademicTerms.academicYearOf(LocalDate.now()))
                     .user(user)
                     .build();
             studentRepository.save(student);
@@ -180,4 +185,4 @@ public class AuthServiceImpl implements AuthService {
                 .build();
         loginHistoryRepository.save(history);
     }
-}
\ No newline at end of file
+}
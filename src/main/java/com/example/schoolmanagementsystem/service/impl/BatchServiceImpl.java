@@ -0,0 +1,155 @@
+package com.example.schoolmanagementsystem.service.impl;
+
+import com.example.schoolmanagementsystem.dto.request.BatchRequest;
+import com.example.schoolmanagementsystem.dto.response.ApiResponse;
+import com.example.schoolmanagementsystem.dto.response.BatchItemResponse;
+import com.example.schoolmanagementsystem.service.BatchService;
+import com.example.schoolmanagementsystem.util.BatchSubRequest;
+import com.example.schoolmanagementsystem.util.BatchSubResponse;
+import com.example.schoolmanagementsystem.util.ServletLease;
+import com.example.schoolmanagementsystem.util.TaskScope;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.DispatcherServlet;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * 批次請求服務實作類別
+ * 子請求直接交給 DispatcherServlet 處理，省去每個請求的安全過濾鏈、CORS 與容器開銷；
+ * 因為會繞過安全過濾鏈，只允許分派到公開的路徑
+ *
+ * 子請求透過 {@link ServletLease} 借用原始請求與回應，批次結束時歸還；
+ * 逾時的子請求即使在批次回應送出後才結束，也只會得到例外，不會讀到已被回收的原始請求
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BatchServiceImpl implements BatchService {
+
+    // 允許批次分派的路徑前綴（皆為公開路徑）
+    private static final List<String> ALLOWED_PREFIXES = List.of("/api/courses/", "/api/student/");
+
+    private final DispatcherServlet dispatcherServlet;
+    private final ExecutorService virtualThreadExecutor;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.batch.item-timeout-ms:5000}")
+    private long itemTimeoutMillis;
+
+    @Override
+    public List<BatchItemResponse> execute(BatchRequest request, HttpServletRequest servletRequest,
+                                           HttpServletResponse servletResponse) {
+        List<BatchRequest.Item> items = request.getRequests();
+        log.info("處理批次請求，共 {} 個子請求", items.size());
+
+        Duration timeout = Duration.ofMillis(itemTimeoutMillis);
+        List<BatchItemResponse> results = new ArrayList<>(items.size());
+
+        try (ServletLease<HttpServletRequest> requestLease = new ServletLease<>(HttpServletRequest.class, servletRequest);
+             ServletLease<HttpServletResponse> responseLease = new ServletLease<>(HttpServletResponse.class, servletResponse);
+             TaskScope scope = new TaskScope(virtualThreadExecutor)) {
+            List<TaskScope.Subtask<BatchItemResponse>> subtasks = new ArrayList<>(items.size());
+            for (BatchRequest.Item item : items) {
+                BatchSubRequest subRequest = isDispatchable(item)
+                        ? new BatchSubRequest(requestLease.get(), item.getPath())
+                        : null;
+                BatchSubResponse subResponse = new BatchSubResponse(responseLease.get());
+                subtasks.add(scope.fork(item.getPath(), () -> dispatch(item, subRequest, subResponse), timeout));
+            }
+
+            for (int i = 0; i < items.size(); i++) {
+                BatchRequest.Item item = items.get(i);
+                try {
+                    results.add(subtasks.get(i).join());
+                } catch (RuntimeException e) {
+                    results.add(errorItem(item, HttpStatus.GATEWAY_TIMEOUT, "TIMEOUT", "子請求逾時"));
+                }
+            }
+        }
+
+        return results;
+    }
+
+    /**
+     * 分派單一子請求（在各自的虛擬執行緒上執行）
+     * @param subRequest 已建立的子請求（不可分派時為 null）
+     * @param subResponse 緩衝子請求結果的回應
+     */
+    private BatchItemResponse dispatch(BatchRequest.Item item, BatchSubRequest subRequest,
+                                       BatchSubResponse subResponse) {
+        String path = item.getPath();
+
+        if (!"GET".equalsIgnoreCase(item.getMethod())) {
+            return errorItem(item, HttpStatus.METHOD_NOT_ALLOWED, "METHOD_NOT_ALLOWED", "批次僅支援 GET 子請求");
+        }
+        if (subRequest == null) {
+            return errorItem(item, HttpStatus.FORBIDDEN, "PATH_NOT_ALLOWED", "此路徑不允許批次呼叫: " + path);
+        }
+
+        try {
+            dispatcherServlet.service(subRequest, subResponse);
+        } catch (Exception e) {
+            log.error("批次子請求 {} 失敗: ", path, e);
+            return errorItem(item, HttpStatus.INTERNAL_SERVER_ERROR, "INTERNAL_SERVER_ERROR", "系統發生錯誤，請稍後再試");
+        }
+
+        return BatchItemResponse.builder()
+                .id(item.getId())
+                .path(path)
+                .status(subResponse.getStatus())
+                .body(readBody(subResponse))
+                .build();
+    }
+
+    private boolean isDispatchable(BatchRequest.Item item) {
+        return "GET".equalsIgnoreCase(item.getMethod()) && isAllowedPath(item.getPath());
+    }
+
+    private boolean isAllowedPath(String path) {
+        if (path == null || !path.startsWith("/") || path.contains("..") || path.contains("//")) {
+            return false;
+        }
+        return ALLOWED_PREFIXES.stream().anyMatch(path::startsWith);
+    }
+
+    /**
+     * 讀取子回應內容：JSON 直接嵌入，其他格式以字串回傳
+     */
+    private Object readBody(BatchSubResponse subResponse) {
+        byte[] body = subResponse.getBody();
+        if (body.length == 0) {
+            return null;
+        }
+
+        String contentType = subResponse.getContentType();
+        if (contentType != null && contentType.contains("json")) {
+            try {
+                return objectMapper.readTree(body);
+            } catch (Exception e) {
+                log.warn("無法解析子請求回應: {}", e.getMessage());
+            }
+        }
+        return new String(body, StandardCharsets.UTF_8);
+    }
+
+    private BatchItemResponse errorItem(BatchRequest.Item item, HttpStatus status,
+                                        String errorCode, String message) {
+        return BatchItemResponse.builder()
+                .id(item.getId())
+                .path(item.getPath())
+                .status(status.value())
+                .body(ApiResponse.error(errorCode, message))
+                .build();
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.schoolmanagementsystem.service.impl;
+
+import com.example.schoolmanagementsystem.model.ClassInfo;
+import com.example.schoolmanagementsystem.repository.ClassInfoRepository;
+import com.example.schoolmanagementsystem.repository.EnrollmentRepository;
+import com.example.schoolmanagementsystem.service.CourseService;
+import com.example.schoolmanagementsystem.util.RequestCoalescer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 課程服務實作類別
+ * 熱門查詢會經過 {@link RequestCoalescer}：相同參數的並行請求只查一次資料庫
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CourseServiceImpl implements CourseService {
+
+    private final ClassInfoRepository classInfoRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final RequestCoalescer readCoalescer;
+    private final PlatformTransactionManager transactionManager;
+
+    @Override
+    public List<Map<String, Object>> getClassesByCourse(String courseId, Set<String> fields) {
+        String key = "classesByCourse:" + courseId + ":" + fields;
+
+        return readCoalescer.execute(key, () -> readOnly(() -> {
+            log.debug("載入課程 {} 的班級（欄位: {}）", courseId, fields);
+
+            if (fields != null) {
+                return classInfoRepository.findProjectedByCourseId(courseId, fields);
+            }
+
+            List<ClassInfo> classes = classInfoRepository.findByCourse_CourseId(courseId);
+            return classes.stream()
+                    .map(classInfo -> {
+                        Map<String, Object> classMap = new HashMap<>();
+                        classMap.put("classId", classInfo.getClassId());
+                        classMap.put("courseId", classInfo.getCourse().getCourseId());
+                        classMap.put("courseName", classInfo.getCourse().getCourseName());
+                        classMap.put("teacherName", classInfo.getTeacher().getTeacherName());
+                        classMap.put("academicYear", classInfo.getAcademicYear());
+                        classMap.put("semester", classInfo.getSemester());
+                        classMap.put("capacity", classInfo.getCapacity());
+
+                        // 查詢目前選課人數
+                        Long currentEnrollment = enrollmentRepository.countByClassId(classInfo.getClassId());
+                        classMap.put("currentEnrollment", currentEnrollment);
+                        classMap.put("available", classInfo.getCapacity() - currentEnrollment);
+
+                        return classMap;
+                    })
+                    .collect(Collectors.toList());
+        }));
+    }
+
+    @Override
+    public List<Map<String, Object>> getAvailableClasses(Integer academicYear, String semester, Set<String> fields) {
+        String key = "availableClasses:" + academicYear + ":" + semester + ":" + fields;
+
+        return readCoalescer.execute(key, () -> readOnly(() -> {
+            log.debug("載入 {} 年 {} 的可選班級（欄位: {}）", academicYear, semester, fields);
+
+            if (fields != null) {
+                return classInfoRepository.findProjectedAvailableByTerm(academicYear, semester, fields);
+            }
+
+            List<ClassInfo> classes = classInfoRepository.findByAcademicYearAndSemester(academicYear, semester);
+            return classes.stream()
+                    .map(classInfo -> {
+                        Map<String, Object> classMap = new HashMap<>();
+                        classMap.put("classId", classInfo.getClassId());
+                        classMap.put("courseId", classInfo.getCourse().getCourseId());
+                        classMap.put("courseName", classInfo.getCourse().getCourseName());
+                        classMap.put("credits", classInfo.getCourse().getCredits());
+                        classMap.put("teacherId", classInfo.getTeacher().getTeacherId());
+                        classMap.put("teacherName", classInfo.getTeacher().getTeacherName());
+                        classMap.put("capacity", classInfo.getCapacity());
+
+                        // 查詢目前選課人數
+                        Long currentEnrollment = enrollmentRepository.countByClassId(classInfo.getClassId());
+                        classMap.put("currentEnrollment", currentEnrollment);
+                        classMap.put("remainingSeats", classInfo.getCapacity() - currentEnrollment);
+                        classMap.put("isFull", currentEnrollment >= classInfo.getCapacity());
+
+                        return classMap;
+                    })
+                    .filter(classMap -> !(Boolean) classMap.get("isFull"))  // 只顯示未滿的班級
+                    .collect(Collectors.toList());
+        }));
+    }
+
+    /**
+     * 在唯讀交易中執行查詢，並把結果包成不可修改的清單（結果會被多個請求共用）
+     * 交易只在實際執行查詢的那個請求中開啟，等待中的請求不會占用資料庫連線
+     */
+    private List<Map<String, Object>> readOnly(Supplier<List<Map<String, Object>>> query) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+
+        List<Map<String, Object>> rows = template.execute(status -> query.get());
+        return rows == null ? List.of() : Collections.unmodifiableList(
+                rows.stream().map(Collections::unmodifiableMap).collect(Collectors.toList()));
+    }
+}
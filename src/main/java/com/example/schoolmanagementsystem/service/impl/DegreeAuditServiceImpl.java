@@ -0,0 +1,312 @@
+package com.example.schoolmanagementsystem.service.impl;
+
+import com.example.schoolmanagementsystem.dto.request.DegreeProgramRequest;
+import com.example.schoolmanagementsystem.dto.response.DegreeAuditBatchResponse;
+import com.example.schoolmanagementsystem.dto.response.DegreeAuditResponse;
+import com.example.schoolmanagementsystem.dto.response.DegreeProgramResponse;
+import com.example.schoolmanagementsystem.exception.ResourceNotFoundException;
+import com.example.schoolmanagementsystem.model.Course;
+import com.example.schoolmanagementsystem.model.CreditBucket;
+import com.example.schoolmanagementsystem.model.DegreeProgram;
+import com.example.schoolmanagementsystem.model.Student;
+import com.example.schoolmanagementsystem.repository.CourseRepository;
+import com.example.schoolmanagementsystem.repository.DegreeProgramRepository;
+import com.example.schoolmanagementsystem.repository.EnrollmentRepository;
+import com.example.schoolmanagementsystem.repository.StudentRepository;
+import com.example.schoolmanagementsystem.service.DegreeAuditService;
+import com.example.schoolmanagementsystem.util.DegreeAuditEngine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+/**
+ * 畢業審查服務實作類別
+ * 學程門檻先編譯成 {@link DegreeAuditEngine.Requirement}；
+ * 批次審查以單一串流查詢依學號順序讀取整個群體的修課紀錄，每累積一批學生就交給 ForkJoin 共用池平行審查，
+ * 讀取與計算重疊進行，不需逐一學生查詢
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DegreeAuditServiceImpl implements DegreeAuditService {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final DegreeProgramRepository degreeProgramRepository;
+    private final CourseRepository courseRepository;
+    private final StudentRepository studentRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * 編譯後的學程（不持有實體）
+     */
+    private record CompiledProgram(DegreeProgram program, DegreeAuditEngine.Requirement requirement) {
+    }
+
+    /**
+     * 單一學生的修課紀錄
+     */
+    private record StudentTranscript(String studentId, String studentName, DegreeAuditEngine.Transcript transcript) {
+    }
+
+    @Override
+    public DegreeProgramResponse createProgram(DegreeProgramRequest request) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        DegreeProgram saved = template.execute(status -> {
+            Set<String> required = new HashSet<>(request.getRequiredCourseIds());
+            if (!required.isEmpty()) {
+                List<Course> found = courseRepository.findAllById(required);
+                found.forEach(course -> required.remove(course.getCourseId()));
+                if (!required.isEmpty()) {
+                    throw new ResourceNotFoundException("找不到必修課程: " + String.join(", ", required));
+                }
+            }
+
+            List<CreditBucket> buckets = new ArrayList<>();
+            for (int i = 0; i < request.getBuckets().size(); i++) {
+                DegreeProgramRequest.Bucket bucket = request.getBuckets().get(i);
+                buckets.add(CreditBucket.builder()
+                        .bucketName(bucket.getBucketName())
+                        .coursePrefix(bucket.getCoursePrefix().trim())
+                        .minCredits(bucket.getMinCredits())
+                        .sortOrder(i)
+                        .build());
+            }
+
+            DegreeProgram program = DegreeProgram.builder()
+                    .programName(request.getProgramName())
+                    .department(request.getDepartment())
+                    .enrollmentYear(request.getEnrollmentYear())
+                    .minTotalCredits(request.getMinTotalCredits())
+                    .minGpa(request.getMinGpa())
+                    .requiredCourseIds(new HashSet<>(request.getRequiredCourseIds()))
+                    .creditBuckets(buckets)
+                    .build();
+            return degreeProgramRepository.save(program);
+        });
+
+        log.info("建立畢業學程: {}（{}）", saved.getProgramName(), saved.getDepartment());
+        return toResponse(saved);
+    }
+
+    @Override
+    public List<DegreeProgramResponse> getPrograms() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template.execute(status -> degreeProgramRepository.findAll().stream()
+                .sorted(Comparator.comparing(DegreeProgram::getProgramId))
+                .map(this::toResponse)
+                .toList());
+    }
+
+    @Override
+    public DegreeAuditResponse auditStudent(String studentId, Integer programId) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template.execute(status -> {
+            Student student = studentRepository.findById(studentId)
+                    .orElseThrow(() -> new ResourceNotFoundException("學生", "學號", studentId));
+            CompiledProgram compiled = compile(programId != null ? findProgram(programId) : programFor(student));
+
+            DegreeAuditEngine.Transcript transcript = new DegreeAuditEngine.Transcript();
+            for (Object[] row : enrollmentRepository.findAuditRowsByStudentId(studentId)) {
+                transcript.add((String) row[0], scaled((BigDecimal) row[1]), scaled((BigDecimal) row[2]));
+            }
+
+            return toResponse(compiled, student.getStudentId(), student.getStudentName(),
+                    DegreeAuditEngine.audit(compiled.requirement(), transcript));
+        });
+    }
+
+    @Override
+    public DegreeAuditBatchResponse auditCohort(Integer programId, Integer enrollmentYear, boolean includeEligible) {
+        long start = System.currentTimeMillis();
+
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        CompiledProgram compiled = template.execute(status -> compile(findProgram(programId)));
+        DegreeProgram program = compiled.program();
+
+        Integer year = enrollmentYear != null ? enrollmentYear : program.getEnrollmentYear();
+        if (year == null) {
+            throw new IllegalArgumentException("學程未限定入學學年，請指定 enrollmentYear");
+        }
+
+        // 讀取端每累積 CHUNK_SIZE 位學生就送出一批，審查與後續讀取同時進行
+        List<CompletableFuture<List<DegreeAuditResponse>>> chunks = new ArrayList<>();
+        template.executeWithoutResult(status -> {
+            try (Stream<Object[]> rows = enrollmentRepository.streamAuditRowsByCohort(program.getDepartment(), year)) {
+                List<StudentTranscript> chunk = new ArrayList<>(CHUNK_SIZE);
+                StudentTranscript current = null;
+                Iterator<Object[]> iterator = rows.iterator();
+                while (iterator.hasNext()) {
+                    Object[] row = iterator.next();
+                    String studentId = (String) row[0];
+                    if (current == null || !current.studentId().equals(studentId)) {
+                        if (chunk.size() == CHUNK_SIZE) {
+                            chunks.add(submit(compiled, chunk));
+                            chunk = new ArrayList<>(CHUNK_SIZE);
+                        }
+                        current = new StudentTranscript(studentId, (String) row[1],
+                                new DegreeAuditEngine.Transcript());
+                        chunk.add(current);
+                    }
+                    // 沒有修課紀錄的學生只有一列空課程，仍以空成績單審查（不符畢業資格）
+                    if (row[2] != null) {
+                        current.transcript().add((String) row[2], scaled((BigDecimal) row[3]),
+                                scaled((BigDecimal) row[4]));
+                    }
+                }
+                if (!chunk.isEmpty()) {
+                    chunks.add(submit(compiled, chunk));
+                }
+            }
+        });
+
+        List<DegreeAuditResponse> audits = new ArrayList<>();
+        chunks.forEach(chunk -> audits.addAll(chunk.join()));
+
+        int eligible = (int) audits.stream().filter(DegreeAuditResponse::getEligible).count();
+        int projected = (int) audits.stream().filter(DegreeAuditResponse::getProjectedEligible).count();
+        long elapsed = System.currentTimeMillis() - start;
+        log.info("批次畢業審查完成: {} {} 學年，{} 人，符合 {} 人，耗時 {} ms",
+                program.getProgramName(), year, audits.size(), eligible, elapsed);
+
+        return DegreeAuditBatchResponse.builder()
+                .programId(program.getProgramId())
+                .programName(program.getProgramName())
+                .department(program.getDepartment())
+                .enrollmentYear(year)
+                .audited(audits.size())
+                .eligible(eligible)
+                .projectedEligible(projected)
+                .elapsedMillis(elapsed)
+                .results(includeEligible ? audits
+                        : audits.stream().filter(audit -> !audit.getEligible()).toList())
+                .build();
+    }
+
+    private CompletableFuture<List<DegreeAuditResponse>> submit(CompiledProgram compiled,
+                                                                List<StudentTranscript> chunk) {
+        return CompletableFuture.supplyAsync(() -> {
+            List<DegreeAuditResponse> results = new ArrayList<>(chunk.size());
+            for (StudentTranscript student : chunk) {
+                results.add(toResponse(compiled, student.studentId(), student.studentName(),
+                        DegreeAuditEngine.audit(compiled.requirement(), student.transcript())));
+            }
+            return results;
+        });
+    }
+
+    private DegreeProgram findProgram(Integer programId) {
+        return degreeProgramRepository.findById(programId)
+                .orElseThrow(() -> new ResourceNotFoundException("畢業學程", "學程ID", programId));
+    }
+
+    /**
+     * 依學生系所選擇學程：入學學年相符者優先，其次為不限學年的學程
+     */
+    private DegreeProgram programFor(Student student) {
+        if (student.getDepartment() == null) {
+            throw new IllegalArgumentException("學生未設定系所，請指定 programId");
+        }
+        List<DegreeProgram> programs = degreeProgramRepository.findByDepartment(student.getDepartment());
+        return programs.stream()
+                .filter(p -> Objects.equals(p.getEnrollmentYear(), student.getEnrollmentYear()))
+                .findFirst()
+                .or(() -> programs.stream().filter(p -> p.getEnrollmentYear() == null).findFirst())
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        String.format("找不到適用的畢業學程（%s，%s 學年）",
+                                student.getDepartment(), student.getEnrollmentYear())));
+    }
+
+    /**
+     * 把學程轉成審查引擎使用的門檻（需在交易內呼叫以載入集合）
+     */
+    private CompiledProgram compile(DegreeProgram program) {
+        List<DegreeAuditEngine.Bucket> buckets = program.getCreditBuckets().stream()
+                .sorted(Comparator.comparing(CreditBucket::getSortOrder))
+                .map(b -> new DegreeAuditEngine.Bucket(b.getBucketName(), b.getCoursePrefix(),
+                        scaled(b.getMinCredits())))
+                .toList();
+        DegreeAuditEngine.Requirement requirement = new DegreeAuditEngine.Requirement(
+                Set.copyOf(program.getRequiredCourseIds()), buckets, scaled(program.getMinTotalCredits()),
+                program.getMinGpa() != null ? program.getMinGpa().doubleValue() : null);
+        return new CompiledProgram(program, requirement);
+    }
+
+    /**
+     * 學分、分數放大 10 倍；null（尚未評分）轉為 -1
+     */
+    private static int scaled(BigDecimal value) {
+        return value == null ? -1 : value.movePointRight(1).intValue();
+    }
+
+    private static double unscaled(int value) {
+        return value / (double) DegreeAuditEngine.SCALE;
+    }
+
+    private DegreeAuditResponse toResponse(CompiledProgram compiled, String studentId, String studentName,
+                                           DegreeAuditEngine.Result result) {
+        DegreeProgram program = compiled.program();
+        return DegreeAuditResponse.builder()
+                .studentId(studentId)
+                .studentName(studentName)
+                .programId(program.getProgramId())
+                .programName(program.getProgramName())
+                .eligible(result.eligible())
+                .projectedEligible(result.projectedEligible())
+                .earnedCredits(unscaled(result.earnedCredits()))
+                .inProgressCredits(unscaled(result.inProgressCredits()))
+                .minTotalCredits(unscaled(compiled.requirement().minTotalCredits()))
+                .gpa(result.gpa())
+                .minGpa(compiled.requirement().minGpa())
+                .missingCourses(result.missingCourses())
+                .inProgressCourses(result.inProgressCourses())
+                .buckets(result.buckets().stream()
+                        .map(b -> DegreeAuditResponse.BucketResult.builder()
+                                .bucketName(b.name())
+                                .minCredits(unscaled(b.minCredits()))
+                                .earnedCredits(unscaled(b.earnedCredits()))
+                                .inProgressCredits(unscaled(b.inProgressCredits()))
+                                .satisfied(b.satisfied())
+                                .build())
+                        .toList())
+                .failures(result.failures())
+                .build();
+    }
+
+    private DegreeProgramResponse toResponse(DegreeProgram program) {
+        return DegreeProgramResponse.builder()
+                .programId(program.getProgramId())
+                .programName(program.getProgramName())
+                .department(program.getDepartment())
+                .enrollmentYear(program.getEnrollmentYear())
+                .minTotalCredits(program.getMinTotalCredits())
+                .minGpa(program.getMinGpa())
+                .requiredCourseIds(program.getRequiredCourseIds().stream().sorted().toList())
+                .buckets(program.getCreditBuckets().stream()
+                        .sorted(Comparator.comparing(CreditBucket::getSortOrder))
+                        .map(b -> DegreeProgramResponse.Bucket.builder()
+                                .bucketName(b.getBucketName())
+                                .coursePrefix(b.getCoursePrefix())
+                                .minCredits(b.getMinCredits())
+                                .build())
+                        .toList())
+                .build();
+    }
+}
@@ -0,0 +1,454 @@
+package com.example.schoolmanagementsystem.service.impl;
+
+import com.example.schoolmanagementsystem.dto.request.DemandForecastRequest;
+import com.example.schoolmanagementsystem.dto.response.DemandForecastResponse;
+import com.example.schoolmanagementsystem.repository.ClassInfoRepository;
+import com.example.schoolmanagementsystem.repository.CourseRepository;
+import com.example.schoolmanagementsystem.repository.EnrollmentRepository;
+import com.example.schoolmanagementsystem.repository.StudentRepository;
+import com.example.schoolmanagementsystem.service.DemandForecastService;
+import com.example.schoolmanagementsystem.service.PrerequisiteService;
+import com.example.schoolmanagementsystem.util.DemandSimulator;
+import com.example.schoolmanagementsystem.util.PrerequisiteGraph;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * 選課需求預測服務實作類別
+ *
+ * 1. 以一次串流查詢把歷史修課紀錄讀進 int 陣列（學生、課程、學期、分數）
+ * 2. 依學生平行掃描：參考學期中每門開課課程的「合格人數」（當時已通過所有先修且尚未通過該課）與實際修課人數，
+ *    得到修課率的 Beta 分布；再以最近學期的在學學生推估下學期的確定合格與待定（先修修習中）人數
+ * 3. 交給 {@link DemandSimulator} 在 fork/join 池中進行蒙地卡羅模擬，依信賴區間上界建議開班數與人數上限
+ *
+ * 學期以「學年 × 2 + (下學期 ? 1 : 0)」編號以便比較先後
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DemandForecastServiceImpl implements DemandForecastService {
+
+    private static final long SEED = 20240901L;
+    private static final int PASSING_SCORE = 600;
+    private static final int NO_SCORE = -1;
+    private static final int UNKNOWN_YEAR = Integer.MIN_VALUE;
+
+    private final EnrollmentRepository enrollmentRepository;
+    private final ClassInfoRepository classInfoRepository;
+    private final CourseRepository courseRepository;
+    private final StudentRepository studentRepository;
+    private final PrerequisiteService prerequisiteService;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${app.forecast.study-years:4}")
+    private int studyYears;
+
+    /**
+     * 歷史修課紀錄（欄式 int 陣列，依學生分組）
+     */
+    private static final class History {
+        private int[] student = new int[1 << 16];
+        private int[] course = new int[1 << 16];
+        private int[] term = new int[1 << 16];
+        private int[] score = new int[1 << 16];
+        private int size;
+        private final Map<String, Integer> studentOrdinals = new HashMap<>();
+        private int[] enrollmentYears = new int[1024];
+
+        // 依學生分組後的索引：學生 s 的紀錄為 order[offsets[s]] ~ order[offsets[s + 1] - 1]
+        private int[] offsets;
+        private int[] order;
+
+        private void add(String studentId, Integer enrollmentYear, int courseOrdinal, int termIndex, int scaledScore) {
+            int ordinal = studentOrdinals.computeIfAbsent(studentId, id -> studentOrdinals.size());
+            if (ordinal == enrollmentYears.length) {
+                enrollmentYears = Arrays.copyOf(enrollmentYears, ordinal * 2);
+            }
+            enrollmentYears[ordinal] = enrollmentYear == null ? UNKNOWN_YEAR : enrollmentYear;
+
+            if (size == student.length) {
+                student = Arrays.copyOf(student, size * 2);
+                course = Arrays.copyOf(course, size * 2);
+                term = Arrays.copyOf(term, size * 2);
+                score = Arrays.copyOf(score, size * 2);
+            }
+            student[size] = ordinal;
+            course[size] = courseOrdinal;
+            term[size] = termIndex;
+            score[size] = scaledScore;
+            size++;
+        }
+
+        private int students() {
+            return studentOrdinals.size();
+        }
+
+        private void group() {
+            int students = students();
+            offsets = new int[students + 1];
+            for (int i = 0; i < size; i++) {
+                offsets[student[i] + 1]++;
+            }
+            for (int s = 0; s < students; s++) {
+                offsets[s + 1] += offsets[s];
+            }
+            int[] next = Arrays.copyOf(offsets, students);
+            order = new int[size];
+            for (int i = 0; i < size; i++) {
+                order[next[student[i]]++] = i;
+            }
+        }
+    }
+
+    /**
+     * 平行掃描的部分結果（各執行緒各自累加後合併）
+     */
+    private static final class Tally {
+        private final long[][] eligible;
+        private final long[][] enrolled;
+        private final int[] certain;
+        private final int[] pending;
+        private final double[] pendingProbability;
+        private int population;
+
+        private Tally(int referenceTerms, int courses) {
+            eligible = new long[referenceTerms][courses];
+            enrolled = new long[referenceTerms][courses];
+            certain = new int[courses];
+            pending = new int[courses];
+            pendingProbability = new double[courses];
+        }
+
+        private Tally merge(Tally other) {
+            for (int t = 0; t < eligible.length; t++) {
+                for (int c = 0; c < eligible[t].length; c++) {
+                    eligible[t][c] += other.eligible[t][c];
+                    enrolled[t][c] += other.enrolled[t][c];
+                }
+            }
+            for (int c = 0; c < certain.length; c++) {
+                certain[c] += other.certain[c];
+                pending[c] += other.pending[c];
+                pendingProbability[c] += other.pendingProbability[c];
+            }
+            population += other.population;
+            return this;
+        }
+    }
+
+    @Override
+    public DemandForecastResponse forecast(DemandForecastRequest request) {
+        long start = System.currentTimeMillis();
+        int year = request.getAcademicYear();
+        int target = termIndex(year, request.getSemester());
+        int[] referenceTerms = new int[request.getHistoryYears()];
+        for (int k = 0; k < referenceTerms.length; k++) {
+            referenceTerms[k] = target - 2 * (referenceTerms.length - k);
+        }
+
+        PrerequisiteGraph graph = prerequisiteService.getGraph();
+        int courses = graph.size();
+
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+
+        // 1. 讀取歷史修課紀錄與開班資料
+        History history = new History();
+        Map<String, String> courseNames = new HashMap<>();
+        boolean[][] offered = new boolean[referenceTerms.length][courses];
+        List<List<Integer>> capacities = new ArrayList<>(courses);
+        for (int c = 0; c < courses; c++) {
+            capacities.add(new ArrayList<>());
+        }
+        int[] sectionsByTerm = new int[referenceTerms.length * courses];
+
+        template.executeWithoutResult(status -> {
+            try (Stream<Object[]> rows = enrollmentRepository.streamForecastRows(year)) {
+                rows.forEach(row -> {
+                    int courseOrdinal = graph.ordinal((String) row[2]);
+                    int termIndex = termIndex((Integer) row[3], (String) row[4]);
+                    if (courseOrdinal >= 0 && termIndex < target) {
+                        BigDecimal score = (BigDecimal) row[5];
+                        history.add((String) row[0], (Integer) row[1], courseOrdinal, termIndex,
+                                score == null ? NO_SCORE : score.movePointRight(1).intValue());
+                    }
+                });
+            }
+            for (Object[] row : classInfoRepository.findOfferings(year - referenceTerms.length, year)) {
+                int courseOrdinal = graph.ordinal((String) row[0]);
+                int t = Arrays.binarySearch(referenceTerms, termIndex((Integer) row[1], (String) row[2]));
+                if (courseOrdinal >= 0 && t >= 0) {
+                    offered[t][courseOrdinal] = true;
+                    capacities.get(courseOrdinal).add((Integer) row[3]);
+                    sectionsByTerm[t * courses + courseOrdinal]++;
+                }
+            }
+            try (Stream<Object[]> rows = courseRepository.streamIdAndName()) {
+                rows.forEach(row -> courseNames.put((String) row[0], (String) row[1]));
+            }
+        });
+        history.group();
+
+        // 最近一個有修課紀錄的學期：其在學學生即為下學期的基本母體
+        int baseTerm = Integer.MIN_VALUE;
+        for (int i = 0; i < history.size; i++) {
+            baseTerm = Math.max(baseTerm, history.term[i]);
+        }
+
+        // 2. 各課程歷史通過率（待定學生通過先修的機率）
+        long[] graded = new long[courses];
+        long[] passed = new long[courses];
+        for (int i = 0; i < history.size; i++) {
+            if (history.score[i] != NO_SCORE) {
+                graded[history.course[i]]++;
+                if (history.score[i] >= PASSING_SCORE) {
+                    passed[history.course[i]]++;
+                }
+            }
+        }
+        double[] passRate = new double[courses];
+        for (int c = 0; c < courses; c++) {
+            passRate[c] = (passed[c] + 1.0) / (graded[c] + 2.0);
+        }
+
+        // 只預測參考學期中有開課的課程
+        boolean[] forecasted = new boolean[courses];
+        for (boolean[] termOffered : offered) {
+            for (int c = 0; c < courses; c++) {
+                forecasted[c] |= termOffered[c];
+            }
+        }
+
+        Tally tally = scan(history, graph, referenceTerms, offered, forecasted, passRate, baseTerm, year);
+
+        // 3. 預估新生：上學期時以最近一屆入學人數計，只能修沒有先修的課程
+        int incoming = 0;
+        if (target % 2 == 0) {
+            incoming = (int) studentRepository.countByEnrollmentYear(year - 1);
+            long[] none = new long[graph.words()];
+            long[] scratch = new long[graph.words()];
+            for (int c = 0; c < courses; c++) {
+                if (forecasted[c] && !graph.missingInto(c, none, scratch)) {
+                    tally.certain[c] += incoming;
+                }
+            }
+        }
+
+        // 4. 蒙地卡羅模擬
+        int[] courseOrdinals = IntStream.range(0, courses).filter(c -> forecasted[c]).toArray();
+        int n = courseOrdinals.length;
+        int[] certain = new int[n];
+        int[] pending = new int[n];
+        double[] pendingProbability = new double[n];
+        double[] alpha = new double[n];
+        double[] beta = new double[n];
+        for (int i = 0; i < n; i++) {
+            int c = courseOrdinals[i];
+            long eligibleTotal = 0;
+            long enrolledTotal = 0;
+            for (int t = 0; t < referenceTerms.length; t++) {
+                eligibleTotal += tally.eligible[t][c];
+                enrolledTotal += tally.enrolled[t][c];
+            }
+            certain[i] = tally.certain[c];
+            pending[i] = tally.pending[c];
+            pendingProbability[i] = pending[i] == 0 ? 0 : tally.pendingProbability[c] / pending[i];
+            alpha[i] = 1 + enrolledTotal;
+            beta[i] = 1 + eligibleTotal - enrolledTotal;
+        }
+
+        DemandSimulator.Summary[] summaries = DemandSimulator.simulate(
+                new DemandSimulator.Input(certain, pending, pendingProbability, alpha, beta),
+                request.getTrials(), request.getConfidence(), ForkJoinPool.commonPool(), SEED);
+
+        // 5. 依信賴區間上界建議開班數
+        List<DemandForecastResponse.CourseForecast> forecasts = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            int c = courseOrdinals[i];
+            DemandSimulator.Summary summary = summaries[i];
+            int sectionSize = median(capacities.get(c), request.getDefaultSectionSize());
+            int sections = summary.upper() == 0 ? 0 : (summary.upper() + sectionSize - 1) / sectionSize;
+            int capacity = sections == 0 ? 0 : roundUpToFive((summary.upper() + sections - 1) / sections);
+
+            int lastSections = 0;
+            for (int t = referenceTerms.length - 1; t >= 0 && lastSections == 0; t--) {
+                lastSections = sectionsByTerm[t * courses + c];
+            }
+
+            String courseId = graph.courseId(c);
+            forecasts.add(DemandForecastResponse.CourseForecast.builder()
+                    .courseId(courseId)
+                    .courseName(courseNames.get(courseId))
+                    .uptakeRate(Math.round(10000 * alpha[i] / (alpha[i] + beta[i])) / 10000.0)
+                    .eligibleStudents(certain[i])
+                    .pendingStudents(pending[i])
+                    .meanDemand(Math.round(summary.mean() * 10) / 10.0)
+                    .lowerDemand(summary.lower())
+                    .medianDemand(summary.median())
+                    .upperDemand(summary.upper())
+                    .historicalSectionSize(sectionSize)
+                    .lastTermSections(lastSections)
+                    .recommendedSections(sections)
+                    .recommendedCapacity(capacity)
+                    .build());
+        }
+
+        long elapsed = System.currentTimeMillis() - start;
+        log.info("選課需求預測完成: {}-{}，{} 門課程、{} 筆修課紀錄、{} 次模擬，耗時 {} ms",
+                year, request.getSemester(), n, history.size, request.getTrials(), elapsed);
+
+        return DemandForecastResponse.builder()
+                .academicYear(year)
+                .semester(request.getSemester())
+                .referenceTerms(Arrays.stream(referenceTerms).mapToObj(DemandForecastServiceImpl::termLabel).toList())
+                .baseTerm(baseTerm == Integer.MIN_VALUE ? null : termLabel(baseTerm))
+                .population(tally.population)
+                .incomingStudents(incoming)
+                .trials(request.getTrials())
+                .confidence(request.getConfidence())
+                .elapsedMillis(elapsed)
+                .courses(forecasts)
+                .build();
+    }
+
+    /**
+     * 依學生平行掃描，累加參考學期的合格/修課人數與下學期的確定/待定合格人數
+     */
+    private Tally scan(History history, PrerequisiteGraph graph, int[] referenceTerms, boolean[][] offered,
+                       boolean[] forecasted, double[] passRate, int baseTerm, int year) {
+        int courses = graph.size();
+        int students = history.students();
+        int chunks = Math.max(1, Math.min(students, Runtime.getRuntime().availableProcessors() * 4));
+
+        return IntStream.range(0, chunks).parallel().mapToObj(chunk -> {
+            Tally tally = new Tally(referenceTerms.length, courses);
+            int words = graph.words();
+            long[] passedBefore = new long[words];
+            long[] current = new long[words];
+            long[] missing = new long[words];
+
+            for (int s = (int) ((long) students * chunk / chunks); s < (long) students * (chunk + 1) / chunks; s++) {
+                int from = history.offsets[s];
+                int to = history.offsets[s + 1];
+
+                // 參考學期：當時已通過先修且尚未通過該課者為合格人數
+                for (int t = 0; t < referenceTerms.length; t++) {
+                    int term = referenceTerms[t];
+                    Arrays.fill(passedBefore, 0);
+                    Arrays.fill(current, 0);
+                    boolean active = false;
+                    for (int k = from; k < to; k++) {
+                        int row = history.order[k];
+                        int c = history.course[row];
+                        if (history.term[row] < term && history.score[row] >= PASSING_SCORE) {
+                            passedBefore[c >>> 6] |= 1L << c;
+                        } else if (history.term[row] == term) {
+                            current[c >>> 6] |= 1L << c;
+                            active = true;
+                        }
+                    }
+                    if (!active) {
+                        continue;
+                    }
+                    for (int c = 0; c < courses; c++) {
+                        if (!offered[t][c]) {
+                            continue;
+                        }
+                        if ((current[c >>> 6] & (1L << c)) != 0) {
+                            tally.eligible[t][c]++;
+                            tally.enrolled[t][c]++;
+                        } else if ((passedBefore[c >>> 6] & (1L << c)) == 0
+                                && !graph.missingInto(c, passedBefore, missing)) {
+                            tally.eligible[t][c]++;
+                        }
+                    }
+                }
+
+                // 下學期母體：最近學期在學、且尚未超過修業年限的學生
+                int enrollmentYear = history.enrollmentYears[s];
+                if (enrollmentYear != UNKNOWN_YEAR && year - enrollmentYear >= studyYears) {
+                    continue;
+                }
+                Arrays.fill(passedBefore, 0);
+                Arrays.fill(current, 0);
+                boolean active = false;
+                for (int k = from; k < to; k++) {
+                    int row = history.order[k];
+                    int c = history.course[row];
+                    if (history.score[row] >= PASSING_SCORE) {
+                        passedBefore[c >>> 6] |= 1L << c;
+                    } else if (history.term[row] == baseTerm && history.score[row] == NO_SCORE) {
+                        current[c >>> 6] |= 1L << c;
+                    }
+                    active |= history.term[row] == baseTerm;
+                }
+                if (!active) {
+                    continue;
+                }
+                tally.population++;
+                for (int c = 0; c < courses; c++) {
+                    long bit = 1L << c;
+                    if (!forecasted[c] || (passedBefore[c >>> 6] & bit) != 0 || (current[c >>> 6] & bit) != 0) {
+                        continue;
+                    }
+                    if (!graph.missingInto(c, passedBefore, missing)) {
+                        tally.certain[c]++;
+                        continue;
+                    }
+                    // 缺少的先修全部正在修習中時為待定，最後合格機率為各門通過率的乘積
+                    double probability = 1;
+                    boolean reachable = true;
+                    for (int w = 0; w < words && reachable; w++) {
+                        if ((missing[w] & ~current[w]) != 0) {
+                            reachable = false;
+                        }
+                        long bits = missing[w];
+                        while (bits != 0) {
+                            probability *= passRate[(w << 6) + Long.numberOfTrailingZeros(bits)];
+                            bits &= bits - 1;
+                        }
+                    }
+                    if (reachable) {
+                        tally.pending[c]++;
+                        tally.pendingProbability[c] += probability;
+                    }
+                }
+            }
+            return tally;
+        }).reduce(Tally::merge).orElseGet(() -> new Tally(referenceTerms.length, courses));
+    }
+
+    private static int median(List<Integer> values, int fallback) {
+        if (values.isEmpty()) {
+            return fallback;
+        }
+        int[] sorted = values.stream().mapToInt(Integer::intValue).sorted().toArray();
+        return Math.max(1, sorted[(sorted.length - 1) / 2]);
+    }
+
+    private static int roundUpToFive(int value) {
+        return (value + 4) / 5 * 5;
+    }
+
+    private static int termIndex(Integer academicYear, String semester) {
+        return academicYear * 2 + ("下學期".equals(semester) ? 1 : 0);
+    }
+
+    private static String termLabel(int termIndex) {
+        return (termIndex >> 1) + "-" + ((termIndex & 1) == 0 ? "上學期" : "下學期");
+    }
+}
@@ -0,0 +1,222 @@
+package com.example.schoolmanagementsystem.service.impl;
+
+import com.example.schoolmanagementsystem.dto.response.CourseOverlapResponse;
+import com.example.schoolmanagementsystem.event.ClassesBulkCreatedEvent;
+import com.example.schoolmanagementsystem.event.EntityChangedEvent;
+import com.example.schoolmanagementsystem.model.ClassInfo;
+import com.example.schoolmanagementsystem.model.Enrollment;
+import com.example.schoolmanagementsystem.repository.EnrollmentRepository;
+import com.example.schoolmanagementsystem.service.EnrollmentGraphService;
+import com.example.schoolmanagementsystem.util.EnrollmentGraph;
+import com.example.schoolmanagementsystem.util.SparseIntMatrix;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * 選課圖服務實作類別
+ * 以一次串流查詢建立學期的學生 ↔ 班級 CSR 二分圖，並在其上平行計算課程層級的共同修課稀疏矩陣；
+ * 兩者皆依學期快取，該學期有選課異動後失效
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EnrollmentGraphServiceImpl implements EnrollmentGraphService {
+
+    private final EnrollmentRepository enrollmentRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private final Map<String, TermGraph> graphs = new ConcurrentHashMap<>();
+    private final Map<String, CourseCoEnrollment> courseMatrices = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    @Override
+    public TermGraph getTermGraph(Integer academicYear, String semester) {
+        String key = termKey(academicYear, semester);
+        TermGraph cached = graphs.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        long startGeneration = generation.get();
+        long start = System.currentTimeMillis();
+        TermGraph graph = buildGraph(academicYear, semester);
+        if (generation.get() == startGeneration) {
+            graphs.put(key, graph);
+            // 檢查與寫入之間若有失效（失效一律先遞增序號再移除），撤回剛寫入的結果
+            if (generation.get() != startGeneration) {
+                graphs.remove(key, graph);
+            }
+        }
+
+        log.info("選課圖建立完成（{}）：{} 位學生、{} 個班級、{} 筆選課，耗時 {} ms", key,
+                graph.graph().studentCount(), graph.graph().classCount(), graph.graph().edgeCount(),
+                System.currentTimeMillis() - start);
+        return graph;
+    }
+
+    @Override
+    public List<CourseOverlapResponse> getCourseOverlaps(Integer academicYear, String semester, String courseId,
+                                                         int minShared, int limit) {
+        CourseCoEnrollment matrix = getCourseCoEnrollment(academicYear, semester);
+        String[] courseIds = matrix.courseIds();
+
+        int only = courseId == null ? -1 : Arrays.asList(courseIds).indexOf(courseId);
+        if (courseId != null && only < 0) {
+            return List.of();
+        }
+
+        List<CourseOverlapResponse> overlaps = new ArrayList<>();
+        int fromRow = only >= 0 ? only : 0;
+        int toRow = only >= 0 ? only + 1 : courseIds.length;
+        for (int a = fromRow; a < toRow; a++) {
+            SparseIntMatrix shared = matrix.shared();
+            for (int index = shared.rowStart(a); index < shared.rowEnd(a); index++) {
+                int b = shared.columnAt(index);
+                int count = shared.valueAt(index);
+                // 列出全部配對時只取上三角，避免 (A, B) 與 (B, A) 重複
+                if (count < minShared || (only < 0 && b < a)) {
+                    continue;
+                }
+                overlaps.add(CourseOverlapResponse.builder()
+                        .courseIdA(courseIds[a])
+                        .studentsA(matrix.courseSizes()[a])
+                        .courseIdB(courseIds[b])
+                        .studentsB(matrix.courseSizes()[b])
+                        .sharedStudents(count)
+                        .overlapRatioA(Math.round(10000.0 * count / matrix.courseSizes()[a]) / 10000.0)
+                        .build());
+            }
+        }
+
+        overlaps.sort(Comparator.comparing(CourseOverlapResponse::getSharedStudents).reversed()
+                .thenComparing(CourseOverlapResponse::getCourseIdA)
+                .thenComparing(CourseOverlapResponse::getCourseIdB));
+        return overlaps.size() > limit ? new ArrayList<>(overlaps.subList(0, limit)) : overlaps;
+    }
+
+    @Override
+    public CourseCoEnrollment getCourseCoEnrollment(Integer academicYear, String semester) {
+        String key = termKey(academicYear, semester);
+        CourseCoEnrollment cached = courseMatrices.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        long startGeneration = generation.get();
+        TermGraph termGraph = getTermGraph(academicYear, semester);
+        EnrollmentGraph graph = termGraph.graph();
+        int courseCount = termGraph.courseIds().length;
+        SparseIntMatrix shared = graph.coEnrollment(termGraph.classToCourse(), courseCount);
+
+        // 各課程的不重複修課人數
+        int[] courseSizes = new int[courseCount];
+        int[] lastStudent = new int[courseCount];
+        Arrays.fill(lastStudent, -1);
+        for (int student = 0; student < graph.studentCount(); student++) {
+            for (int classOrdinal : graph.classesOf(student)) {
+                int course = termGraph.classToCourse()[classOrdinal];
+                if (lastStudent[course] != student) {
+                    lastStudent[course] = student;
+                    courseSizes[course]++;
+                }
+            }
+        }
+
+        CourseCoEnrollment matrix = new CourseCoEnrollment(termGraph.courseIds(), shared, courseSizes);
+        if (generation.get() == startGeneration) {
+            courseMatrices.put(key, matrix);
+            if (generation.get() != startGeneration) {
+                courseMatrices.remove(key, matrix);
+            }
+        }
+        return matrix;
+    }
+
+    /**
+     * 選課或班級異動後使該學期的快取失效
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        ClassInfo classInfo;
+        if (event.entity() instanceof Enrollment enrollment) {
+            try {
+                classInfo = enrollment.getClassInfo();
+                invalidate(termKey(classInfo.getAcademicYear(), classInfo.getSemester()));
+            } catch (RuntimeException e) {
+                log.debug("無法判斷選課所屬學期，清除全部選課圖快取: {}", e.getMessage());
+                invalidate(null);
+            }
+        } else if (event.entity() instanceof ClassInfo changed) {
+            invalidate(termKey(changed.getAcademicYear(), changed.getSemester()));
+        }
+    }
+
+    /**
+     * 學期轉換批次新增班級後使目標學期的快取失效
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onClassesBulkCreated(ClassesBulkCreatedEvent event) {
+        invalidate(termKey(event.academicYear(), event.semester()));
+    }
+
+    private void invalidate(String key) {
+        generation.incrementAndGet();
+        if (key == null) {
+            graphs.clear();
+            courseMatrices.clear();
+        } else {
+            graphs.remove(key);
+            courseMatrices.remove(key);
+        }
+    }
+
+    private TermGraph buildGraph(Integer academicYear, String semester) {
+        EnrollmentGraph.Builder builder = new EnrollmentGraph.Builder();
+        Map<String, Integer> courseIndex = new HashMap<>();
+        List<String> courseIds = new ArrayList<>();
+        int[][] classToCourse = {new int[256]};
+
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        template.setReadOnly(true);
+        template.executeWithoutResult(status -> {
+            try (Stream<Object[]> rows = enrollmentRepository.streamPairsByTerm(academicYear, semester)) {
+                rows.forEach(row -> {
+                    int classOrdinal = builder.add((String) row[0], (Integer) row[1]);
+                    int course = courseIndex.computeIfAbsent((String) row[2], id -> {
+                        courseIds.add(id);
+                        return courseIds.size() - 1;
+                    });
+                    if (classOrdinal >= classToCourse[0].length) {
+                        classToCourse[0] = Arrays.copyOf(classToCourse[0], classToCourse[0].length * 2);
+                    }
+                    classToCourse[0][classOrdinal] = course;
+                });
+            }
+        });
+
+        EnrollmentGraph graph = builder.build();
+        return new TermGraph(graph, Arrays.copyOf(classToCourse[0], graph.classCount()),
+                courseIds.toArray(String[]::new), LocalDateTime.now());
+    }
+
+    private static String termKey(Integer academicYear, String semester) {
+        return academicYear + "-" + semester;
+    }
+}
@@ -0,0 +1,288 @@
+package com.example.schoolmanagementsystem.service.impl;
+
+import com.example.schoolmanagementsystem.dto.request.EvaluationRequest;
+import com.example.schoolmanagementsystem.dto.response.EvaluationSummaryResponse;
+import com.example.schoolmanagementsystem.exception.DuplicateResourceException;
+import com.example.schoolmanagementsystem.exception.ResourceNotFoundException;
+import com.example.schoolmanagementsystem.exception.ServiceUnavailableException;
+import com.example.schoolmanagementsystem.model.ClassInfo;
+import com.example.schoolmanagementsystem.model.EvaluationAggregate;
+import com.example.schoolmanagementsystem.model.EvaluationSubmission;
+import com.example.schoolmanagementsystem.repository.ClassInfoRepository;
+import com.example.schoolmanagementsystem.repository.EnrollmentRepository;
+import com.example.schoolmanagementsystem.repository.EvaluationAggregateRepository;
+import com.example.schoolmanagementsystem.repository.EvaluationSubmissionRepository;
+import com.example.schoolmanagementsystem.service.EvaluationService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * 課程評鑑服務實作類別
+ * 期末最後一週問卷集中湧入：請求執行緒只做驗證並排入佇列，由單一背景工作定期批次寫入，
+ * 同一交易內新增問卷並把各班級各題的增量累加到統計表；無論湧入多少問卷，
+ * 同時只佔用一條資料庫連線，不會擠壓選課等其他請求。結果查詢只讀統計表，不掃描問卷
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EvaluationServiceImpl implements EvaluationService {
+
+    private static final int MAX_SCORE = 5;
+
+    private final EvaluationSubmissionRepository evaluationSubmissionRepository;
+    private final EvaluationAggregateRepository evaluationAggregateRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final ClassInfoRepository classInfoRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${app.evaluations.questions:教師授課內容清楚有條理,課程內容符合課程大綱,作業與考試能反映學習成果,教師樂於回答學生問題,整體而言我對這門課感到滿意}")
+    private List<String> questions;
+
+    @Value("${app.evaluations.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.evaluations.queue-capacity:20000}")
+    private int queueCapacity;
+
+    private BlockingQueue<EvaluationSubmission> queue;
+
+    // 已排入佇列但尚未寫入的（班級ID:學號），避免寫入前重複填答
+    private final Set<String> pendingKeys = ConcurrentHashMap.newKeySet();
+
+    // 因資料庫暫時無法寫入而保留的問卷，下一次 flush 優先重試（僅在持有 flushLock 時存取）
+    private final List<EvaluationSubmission> retained = new ArrayList<>();
+
+    // 同時只有一個執行緒寫入；請求執行緒只嘗試取得，不排隊等待
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    @PostConstruct
+    void createQueue() {
+        queue = new LinkedBlockingQueue<>(queueCapacity);
+    }
+
+    @Override
+    public List<String> getQuestions() {
+        return List.copyOf(questions);
+    }
+
+    @Override
+    public void submit(EvaluationRequest request) {
+        List<Integer> answers = request.getAnswers();
+        if (answers.size() != questions.size()) {
+            throw new IllegalArgumentException(
+                    String.format("作答題數不符（應為 %d 題，收到 %d 題）", questions.size(), answers.size()));
+        }
+        for (Integer answer : answers) {
+            if (answer == null || answer < 1 || answer > MAX_SCORE) {
+                throw new IllegalArgumentException("分數必須為 1 ~ " + MAX_SCORE);
+            }
+        }
+        if (!enrollmentRepository.existsByStudent_StudentIdAndClassInfo_ClassId(request.getStudentId(), request.getClassId())) {
+            throw new IllegalArgumentException("學生未選修此班級，無法填寫評鑑");
+        }
+
+        String key = request.getClassId() + ":" + request.getStudentId();
+        if (!pendingKeys.add(key)) {
+            throw new DuplicateResourceException("已填寫過此班級的評鑑");
+        }
+        if (evaluationSubmissionRepository.existsByClassIdAndStudentId(request.getClassId(), request.getStudentId())) {
+            pendingKeys.remove(key);
+            throw new DuplicateResourceException("已填寫過此班級的評鑑");
+        }
+
+        EvaluationSubmission submission = EvaluationSubmission.builder()
+                .classId(request.getClassId())
+                .studentId(request.getStudentId())
+                .answers(answers.stream().map(String::valueOf).collect(Collectors.joining(",")))
+                .comment(request.getComment())
+                .submittedAt(LocalDateTime.now())
+                .build();
+
+        // 佇列已滿且背景工作正在寫入時直接拒絕（503），不讓請求執行緒排隊等待；
+        // 沒有人在寫入時才由呼叫端代為寫入一批，仍放不進佇列就請使用者稍後重送
+        if (!queue.offer(submission) && !(flushOneBatch() && queue.offer(submission))) {
+            pendingKeys.remove(key);
+            throw new ServiceUnavailableException("評鑑問卷暫時無法寫入，請稍後再試");
+        }
+    }
+
+    @Override
+    public EvaluationSummaryResponse getSummary(Integer classId) {
+        ClassInfo classInfo = classInfoRepository.findById(classId)
+                .orElseThrow(() -> new ResourceNotFoundException("班級", "班級ID", classId));
+
+        Map<Integer, EvaluationAggregate> byQuestion = new HashMap<>();
+        for (EvaluationAggregate aggregate : evaluationAggregateRepository.findById_ClassIdOrderById_QuestionNo(classId)) {
+            byQuestion.put(aggregate.getId().getQuestionNo(), aggregate);
+        }
+
+        List<EvaluationSummaryResponse.QuestionSummary> summaries = new ArrayList<>(questions.size());
+        long responseCount = 0;
+        for (int i = 0; i < questions.size(); i++) {
+            EvaluationAggregate aggregate = byQuestion.get(i + 1);
+            long count = aggregate == null ? 0 : aggregate.getResponseCount();
+            responseCount = Math.max(responseCount, count);
+            summaries.add(EvaluationSummaryResponse.QuestionSummary.builder()
+                    .questionNo(i + 1)
+                    .question(questions.get(i))
+                    .responseCount(count)
+                    .mean(count == 0 ? null : Math.round((double) aggregate.getScoreSum() / count * 100) / 100.0)
+                    .histogram(aggregate == null ? List.of(0L, 0L, 0L, 0L, 0L) : List.of(aggregate.getCount1(),
+                            aggregate.getCount2(), aggregate.getCount3(), aggregate.getCount4(), aggregate.getCount5()))
+                    .build());
+        }
+
+        return EvaluationSummaryResponse.builder()
+                .classId(classId)
+                .courseName(classInfo.getCourse().getCourseName())
+                .responseCount(responseCount)
+                .questions(summaries)
+                .build();
+    }
+
+    @Override
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${app.evaluations.flush-interval-ms:500}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            drain(Integer.MAX_VALUE);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 請求執行緒在佇列已滿時呼叫：其他執行緒正在寫入時立即放棄，否則寫入一批
+     * @return 取得寫入權且寫入成功時回傳 true
+     */
+    private boolean flushOneBatch() {
+        if (!flushLock.tryLock()) {
+            return false;
+        }
+        try {
+            return drain(1);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 依序寫入保留的問卷與佇列中的問卷，呼叫端需持有 flushLock
+     * @param maxBatches 最多寫入的批數
+     * @return 沒有寫入失敗時回傳 true
+     */
+    private boolean drain(int maxBatches) {
+        List<EvaluationSubmission> batch = new ArrayList<>(batchSize);
+        int batches = 0;
+        while (batches++ < maxBatches && (!retained.isEmpty() || queue.drainTo(batch, batchSize) > 0)) {
+            if (!retained.isEmpty()) {
+                batch.addAll(retained);
+                retained.clear();
+            }
+            if (!writeOrRetain(batch)) {
+                log.warn("評鑑問卷寫入失敗，保留 {} 份待下次重試", retained.size());
+                return false;
+            }
+            log.debug("寫入評鑑問卷 {} 份", batch.size());
+            batch.clear();
+        }
+        return true;
+    }
+
+    /**
+     * 寫入一批問卷；只有違反資料庫約束（例如重複填答的唯一鍵衝突）的問卷會被捨棄，
+     * 其他錯誤（連線中斷、逾時等）把尚未寫入的問卷留在 retained，由下一次排程重試
+     * @return 整批都已處理（寫入或捨棄）時回傳 true
+     */
+    private boolean writeOrRetain(List<EvaluationSubmission> batch) {
+        try {
+            writeBatch(batch);
+            batch.forEach(this::release);
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            // 整批違反約束時逐筆重試，只捨棄有問題的問卷
+            log.warn("評鑑問卷批次寫入違反約束，改為逐筆寫入: {}", e.getMessage());
+        } catch (RuntimeException e) {
+            log.warn("評鑑問卷批次寫入失敗: {}", e.getMessage());
+            retain(batch);
+            return false;
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            EvaluationSubmission submission = batch.get(i);
+            submission.setSubmissionId(null);
+            try {
+                writeBatch(List.of(submission));
+            } catch (DataIntegrityViolationException single) {
+                log.warn("捨棄評鑑問卷 {}:{}: {}", submission.getClassId(), submission.getStudentId(),
+                        single.getMessage());
+            } catch (RuntimeException single) {
+                log.warn("評鑑問卷寫入失敗: {}", single.getMessage());
+                retain(batch.subList(i, batch.size()));
+                return false;
+            }
+            release(submission);
+        }
+        return true;
+    }
+
+    private void retain(List<EvaluationSubmission> submissions) {
+        submissions.forEach(submission -> submission.setSubmissionId(null));
+        retained.addAll(submissions);
+    }
+
+    private void release(EvaluationSubmission submission) {
+        pendingKeys.remove(submission.getClassId() + ":" + submission.getStudentId());
+    }
+
+    /**
+     * 一個交易內新增問卷並累加統計；先在記憶體中把同班級同題的增量合併，每個（班級、題號）只更新一次
+     */
+    private void writeBatch(List<EvaluationSubmission> batch) {
+        // 班級ID → 題號 → [填答數, 總和, 1 分, 2 分, 3 分, 4 分, 5 分]
+        Map<Integer, long[][]> deltas = new HashMap<>();
+        for (EvaluationSubmission submission : batch) {
+            String[] answers = submission.getAnswers().split(",");
+            long[][] perQuestion = deltas.computeIfAbsent(submission.getClassId(), id -> new long[answers.length][2 + MAX_SCORE]);
+            for (int q = 0; q < answers.length && q < perQuestion.length; q++) {
+                int score = Integer.parseInt(answers[q]);
+                perQuestion[q][0]++;
+                perQuestion[q][1] += score;
+                perQuestion[q][1 + score]++;
+            }
+        }
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            evaluationSubmissionRepository.saveAll(batch);
+            deltas.forEach((classId, perQuestion) -> {
+                for (int q = 0; q < perQuestion.length; q++) {
+                    long[] d = perQuestion[q];
+                    if (d[0] > 0) {
+                        evaluationAggregateRepository.addDelta(classId, q + 1, d[0], d[1], d[2], d[3], d[4], d[5], d[6]);
+                    }
+                }
+            });
+        });
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.schoolmanagementsystem.service.impl;
+
+import com.example.schoolmanagementsystem.dto.request.ExamScheduleRequest;
+import com.example.schoolmanagementsystem.dto.response.ExamScheduleResponse;
+import com.example.schoolmanagementsystem.service.EnrollmentGraphService;
+import com.example.schoolmanagementsystem.service.ExamScheduleService;
+import com.example.schoolmanagementsystem.util.EnrollmentGraph;
+import com.example.schoolmanagementsystem.util.ExamScheduler;
+import com.example.schoolmanagementsystem.util.SparseIntMatrix;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 期末考排程服務實作類別
+ * 以學期選課圖建立班級衝突圖（兩班共同學生數為權重），交給 {@link ExamScheduler} 求解，
+ * 再逐一檢查每位學生的考試時段，統計仍有衝突的學生
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExamScheduleServiceImpl implements ExamScheduleService {
+
+    private static final int SAME_SLOT_PENALTY = 100;
+    private static final int MAX_REPORTED_CONFLICTS = 50;
+    private static final long SEED = 20240601L;
+
+    private final EnrollmentGraphService enrollmentGraphService;
+    private final ForkJoinPool solverPool;
+
+    @Override
+    public ExamScheduleResponse generateSchedule(ExamScheduleRequest request) {
+        long start = System.currentTimeMillis();
+        log.info("產生期末考排程: {}-{}，{} 天 × {} 節", request.getAcademicYear(), request.getSemester(),
+                request.getDays(), request.getSlotsPerDay());
+
+        EnrollmentGraphService.TermGraph termGraph =
+                enrollmentGraphService.getTermGraph(request.getAcademicYear(), request.getSemester());
+        EnrollmentGraph graph = termGraph.graph();
+
+        // 以班級本身為群組，得到班級層級的衝突圖
+        int[] identity = new int[graph.classCount()];
+        int[] classSizes = new int[graph.classCount()];
+        for (int c = 0; c < identity.length; c++) {
+            identity[c] = c;
+            classSizes[c] = graph.classSize(c);
+        }
+        SparseIntMatrix conflicts = graph.coEnrollment(identity, identity.length);
+
+        ExamScheduler.Options options = new ExamScheduler.Options(
+                request.getDays() * request.getSlotsPerDay(),
+                request.getSlotsPerDay(),
+                SAME_SLOT_PENALTY,
+                request.getBackToBackWeight(),
+                Duration.ofSeconds(request.getTimeLimitSeconds()),
+                solverPool.getParallelism(),
+                SEED);
+        ExamScheduler.Result result = ExamScheduler.solve(conflicts, classSizes, options, solverPool);
+        int[] slots = result.slots();
+
+        List<ExamScheduleResponse.Assignment> assignments = new ArrayList<>(identity.length);
+        for (int c = 0; c < identity.length; c++) {
+            assignments.add(ExamScheduleResponse.Assignment.builder()
+                    .classId(graph.classId(c))
+                    .courseId(termGraph.courseIds()[termGraph.classToCourse()[c]])
+                    .day(slots[c] / request.getSlotsPerDay() + 1)
+                    .period(slots[c] % request.getSlotsPerDay() + 1)
+                    .students(classSizes[c])
+                    .build());
+        }
+        assignments.sort(Comparator.comparing(ExamScheduleResponse.Assignment::getDay)
+                .thenComparing(ExamScheduleResponse.Assignment::getPeriod)
+                .thenComparing(ExamScheduleResponse.Assignment::getClassId));
+
+        int[] studentConflicts = countStudentConflicts(graph, slots, request.getSlotsPerDay());
+        long elapsed = System.currentTimeMillis() - start;
+        log.info("期末考排程完成: {} 班，同時段衝突 {} 人、連續考試 {} 人，耗時 {} ms",
+                identity.length, studentConflicts[0], studentConflicts[1], elapsed);
+
+        return ExamScheduleResponse.builder()
+                .academicYear(request.getAcademicYear())
+                .semester(request.getSemester())
+                .days(request.getDays())
+                .slotsPerDay(request.getSlotsPerDay())
+                .assignments(assignments)
+                .sameSlotStudents(studentConflicts[0])
+                .backToBackStudents(studentConflicts[1])
+                .sameSlotConflicts(sameSlotConflicts(graph, conflicts, slots, request.getSlotsPerDay()))
+                .cost(result.cost())
+                .iterations(result.iterations())
+                .elapsedMillis(elapsed)
+                .build();
+    }
+
+    /**
+     * 逐一檢查學生的考試時段
+     * @return [同時段衝突學生數, 同一天連續考試學生數]
+     */
+    private int[] countStudentConflicts(EnrollmentGraph graph, int[] slots, int slotsPerDay) {
+        int sameSlot = 0;
+        int backToBack = 0;
+        for (int student = 0; student < graph.studentCount(); student++) {
+            int[] classes = graph.classesOf(student);
+            int[] studentSlots = new int[classes.length];
+            for (int i = 0; i < classes.length; i++) {
+                studentSlots[i] = slots[classes[i]];
+            }
+            Arrays.sort(studentSlots);
+
+            boolean hasSameSlot = false;
+            boolean hasBackToBack = false;
+            for (int i = 1; i < studentSlots.length; i++) {
+                int previous = studentSlots[i - 1];
+                int current = studentSlots[i];
+                if (current == previous) {
+                    hasSameSlot = true;
+                } else if (current == previous + 1 && current / slotsPerDay == previous / slotsPerDay) {
+                    hasBackToBack = true;
+                }
+            }
+            if (hasSameSlot) {
+                sameSlot++;
+            }
+            if (hasBackToBack) {
+                backToBack++;
+            }
+        }
+        return new int[]{sameSlot, backToBack};
+    }
+
+    private List<ExamScheduleResponse.Conflict> sameSlotConflicts(EnrollmentGraph graph, SparseIntMatrix conflicts,
+                                                                  int[] slots, int slotsPerDay) {
+        List<ExamScheduleResponse.Conflict> result = new ArrayList<>();
+        for (int a = 0; a < conflicts.rows(); a++) {
+            for (int index = conflicts.rowStart(a); index < conflicts.rowEnd(a); index++) {
+                int b = conflicts.columnAt(index);
+                if (b > a && slots[a] == slots[b]) {
+                    result.add(ExamScheduleResponse.Conflict.builder()
+                            .classIdA(graph.classId(a))
+                            .classIdB(graph.classId(b))
+                            .day(slots[a] / slotsPerDay + 1)
+                            .period(slots[a] % slotsPerDay + 1)
+                            .sharedStudents(conflicts.valueAt(index))
+                            .build());
+                }
+            }
+        }
+        result.sort(Comparator.comparing(ExamScheduleResponse.Conflict::getSharedStudents).reversed());
+        return result.size() > MAX_REPORTED_CONFLICTS ? new ArrayList<>(result.subList(0, MAX_REPORTED_CONFLICTS)) : result;
+    }
+}
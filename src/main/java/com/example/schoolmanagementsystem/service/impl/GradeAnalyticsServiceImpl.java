@@ -0,0 +1,171 @@
+package com.example.schoolmanagementsystem.service.impl;
+
+import com.example.schoolmanagementsystem.dto.response.GradeAnalyticsResponse;
+import com.example.schoolmanagementsystem.event.EntityChangedEvent;
+import com.example.schoolmanagementsystem.event.GradesBulkChangedEvent;
+import com.example.schoolmanagementsystem.event.EntityChangedEvent.ChangeType;
+import com.example.schoolmanagementsystem.model.ClassInfo;
+import com.example.schoolmanagementsystem.model.Course;
+import com.example.schoolmanagementsystem.model.Grade;
+import com.example.schoolmanagementsystem.repository.GradeRepository;
+import com.example.schoolmanagementsystem.service.GradeAnalyticsService;
+import com.example.schoolmanagementsystem.util.GradeSnapshot;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * 成績分析服務實作類別
+ * 啟動時以一次串流掃描建立欄式快照，之後定期增量更新：
+ * 重新載入有異動事件的成績，並補上成績ID高於快照最大值的新資料（涵蓋未經 JPA 寫入的資料）；
+ * 課程資料異動（例如學分調整）或班級的教師、學年、學期異動時改為完整重建
+ *
+ * 查詢只讀取目前的不可變快照，不會存取資料庫
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GradeAnalyticsServiceImpl implements GradeAnalyticsService {
+
+    private final GradeRepository gradeRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private volatile GradeSnapshot snapshot = GradeSnapshot.empty();
+
+    private final Set<Integer> dirtyGradeIds = ConcurrentHashMap.newKeySet();
+    private volatile boolean rebuildRequested;
+
+    @Override
+    public GradeAnalyticsResponse analyze(GradeSnapshot.Filter filter, List<GradeSnapshot.Dimension> groupBy) {
+        GradeSnapshot current = snapshot;
+
+        long start = System.nanoTime();
+        List<GradeSnapshot.Group> groups = current.aggregate(filter, groupBy);
+        long elapsed = (System.nanoTime() - start) / 1000;
+
+        return GradeAnalyticsResponse.builder()
+                .groupBy(groupBy.stream().map(Enum::name).toList())
+                .groups(groups)
+                .snapshotRows(current.size())
+                .snapshotBuiltAt(current.builtAt())
+                .elapsedMicros(elapsed)
+                .build();
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${app.analytics.refresh-interval-ms:5000}")
+    public synchronized void refresh() {
+        if (rebuildRequested) {
+            rebuild();
+            return;
+        }
+
+        GradeSnapshot base = snapshot;
+        Set<Integer> dirty = new HashSet<>(dirtyGradeIds);
+        dirtyGradeIds.removeAll(dirty);
+
+        GradeSnapshot.Builder builder = new GradeSnapshot.Builder(base, dirty::contains);
+        int[] added = {0};
+        newTemplate().executeWithoutResult(status -> {
+            if (!dirty.isEmpty()) {
+                for (Object[] row : gradeRepository.findAnalyticsRowsByIds(dirty)) {
+                    addRow(builder, row);
+                    added[0]++;
+                }
+            }
+            try (Stream<Object[]> rows = gradeRepository.streamAnalyticsRowsAfter(base.maxGradeId())) {
+                rows.filter(row -> !dirty.contains((Integer) row[0]))
+                        .forEach(row -> {
+                            addRow(builder, row);
+                            added[0]++;
+                        });
+            }
+        });
+
+        if (dirty.isEmpty() && added[0] == 0) {
+            return;
+        }
+        snapshot = builder.build();
+        log.debug("成績分析快照增量更新：異動 {} 筆、載入 {} 筆，共 {} 筆", dirty.size(), added[0], snapshot.size());
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        rebuildRequested = false;
+        dirtyGradeIds.clear();
+
+        long start = System.currentTimeMillis();
+        GradeSnapshot.Builder builder = new GradeSnapshot.Builder();
+        newTemplate().executeWithoutResult(status -> {
+            try (Stream<Object[]> rows = gradeRepository.streamAnalyticsRowsAfter(0)) {
+                rows.forEach(row -> addRow(builder, row));
+            }
+        });
+        snapshot = builder.build();
+
+        log.info("成績分析快照建立完成：{} 筆成績，耗時 {} ms", snapshot.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 記錄異動的成績，下次排程時重新載入；
+     * 快照中的課程與班級維度（學分、教師、學年、學期）變動時要求完整重建（新開的班級尚無成績，不需重建）
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        if (event.entity() instanceof Grade grade && grade.getGradeId() != null) {
+            dirtyGradeIds.add(grade.getGradeId());
+        } else if (event.entity() instanceof Course
+                || event.entity() instanceof ClassInfo && event.changeType() != ChangeType.CREATED) {
+            rebuildRequested = true;
+        }
+    }
+
+    /**
+     * 班級成績批次異動時記錄被修改與新增的成績，下次排程時重新載入
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGradesBulkChanged(GradesBulkChangedEvent event) {
+        for (Grade grade : event.grades()) {
+            if (grade.getGradeId() != null) {
+                dirtyGradeIds.add(grade.getGradeId());
+            }
+        }
+    }
+
+    private void addRow(GradeSnapshot.Builder builder, Object[] row) {
+        builder.add(
+                (Integer) row[0],
+                (Integer) row[1],
+                (String) row[2],
+                (Integer) row[3],
+                (String) row[4],
+                scaled((BigDecimal) row[5]),
+                scaled((BigDecimal) row[6]));
+    }
+
+    private TransactionTemplate newTemplate() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        template.setReadOnly(true);
+        return template;
+    }
+
+    private static int scaled(BigDecimal value) {
+        return value.movePointRight(1).intValue();
+    }
+}
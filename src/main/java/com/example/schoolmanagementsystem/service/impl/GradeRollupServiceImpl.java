@@ -0,0 +1,276 @@
+package com.example.schoolmanagementsystem.service.impl;
+
+import com.example.schoolmanagementsystem.dto.response.GradeTrendResponse;
+import com.example.schoolmanagementsystem.event.EntityChangedEvent;
+import com.example.schoolmanagementsystem.event.EntityChangedEvent.ChangeType;
+import com.example.schoolmanagementsystem.event.GradesBulkChangedEvent;
+import com.example.schoolmanagementsystem.exception.ResourceNotFoundException;
+import com.example.schoolmanagementsystem.model.ClassInfo;
+import com.example.schoolmanagementsystem.model.Grade;
+import com.example.schoolmanagementsystem.model.GradeRollup;
+import com.example.schoolmanagementsystem.model.GradeRollupId;
+import com.example.schoolmanagementsystem.repository.ClassInfoRepository;
+import com.example.schoolmanagementsystem.repository.CourseRepository;
+import com.example.schoolmanagementsystem.repository.GradeRepository;
+import com.example.schoolmanagementsystem.repository.GradeRollupRepository;
+import com.example.schoolmanagementsystem.repository.TeacherRepository;
+import com.example.schoolmanagementsystem.service.GradeRollupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * 成績彙總服務實作類別
+ * 彙總表以（課程、教師、學年、學期）為鍵，只存可相加的筆數、總和、平方和與及格人數；
+ * 成績新增、修改、刪除時在交易提交後累加差值（批次上傳時整個班級合併為一次），趨勢查詢只讀彙總表，不再掃描成績 ⋈ 選課 ⋈ 班級
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GradeRollupServiceImpl implements GradeRollupService {
+
+    private static final BigDecimal PASSING_SCORE = BigDecimal.valueOf(60);
+
+    private final GradeRollupRepository gradeRollupRepository;
+    private final GradeRepository gradeRepository;
+    private final ClassInfoRepository classInfoRepository;
+    private final CourseRepository courseRepository;
+    private final TeacherRepository teacherRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final ExecutorService virtualThreadExecutor;
+
+    /**
+     * 一個彙總鍵的累計差值（筆數、總和、平方和、及格人數）
+     */
+    private static final class Delta {
+        private long count;
+        private BigDecimal sum = BigDecimal.ZERO;
+        private BigDecimal squareSum = BigDecimal.ZERO;
+        private long passCount;
+        private boolean changed;
+
+        void add(BigDecimal before, BigDecimal after) {
+            if (before == null && after == null || before != null && after != null && before.compareTo(after) == 0) {
+                return;
+            }
+            changed = true;
+            if (before != null) {
+                count--;
+                sum = sum.subtract(before);
+                squareSum = squareSum.subtract(before.multiply(before));
+                passCount -= before.compareTo(PASSING_SCORE) >= 0 ? 1 : 0;
+            }
+            if (after != null) {
+                count++;
+                sum = sum.add(after);
+                squareSum = squareSum.add(after.multiply(after));
+                passCount += after.compareTo(PASSING_SCORE) >= 0 ? 1 : 0;
+            }
+        }
+
+        boolean isEmpty() {
+            return !changed;
+        }
+    }
+
+    @Override
+    public GradeTrendResponse getCourseTrend(String courseId, String teacherId) {
+        if (!courseRepository.existsByCourseId(courseId)) {
+            throw new ResourceNotFoundException("課程", "課程ID", courseId);
+        }
+        List<GradeRollup> rollups = teacherId == null
+                ? gradeRollupRepository.findById_CourseId(courseId)
+                : gradeRollupRepository.findById_CourseIdAndId_TeacherId(courseId, teacherId);
+
+        return GradeTrendResponse.builder()
+                .courseId(courseId)
+                .teacherId(teacherId)
+                .points(toPoints(rollups))
+                .build();
+    }
+
+    @Override
+    public GradeTrendResponse getTeacherTrend(String teacherId, String courseId) {
+        if (!teacherRepository.existsById(teacherId)) {
+            throw new ResourceNotFoundException("教師", "教師ID", teacherId);
+        }
+        List<GradeRollup> rollups = courseId == null
+                ? gradeRollupRepository.findById_TeacherId(teacherId)
+                : gradeRollupRepository.findById_CourseIdAndId_TeacherId(courseId, teacherId);
+
+        return GradeTrendResponse.builder()
+                .courseId(courseId)
+                .teacherId(teacherId)
+                .points(toPoints(rollups))
+                .build();
+    }
+
+    /**
+     * 回填：每個學年一個交易（先刪除該學年的彙總再寫入聚合結果），各學年在虛擬執行緒上平行執行
+     * 回填期間若有成績異動，該筆增量可能與回填結果重複或遺漏，因此只在啟動時或離峰手動執行
+     */
+    @Override
+    public int rebuildRollups() {
+        long start = System.currentTimeMillis();
+        List<Integer> years = classInfoRepository.findDistinctAcademicYears();
+
+        List<CompletableFuture<Integer>> futures = years.stream()
+                .map(year -> CompletableFuture.supplyAsync(() -> rebuildYear(year), virtualThreadExecutor))
+                .toList();
+        int total = futures.stream().mapToInt(CompletableFuture::join).sum();
+
+        log.info("成績彙總回填完成：{} 個學年、{} 筆彙總，耗時 {} ms",
+                years.size(), total, System.currentTimeMillis() - start);
+        return total;
+    }
+
+    /**
+     * 啟動時若彙總表為空則回填一次
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        if (gradeRollupRepository.count() == 0) {
+            rebuildRollups();
+        }
+    }
+
+    /**
+     * 成績異動時累加差值（交易提交後才執行）
+     * 以載入時的分數扣除舊的貢獻、加上新分數的貢獻；刪除時只扣除舊的貢獻
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        if (!(event.entity() instanceof Grade grade)) {
+            return;
+        }
+
+        BigDecimal after = event.changeType() == ChangeType.DELETED ? null : grade.getScoreNumeric();
+        Delta delta = new Delta();
+        delta.add(grade.getLoadedScore(), after);
+        if (delta.isEmpty()) {
+            grade.setLoadedScore(after);
+            return;
+        }
+
+        GradeRollupId id;
+        try {
+            id = rollupIdOf(grade.getEnrollment().getClassInfo());
+        } catch (RuntimeException e) {
+            log.warn("無法判斷成績所屬班級，略過彙總更新（可重新回填）: {}", e.getMessage());
+            return;
+        }
+        apply(id, delta);
+        grade.setLoadedScore(after);
+    }
+
+    /**
+     * 班級成績批次異動時合併整批的差值，同一個彙總鍵只累加一次（交易提交後才執行）
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGradesBulkChanged(GradesBulkChangedEvent event) {
+        Delta delta = new Delta();
+        for (Grade grade : event.grades()) {
+            delta.add(grade.getLoadedScore(), grade.getScoreNumeric());
+        }
+        if (delta.isEmpty()) {
+            return;
+        }
+
+        GradeRollupId id;
+        try {
+            id = rollupIdOf(event.classInfo());
+        } catch (RuntimeException e) {
+            log.warn("無法判斷班級的彙總鍵，略過彙總更新（可重新回填）: {}", e.getMessage());
+            return;
+        }
+        apply(id, delta);
+    }
+
+    private void apply(GradeRollupId id, Delta delta) {
+        newTemplate().executeWithoutResult(status -> gradeRollupRepository.addDelta(id.getCourseId(),
+                id.getTeacherId(), id.getAcademicYear(), id.getSemester(),
+                delta.count, delta.sum, delta.squareSum, delta.passCount));
+    }
+
+    private static GradeRollupId rollupIdOf(ClassInfo classInfo) {
+        return new GradeRollupId(classInfo.getCourse().getCourseId(), classInfo.getTeacher().getTeacherId(),
+                classInfo.getAcademicYear(), classInfo.getSemester());
+    }
+
+    private int rebuildYear(Integer year) {
+        Integer saved = newTemplate().execute(status -> {
+            gradeRollupRepository.deleteByAcademicYear(year);
+            List<GradeRollup> rollups = new ArrayList<>();
+            for (Object[] row : gradeRepository.aggregateRollupsByYear(year)) {
+                rollups.add(GradeRollup.builder()
+                        .id(new GradeRollupId((String) row[0], (String) row[1], (Integer) row[2], (String) row[3]))
+                        .gradeCount(((Number) row[4]).longValue())
+                        .scoreSum((BigDecimal) row[5])
+                        .scoreSquareSum((BigDecimal) row[6])
+                        .passCount(((Number) row[7]).longValue())
+                        .build());
+            }
+            gradeRollupRepository.saveAll(rollups);
+            return rollups.size();
+        });
+        return saved == null ? 0 : saved;
+    }
+
+    /**
+     * 把彙總合併成每學期一個點（同學期多位教師或多門課程時相加），依學期先後排序
+     */
+    private List<GradeTrendResponse.TrendPoint> toPoints(List<GradeRollup> rollups) {
+        Map<Integer, GradeRollup> byTerm = new TreeMap<>();
+        for (GradeRollup rollup : rollups) {
+            GradeRollupId id = rollup.getId();
+            int term = id.getAcademicYear() * 2 + ("下學期".equals(id.getSemester()) ? 1 : 0);
+            byTerm.merge(term, rollup, (a, b) -> GradeRollup.builder()
+                    .id(a.getId())
+                    .gradeCount(a.getGradeCount() + b.getGradeCount())
+                    .scoreSum(a.getScoreSum().add(b.getScoreSum()))
+                    .scoreSquareSum(a.getScoreSquareSum().add(b.getScoreSquareSum()))
+                    .passCount(a.getPassCount() + b.getPassCount())
+                    .build());
+        }
+
+        List<GradeTrendResponse.TrendPoint> points = new ArrayList<>(byTerm.size());
+        for (GradeRollup rollup : byTerm.values()) {
+            long n = rollup.getGradeCount();
+            if (n <= 0) {
+                continue;
+            }
+            double mean = rollup.getScoreSum().doubleValue() / n;
+            // 母體變異數 = E[x²] − mean²，捨入誤差可能產生極小的負值
+            double variance = Math.max(0, rollup.getScoreSquareSum().doubleValue() / n - mean * mean);
+            points.add(GradeTrendResponse.TrendPoint.builder()
+                    .academicYear(rollup.getId().getAcademicYear())
+                    .semester(rollup.getId().getSemester())
+                    .gradeCount(n)
+                    .mean(Math.round(mean * 100) / 100.0)
+                    .standardDeviation(Math.round(Math.sqrt(variance) * 100) / 100.0)
+                    .passRate(Math.round((double) rollup.getPassCount() / n * 10000) / 10000.0)
+                    .build());
+        }
+        return points;
+    }
+
+    private TransactionTemplate newTemplate() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return template;
+    }
+}
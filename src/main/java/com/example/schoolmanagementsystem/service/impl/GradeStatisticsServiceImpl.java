@@ -0,0 +1,153 @@
+package com.example.schoolmanagementsystem.service.impl;
+
+import com.example.schoolmanagementsystem.dto.response.ClassGradeReportResponse;
+import com.example.schoolmanagementsystem.event.ClassesBulkCreatedEvent;
+import com.example.schoolmanagementsystem.event.EntityChangedEvent;
+import com.example.schoolmanagementsystem.event.GradesBulkChangedEvent;
+import com.example.schoolmanagementsystem.exception.ResourceNotFoundException;
+import com.example.schoolmanagementsystem.model.ClassInfo;
+import com.example.schoolmanagementsystem.model.Enrollment;
+import com.example.schoolmanagementsystem.model.Grade;
+import com.example.schoolmanagementsystem.repository.ClassInfoRepository;
+import com.example.schoolmanagementsystem.repository.EnrollmentRepository;
+import com.example.schoolmanagementsystem.repository.GradeRepository;
+import com.example.schoolmanagementsystem.service.GradeStatisticsService;
+import com.example.schoolmanagementsystem.util.ScoreStatistics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 成績統計服務實作類別
+ * 每個班級的報表只在第一次查詢時計算，之後由快取回應；
+ * 該班任何成績、選課或班級資料新增、修改、刪除後（交易提交後）使快取失效
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GradeStatisticsServiceImpl implements GradeStatisticsService {
+
+    private static final int[] PERCENTILES = {10, 25, 75, 90};
+
+    private final ClassInfoRepository classInfoRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final GradeRepository gradeRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private final Map<Integer, ClassGradeReportResponse> cache = new ConcurrentHashMap<>();
+
+    // 每次失效遞增；計算期間若有失效，結果不寫入（或撤回）快取，避免放入過期資料
+    private final AtomicLong generation = new AtomicLong();
+
+    @Override
+    public ClassGradeReportResponse getClassReport(Integer classId) {
+        ClassGradeReportResponse cached = cache.get(classId);
+        if (cached != null) {
+            return cached;
+        }
+
+        long startGeneration = generation.get();
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        ClassGradeReportResponse report = template.execute(status -> buildReport(classId));
+
+        if (generation.get() == startGeneration) {
+            cache.put(classId, report);
+            // 檢查與寫入之間若有失效（失效一律先遞增序號再移除），撤回剛寫入的結果
+            if (generation.get() != startGeneration) {
+                cache.remove(classId, report);
+            }
+        }
+        return report;
+    }
+
+    @Override
+    public void invalidate(Integer classId) {
+        generation.incrementAndGet();
+        if (classId == null) {
+            cache.clear();
+        } else {
+            cache.remove(classId);
+        }
+    }
+
+    /**
+     * 成績、選課（影響選課人數）或班級異動後使所屬班級的快取失效
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        try {
+            if (event.entity() instanceof Grade grade) {
+                invalidate(grade.getEnrollment().getClassInfo().getClassId());
+            } else if (event.entity() instanceof Enrollment enrollment) {
+                invalidate(enrollment.getClassInfo().getClassId());
+            } else if (event.entity() instanceof ClassInfo classInfo) {
+                invalidate(classInfo.getClassId());
+            }
+        } catch (RuntimeException e) {
+            // 選課記錄已無法載入（例如一併刪除），無法判斷班級時全部失效
+            log.debug("無法判斷異動所屬班級，清除全部成績統計快取: {}", e.getMessage());
+            invalidate(null);
+        }
+    }
+
+    /**
+     * 班級成績批次異動後使該班級的快取失效一次
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGradesBulkChanged(GradesBulkChangedEvent event) {
+        invalidate(event.classInfo().getClassId());
+    }
+
+    /**
+     * 學期轉換批次新增的班級尚無快取的報表，只遞增序號（與單一班級新增時相同），不清除其他班級的快取
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onClassesBulkCreated(ClassesBulkCreatedEvent event) {
+        generation.incrementAndGet();
+    }
+
+    private ClassGradeReportResponse buildReport(Integer classId) {
+        ClassInfo classInfo = classInfoRepository.findById(classId)
+                .orElseThrow(() -> new ResourceNotFoundException("班級", "班級ID", classId));
+
+        List<BigDecimal> rawScores = gradeRepository.findScoresByClassId(classId);
+        int[] scores = new int[rawScores.size()];
+        for (int i = 0; i < scores.length; i++) {
+            scores[i] = rawScores.get(i).movePointRight(1).intValue();
+        }
+
+        ScoreStatistics.Summary summary = ScoreStatistics.compute(scores, scores.length, PERCENTILES);
+        Long enrolled = enrollmentRepository.countByClassId(classId);
+
+        return ClassGradeReportResponse.builder()
+                .classId(classInfo.getClassId())
+                .courseId(classInfo.getCourse().getCourseId())
+                .courseName(classInfo.getCourse().getCourseName())
+                .teacherName(classInfo.getTeacher().getTeacherName())
+                .academicYear(classInfo.getAcademicYear())
+                .semester(classInfo.getSemester())
+                .enrolledCount(enrolled != null ? enrolled.intValue() : 0)
+                .gradedCount(summary.count())
+                .average(summary.mean())
+                .median(summary.median())
+                .standardDeviation(summary.standardDeviation())
+                .highest(summary.max())
+                .lowest(summary.min())
+                .passRate(summary.passRate())
+                .percentiles(summary.percentiles())
+                .distribution(summary.distribution())
+                .generatedAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,156 @@
+package com.example.schoolmanagementsystem.service.impl;
+
+import com.example.schoolmanagementsystem.dto.request.GradeSyncRequest;
+import com.example.schoolmanagementsystem.dto.response.GradeSyncResponse;
+import com.example.schoolmanagementsystem.exception.ResourceNotFoundException;
+import com.example.schoolmanagementsystem.model.Enrollment;
+import com.example.schoolmanagementsystem.model.Grade;
+import com.example.schoolmanagementsystem.repository.ClassInfoRepository;
+import com.example.schoolmanagementsystem.repository.EnrollmentRepository;
+import com.example.schoolmanagementsystem.repository.GradeRepository;
+import com.example.schoolmanagementsystem.service.GradeSyncService;
+import com.example.schoolmanagementsystem.util.GradeScores;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 成績差異同步服務實作類別
+ * 每個成績有版本號，每次儲存有班級修訂號：用戶端只送出修改的儲存格與修改前的版本號，
+ * 版本不符即為衝突、該格不套用；同步標記就是班級修訂號，其他人的修改以「修訂號大於標記」查出。
+ * 每次儲存只載入與寫入有修改的儲存格，成本與修改數成正比，與班級人數無關
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GradeSyncServiceImpl implements GradeSyncService {
+
+    private final GradeRepository gradeRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final ClassInfoRepository classInfoRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Override
+    public GradeSyncResponse sync(Integer classId, GradeSyncRequest request) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        GradeSyncResponse response = template.execute(status -> {
+            // 1. 鎖定班級，與批次上傳及其他同步依序進行
+            Long revision = classInfoRepository.lockGradeRevision(classId);
+            if (revision == null) {
+                throw new ResourceNotFoundException("班級", "班級ID", classId);
+            }
+            long newRevision = revision + 1;
+
+            List<GradeSyncResponse.CellError> errors = new ArrayList<>();
+            Map<String, GradeSyncRequest.Change> changes = new LinkedHashMap<>();
+            for (GradeSyncRequest.Change change : request.getChanges()) {
+                if (changes.putIfAbsent(change.getStudentId(), change) != null) {
+                    errors.add(new GradeSyncResponse.CellError(change.getStudentId(), "同一儲存格重複修改"));
+                }
+            }
+
+            // 2. 只載入有修改的儲存格
+            Map<String, Object[]> targets = new HashMap<>();
+            if (!changes.isEmpty()) {
+                for (Object[] row : enrollmentRepository.findWithGradeEntities(classId, changes.keySet())) {
+                    targets.put(((Enrollment) row[0]).getStudent().getStudentId(), row);
+                }
+            }
+
+            // 3. 逐格比對版本號
+            List<Grade> toSave = new ArrayList<>();
+            List<GradeSyncResponse.Cell> unchanged = new ArrayList<>();
+            List<GradeSyncResponse.Conflict> conflicts = new ArrayList<>();
+            for (GradeSyncRequest.Change change : changes.values()) {
+                Object[] target = targets.get(change.getStudentId());
+                if (target == null) {
+                    errors.add(new GradeSyncResponse.CellError(change.getStudentId(), "學生未選修此班級"));
+                    continue;
+                }
+                BigDecimal score = GradeScores.normalize(change.getScore());
+                if (change.getScore() != null && score == null) {
+                    errors.add(new GradeSyncResponse.CellError(change.getStudentId(),
+                            GradeScores.describeInvalid(change.getScore().toPlainString())));
+                    continue;
+                }
+
+                Grade grade = (Grade) target[1];
+                Long currentVersion = grade == null ? null : grade.getVersion();
+                if (!Objects.equals(change.getBaseVersion(), currentVersion)) {
+                    conflicts.add(GradeSyncResponse.Conflict.builder()
+                            .studentId(change.getStudentId())
+                            .baseVersion(change.getBaseVersion())
+                            .yourScore(score)
+                            .currentVersion(currentVersion)
+                            .currentScore(grade == null ? null : grade.getScoreNumeric())
+                            .build());
+                    continue;
+                }
+
+                BigDecimal currentScore = grade == null ? null : grade.getScoreNumeric();
+                if (currentScore == null ? score == null : score != null && currentScore.compareTo(score) == 0) {
+                    unchanged.add(new GradeSyncResponse.Cell(change.getStudentId(), currentScore, currentVersion));
+                    continue;
+                }
+                if (grade == null) {
+                    grade = Grade.builder()
+                            .enrollment((Enrollment) target[0])
+                            .build();
+                }
+                grade.setScoreNumeric(score);
+                grade.setRevision(newRevision);
+                toSave.add(grade);
+            }
+
+            // 4. 寫入並遞增班級修訂號（flush 後版本號才會更新）
+            List<GradeSyncResponse.Cell> applied = new ArrayList<>(unchanged);
+            Set<String> savedStudents = new HashSet<>();
+            long token = revision;
+            if (!toSave.isEmpty()) {
+                for (Grade grade : gradeRepository.saveAllAndFlush(toSave)) {
+                    String studentId = grade.getEnrollment().getStudent().getStudentId();
+                    savedStudents.add(studentId);
+                    applied.add(new GradeSyncResponse.Cell(studentId, grade.getScoreNumeric(), grade.getVersion()));
+                }
+                classInfoRepository.updateGradeRevision(classId, newRevision);
+                token = newRevision;
+            }
+
+            // 5. 上次同步後其他人的修改（首次同步時回傳全部成績）
+            long since = request.getSyncToken() == null ? -1 : request.getSyncToken();
+            List<GradeSyncResponse.Cell> others = new ArrayList<>();
+            for (Object[] row : gradeRepository.findSyncChanges(classId, since)) {
+                String studentId = (String) row[0];
+                if (!savedStudents.contains(studentId)) {
+                    others.add(new GradeSyncResponse.Cell(studentId, (BigDecimal) row[1], (Long) row[2]));
+                }
+            }
+
+            return GradeSyncResponse.builder()
+                    .classId(classId)
+                    .syncToken(token)
+                    .applied(applied)
+                    .conflicts(conflicts)
+                    .errors(errors)
+                    .changes(others)
+                    .build();
+        });
+
+        log.info("班級 {} 成績同步：套用 {}、衝突 {}、錯誤 {}、其他人的修改 {}", classId,
+                response.getApplied().size(), response.getConflicts().size(),
+                response.getErrors().size(), response.getChanges().size());
+        return response;
+    }
+}
@@ -0,0 +1,212 @@
+package com.example.schoolmanagementsystem.service.impl;
+
+import com.example.schoolmanagementsystem.dto.request.GradeUploadRequest;
+import com.example.schoolmanagementsystem.dto.response.GradeUploadResponse;
+import com.example.schoolmanagementsystem.event.GradesBulkChangedEvent;
+import com.example.schoolmanagementsystem.exception.ResourceNotFoundException;
+import com.example.schoolmanagementsystem.model.ClassInfo;
+import com.example.schoolmanagementsystem.model.Enrollment;
+import com.example.schoolmanagementsystem.model.Grade;
+import com.example.schoolmanagementsystem.repository.ClassInfoRepository;
+import com.example.schoolmanagementsystem.repository.EnrollmentRepository;
+import com.example.schoolmanagementsystem.service.GradeUploadService;
+import com.example.schoolmanagementsystem.util.GradeScores;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 批次上傳成績服務實作類別
+ * 一次查詢解析整個班級的選課記錄與現有成績，逐列驗證後以 JDBC 批次
+ * INSERT ... ON DUPLICATE KEY UPDATE 在同一交易內寫入；
+ * JDBC 寫入不經過 JPA 實體監聽器，因此由本服務自行發布整個班級的批次異動事件，讓快取與彙總照常更新
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GradeUploadServiceImpl implements GradeUploadService {
+
+    private static final int BATCH_SIZE = 500;
+
+    // 已有成績時版本號加一並記錄本次修訂號，與差異同步共用同一套衝突偵測
+    private static final String UPSERT_SQL = "INSERT INTO Grades (enrollment_id, score_numeric, version, revision) " +
+            "VALUES (?, ?, 0, ?) ON DUPLICATE KEY UPDATE score_numeric = VALUES(score_numeric), " +
+            "version = version + 1, revision = VALUES(revision)";
+
+    // 回查班級內各選課記錄的成績ID（新增的成績由資料庫產生ID）
+    private static final String GRADE_IDS_SQL = "SELECT g.enrollment_id, g.grade_id FROM Grades g " +
+            "JOIN Enrollments e ON e.enrollment_id = g.enrollment_id WHERE e.class_id = ?";
+
+    private final EnrollmentRepository enrollmentRepository;
+    private final ClassInfoRepository classInfoRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * 待驗證的資料列
+     */
+    private record Row(int rowNo, String studentId, String score) {
+    }
+
+    /**
+     * 班級中的一位學生與其現有成績
+     */
+    private record Target(Enrollment enrollment, Integer gradeId, BigDecimal score) {
+    }
+
+    @Override
+    public GradeUploadResponse uploadGrades(Integer classId, GradeUploadRequest request) {
+        List<Row> rows = new ArrayList<>(request.getGrades().size());
+        for (int i = 0; i < request.getGrades().size(); i++) {
+            GradeUploadRequest.Entry entry = request.getGrades().get(i);
+            rows.add(entry == null
+                    ? new Row(i + 1, null, null)
+                    : new Row(i + 1, entry.getStudentId(), entry.getScore() == null ? null : entry.getScore().toPlainString()));
+        }
+        return upload(classId, rows);
+    }
+
+    @Override
+    public GradeUploadResponse uploadGradesCsv(Integer classId, String csv) {
+        List<Row> rows = new ArrayList<>();
+        String[] lines = csv == null ? new String[0] : csv.split("\\r?\\n");
+        for (int i = 0; i < lines.length; i++) {
+            // Excel 匯出的 CSV 開頭可能帶有 BOM
+            String line = (i == 0 ? lines[i].replace("\uFEFF", "") : lines[i]).strip();
+            if (line.isEmpty() || i == 0 && isHeader(line)) {
+                continue;
+            }
+            String[] cells = line.split(",", -1);
+            rows.add(new Row(i + 1, cells[0].strip(), cells.length > 1 ? cells[1].strip() : null));
+        }
+        if (rows.isEmpty()) {
+            throw new IllegalArgumentException("成績資料不可為空");
+        }
+        return upload(classId, rows);
+    }
+
+    private GradeUploadResponse upload(Integer classId, List<Row> rows) {
+        List<GradeUploadResponse.RowError> errors = new ArrayList<>();
+        int[] counts = new int[3]; // 新增、更新、未變更
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            // 1. 鎖定班級（同一班級的成績寫入依序進行，避免以相同的舊分數計算彙總增量），一次查詢解析整個班級
+            Long revision = classInfoRepository.lockGradeRevision(classId);
+            if (revision == null) {
+                throw new ResourceNotFoundException("班級", "班級ID", classId);
+            }
+            long newRevision = revision + 1;
+
+            Map<String, Target> targets = new HashMap<>();
+            for (Object[] result : enrollmentRepository.findWithGradesByClassId(classId)) {
+                Enrollment enrollment = (Enrollment) result[0];
+                targets.put(enrollment.getStudent().getStudentId(),
+                        new Target(enrollment, (Integer) result[1], (BigDecimal) result[2]));
+            }
+
+            // 2. 逐列驗證
+            List<Object[]> batch = new ArrayList<>();
+            List<Grade> changed = new ArrayList<>();
+            Set<String> seen = new HashSet<>();
+            for (Row row : rows) {
+                String studentId = row.studentId() == null ? null : row.studentId().strip();
+                Target target = studentId == null || studentId.isEmpty() ? null : targets.get(studentId);
+                String message;
+                BigDecimal score = null;
+                if (studentId == null || studentId.isEmpty()) {
+                    message = "學號不可為空";
+                } else if (target == null) {
+                    message = "學生未選修此班級";
+                } else if (!seen.add(studentId)) {
+                    message = "學號重複";
+                } else {
+                    score = GradeScores.parse(row.score());
+                    message = score == null ? GradeScores.describeInvalid(row.score()) : null;
+                }
+                if (message != null) {
+                    errors.add(new GradeUploadResponse.RowError(row.rowNo(), studentId, message));
+                    continue;
+                }
+
+                if (target.score() != null && target.score().compareTo(score) == 0) {
+                    counts[2]++;
+                    continue;
+                }
+                counts[target.gradeId() == null ? 0 : 1]++;
+                batch.add(new Object[]{target.enrollment().getEnrollmentId(), score});
+                changed.add(Grade.builder()
+                        .gradeId(target.gradeId())
+                        .scoreNumeric(score)
+                        .enrollment(target.enrollment())
+                        .revision(newRevision)
+                        .loadedScore(target.score())
+                        .build());
+            }
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            // 3. 批次寫入並遞增班級修訂號
+            jdbcTemplate.batchUpdate(UPSERT_SQL, batch, BATCH_SIZE, (ps, args) -> {
+                ps.setInt(1, (Integer) args[0]);
+                ps.setBigDecimal(2, (BigDecimal) args[1]);
+                ps.setLong(3, newRevision);
+            });
+            classInfoRepository.updateGradeRevision(classId, newRevision);
+
+            // 4. 新增的成績補上資料庫產生的成績ID；不同班級的上傳提交順序不一定依ID遞增，
+            // 事件中帶有真正的ID，成績分析才能把它們當作異動重新載入，而不是只靠最大ID水位
+            Map<Integer, Grade> inserted = new HashMap<>();
+            for (Grade grade : changed) {
+                if (grade.getGradeId() == null) {
+                    inserted.put(grade.getEnrollment().getEnrollmentId(), grade);
+                }
+            }
+            if (!inserted.isEmpty()) {
+                jdbcTemplate.query(GRADE_IDS_SQL, rs -> {
+                    Grade grade = inserted.get(rs.getInt(1));
+                    if (grade != null) {
+                        grade.setGradeId(rs.getInt(2));
+                    }
+                }, classId);
+            }
+
+            // 5. 發布一個班級層級的批次異動事件（交易提交後才送達各訂閱端）
+            ClassInfo classInfo = classInfoRepository.findById(classId)
+                    .orElseThrow(() -> new ResourceNotFoundException("班級", "班級ID", classId));
+            eventPublisher.publishEvent(new GradesBulkChangedEvent(classInfo, changed));
+        });
+
+        log.info("班級 {} 批次上傳成績：新增 {}、更新 {}、未變更 {}、錯誤 {}",
+                classId, counts[0], counts[1], counts[2], errors.size());
+
+        return GradeUploadResponse.builder()
+                .classId(classId)
+                .totalRows(rows.size())
+                .inserted(counts[0])
+                .updated(counts[1])
+                .unchanged(counts[2])
+                .failed(errors.size())
+                .errors(errors)
+                .build();
+    }
+
+    private static boolean isHeader(String line) {
+        String first = line.split(",", -1)[0].strip().toLowerCase(Locale.ROOT);
+        return first.equals("studentid") || first.equals("student_id") || first.equals("學號");
+    }
+}
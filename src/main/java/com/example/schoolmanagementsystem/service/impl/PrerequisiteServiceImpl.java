@@ -0,0 +1,197 @@
+package com.example.schoolmanagementsystem.service.impl;
+
+import com.example.schoolmanagementsystem.event.EntityChangedEvent;
+import com.example.schoolmanagementsystem.event.GradesBulkChangedEvent;
+import com.example.schoolmanagementsystem.exception.ResourceNotFoundException;
+import com.example.schoolmanagementsystem.model.Course;
+import com.example.schoolmanagementsystem.model.Grade;
+import com.example.schoolmanagementsystem.repository.CourseRepository;
+import com.example.schoolmanagementsystem.repository.GradeRepository;
+import com.example.schoolmanagementsystem.service.PrerequisiteService;
+import com.example.schoolmanagementsystem.util.PrerequisiteGraph;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * 先修課程服務實作類別
+ * 先修課程圖與遞移閉包只在課程目錄異動時重建；
+ * 學生已通過的課程以相同位元順序快取，選課時的先修檢查只是一次位元子集合測試
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PrerequisiteServiceImpl implements PrerequisiteService {
+
+    private static final BigDecimal PASSING_SCORE = BigDecimal.valueOf(60);
+
+    private final CourseRepository courseRepository;
+    private final GradeRepository gradeRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private volatile PrerequisiteGraph graph = PrerequisiteGraph.build(List.of(), Map.of());
+
+    // 學生已通過課程的位元集合；圖重建後位元順序改變，需以建立時的圖比對
+    private final Map<String, PassedCourses> passedCache = new ConcurrentHashMap<>();
+
+    // 每次失效遞增；計算期間若有失效，結果不寫入快取，避免放入過期資料
+    private final AtomicLong generation = new AtomicLong();
+
+    private record PassedCourses(PrerequisiteGraph graph, long[] bits) {
+    }
+
+    @Override
+    public List<String> getPrerequisites(String courseId, boolean transitive) {
+        if (!courseRepository.existsByCourseId(courseId)) {
+            throw new ResourceNotFoundException("課程", "課程ID", courseId);
+        }
+        return graph.prerequisitesOf(courseId, transitive);
+    }
+
+    @Override
+    public synchronized List<String> updatePrerequisites(String courseId, List<String> prerequisiteIds) {
+        Set<String> requested = new HashSet<>(prerequisiteIds);
+        if (requested.contains(courseId)) {
+            throw new IllegalArgumentException("課程不可為自己的先修課程");
+        }
+
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.executeWithoutResult(status -> {
+            Course course = courseRepository.findById(courseId)
+                    .orElseThrow(() -> new ResourceNotFoundException("課程", "課程ID", courseId));
+            List<Course> prerequisites = courseRepository.findAllById(requested);
+            if (prerequisites.size() < requested.size()) {
+                prerequisites.forEach(p -> requested.remove(p.getCourseId()));
+                throw new ResourceNotFoundException("找不到先修課程: " + String.join(", ", requested));
+            }
+
+            // 以修改後的先修關係試建一次，形成循環時拋出例外、交易回滾
+            Map<String, List<String>> edges = loadEdges();
+            edges.put(courseId, prerequisites.stream().map(Course::getCourseId).toList());
+            PrerequisiteGraph.build(loadCourseIds(), edges);
+
+            course.setPrerequisites(new HashSet<>(prerequisites));
+            courseRepository.save(course);
+        });
+
+        rebuildGraph();
+        log.info("更新先修課程: {} ← {}", courseId, prerequisiteIds);
+        return graph.prerequisitesOf(courseId, false);
+    }
+
+    @Override
+    public List<String> getMissingPrerequisites(String studentId, String courseId) {
+        PrerequisiteGraph current = graph;
+        return current.missing(courseId, passedCourses(studentId, current));
+    }
+
+    @Override
+    public PrerequisiteGraph getGraph() {
+        return graph;
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildGraph() {
+        PrerequisiteGraph rebuilt = newTemplate().execute(status ->
+                PrerequisiteGraph.build(loadCourseIds(), loadEdges()));
+
+        generation.incrementAndGet();
+        graph = rebuilt;
+        passedCache.clear();
+        log.info("先修課程圖建立完成：{} 門課程", rebuilt.size());
+    }
+
+    /**
+     * 課程目錄異動時重建先修課程圖；成績異動時使該學生的已通過課程失效（交易提交後才執行）
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        if (event.entity() instanceof Course) {
+            rebuildGraph();
+        } else if (event.entity() instanceof Grade grade) {
+            generation.incrementAndGet();
+            try {
+                passedCache.remove(grade.getEnrollment().getStudent().getStudentId());
+            } catch (RuntimeException e) {
+                log.debug("無法判斷成績所屬學生，清除全部已通過課程快取: {}", e.getMessage());
+                passedCache.clear();
+            }
+        }
+    }
+
+    /**
+     * 班級成績批次異動時使整班學生的已通過課程失效（交易提交後才執行）
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGradesBulkChanged(GradesBulkChangedEvent event) {
+        generation.incrementAndGet();
+        try {
+            for (Grade grade : event.grades()) {
+                passedCache.remove(grade.getEnrollment().getStudent().getStudentId());
+            }
+        } catch (RuntimeException e) {
+            log.debug("無法判斷成績所屬學生，清除全部已通過課程快取: {}", e.getMessage());
+            passedCache.clear();
+        }
+    }
+
+    private long[] passedCourses(String studentId, PrerequisiteGraph current) {
+        PassedCourses cached = passedCache.get(studentId);
+        if (cached != null && cached.graph() == current) {
+            return cached.bits();
+        }
+
+        long startGeneration = generation.get();
+        long[] bits = current.toBits(gradeRepository.findPassedCourseIdsByStudentId(studentId, PASSING_SCORE));
+        if (generation.get() == startGeneration) {
+            PassedCourses entry = new PassedCourses(current, bits);
+            passedCache.put(studentId, entry);
+            // 檢查與寫入之間若有失效（失效一律先遞增序號再移除），撤回剛寫入的結果
+            if (generation.get() != startGeneration) {
+                passedCache.remove(studentId, entry);
+            }
+        }
+        return bits;
+    }
+
+    private List<String> loadCourseIds() {
+        List<String> courseIds = new ArrayList<>();
+        try (Stream<Object[]> rows = courseRepository.streamIdAndName()) {
+            rows.forEach(row -> courseIds.add((String) row[0]));
+        }
+        return courseIds;
+    }
+
+    private Map<String, List<String>> loadEdges() {
+        Map<String, List<String>> edges = new HashMap<>();
+        for (Object[] row : courseRepository.findPrerequisitePairs()) {
+            edges.computeIfAbsent((String) row[0], id -> new ArrayList<>()).add((String) row[1]);
+        }
+        return edges;
+    }
+
+    private TransactionTemplate newTemplate() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        template.setReadOnly(true);
+        return template;
+    }
+}
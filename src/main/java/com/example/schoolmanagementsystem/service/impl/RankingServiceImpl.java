@@ -0,0 +1,324 @@
+package com.example.schoolmanagementsystem.service.impl;
+
+import com.example.schoolmanagementsystem.dto.response.RankingResponse;
+import com.example.schoolmanagementsystem.event.EntityChangedEvent;
+import com.example.schoolmanagementsystem.event.GradesBulkChangedEvent;
+import com.example.schoolmanagementsystem.event.EntityChangedEvent.ChangeType;
+import com.example.schoolmanagementsystem.model.Grade;
+import com.example.schoolmanagementsystem.model.Student;
+import com.example.schoolmanagementsystem.repository.GradeRepository;
+import com.example.schoolmanagementsystem.repository.StudentRepository;
+import com.example.schoolmanagementsystem.service.RankingService;
+import com.example.schoolmanagementsystem.util.OrderStatisticTree;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * GPA 排名服務實作類別
+ * 每個群體（同入學學年、同系所）各維護一棵順序統計樹，名次與 PR 值查詢為 O(log n)；
+ * 成績寫入後只重新計算該學生的 GPA 並在所屬群體中移除、重新插入，不需重新排序
+ *
+ * GPA 與學生資訊相同，為學分加權平均分數並四捨五入到小數點後兩位
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RankingServiceImpl implements RankingService {
+
+    private final GradeRepository gradeRepository;
+    private final StudentRepository studentRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Member> members = new HashMap<>();
+    private final Map<String, OrderStatisticTree> cohorts = new HashMap<>();
+
+    /**
+     * 已列入排名的學生
+     */
+    private record Member(Integer enrollmentYear, String department, double gpa) {
+    }
+
+    @Override
+    public RankingResponse getRank(String studentId, String cohortType) {
+        String type = normalizeType(cohortType);
+
+        lock.readLock().lock();
+        try {
+            Member member = members.get(studentId);
+            String cohort = member == null ? null : cohortOf(member, type);
+            if (cohort == null) {
+                return null;
+            }
+
+            OrderStatisticTree tree = cohorts.get(cohortKey(type, cohort));
+            int rank = tree.countGreater(member.gpa()) + 1;
+            return toResponse(type, cohort, studentId, null, member.gpa(), rank, tree.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<RankingResponse> getLeaderboard(String cohortType, String cohort, int limit) {
+        String type = normalizeType(cohortType);
+
+        List<RankingResponse> leaderboard = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            OrderStatisticTree tree = cohorts.get(cohortKey(type, cohort));
+            if (tree == null) {
+                return leaderboard;
+            }
+
+            for (OrderStatisticTree.Entry entry : tree.top(limit)) {
+                int rank = tree.countGreater(entry.value()) + 1;
+                leaderboard.add(toResponse(type, cohort, entry.id(), null, entry.value(), rank, tree.size()));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        // 只為前 k 名查詢姓名
+        Map<String, String> names = studentRepository.findAllById(
+                        leaderboard.stream().map(RankingResponse::getStudentId).toList())
+                .stream()
+                .collect(Collectors.toMap(Student::getStudentId, Student::getStudentName));
+        leaderboard.forEach(item -> item.setStudentName(names.get(item.getStudentId())));
+        return leaderboard;
+    }
+
+    @Override
+    public Map<String, Integer> getCohortSizes() {
+        lock.readLock().lock();
+        try {
+            Map<String, Integer> sizes = new TreeMap<>();
+            cohorts.forEach((key, tree) -> sizes.put(key, tree.size()));
+            return sizes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        Map<String, Member> loaded = new HashMap<>();
+        newTemplate().executeWithoutResult(status -> {
+            try (Stream<Object[]> rows = gradeRepository.streamWeightedScoresByStudent()) {
+                rows.forEach(row -> {
+                    Double gpa = gpa((BigDecimal) row[3], (BigDecimal) row[4]);
+                    if (gpa != null) {
+                        loaded.put((String) row[0], new Member((Integer) row[1], (String) row[2], gpa));
+                    }
+                });
+            }
+        });
+
+        lock.writeLock().lock();
+        try {
+            members.clear();
+            cohorts.clear();
+            loaded.forEach(this::place);
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("GPA 排名索引建立完成：{} 位學生、{} 個群體", loaded.size(), cohorts.size());
+    }
+
+    /**
+     * 成績或學生資料異動後更新該學生的排名（交易提交後才執行）
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        if (event.entity() instanceof Grade grade) {
+            String studentId;
+            try {
+                studentId = grade.getEnrollment().getStudent().getStudentId();
+            } catch (RuntimeException e) {
+                log.warn("無法判斷成績所屬學生，重建 GPA 排名索引: {}", e.getMessage());
+                rebuild();
+                return;
+            }
+            refresh(studentId);
+        } else if (event.entity() instanceof Student student) {
+            if (event.changeType() == ChangeType.DELETED) {
+                update(student.getStudentId(), null);
+            } else {
+                refresh(student.getStudentId());
+            }
+        }
+    }
+
+    /**
+     * 班級成績批次異動後以一次查詢重新計算整班學生的 GPA，並在同一次寫入鎖內更新所屬群體
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGradesBulkChanged(GradesBulkChangedEvent event) {
+        Set<String> studentIds = new HashSet<>();
+        try {
+            for (Grade grade : event.grades()) {
+                studentIds.add(grade.getEnrollment().getStudent().getStudentId());
+            }
+        } catch (RuntimeException e) {
+            log.warn("無法判斷成績所屬學生，重建 GPA 排名索引: {}", e.getMessage());
+            rebuild();
+            return;
+        }
+
+        Map<String, Member> refreshed = new HashMap<>();
+        newTemplate().executeWithoutResult(status -> {
+            for (Object[] row : gradeRepository.sumWeightedScoresByStudentIds(studentIds)) {
+                Double gpa = gpa((BigDecimal) row[3], (BigDecimal) row[4]);
+                if (gpa != null) {
+                    refreshed.put((String) row[0], new Member((Integer) row[1], (String) row[2], gpa));
+                }
+            }
+        });
+
+        lock.writeLock().lock();
+        try {
+            for (String studentId : studentIds) {
+                Member previous = members.remove(studentId);
+                if (previous != null) {
+                    displace(studentId, previous);
+                }
+                Member member = refreshed.get(studentId);
+                if (member != null) {
+                    place(studentId, member);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 重新計算單一學生的 GPA 並更新所屬群體
+     */
+    private void refresh(String studentId) {
+        // 交易提交後的回呼中仍綁定著原交易，必須另開新交易查詢
+        Member member = newTemplate().execute(status -> {
+            Student student = studentRepository.findById(studentId).orElse(null);
+            if (student == null) {
+                return null;
+            }
+            List<Object[]> sums = gradeRepository.sumWeightedScoresByStudentId(studentId);
+            Object[] row = sums.isEmpty() ? new Object[2] : sums.get(0);
+            Double gpa = gpa((BigDecimal) row[0], (BigDecimal) row[1]);
+            return gpa == null ? null : new Member(student.getEnrollmentYear(), student.getDepartment(), gpa);
+        });
+        update(studentId, member);
+    }
+
+    private void update(String studentId, Member member) {
+        lock.writeLock().lock();
+        try {
+            Member previous = members.remove(studentId);
+            if (previous != null) {
+                displace(studentId, previous);
+            }
+            if (member != null) {
+                place(studentId, member);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void place(String studentId, Member member) {
+        members.put(studentId, member);
+        for (String type : List.of(YEAR, DEPARTMENT)) {
+            String cohort = cohortOf(member, type);
+            if (cohort != null) {
+                cohorts.computeIfAbsent(cohortKey(type, cohort), key -> new OrderStatisticTree())
+                        .insert(studentId, member.gpa());
+            }
+        }
+    }
+
+    private void displace(String studentId, Member member) {
+        for (String type : List.of(YEAR, DEPARTMENT)) {
+            String cohort = cohortOf(member, type);
+            if (cohort == null) {
+                continue;
+            }
+            String key = cohortKey(type, cohort);
+            OrderStatisticTree tree = cohorts.get(key);
+            if (tree != null) {
+                tree.remove(studentId, member.gpa());
+                if (tree.size() == 0) {
+                    cohorts.remove(key);
+                }
+            }
+        }
+    }
+
+    private TransactionTemplate newTemplate() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        template.setReadOnly(true);
+        return template;
+    }
+
+    private static RankingResponse toResponse(String type, String cohort, String studentId, String studentName,
+                                              double gpa, int rank, int size) {
+        double percentile = Math.round(10000.0 * (size - rank + 1) / size) / 100.0;
+        return RankingResponse.builder()
+                .cohortType(type)
+                .cohort(cohort)
+                .studentId(studentId)
+                .studentName(studentName)
+                .gpa(gpa)
+                .rank(rank)
+                .cohortSize(size)
+                .percentile(percentile)
+                .build();
+    }
+
+    private static Double gpa(BigDecimal weightedSum, BigDecimal credits) {
+        if (weightedSum == null || credits == null || credits.signum() == 0) {
+            return null;
+        }
+        return weightedSum.divide(credits, 2, RoundingMode.HALF_UP).doubleValue();
+    }
+
+    private static String cohortOf(Member member, String type) {
+        Object value = YEAR.equals(type) ? member.enrollmentYear() : member.department();
+        return value == null || value.toString().isBlank() ? null : value.toString();
+    }
+
+    private static String cohortKey(String type, String cohort) {
+        return type + ":" + cohort;
+    }
+
+    private static String normalizeType(String cohortType) {
+        String type = cohortType == null ? "" : cohortType.toUpperCase(Locale.ROOT);
+        if (!YEAR.equals(type) && !DEPARTMENT.equals(type)) {
+            throw new IllegalArgumentException("無效的群體類型: " + cohortType + "（可用: YEAR、DEPARTMENT）");
+        }
+        return type;
+    }
+}
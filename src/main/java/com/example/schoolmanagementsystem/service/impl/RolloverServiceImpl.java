@@ -0,0 +1,256 @@
+package com.example.schoolmanagementsystem.service.impl;
+
+import com.example.schoolmanagementsystem.dto.request.RolloverRequest;
+import com.example.schoolmanagementsystem.dto.response.RolloverResponse;
+import com.example.schoolmanagementsystem.event.ClassesBulkCreatedEvent;
+import com.example.schoolmanagementsystem.exception.ResourceConflictException;
+import com.example.schoolmanagementsystem.exception.ResourceNotFoundException;
+import com.example.schoolmanagementsystem.model.Teacher;
+import com.example.schoolmanagementsystem.repository.ClassInfoRepository;
+import com.example.schoolmanagementsystem.repository.TeacherRepository;
+import com.example.schoolmanagementsystem.service.RolloverService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 學期轉換服務實作類別
+ * 以一次投影查詢讀出來源學期的所有班級，在記憶體中套用停開、教師替換與個別調整後，
+ * 以 JDBC 批次 INSERT 在同一交易內寫入目標學期；試算時走相同流程但不寫入，回傳逐班差異。
+ * 沿用原時段時，新班級的教室或教師與目標學期既有班級、或與先前的新班級同時段重疊者標記為衝突，
+ * 有任何衝突時拒絕寫入
+ *
+ * JDBC 寫入不經過 JPA 實體監聽器：寫入後發布一個目標學期的班級批次新增事件，
+ * 由教室索引、選課圖、教師儀表板等訂閱端各自更新該學期的資料
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RolloverServiceImpl implements RolloverService {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String INSERT_SQL = "INSERT INTO Classes " +
+            "(academic_year, semester, capacity, meeting_day, meeting_slot, course_id, teacher_id, room_code) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final ClassInfoRepository classInfoRepository;
+    private final TeacherRepository teacherRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * 要寫入目標學期的班級
+     */
+    private record NewSection(Integer capacity, Integer meetingDay, Integer meetingSlot,
+                              String courseId, String teacherId, String roomCode) {
+    }
+
+    @Override
+    public RolloverResponse rollover(RolloverRequest request) {
+        if (request.getSourceAcademicYear().equals(request.getTargetAcademicYear())
+                && request.getSourceSemester().equals(request.getTargetSemester())) {
+            throw new IllegalArgumentException("來源學期與目標學期不可相同");
+        }
+        boolean apply = Boolean.TRUE.equals(request.getApply());
+        boolean copySchedule = !Boolean.FALSE.equals(request.getCopySchedule());
+        long start = System.currentTimeMillis();
+
+        Map<Integer, RolloverRequest.SectionOverride> overrides = new HashMap<>();
+        for (RolloverRequest.SectionOverride override : request.getSectionOverrides()) {
+            overrides.put(override.getSourceClassId(), override);
+        }
+        requireTeachers(request);
+        Set<String> droppedCourses = new HashSet<>(request.getDroppedCourseIds());
+
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(!apply);
+        RolloverResponse response = template.execute(status -> {
+            List<Object[]> sourceRows = classInfoRepository.findRolloverRows(
+                    request.getSourceAcademicYear(), request.getSourceSemester());
+            if (sourceRows.isEmpty()) {
+                throw new ResourceNotFoundException(String.format("來源學期 %d-%s 沒有開課班級",
+                        request.getSourceAcademicYear(), request.getSourceSemester()));
+            }
+
+            // 目標學期已開設的（課程、教師）組合，以及已占用的（教室、時段）與（教師、時段）
+            Set<String> existing = new HashSet<>();
+            Set<String> occupied = new HashSet<>();
+            for (Object[] row : classInfoRepository.findTermSchedules(
+                    request.getTargetAcademicYear(), request.getTargetSemester())) {
+                existing.add(row[0] + "|" + row[1]);
+                occupy(occupied, (String) row[1], (Integer) row[2], (Integer) row[3], (String) row[4]);
+            }
+
+            // 1. 逐班套用調整，產生差異
+            List<RolloverResponse.Item> items = new ArrayList<>(sourceRows.size());
+            List<NewSection> sections = new ArrayList<>();
+            int dropped = 0;
+            int skipped = 0;
+            int conflicts = 0;
+            for (Object[] row : sourceRows) {
+                Integer classId = (Integer) row[0];
+                String courseId = (String) row[1];
+                String previousTeacher = (String) row[3];
+                Integer previousCapacity = (Integer) row[4];
+                RolloverRequest.SectionOverride override = overrides.get(classId);
+
+                String teacherId = request.getTeacherSwaps().getOrDefault(previousTeacher, previousTeacher);
+                Integer capacity = previousCapacity;
+                if (override != null) {
+                    teacherId = override.getTeacherId() != null ? override.getTeacherId() : teacherId;
+                    capacity = override.getCapacity() != null ? override.getCapacity() : capacity;
+                }
+
+                Integer meetingDay = copySchedule ? (Integer) row[5] : null;
+                Integer meetingSlot = copySchedule ? (Integer) row[6] : null;
+                String roomCode = copySchedule ? (String) row[7] : null;
+
+                String action;
+                String reason = null;
+                if (droppedCourses.contains(courseId) || override != null && override.isDrop()) {
+                    action = "DROP";
+                    dropped++;
+                } else if (existing.contains(courseId + "|" + teacherId)) {
+                    action = "SKIP_EXISTING";
+                    skipped++;
+                } else {
+                    reason = findConflict(occupied, teacherId, meetingDay, meetingSlot, roomCode);
+                    if (reason != null) {
+                        action = "CONFLICT";
+                        conflicts++;
+                    } else {
+                        action = "CREATE";
+                        occupy(occupied, teacherId, meetingDay, meetingSlot, roomCode);
+                        sections.add(new NewSection(capacity, meetingDay, meetingSlot, courseId, teacherId, roomCode));
+                    }
+                }
+
+                items.add(RolloverResponse.Item.builder()
+                        .sourceClassId(classId)
+                        .courseId(courseId)
+                        .courseName((String) row[2])
+                        .action(action)
+                        .teacherId(teacherId)
+                        .previousTeacherId(previousTeacher)
+                        .capacity(capacity)
+                        .previousCapacity(previousCapacity)
+                        .reason(reason)
+                        .build());
+            }
+            if (apply && conflicts > 0) {
+                throw new ResourceConflictException(String.format(
+                        "有 %d 個班級與目標學期的教室或教師時段衝突，請先以試算檢視並調整後再執行", conflicts));
+            }
+
+            // 2. 批次寫入（同一交易）
+            if (apply && !sections.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_SQL, sections, BATCH_SIZE, (ps, section) -> {
+                    ps.setInt(1, request.getTargetAcademicYear());
+                    ps.setString(2, request.getTargetSemester());
+                    ps.setInt(3, section.capacity());
+                    setNullableInt(ps, 4, section.meetingDay());
+                    setNullableInt(ps, 5, section.meetingSlot());
+                    ps.setString(6, section.courseId());
+                    ps.setString(7, section.teacherId());
+                    ps.setString(8, section.roomCode());
+                });
+                eventPublisher.publishEvent(new ClassesBulkCreatedEvent(
+                        request.getTargetAcademicYear(), request.getTargetSemester()));
+            }
+
+            return RolloverResponse.builder()
+                    .sourceTerm(request.getSourceAcademicYear() + "-" + request.getSourceSemester())
+                    .targetTerm(request.getTargetAcademicYear() + "-" + request.getTargetSemester())
+                    .applied(apply)
+                    .created(sections.size())
+                    .dropped(dropped)
+                    .skipped(skipped)
+                    .conflicts(conflicts)
+                    .items(items)
+                    .build();
+        });
+
+        response.setElapsedMillis(System.currentTimeMillis() - start);
+
+        log.info("學期轉換{} {} → {}：新增 {}、停開 {}、略過 {}、衝突 {}，耗時 {} ms", apply ? "" : "（試算）",
+                response.getSourceTerm(), response.getTargetTerm(), response.getCreated(),
+                response.getDropped(), response.getSkipped(), response.getConflicts(), response.getElapsedMillis());
+        return response;
+    }
+
+    /**
+     * 確認替換與調整指定的教師都存在
+     */
+    private void requireTeachers(RolloverRequest request) {
+        Set<String> teacherIds = new HashSet<>(request.getTeacherSwaps().values());
+        for (RolloverRequest.SectionOverride override : request.getSectionOverrides()) {
+            if (override.getTeacherId() != null) {
+                teacherIds.add(override.getTeacherId());
+            }
+        }
+        if (teacherIds.isEmpty()) {
+            return;
+        }
+        for (Teacher teacher : teacherRepository.findAllById(teacherIds)) {
+            teacherIds.remove(teacher.getTeacherId());
+        }
+        if (!teacherIds.isEmpty()) {
+            throw new ResourceNotFoundException("找不到教師: " + String.join(", ", teacherIds));
+        }
+    }
+
+    /**
+     * 登記班級占用的（教師、時段）與（教室、時段）；尚未排定時段的班級不占用
+     */
+    private static void occupy(Set<String> occupied, String teacherId, Integer day, Integer slot, String roomCode) {
+        if (day == null || slot == null) {
+            return;
+        }
+        occupied.add("T|" + teacherId + "|" + day + "|" + slot);
+        if (roomCode != null) {
+            occupied.add("R|" + roomCode + "|" + day + "|" + slot);
+        }
+    }
+
+    /**
+     * 檢查新班級的教師或教室在該時段是否已被占用
+     * @return 衝突原因，沒有衝突時為 null
+     */
+    private static String findConflict(Set<String> occupied, String teacherId, Integer day, Integer slot,
+                                       String roomCode) {
+        if (day == null || slot == null) {
+            return null;
+        }
+        if (occupied.contains("T|" + teacherId + "|" + day + "|" + slot)) {
+            return String.format("教師 %s 在星期 %d 第 %d 時段已有課程", teacherId, day, slot);
+        }
+        if (roomCode != null && occupied.contains("R|" + roomCode + "|" + day + "|" + slot)) {
+            return String.format("教室 %s 在星期 %d 第 %d 時段已被占用", roomCode, day, slot);
+        }
+        return null;
+    }
+
+    private static void setNullableInt(PreparedStatement ps, int index, Integer value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.INTEGER);
+        } else {
+            ps.setInt(index, value);
+        }
+    }
+}
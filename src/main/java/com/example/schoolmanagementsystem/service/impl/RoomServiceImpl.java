@@ -0,0 +1,555 @@
+package com.example.schoolmanagementsystem.service.impl;
+
+import com.example.schoolmanagementsystem.dto.request.RoomBookingRequest;
+import com.example.schoolmanagementsystem.dto.request.RoomRequest;
+import com.example.schoolmanagementsystem.dto.response.FreeSlotResponse;
+import com.example.schoolmanagementsystem.dto.response.RoomBookingResponse;
+import com.example.schoolmanagementsystem.dto.response.RoomResponse;
+import com.example.schoolmanagementsystem.event.ClassesBulkCreatedEvent;
+import com.example.schoolmanagementsystem.event.EntityChangedEvent;
+import com.example.schoolmanagementsystem.event.EntityChangedEvent.ChangeType;
+import com.example.schoolmanagementsystem.exception.DuplicateResourceException;
+import com.example.schoolmanagementsystem.exception.ResourceConflictException;
+import com.example.schoolmanagementsystem.exception.ResourceNotFoundException;
+import com.example.schoolmanagementsystem.model.ClassInfo;
+import com.example.schoolmanagementsystem.model.Room;
+import com.example.schoolmanagementsystem.model.RoomBooking;
+import com.example.schoolmanagementsystem.repository.ClassInfoRepository;
+import com.example.schoolmanagementsystem.repository.RoomBookingRepository;
+import com.example.schoolmanagementsystem.repository.RoomRepository;
+import com.example.schoolmanagementsystem.service.RoomService;
+import com.example.schoolmanagementsystem.util.AcademicTerms;
+import com.example.schoolmanagementsystem.util.IntervalTree;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * 教室服務實作類別
+ * 每間教室在記憶體中維護兩棵區間樹：
+ * 臨時預約（以分鐘為單位的絕對時間）與各學期的每週上課時段（以「一週內第幾分鐘」表示），
+ * 重疊檢查與空檔查詢皆為 O(log n + k)，不需掃描預約資料表
+ *
+ * 預約的檢查、寫入與索引更新在同一間教室的鎖內完成，同一教室的並行預約不會重複核准；
+ * 索引只在本應用程式實例內有效，多實例部署時需改以資料庫鎖保護
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RoomServiceImpl implements RoomService {
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    private final RoomRepository roomRepository;
+    private final RoomBookingRepository roomBookingRepository;
+    private final ClassInfoRepository classInfoRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${app.rooms.slot-times:08:10-10:00,10:10-12:00,13:10-15:00,15:10-17:00,17:10-19:00,19:10-21:00}")
+    private String slotTimes;
+
+    // 重建索引時持有寫鎖；一般查詢與預約持有讀鎖，再以教室為單位同步
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, RoomSchedule> schedules = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<Integer, Set<String>> roomsByCapacity = new ConcurrentSkipListMap<>();
+    private final Map<Integer, Meeting> meetingsByClass = new ConcurrentHashMap<>();
+
+    private volatile int[][] slotWindows;
+
+    /**
+     * 單一教室的占用索引（以物件本身作為同步鎖）
+     */
+    private static final class RoomSchedule {
+        private final String roomCode;
+        private String roomName;
+        private int capacity;
+        private final IntervalTree bookings = new IntervalTree();
+        private final Map<String, IntervalTree> meetings = new HashMap<>();
+
+        private RoomSchedule(String roomCode, String roomName, int capacity) {
+            this.roomCode = roomCode;
+            this.roomName = roomName;
+            this.capacity = capacity;
+        }
+    }
+
+    /**
+     * 班級的每週上課時段
+     * @param term 學期鍵值（學年-學期）
+     * @param start 一週內的起始分鐘
+     * @param end 一週內的結束分鐘
+     */
+    private record Meeting(String roomCode, String term, long start, long end) {
+    }
+
+    @Override
+    public RoomResponse createRoom(RoomRequest request) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        Room room = template.execute(status -> {
+            if (roomRepository.existsById(request.getRoomCode())) {
+                throw new DuplicateResourceException("教室", "roomCode", request.getRoomCode());
+            }
+            return roomRepository.save(Room.builder()
+                    .roomCode(request.getRoomCode())
+                    .roomName(request.getRoomName())
+                    .capacity(request.getCapacity())
+                    .build());
+        });
+
+        putRoom(room);
+        log.info("建立教室: {}（{} 人）", room.getRoomCode(), room.getCapacity());
+        return toResponse(room);
+    }
+
+    @Override
+    public RoomResponse updateRoom(String roomCode, RoomRequest request) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        Room room = template.execute(status -> {
+            Room existing = roomRepository.findById(roomCode)
+                    .orElseThrow(() -> new ResourceNotFoundException("教室", "roomCode", roomCode));
+            existing.setRoomName(request.getRoomName());
+            existing.setCapacity(request.getCapacity());
+            return roomRepository.save(existing);
+        });
+
+        putRoom(room);
+        log.info("更新教室: {}（{} 人）", room.getRoomCode(), room.getCapacity());
+        return toResponse(room);
+    }
+
+    @Override
+    public List<RoomResponse> getAllRooms() {
+        return roomRepository.findAll().stream()
+                .sorted(Comparator.comparing(Room::getRoomCode))
+                .map(this::toResponse)
+                .toList();
+    }
+
+    @Override
+    public List<RoomResponse> findAvailableRooms(LocalDateTime start, LocalDateTime end, int minCapacity) {
+        validatePeriod(start, end);
+
+        List<RoomResponse> available = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            // 由容量最接近需求的教室開始，只檢查容量足夠的教室
+            for (Set<String> roomCodes : roomsByCapacity.tailMap(minCapacity, true).values()) {
+                for (String roomCode : roomCodes) {
+                    RoomSchedule schedule = schedules.get(roomCode);
+                    if (schedule == null) {
+                        continue;
+                    }
+                    synchronized (schedule) {
+                        if (findConflict(schedule, start, end) == null) {
+                            available.add(RoomResponse.builder()
+                                    .roomCode(schedule.roomCode)
+                                    .roomName(schedule.roomName)
+                                    .capacity(schedule.capacity)
+                                    .build());
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return available;
+    }
+
+    @Override
+    public List<FreeSlotResponse> findFreeSlots(String roomCode, LocalDate date, LocalTime from, LocalTime to,
+                                                int minMinutes) {
+        if (!to.isAfter(from)) {
+            throw new IllegalArgumentException("查詢結束時刻必須晚於起始時刻");
+        }
+
+        long dayStart = epochMinute(date.atStartOfDay());
+        long rangeStart = dayStart + minuteOfDay(from);
+        long rangeEnd = dayStart + minuteOfDay(to);
+        // 本週一 00:00 的絕對分鐘，用來把每週上課時段換算成當天的絕對時間
+        long weekStart = dayStart - (long) (date.getDayOfWeek().getValue() - 1) * MINUTES_PER_DAY;
+
+        List<long[]> busy = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            RoomSchedule schedule = requireSchedule(roomCode);
+            synchronized (schedule) {
+                for (IntervalTree.Interval booking : schedule.bookings.overlapping(rangeStart, rangeEnd)) {
+                    busy.add(new long[]{booking.start(), booking.end()});
+                }
+                IntervalTree meetings = schedule.meetings.get(termOf(date));
+                if (meetings != null) {
+                    for (IntervalTree.Interval meeting
+                            : meetings.overlapping(rangeStart - weekStart, rangeEnd - weekStart)) {
+                        busy.add(new long[]{weekStart + meeting.start(), weekStart + meeting.end()});
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        busy.sort(Comparator.comparingLong(interval -> interval[0]));
+        List<FreeSlotResponse> freeSlots = new ArrayList<>();
+        long cursor = rangeStart;
+        for (long[] interval : busy) {
+            addFreeSlot(freeSlots, roomCode, cursor, Math.min(interval[0], rangeEnd), minMinutes);
+            cursor = Math.max(cursor, interval[1]);
+        }
+        addFreeSlot(freeSlots, roomCode, cursor, rangeEnd, minMinutes);
+        return freeSlots;
+    }
+
+    @Override
+    public RoomBookingResponse createBooking(String roomCode, RoomBookingRequest request) {
+        LocalDateTime start = request.getStartTime();
+        LocalDateTime end = request.getEndTime();
+        validatePeriod(start, end);
+        if (start.isBefore(LocalDateTime.now())) {
+            throw new IllegalArgumentException("不可預約已經開始的時段");
+        }
+
+        lock.readLock().lock();
+        try {
+            RoomSchedule schedule = requireSchedule(roomCode);
+            synchronized (schedule) {
+                String conflict = findConflict(schedule, start, end);
+                if (conflict != null) {
+                    throw new ResourceConflictException("教室 " + roomCode + " 在此時段已被占用：" + conflict);
+                }
+
+                TransactionTemplate template = new TransactionTemplate(transactionManager);
+                RoomBooking saved = template.execute(status -> roomBookingRepository.save(RoomBooking.builder()
+                        .room(roomRepository.getReferenceById(roomCode))
+                        .startTime(start)
+                        .endTime(end)
+                        .purpose(request.getPurpose())
+                        .bookedBy(request.getBookedBy())
+                        .createdAt(LocalDateTime.now())
+                        .build()));
+
+                schedule.bookings.insert(epochMinute(start), epochMinute(end), saved.getBookingId());
+                log.info("教室預約成功: {} {} ~ {}（預約ID: {}）", roomCode, start, end, saved.getBookingId());
+                return toResponse(saved, roomCode);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void cancelBooking(Long bookingId) {
+        TransactionTemplate readTemplate = new TransactionTemplate(transactionManager);
+        readTemplate.setReadOnly(true);
+        RoomBookingResponse booking = readTemplate.execute(status -> roomBookingRepository.findById(bookingId)
+                .map(b -> toResponse(b, b.getRoom().getRoomCode()))
+                .orElseThrow(() -> new ResourceNotFoundException("教室預約", "bookingId", bookingId)));
+
+        TransactionTemplate writeTemplate = new TransactionTemplate(transactionManager);
+        lock.readLock().lock();
+        try {
+            RoomSchedule schedule = requireSchedule(booking.getRoomCode());
+            synchronized (schedule) {
+                writeTemplate.executeWithoutResult(status -> roomBookingRepository.deleteById(bookingId));
+                schedule.bookings.remove(epochMinute(booking.getStartTime()), bookingId);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        log.info("取消教室預約: {}（{}）", bookingId, booking.getRoomCode());
+    }
+
+    /**
+     * 啟動時建立索引，之後每天凌晨重建一次以清除已結束的預約
+     */
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 30 3 * * *")
+    public void rebuildIndex() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+
+        lock.writeLock().lock();
+        try {
+            schedules.clear();
+            roomsByCapacity.clear();
+            meetingsByClass.clear();
+
+            template.executeWithoutResult(status -> {
+                roomRepository.findAll().forEach(this::putRoom);
+                classInfoRepository.findRoomMeetings().forEach(this::putMeeting);
+                try (Stream<Object[]> rows = roomBookingRepository.streamActive(LocalDateTime.now())) {
+                    rows.forEach(row -> {
+                        RoomSchedule schedule = schedules.get((String) row[1]);
+                        if (schedule != null) {
+                            schedule.bookings.insert(epochMinute((LocalDateTime) row[2]),
+                                    epochMinute((LocalDateTime) row[3]), (Long) row[0]);
+                        }
+                    });
+                }
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("教室占用索引建立完成：{} 間教室、{} 個班級時段", schedules.size(), meetingsByClass.size());
+    }
+
+    /**
+     * 班級的教室或上課時段異動後更新索引（交易提交後才執行）
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        if (!(event.entity() instanceof ClassInfo classInfo) || classInfo.getClassId() == null) {
+            return;
+        }
+
+        Integer classId = classInfo.getClassId();
+        List<Object[]> rows = event.changeType() == ChangeType.DELETED ? List.of()
+                : newTemplate().execute(status -> classInfoRepository.findRoomMeetingByClassId(classId));
+
+        lock.readLock().lock();
+        try {
+            removeMeeting(classId);
+            rows.forEach(this::putMeeting);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 學期轉換批次新增班級後，載入該學期已排定教室與時段的班級（交易提交後才執行）
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onClassesBulkCreated(ClassesBulkCreatedEvent event) {
+        List<Object[]> rows = newTemplate().execute(status ->
+                classInfoRepository.findRoomMeetingsByTerm(event.academicYear(), event.semester()));
+
+        lock.readLock().lock();
+        try {
+            for (Object[] row : rows) {
+                removeMeeting((Integer) row[0]);
+                putMeeting(row);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        log.debug("教室占用索引載入 {}-{} 學期 {} 個班級時段", event.academicYear(), event.semester(), rows.size());
+    }
+
+    /**
+     * 檢查時段是否與預約或上課時段重疊（呼叫端需持有教室的鎖）
+     * @return 衝突說明；沒有衝突時為 null
+     */
+    private String findConflict(RoomSchedule schedule, LocalDateTime start, LocalDateTime end) {
+        List<IntervalTree.Interval> bookings = schedule.bookings.overlapping(epochMinute(start), epochMinute(end));
+        if (!bookings.isEmpty()) {
+            return "預約 #" + bookings.get(0).id();
+        }
+
+        IntervalTree meetings = schedule.meetings.get(termOf(start.toLocalDate()));
+        if (meetings != null) {
+            long weekMinute = weekMinute(start);
+            long duration = epochMinute(end) - epochMinute(start);
+            List<IntervalTree.Interval> classes = meetings.overlapping(weekMinute, weekMinute + duration);
+            if (!classes.isEmpty()) {
+                return "班級 #" + classes.get(0).id() + " 上課時段";
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 新增或更新教室（保留既有的預約與上課時段）
+     */
+    private void putRoom(Room room) {
+        RoomSchedule schedule = schedules.computeIfAbsent(room.getRoomCode(),
+                code -> new RoomSchedule(code, room.getRoomName(), room.getCapacity()));
+        synchronized (schedule) {
+            removeFromCapacity(schedule.capacity, schedule.roomCode);
+            schedule.roomName = room.getRoomName();
+            schedule.capacity = room.getCapacity();
+            roomsByCapacity.computeIfAbsent(schedule.capacity, capacity -> ConcurrentHashMap.newKeySet())
+                    .add(schedule.roomCode);
+        }
+    }
+
+    private void removeFromCapacity(int capacity, String roomCode) {
+        roomsByCapacity.computeIfPresent(capacity, (key, roomCodes) -> {
+            roomCodes.remove(roomCode);
+            return roomCodes.isEmpty() ? null : roomCodes;
+        });
+    }
+
+    /**
+     * 加入班級的每週上課時段
+     * @param row [班級ID, 教室代碼, 學年, 學期, 星期, 時段]
+     */
+    private void putMeeting(Object[] row) {
+        Integer classId = (Integer) row[0];
+        RoomSchedule schedule = schedules.get((String) row[1]);
+        int day = (Integer) row[4];
+        int slot = (Integer) row[5];
+        int[][] windows = slotWindows();
+        if (schedule == null || day < 1 || day > 7 || slot < 1 || slot > windows.length) {
+            log.warn("班級 {} 的教室或上課時段無法對應（教室 {}、星期 {}、第 {} 時段），不列入占用索引",
+                    classId, row[1], day, slot);
+            return;
+        }
+
+        long dayOffset = (long) (day - 1) * MINUTES_PER_DAY;
+        Meeting meeting = new Meeting(schedule.roomCode, termKey((Integer) row[2], (String) row[3]),
+                dayOffset + windows[slot - 1][0], dayOffset + windows[slot - 1][1]);
+        synchronized (schedule) {
+            schedule.meetings.computeIfAbsent(meeting.term(), term -> new IntervalTree())
+                    .insert(meeting.start(), meeting.end(), classId);
+        }
+        meetingsByClass.put(classId, meeting);
+    }
+
+    private void removeMeeting(Integer classId) {
+        Meeting meeting = meetingsByClass.remove(classId);
+        if (meeting == null) {
+            return;
+        }
+        RoomSchedule schedule = schedules.get(meeting.roomCode());
+        if (schedule == null) {
+            return;
+        }
+        synchronized (schedule) {
+            IntervalTree meetings = schedule.meetings.get(meeting.term());
+            if (meetings != null) {
+                meetings.remove(meeting.start(), classId);
+            }
+        }
+    }
+
+    private RoomSchedule requireSchedule(String roomCode) {
+        RoomSchedule schedule = schedules.get(roomCode);
+        if (schedule == null) {
+            throw new ResourceNotFoundException("教室", "roomCode", roomCode);
+        }
+        return schedule;
+    }
+
+    private static void validatePeriod(LocalDateTime start, LocalDateTime end) {
+        if (!end.isAfter(start)) {
+            throw new IllegalArgumentException("結束時間必須晚於開始時間");
+        }
+        if (!start.toLocalDate().equals(end.toLocalDate())) {
+            throw new IllegalArgumentException("開始與結束時間必須在同一天");
+        }
+    }
+
+    private static void addFreeSlot(List<FreeSlotResponse> freeSlots, String roomCode,
+                                    long start, long end, int minMinutes) {
+        if (end - start >= Math.max(1, minMinutes)) {
+            freeSlots.add(FreeSlotResponse.builder()
+                    .roomCode(roomCode)
+                    .startTime(fromEpochMinute(start))
+                    .endTime(fromEpochMinute(end))
+                    .minutes((int) (end - start))
+                    .build());
+        }
+    }
+
+    @Override
+    public int slotsPerDay() {
+        return slotWindows().length;
+    }
+
+    /**
+     * 各時段的起訖分鐘（當天第幾分鐘），由 app.rooms.slot-times 解析
+     */
+    private int[][] slotWindows() {
+        int[][] windows = slotWindows;
+        if (windows == null) {
+            String[] parts = slotTimes.split(",");
+            windows = new int[parts.length][];
+            for (int i = 0; i < parts.length; i++) {
+                String[] range = parts[i].trim().split("-");
+                windows[i] = new int[]{minuteOfDay(LocalTime.parse(range[0].trim())),
+                        minuteOfDay(LocalTime.parse(range[1].trim()))};
+            }
+            slotWindows = windows;
+        }
+        return windows;
+    }
+
+    /**
+     * 日期所屬的學期
+     */
+    private static String termOf(LocalDate date) {
+        return termKey(AcademicTerms.academicYearOf(date), AcademicTerms.semesterOf(date));
+    }
+
+    private static String termKey(Integer academicYear, String semester) {
+        return academicYear + "-" + semester;
+    }
+
+    private static long epochMinute(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) / 60;
+    }
+
+    private static LocalDateTime fromEpochMinute(long minute) {
+        return LocalDateTime.ofEpochSecond(minute * 60, 0, ZoneOffset.UTC);
+    }
+
+    private static long weekMinute(LocalDateTime time) {
+        return (long) (time.getDayOfWeek().getValue() - 1) * MINUTES_PER_DAY + minuteOfDay(time.toLocalTime());
+    }
+
+    private static int minuteOfDay(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    private TransactionTemplate newTemplate() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        template.setReadOnly(true);
+        return template;
+    }
+
+    private RoomResponse toResponse(Room room) {
+        return RoomResponse.builder()
+                .roomCode(room.getRoomCode())
+                .roomName(room.getRoomName())
+                .capacity(room.getCapacity())
+                .build();
+    }
+
+    private static RoomBookingResponse toResponse(RoomBooking booking, String roomCode) {
+        return RoomBookingResponse.builder()
+                .bookingId(booking.getBookingId())
+                .roomCode(roomCode)
+                .startTime(booking.getStartTime())
+                .endTime(booking.getEndTime())
+                .purpose(booking.getPurpose())
+                .bookedBy(booking.getBookedBy())
+                .createdAt(booking.getCreatedAt())
+                .build();
+    }
+}
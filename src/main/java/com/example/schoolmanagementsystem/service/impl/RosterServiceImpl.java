@@ -0,0 +1,125 @@
+package com.example.schoolmanagementsystem.service.impl;
+
+import com.example.schoolmanagementsystem.dto.response.RosterEntryResponse;
+import com.example.schoolmanagementsystem.exception.ResourceNotFoundException;
+import com.example.schoolmanagementsystem.repository.ClassInfoRepository;
+import com.example.schoolmanagementsystem.repository.EnrollmentRepository;
+import com.example.schoolmanagementsystem.service.RosterService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 班級名冊服務實作類別
+ * 以單一投影查詢加上資料庫游標（固定 fetch size）逐列讀取，讀一列寫一列，
+ * 不載入選課、學生、使用者與成績實體，也不在記憶體中累積整個名冊
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RosterServiceImpl implements RosterService {
+
+    private static final String CSV_HEADER = "studentId,studentName,email,department,score";
+
+    private final EnrollmentRepository enrollmentRepository;
+    private final ClassInfoRepository classInfoRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void requireClass(Integer classId) {
+        if (!classInfoRepository.existsById(classId)) {
+            throw new ResourceNotFoundException("班級", "班級ID", classId);
+        }
+    }
+
+    @Override
+    public int writeRoster(Integer classId, Format format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        ObjectWriter jsonWriter = objectMapper.writerFor(RosterEntryResponse.class);
+
+        if (format == Format.CSV) {
+            // 加上 BOM，Excel 開啟時才會以 UTF-8 顯示中文姓名
+            writer.write('\uFEFF');
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        Integer written;
+        try {
+            written = template.execute(status -> {
+                int count = 0;
+                try (Stream<Object[]> rows = enrollmentRepository.streamRosterByClassId(classId)) {
+                    Iterator<Object[]> iterator = rows.iterator();
+                    while (iterator.hasNext()) {
+                        Object[] row = iterator.next();
+                        if (format == Format.CSV) {
+                            writeCsvRow(writer, row);
+                        } else {
+                            writer.write(jsonWriter.writeValueAsString(RosterEntryResponse.builder()
+                                    .studentId((String) row[0])
+                                    .studentName((String) row[1])
+                                    .email((String) row[2])
+                                    .department((String) row[3])
+                                    .score((BigDecimal) row[4])
+                                    .build()));
+                            writer.write('\n');
+                        }
+                        count++;
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return count;
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+
+        log.debug("匯出班級 {} 名冊：{} 位學生（{}）", classId, written, format);
+        return written == null ? 0 : written;
+    }
+
+    private static void writeCsvRow(Writer writer, Object[] row) throws IOException {
+        for (int i = 0; i < row.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Object value = row[i];
+            if (value instanceof BigDecimal score) {
+                writer.write(score.toPlainString());
+            } else if (value != null) {
+                writer.write(escapeCsv(value.toString()));
+            }
+        }
+        writer.write('\n');
+    }
+
+    /**
+     * 含逗號、引號或換行的欄位以雙引號包住，內部引號加倍
+     */
+    private static String escapeCsv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
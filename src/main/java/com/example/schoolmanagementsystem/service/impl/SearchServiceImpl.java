@@ -0,0 +1,131 @@
+package com.example.schoolmanagementsystem.service.impl;
+
+import com.example.schoolmanagementsystem.dto.response.SearchResultResponse;
+import com.example.schoolmanagementsystem.event.EntityChangedEvent;
+import com.example.schoolmanagementsystem.event.EntityChangedEvent.ChangeType;
+import com.example.schoolmanagementsystem.model.Course;
+import com.example.schoolmanagementsystem.model.Student;
+import com.example.schoolmanagementsystem.model.Teacher;
+import com.example.schoolmanagementsystem.repository.CourseRepository;
+import com.example.schoolmanagementsystem.repository.StudentRepository;
+import com.example.schoolmanagementsystem.repository.TeacherRepository;
+import com.example.schoolmanagementsystem.service.SearchService;
+import com.example.schoolmanagementsystem.util.NgramIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * 搜尋服務實作類別
+ * 課程、學生、教師名稱各自維護一份記憶體內的字元 n-gram 倒排索引，
+ * 啟動時以串流讀取建立，之後隨實體異動事件即時更新，查詢不需存取資料庫
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchServiceImpl implements SearchService {
+
+    private static final String COURSE = "COURSE";
+    private static final String STUDENT = "STUDENT";
+    private static final String TEACHER = "TEACHER";
+
+    private final CourseRepository courseRepository;
+    private final StudentRepository studentRepository;
+    private final TeacherRepository teacherRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private final Map<String, NgramIndex> indexes = Map.of(
+            COURSE, new NgramIndex(),
+            STUDENT, new NgramIndex(),
+            TEACHER, new NgramIndex());
+
+    @Override
+    public List<SearchResultResponse> search(String query, String type, int limit) {
+        List<String> types;
+        if (type == null || type.isBlank()) {
+            types = List.of(COURSE, STUDENT, TEACHER);
+        } else {
+            String upper = type.toUpperCase(Locale.ROOT);
+            if (!indexes.containsKey(upper)) {
+                throw new IllegalArgumentException("無效的搜尋類型: " + type + "（可用: COURSE、STUDENT、TEACHER）");
+            }
+            types = List.of(upper);
+        }
+
+        List<SearchResultResponse> results = new ArrayList<>();
+        for (String t : types) {
+            for (NgramIndex.Hit hit : indexes.get(t).search(query, limit)) {
+                results.add(SearchResultResponse.builder()
+                        .type(t)
+                        .id(hit.key())
+                        .name(hit.text())
+                        .score(Math.round(hit.score() * 1000.0) / 1000.0)
+                        .build());
+            }
+        }
+
+        results.sort(Comparator.comparingDouble(SearchResultResponse::getScore).reversed());
+        return results.size() > limit ? new ArrayList<>(results.subList(0, limit)) : results;
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIndexes() {
+        log.info("建立名稱搜尋索引...");
+        long start = System.currentTimeMillis();
+
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        template.executeWithoutResult(status -> {
+            load(indexes.get(COURSE), courseRepository.streamIdAndName());
+            load(indexes.get(STUDENT), studentRepository.streamIdAndName());
+            load(indexes.get(TEACHER), teacherRepository.streamIdAndName());
+        });
+
+        log.info("名稱搜尋索引建立完成：課程 {} 筆、學生 {} 筆、教師 {} 筆，耗時 {} ms",
+                indexes.get(COURSE).size(), indexes.get(STUDENT).size(), indexes.get(TEACHER).size(),
+                System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 實體異動後同步更新索引（交易提交後才執行）
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        boolean deleted = event.changeType() == ChangeType.DELETED;
+
+        if (event.entity() instanceof Course course) {
+            apply(indexes.get(COURSE), course.getCourseId(), course.getCourseName(), deleted);
+        } else if (event.entity() instanceof Student student) {
+            apply(indexes.get(STUDENT), student.getStudentId(), student.getStudentName(), deleted);
+        } else if (event.entity() instanceof Teacher teacher) {
+            apply(indexes.get(TEACHER), teacher.getTeacherId(), teacher.getTeacherName(), deleted);
+        }
+    }
+
+    private void apply(NgramIndex index, String key, String name, boolean deleted) {
+        if (deleted) {
+            index.remove(key);
+        } else {
+            index.put(key, name);
+        }
+    }
+
+    private void load(NgramIndex index, Stream<Object[]> rows) {
+        try (rows) {
+            rows.forEach(row -> index.put((String) row[0], (String) row[1]));
+        }
+    }
+}
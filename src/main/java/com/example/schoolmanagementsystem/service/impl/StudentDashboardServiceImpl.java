@@ -0,0 +1,77 @@
+package com.example.schoolmanagementsystem.service.impl;
+
+import com.example.schoolmanagementsystem.dto.response.EnrollmentResponse;
+import com.example.schoolmanagementsystem.dto.response.StudentDashboardResponse;
+import com.example.schoolmanagementsystem.dto.response.StudentResponse;
+import com.example.schoolmanagementsystem.model.LoginHistory;
+import com.example.schoolmanagementsystem.repository.LoginHistoryRepository;
+import com.example.schoolmanagementsystem.repository.StudentRepository;
+import com.example.schoolmanagementsystem.repository.TuitionBillRepository;
+import com.example.schoolmanagementsystem.service.StudentDashboardService;
+import com.example.schoolmanagementsystem.service.StudentService;
+import com.example.schoolmanagementsystem.util.TaskScope;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * 學生儀表板服務實作類別
+ * 各區塊互不相依，以虛擬執行緒同時查詢，回應時間取決於最慢的區塊而非總和
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StudentDashboardServiceImpl implements StudentDashboardService {
+
+    private final StudentService studentService;
+    private final StudentRepository studentRepository;
+    private final TuitionBillRepository tuitionBillRepository;
+    private final LoginHistoryRepository loginHistoryRepository;
+    private final ExecutorService virtualThreadExecutor;
+
+    @Value("${app.dashboard.branch-timeout-ms:2000}")
+    private long branchTimeoutMillis;
+
+    @Override
+    public StudentDashboardResponse getDashboard(String studentId) {
+        log.info("查詢學生 {} 的儀表板", studentId);
+
+        Duration timeout = Duration.ofMillis(branchTimeoutMillis);
+        List<String> unavailable = new ArrayList<>();
+
+        try (TaskScope scope = new TaskScope(virtualThreadExecutor)) {
+            TaskScope.Subtask<StudentResponse> profile = scope.fork("profile",
+                    () -> studentService.getStudentInfo(studentId), timeout);
+            TaskScope.Subtask<List<EnrollmentResponse>> enrollments = scope.fork("enrollments",
+                    () -> studentService.getEnrollments(studentId), timeout);
+            TaskScope.Subtask<BigDecimal> unpaidTuition = scope.fork("unpaidTuition",
+                    () -> Optional.ofNullable(tuitionBillRepository.calculateUnpaidAmount(studentId))
+                            .orElse(BigDecimal.ZERO), timeout);
+            TaskScope.Subtask<LocalDateTime> lastLogin = scope.fork("lastLogin",
+                    () -> studentRepository.findUserIdByStudentId(studentId)
+                            .flatMap(loginHistoryRepository::findTopByUserIdOrderByLoginTimeDesc)
+                            .map(LoginHistory::getLoginTime)
+                            .orElse(null), timeout);
+
+            // 基本資料為必要區塊：失敗（例如學生不存在）時離開範圍並取消其他區塊
+            StudentResponse studentInfo = profile.join();
+
+            return StudentDashboardResponse.builder()
+                    .profile(studentInfo)
+                    .enrollments(enrollments.joinOrDefault(List.of(), unavailable))
+                    .unpaidTuition(unpaidTuition.joinOrDefault(null, unavailable))
+                    .lastLoginTime(lastLogin.joinOrDefault(null, unavailable))
+                    .unavailableSections(unavailable)
+                    .build();
+        }
+    }
+}
@@ -2,11 +2,14 @@ package com.example.schoolmanagementsystem.service.impl;
 
 import com.example.schoolmanagementsystem.dto.request.EnrollmentRequest;
 import com.example.schoolmanagementsystem.dto.response.EnrollmentResponse;
+import com.example.schoolmanagementsystem.dto.response.RankingResponse;
 import com.example.schoolmanagementsystem.dto.response.StudentResponse;
 import com.example.schoolmanagementsystem.exception.DuplicateResourceException;
 import com.example.schoolmanagementsystem.exception.ResourceNotFoundException;
 import com.example.schoolmanagementsystem.model.*;
 import com.example.schoolmanagementsystem.repository.*;
+import com.example.schoolmanagementsystem.service.PrerequisiteService;
+import com.example.schoolmanagementsystem.service.RankingService;
 import com.example.schoolmanagementsystem.service.StudentService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,6 +18,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -31,6 +36,8 @@ public class StudentServiceImpl implements StudentService {
     private final EnrollmentRepository enrollmentRepository;
     private final GradeRepository gradeRepository;
     private final AuditLogRepository auditLogRepository;
+    private final RankingService rankingService;
+    private final PrerequisiteService prerequisiteService;
 
     @Override
     @Transactional(readOnly = true)
@@ -61,14 +68,26 @@ public class StudentServiceImpl implements StudentService {
 
         double gpa = totalCredits > 0 ? totalGradePoints / totalCredits : 0.0;
 
+        // 名次由記憶體內的排名索引提供，不需排序整個群體
+        RankingResponse yearRank = rankingService.getRank(studentId, RankingService.YEAR);
+        RankingResponse departmentRank = rankingService.getRank(studentId, RankingService.DEPARTMENT);
+
         return StudentResponse.builder()
                 .studentId(student.getStudentId())
                 .studentName(student.getStudentName())
                 .email(student.getUser().getEmail())
+                .department(student.getDepartment())
+                .enrollmentYear(student.getEnrollmentYear())
                 .currentCourses(currentCourses)
                 .completedCourses(completedCourses)
                 .totalCredits((int) totalCredits)
                 .gpa(Math.round(gpa * 100.0) / 100.0)  // 四捨五入到小數點後兩位
+                .yearRank(yearRank != null ? yearRank.getRank() : null)
+                .yearCohortSize(yearRank != null ? yearRank.getCohortSize() : null)
+                .yearPercentile(yearRank != null ? yearRank.getPercentile() : null)
+                .departmentRank(departmentRank != null ? departmentRank.getRank() : null)
+                .departmentCohortSize(departmentRank != null ? departmentRank.getCohortSize() : null)
+                .departmentPercentile(departmentRank != null ? departmentRank.getPercentile() : null)
                 .build();
     }
 
@@ -106,7 +125,15 @@ public class StudentServiceImpl implements StudentService {
             throw new IllegalArgumentException("選課失敗：課程時間衝突");
         }
 
-        // 6. 檢查學分上限（假設每學期最多 25 學分）
+        // 6. 檢查先修課程（含間接先修）
+        List<String> missingPrerequisites = prerequisiteService.getMissingPrerequisites(
+                request.getStudentId(), classInfo.getCourse().getCourseId());
+        if (!missingPrerequisites.isEmpty()) {
+            throw new IllegalArgumentException(
+                    "選課失敗：尚未通過先修課程 " + String.join("、", missingPrerequisites));
+        }
+
+        // 7. 檢查學分上限（假設每學期最多 25 學分）
         double currentCredits = calculateCurrentSemesterCredits(
                 request.getStudentId(),
                 classInfo.getAcademicYear(),
@@ -121,7 +148,7 @@ public class StudentServiceImpl implements StudentService {
             );
         }
 
-        // 7. 建立選課記錄
+        // 8. 建立選課記錄
         Enrollment enrollment = Enrollment.builder()
                 .student(student)
                 .classInfo(classInfo)
@@ -129,14 +156,14 @@ public class StudentServiceImpl implements StudentService {
 
         enrollment = enrollmentRepository.save(enrollment);
 
-        // 8. 記錄稽核日誌
+        // 9. 記錄稽核日誌
         recordAuditLog("ENROLL", "Enrollment", enrollment.getEnrollmentId().toString(),
                 student.getUser().getUserId(),
                 String.format("學生 %s 選修 %s", student.getStudentId(), classInfo.getCourse().getCourseName()));
 
         log.info("選課成功: 學生 {} 選修 {}", request.getStudentId(), classInfo.getCourse().getCourseName());
 
-        // 9. 建立回應
+        // 10. 建立回應
         return buildEnrollmentResponse(enrollment);
     }
 
@@ -210,6 +237,15 @@ public class StudentServiceImpl implements StudentService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getEnrollmentFields(
+            String studentId, Integer academicYear, String semester, Set<String> fields) {
+        log.info("查詢學生 {} 的選課記錄（欄位: {}）", studentId, fields);
+
+        return enrollmentRepository.findProjectedByStudentId(studentId, academicYear, semester, fields);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public boolean hasScheduleConflict(String studentId, Integer classId) {
@@ -229,11 +265,15 @@ public class StudentServiceImpl implements StudentService {
                 .filter(c -> c.getSemester().equals(newClass.getSemester()))
                 .collect(Collectors.toList());
 
-        // TODO: 實作時間衝突檢查邏輯
-        // 這裡需要解析 schedule_time 欄位來判斷是否衝突
-        // 暫時回傳 false（不衝突）
+        // 尚未排定上課時段的班級不會衝堂
+        if (newClass.getMeetingDay() == null || newClass.getMeetingSlot() == null) {
+            return false;
+        }
 
-        return false;
+        return sameTermClasses.stream()
+                .filter(c -> !c.getClassId().equals(newClass.getClassId()))
+                .anyMatch(c -> newClass.getMeetingDay().equals(c.getMeetingDay())
+                        && newClass.getMeetingSlot().equals(c.getMeetingSlot()));
     }
 
     /**
@@ -267,6 +307,9 @@ public class StudentServiceImpl implements StudentService {
                 .teacherName(enrollment.getClassInfo().getTeacher().getTeacherName())
                 .semester(enrollment.getClassInfo().getSemester())
                 .academicYear(enrollment.getClassInfo().getAcademicYear())
+                .schedule(formatSchedule(enrollment.getClassInfo()))
+                .location(enrollment.getClassInfo().getRoom() != null
+                        ? enrollment.getClassInfo().getRoom().getRoomCode() : null)
                 .score(grade != null ? grade.getScoreNumeric() : null)
                 .isPassed(grade != null && grade.getScoreNumeric() != null
                         && grade.getScoreNumeric().doubleValue() >= 60.0)
@@ -296,4 +339,17 @@ public class StudentServiceImpl implements StudentService {
             log.error("記錄稽核日誌失敗: ", e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 格式化上課時段（例如「星期二 第3時段」），尚未排定時回傳 null
+     */
+    private String formatSchedule(ClassInfo classInfo) {
+        if (classInfo.getMeetingDay() == null || classInfo.getMeetingSlot() == null) {
+            return null;
+        }
+        String[] dayNames = {"一", "二", "三", "四", "五", "六", "日"};
+        int day = classInfo.getMeetingDay();
+        String dayName = day >= 1 && day <= 7 ? dayNames[day - 1] : String.valueOf(day);
+        return "星期" + dayName + " 第" + classInfo.getMeetingSlot() + "時段";
+    }
+}
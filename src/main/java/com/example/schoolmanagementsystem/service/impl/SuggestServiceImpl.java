@@ -0,0 +1,131 @@
+package com.example.schoolmanagementsystem.service.impl;
+
+import com.example.schoolmanagementsystem.dto.response.SuggestionResponse;
+import com.example.schoolmanagementsystem.event.EntityChangedEvent;
+import com.example.schoolmanagementsystem.event.EntityChangedEvent.ChangeType;
+import com.example.schoolmanagementsystem.model.Course;
+import com.example.schoolmanagementsystem.model.Teacher;
+import com.example.schoolmanagementsystem.repository.CourseRepository;
+import com.example.schoolmanagementsystem.repository.TeacherRepository;
+import com.example.schoolmanagementsystem.service.SuggestService;
+import com.example.schoolmanagementsystem.util.PrefixIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * 自動完成建議服務實作類別
+ * 課程與教師各自維護一份前綴索引（代碼與名稱皆可搜尋），
+ * 啟動時建立，之後隨實體異動事件逐筆更新，查詢不需存取資料庫
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SuggestServiceImpl implements SuggestService {
+
+    private static final String COURSE = "COURSE";
+    private static final String TEACHER = "TEACHER";
+
+    private final CourseRepository courseRepository;
+    private final TeacherRepository teacherRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private final PrefixIndex courseIndex = new PrefixIndex();
+    private final PrefixIndex teacherIndex = new PrefixIndex();
+
+    @Override
+    public List<SuggestionResponse> suggest(String prefix, String type, int limit) {
+        String upper = type == null || type.isBlank() ? null : type.toUpperCase(Locale.ROOT);
+        if (upper != null && !COURSE.equals(upper) && !TEACHER.equals(upper)) {
+            throw new IllegalArgumentException("無效的建議類型: " + type + "（可用: COURSE、TEACHER）");
+        }
+
+        List<SuggestionResponse> results = new ArrayList<>();
+        if (upper == null || COURSE.equals(upper)) {
+            collect(results, COURSE, courseIndex.suggest(prefix, limit));
+        }
+        if (upper == null || TEACHER.equals(upper)) {
+            collect(results, TEACHER, teacherIndex.suggest(prefix, limit - results.size()));
+        }
+        return results;
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIndexes() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        template.executeWithoutResult(status -> {
+            rebuild(courseIndex, courseRepository.streamIdAndName());
+            rebuild(teacherIndex, teacherRepository.streamIdAndName());
+        });
+
+        log.info("自動完成索引建立完成：課程 {} 筆、教師 {} 筆", courseIndex.size(), teacherIndex.size());
+    }
+
+    /**
+     * 實體異動後逐筆更新索引（交易提交後才執行）
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        boolean deleted = event.changeType() == ChangeType.DELETED;
+
+        if (event.entity() instanceof Course course) {
+            apply(courseIndex, course.getCourseId(), course.getCourseName(), deleted);
+        } else if (event.entity() instanceof Teacher teacher) {
+            apply(teacherIndex, teacher.getTeacherId(), teacher.getTeacherName(), deleted);
+        }
+    }
+
+    private void apply(PrefixIndex index, String id, String name, boolean deleted) {
+        if (deleted) {
+            index.remove(id);
+        } else {
+            index.put(id, name, termsOf(id, name));
+        }
+    }
+
+    private void rebuild(PrefixIndex index, Stream<Object[]> rows) {
+        Map<String, String> labels = new HashMap<>();
+        Map<String, List<String>> terms = new HashMap<>();
+        try (rows) {
+            rows.forEach(row -> {
+                String id = (String) row[0];
+                String name = (String) row[1];
+                labels.put(id, name);
+                terms.put(id, termsOf(id, name));
+            });
+        }
+        index.rebuild(labels, terms);
+    }
+
+    /**
+     * 搜尋詞為代碼與名稱；名稱可能為 null（索引會略過空的搜尋詞），因此不使用 List.of
+     */
+    private static List<String> termsOf(String id, String name) {
+        return Arrays.asList(id, name);
+    }
+
+    private void collect(List<SuggestionResponse> results, String type, List<PrefixIndex.Suggestion> suggestions) {
+        for (PrefixIndex.Suggestion suggestion : suggestions) {
+            results.add(SuggestionResponse.builder()
+                    .type(type)
+                    .id(suggestion.id())
+                    .label(suggestion.label())
+                    .build());
+        }
+    }
+}
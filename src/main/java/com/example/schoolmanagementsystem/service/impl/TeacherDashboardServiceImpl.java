@@ -0,0 +1,236 @@
+package com.example.schoolmanagementsystem.service.impl;
+
+import com.example.schoolmanagementsystem.dto.response.TeacherDashboardResponse;
+import com.example.schoolmanagementsystem.event.ClassesBulkCreatedEvent;
+import com.example.schoolmanagementsystem.event.EntityChangedEvent;
+import com.example.schoolmanagementsystem.event.GradesBulkChangedEvent;
+import com.example.schoolmanagementsystem.exception.ResourceNotFoundException;
+import com.example.schoolmanagementsystem.model.ClassInfo;
+import com.example.schoolmanagementsystem.model.Enrollment;
+import com.example.schoolmanagementsystem.model.Grade;
+import com.example.schoolmanagementsystem.repository.ClassInfoRepository;
+import com.example.schoolmanagementsystem.repository.TeacherRepository;
+import com.example.schoolmanagementsystem.service.TeacherDashboardService;
+import com.example.schoolmanagementsystem.util.AcademicTerms;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 教師儀表板服務實作類別
+ * 每個（教師、學期）的班級彙總只在第一次查詢時以一次聚合查詢建立，之後常駐記憶體；
+ * 選課與成績異動只把所屬班級標記為待更新，下次查詢時一次重新彙總所有待更新的班級，
+ * 沒有異動時查詢完全不存取資料庫；只快取有授課班級的學期，快取大小以班級數為上限
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TeacherDashboardServiceImpl implements TeacherDashboardService {
+
+    private final ClassInfoRepository classInfoRepository;
+    private final TeacherRepository teacherRepository;
+
+    private final Map<TermKey, TermSummary> summaries = new ConcurrentHashMap<>();
+
+    // 班級ID → 所屬的（教師、學期），異動事件只帶有班級ID
+    private final Map<Integer, TermKey> termByClass = new ConcurrentHashMap<>();
+
+    // 每次異動遞增；lastChanged 記錄各班級最後一次異動時的序號，
+    // 建立彙總後只把查詢開始後有異動的班級標記為待更新，其他班級的結果照常使用
+    private final AtomicLong generation = new AtomicLong();
+    private final Map<Integer, Long> lastChanged = new ConcurrentHashMap<>();
+
+    // 最後一次班級本身異動（可能改變學期的班級組成）或無法判斷班級時的序號
+    private volatile long lastReset;
+
+    private record TermKey(String teacherId, Integer academicYear, String semester) {
+    }
+
+    /**
+     * 單一教師學期的彙總：班級ID → 班級統計（依班級ID排序），以及待重新彙總的班級
+     */
+    private static final class TermSummary {
+        private final Map<Integer, TeacherDashboardResponse.Section> sections = new TreeMap<>();
+        private final Set<Integer> dirty = new HashSet<>();
+    }
+
+    @Override
+    public TeacherDashboardResponse getDashboard(String teacherId, Integer academicYear, String semester) {
+        if (academicYear == null || academicYear < 1) {
+            throw new IllegalArgumentException("學年不正確: " + academicYear);
+        }
+        if (!AcademicTerms.isSemester(semester)) {
+            throw new IllegalArgumentException("學期必須為上學期或下學期");
+        }
+
+        TermKey key = new TermKey(teacherId, academicYear, semester);
+        TermSummary summary = summaries.get(key);
+        if (summary == null) {
+            summary = load(key);
+        }
+
+        List<TeacherDashboardResponse.Section> sections;
+        synchronized (summary) {
+            if (!summary.dirty.isEmpty()) {
+                Set<Integer> dirty = new HashSet<>(summary.dirty);
+                summary.dirty.clear();
+                dirty.forEach(summary.sections::remove);
+                for (Object[] row : classInfoRepository.summarizeClasses(dirty)) {
+                    TeacherDashboardResponse.Section section = toSection(row);
+                    summary.sections.put(section.getClassId(), section);
+                }
+            }
+            sections = new ArrayList<>(summary.sections.values());
+        }
+
+        return TeacherDashboardResponse.builder()
+                .teacherId(teacherId)
+                .academicYear(academicYear)
+                .semester(semester)
+                .sectionCount(sections.size())
+                .totalEnrolled(sections.stream().mapToInt(TeacherDashboardResponse.Section::getEnrolled).sum())
+                .totalGraded(sections.stream().mapToInt(TeacherDashboardResponse.Section::getGraded).sum())
+                .sections(sections)
+                .build();
+    }
+
+    /**
+     * 選課、成績異動時標記所屬班級待更新；班級本身異動（例如更換授課教師）時整個快取失效
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        Integer classId;
+        try {
+            if (event.entity() instanceof Enrollment enrollment) {
+                classId = enrollment.getClassInfo().getClassId();
+            } else if (event.entity() instanceof Grade grade) {
+                classId = grade.getEnrollment().getClassInfo().getClassId();
+            } else if (event.entity() instanceof ClassInfo) {
+                reset();
+                return;
+            } else {
+                return;
+            }
+        } catch (RuntimeException e) {
+            log.debug("無法判斷異動所屬班級，清除全部教師儀表板快取: {}", e.getMessage());
+            reset();
+            return;
+        }
+        markDirty(classId);
+    }
+
+    /**
+     * 班級成績批次異動時只標記該班級一次
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGradesBulkChanged(GradesBulkChangedEvent event) {
+        markDirty(event.classInfo().getClassId());
+    }
+
+    /**
+     * 學期轉換批次新增班級時只清除目標學期的彙總，其他學期的班級組成不變
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onClassesBulkCreated(ClassesBulkCreatedEvent event) {
+        // 與 reset 相同先遞增序號，建立中的彙總一律不放入快取
+        lastReset = generation.incrementAndGet();
+        summaries.keySet().removeIf(key -> isTerm(key, event));
+        termByClass.values().removeIf(key -> isTerm(key, event));
+    }
+
+    private static boolean isTerm(TermKey key, ClassesBulkCreatedEvent event) {
+        return key.academicYear().equals(event.academicYear()) && key.semester().equals(event.semester());
+    }
+
+    private void markDirty(Integer classId) {
+        lastChanged.put(classId, generation.incrementAndGet());
+        TermKey key = termByClass.get(classId);
+        TermSummary summary = key == null ? null : summaries.get(key);
+        if (summary != null) {
+            synchronized (summary) {
+                summary.dirty.add(classId);
+            }
+        }
+    }
+
+    private void reset() {
+        lastReset = generation.incrementAndGet();
+        summaries.clear();
+        termByClass.clear();
+        lastChanged.clear();
+    }
+
+    private TermSummary load(TermKey key) {
+        if (!teacherRepository.existsById(key.teacherId())) {
+            throw new ResourceNotFoundException("教師", "教師ID", key.teacherId());
+        }
+
+        long startGeneration = generation.get();
+        TermSummary summary = new TermSummary();
+        for (Object[] row : classInfoRepository.summarizeTeacherTerm(key.teacherId(), key.academicYear(), key.semester())) {
+            TeacherDashboardResponse.Section section = toSection(row);
+            summary.sections.put(section.getClassId(), section);
+        }
+
+        // 沒有授課班級的學期不快取，避免任意學年、學期的查詢讓快取無限成長；
+        // 建立期間班級本身有異動時學期的班級組成可能已改變，本次結果不放入快取
+        if (summary.sections.isEmpty() || lastReset > startGeneration) {
+            return summary;
+        }
+
+        summary.sections.keySet().forEach(classId -> termByClass.put(classId, key));
+        TermSummary existing = summaries.putIfAbsent(key, summary);
+        if (existing != null) {
+            return existing;
+        }
+        // 登記後的異動由事件直接標記；登記前（查詢開始之後）有異動的班級在此補標記
+        synchronized (summary) {
+            for (Integer classId : summary.sections.keySet()) {
+                if (lastChanged.getOrDefault(classId, 0L) > startGeneration) {
+                    summary.dirty.add(classId);
+                }
+            }
+        }
+        // 登記的同時整個快取被清除時撤回
+        if (lastReset > startGeneration) {
+            summaries.remove(key, summary);
+        }
+        log.debug("建立教師儀表板彙總: {} {}-{}，{} 個班級",
+                key.teacherId(), key.academicYear(), key.semester(), summary.sections.size());
+        return summary;
+    }
+
+    private static TeacherDashboardResponse.Section toSection(Object[] row) {
+        int enrolled = ((Number) row[7]).intValue();
+        int graded = ((Number) row[8]).intValue();
+        BigDecimal scoreSum = (BigDecimal) row[9];
+        long passed = row[10] == null ? 0 : ((Number) row[10]).longValue();
+
+        return TeacherDashboardResponse.Section.builder()
+                .classId((Integer) row[0])
+                .courseId((String) row[1])
+                .courseName((String) row[2])
+                .capacity((Integer) row[3])
+                .meetingDay((Integer) row[4])
+                .meetingSlot((Integer) row[5])
+                .roomCode((String) row[6])
+                .enrolled(enrolled)
+                .graded(graded)
+                .gradingProgress(enrolled == 0 ? null : Math.round((double) graded / enrolled * 10000) / 10000.0)
+                .averageScore(graded == 0 || scoreSum == null ? null
+                        : Math.round(scoreSum.doubleValue() / graded * 100) / 100.0)
+                .passRate(graded == 0 ? null : Math.round((double) passed / graded * 10000) / 10000.0)
+                .build();
+    }
+}
@@ -0,0 +1,232 @@
+package com.example.schoolmanagementsystem.service.impl;
+
+import com.example.schoolmanagementsystem.dto.request.TimetableRequest;
+import com.example.schoolmanagementsystem.dto.response.TimetableResponse;
+import com.example.schoolmanagementsystem.exception.ResourceNotFoundException;
+import com.example.schoolmanagementsystem.model.ClassInfo;
+import com.example.schoolmanagementsystem.model.Room;
+import com.example.schoolmanagementsystem.repository.ClassInfoRepository;
+import com.example.schoolmanagementsystem.repository.RoomRepository;
+import com.example.schoolmanagementsystem.service.EnrollmentGraphService;
+import com.example.schoolmanagementsystem.service.RoomService;
+import com.example.schoolmanagementsystem.service.TimetableService;
+import com.example.schoolmanagementsystem.util.SparseIntMatrix;
+import com.example.schoolmanagementsystem.util.TimetableSolver;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 課表排程服務實作類別
+ * 讀取學期班級（教師、人數上限）與參考學期的課程共同修課矩陣，交給 {@link TimetableSolver} 平行求解；
+ * 求解期間不持有資料庫交易，只有在 apply = true 且滿足所有硬性限制時才寫回班級
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TimetableServiceImpl implements TimetableService {
+
+    private static final long SEED = 20240901L;
+
+    private final ClassInfoRepository classInfoRepository;
+    private final RoomRepository roomRepository;
+    private final EnrollmentGraphService enrollmentGraphService;
+    private final RoomService roomService;
+    private final PlatformTransactionManager transactionManager;
+    private final ForkJoinPool solverPool;
+
+    /**
+     * 排程所需的班級資訊（不持有實體）
+     */
+    private record Section(Integer classId, String courseId, String teacherId, int capacity) {
+    }
+
+    @Override
+    public TimetableResponse generateTimetable(TimetableRequest request) {
+        // 時段必須能對應到 app.rooms.slot-times 的時刻，否則教室占用索引會漏掉這些班級
+        int configuredSlots = roomService.slotsPerDay();
+        if (request.getSlotsPerDay() > configuredSlots) {
+            throw new IllegalArgumentException(String.format(
+                    "每天時段數不可超過教室時段設定的 %d 個時段", configuredSlots));
+        }
+
+        TransactionTemplate readTemplate = new TransactionTemplate(transactionManager);
+        readTemplate.setReadOnly(true);
+        List<Room> rooms = readTemplate.execute(status -> loadRooms(request.getRoomCodes()));
+        if (rooms.isEmpty()) {
+            throw new IllegalArgumentException("沒有可用教室，請先建立教室資料");
+        }
+
+        log.info("產生課表: {}-{}，{} 天 × {} 時段，{} 間教室", request.getAcademicYear(), request.getSemester(),
+                request.getDays(), request.getSlotsPerDay(), rooms.size());
+
+        List<Section> sections = readTemplate.execute(status ->
+                classInfoRepository.findByAcademicYearAndSemester(request.getAcademicYear(), request.getSemester())
+                        .stream()
+                        .map(c -> new Section(c.getClassId(), c.getCourse().getCourseId(),
+                                c.getTeacher().getTeacherId(), c.getCapacity()))
+                        .toList());
+
+        int[] teachers = new int[sections.size()];
+        int[] capacities = new int[sections.size()];
+        Map<String, Integer> teacherIndex = new HashMap<>();
+        for (int c = 0; c < sections.size(); c++) {
+            teachers[c] = teacherIndex.computeIfAbsent(sections.get(c).teacherId(), id -> teacherIndex.size());
+            capacities[c] = sections.get(c).capacity();
+        }
+        int[] roomCapacities = rooms.stream().mapToInt(Room::getCapacity).toArray();
+
+        TimetableSolver.Problem problem = new TimetableSolver.Problem(teachers, capacities, roomCapacities,
+                overlaps(request, sections), request.getDays() * request.getSlotsPerDay());
+
+        long start = System.currentTimeMillis();
+        TimetableSolver.Solution solution = TimetableSolver.solve(problem,
+                Duration.ofSeconds(request.getTimeLimitSeconds()), solverPool.getParallelism(), SEED, solverPool);
+        long solveMillis = System.currentTimeMillis() - start;
+
+        List<TimetableResponse.Assignment> assignments = new ArrayList<>(sections.size());
+        for (int c = 0; c < sections.size(); c++) {
+            Section section = sections.get(c);
+            int room = solution.rooms()[c];
+            assignments.add(TimetableResponse.Assignment.builder()
+                    .classId(section.classId())
+                    .courseId(section.courseId())
+                    .teacherId(section.teacherId())
+                    .capacity(section.capacity())
+                    .day(solution.slots()[c] / request.getSlotsPerDay() + 1)
+                    .slot(solution.slots()[c] % request.getSlotsPerDay() + 1)
+                    .room(room >= 0 ? rooms.get(room).getRoomCode() : null)
+                    .build());
+        }
+
+        boolean feasible = solution.teacherClashes() == 0 && solution.roomShortages() == 0;
+        boolean applied = false;
+        if (Boolean.TRUE.equals(request.getApply())) {
+            if (!feasible) {
+                throw new IllegalArgumentException(String.format(
+                        "排程仍有 %d 次教師衝堂、%d 班分不到教室，無法套用；請增加時段或教室後重試",
+                        solution.teacherClashes(), solution.roomShortages()));
+            }
+            apply(assignments);
+            applied = true;
+        }
+
+        log.info("課表排程完成: {} 班，教師衝堂 {}、缺教室 {}、共同修課重疊 {} 人，耗時 {} ms",
+                sections.size(), solution.teacherClashes(), solution.roomShortages(),
+                solution.overlapStudents(), solveMillis);
+
+        return TimetableResponse.builder()
+                .academicYear(request.getAcademicYear())
+                .semester(request.getSemester())
+                .days(request.getDays())
+                .slotsPerDay(request.getSlotsPerDay())
+                .assignments(assignments)
+                .teacherClashes(solution.teacherClashes())
+                .roomShortages(solution.roomShortages())
+                .overlapStudents(solution.overlapStudents())
+                .feasible(feasible)
+                .applied(applied)
+                .restarts(solution.restarts())
+                .iterations(solution.iterations())
+                .solveMillis(solveMillis)
+                .build();
+    }
+
+    /**
+     * 讀取可用教室（未指定代碼時為全部教室）
+     */
+    private List<Room> loadRooms(List<String> roomCodes) {
+        if (roomCodes == null || roomCodes.isEmpty()) {
+            return roomRepository.findAll();
+        }
+        List<Room> rooms = roomRepository.findAllById(roomCodes);
+        if (rooms.size() < new HashSet<>(roomCodes).size()) {
+            Set<String> found = new HashSet<>();
+            rooms.forEach(room -> found.add(room.getRoomCode()));
+            List<String> missing = roomCodes.stream().filter(code -> !found.contains(code)).distinct().toList();
+            throw new ResourceNotFoundException("找不到教室: " + String.join(", ", missing));
+        }
+        return rooms;
+    }
+
+    /**
+     * 由課程共同修課人數推估班級間的重疊：
+     * 課程 A、B 共同修課 n 人，A 有 p 個班、B 有 q 個班時，任兩班的預估重疊為 ⌈n / (p × q)⌉
+     */
+    private SparseIntMatrix overlaps(TimetableRequest request, List<Section> sections) {
+        Integer referenceYear = request.getReferenceAcademicYear() != null
+                ? request.getReferenceAcademicYear() : request.getAcademicYear();
+        String referenceSemester = request.getReferenceSemester() != null
+                ? request.getReferenceSemester() : request.getSemester();
+        EnrollmentGraphService.CourseCoEnrollment coEnrollment =
+                enrollmentGraphService.getCourseCoEnrollment(referenceYear, referenceSemester);
+
+        Map<String, Integer> courseIndex = new HashMap<>();
+        for (int i = 0; i < coEnrollment.courseIds().length; i++) {
+            courseIndex.put(coEnrollment.courseIds()[i], i);
+        }
+
+        // 參考課程序號 → 本學期的班級
+        Map<Integer, List<Integer>> sectionsByCourse = new HashMap<>();
+        for (int c = 0; c < sections.size(); c++) {
+            Integer course = courseIndex.get(sections.get(c).courseId());
+            if (course != null) {
+                sectionsByCourse.computeIfAbsent(course, k -> new ArrayList<>()).add(c);
+            }
+        }
+
+        SparseIntMatrix shared = coEnrollment.shared();
+        int[][] rowColumns = new int[sections.size()][];
+        int[][] rowValues = new int[sections.size()][];
+        for (int c = 0; c < sections.size(); c++) {
+            Integer course = courseIndex.get(sections.get(c).courseId());
+            TreeMap<Integer, Integer> row = new TreeMap<>();
+            if (course != null) {
+                int ownSections = sectionsByCourse.get(course).size();
+                for (int index = shared.rowStart(course); index < shared.rowEnd(course); index++) {
+                    List<Integer> others = sectionsByCourse.get(shared.columnAt(index));
+                    if (others == null) {
+                        continue;
+                    }
+                    int weight = (int) Math.ceil((double) shared.valueAt(index) / (ownSections * others.size()));
+                    for (int other : others) {
+                        row.put(other, weight);
+                    }
+                }
+            }
+            rowColumns[c] = row.keySet().stream().mapToInt(Integer::intValue).toArray();
+            rowValues[c] = row.values().stream().mapToInt(Integer::intValue).toArray();
+        }
+        return SparseIntMatrix.fromRows(rowColumns, rowValues);
+    }
+
+    private void apply(List<TimetableResponse.Assignment> assignments) {
+        Map<Integer, TimetableResponse.Assignment> byClassId = new HashMap<>();
+        assignments.forEach(a -> byClassId.put(a.getClassId(), a));
+
+        TransactionTemplate writeTemplate = new TransactionTemplate(transactionManager);
+        writeTemplate.executeWithoutResult(status -> {
+            List<ClassInfo> classes = classInfoRepository.findAllById(byClassId.keySet());
+            for (ClassInfo classInfo : classes) {
+                TimetableResponse.Assignment assignment = byClassId.get(classInfo.getClassId());
+                classInfo.setMeetingDay(assignment.getDay());
+                classInfo.setMeetingSlot(assignment.getSlot());
+                classInfo.setRoom(roomRepository.getReferenceById(assignment.getRoom()));
+            }
+            classInfoRepository.saveAll(classes);
+        });
+        log.info("課表已寫入 {} 個班級", byClassId.size());
+    }
+}
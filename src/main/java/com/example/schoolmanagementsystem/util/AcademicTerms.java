@@ -0,0 +1,35 @@
+package com.example.schoolmanagementsystem.util;
+
+import java.time.LocalDate;
+
+/**
+ * 學年與學期推算
+ * 學年以西元年表示、8 月起算新學年；8 月至隔年 1 月為上學期，2 月至 7 月為下學期
+ */
+public final class AcademicTerms {
+
+    private AcademicTerms() {
+    }
+
+    /**
+     * 日期所屬的學年
+     */
+    public static int academicYearOf(LocalDate date) {
+        return date.getMonthValue() >= 8 ? date.getYear() : date.getYear() - 1;
+    }
+
+    /**
+     * 日期所屬的學期（上學期／下學期）
+     */
+    public static String semesterOf(LocalDate date) {
+        int month = date.getMonthValue();
+        return month >= 8 || month == 1 ? "上學期" : "下學期";
+    }
+
+    /**
+     * 是否為有效的學期名稱
+     */
+    public static boolean isSemester(String semester) {
+        return "上學期".equals(semester) || "下學期".equals(semester);
+    }
+}
@@ -0,0 +1,304 @@
+package com.example.schoolmanagementsystem.util;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpSession;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 批次子請求
+ * 包裝原始的批次請求（應為 {@link ServletLease} 的代理，批次結束後即無法存取），
+ * 供內部直接分派給 DispatcherServlet。子請求自行提供的部分：
+ * <ul>
+ *     <li>方法固定為 GET，路徑、查詢字串與查詢參數取自子請求路徑</li>
+ *     <li>request attribute 各自獨立，多個子請求可以在不同執行緒同時處理</li>
+ *     <li>不帶內容：隱藏原始 POST 的 Content-Type 與 Content-Length，Accept 固定為 JSON</li>
+ *     <li>不支援 Session 與非同步處理</li>
+ * </ul>
+ * 其他（標頭、Cookie、連線資訊、語系、登入者等）都轉給原始請求
+ */
+public class BatchSubRequest extends HttpServletRequestWrapper {
+
+    private final String path;
+    private final String queryString;
+    private final Map<String, String[]> parameters;
+    private final Map<String, Object> attributes = new ConcurrentHashMap<>();
+
+    /**
+     * @param original 原始的批次請求
+     * @param pathWithQuery 子請求路徑（可含查詢字串，例如 /api/courses/available?academicYear=2024）
+     */
+    public BatchSubRequest(HttpServletRequest original, String pathWithQuery) {
+        super(original);
+        int queryStart = pathWithQuery.indexOf('?');
+        this.path = queryStart >= 0 ? pathWithQuery.substring(0, queryStart) : pathWithQuery;
+        this.queryString = queryStart >= 0 ? pathWithQuery.substring(queryStart + 1) : null;
+        this.parameters = parseQuery(queryString);
+    }
+
+    @Override
+    public String getMethod() {
+        return "GET";
+    }
+
+    @Override
+    public DispatcherType getDispatcherType() {
+        return DispatcherType.REQUEST;
+    }
+
+    @Override
+    public String getRequestURI() {
+        return getContextPath() + path;
+    }
+
+    @Override
+    public StringBuffer getRequestURL() {
+        StringBuffer url = new StringBuffer()
+                .append(getScheme()).append("://").append(getServerName());
+        int port = getServerPort();
+        if (port > 0 && !(port == 80 && "http".equals(getScheme()))
+                && !(port == 443 && "https".equals(getScheme()))) {
+            url.append(':').append(port);
+        }
+        return url.append(getRequestURI());
+    }
+
+    @Override
+    public String getServletPath() {
+        return path;
+    }
+
+    @Override
+    public String getPathInfo() {
+        return null;
+    }
+
+    @Override
+    public String getPathTranslated() {
+        return null;
+    }
+
+    @Override
+    public String getQueryString() {
+        return queryString;
+    }
+
+    @Override
+    public String getParameter(String name) {
+        String[] values = parameters.get(name);
+        return values != null && values.length > 0 ? values[0] : null;
+    }
+
+    @Override
+    public Map<String, String[]> getParameterMap() {
+        return Collections.unmodifiableMap(parameters);
+    }
+
+    @Override
+    public Enumeration<String> getParameterNames() {
+        return Collections.enumeration(parameters.keySet());
+    }
+
+    @Override
+    public String[] getParameterValues(String name) {
+        return parameters.get(name);
+    }
+
+    @Override
+    public Object getAttribute(String name) {
+        return attributes.get(name);
+    }
+
+    @Override
+    public Enumeration<String> getAttributeNames() {
+        return Collections.enumeration(new ArrayList<>(attributes.keySet()));
+    }
+
+    @Override
+    public void setAttribute(String name, Object value) {
+        if (value == null) {
+            attributes.remove(name);
+        } else {
+            attributes.put(name, value);
+        }
+    }
+
+    @Override
+    public void removeAttribute(String name) {
+        attributes.remove(name);
+    }
+
+    @Override
+    public String getHeader(String name) {
+        if (isContentHeader(name)) {
+            return null;
+        }
+        if (HttpHeaders.ACCEPT.equalsIgnoreCase(name)) {
+            return MediaType.APPLICATION_JSON_VALUE;
+        }
+        return super.getHeader(name);
+    }
+
+    @Override
+    public Enumeration<String> getHeaders(String name) {
+        if (isContentHeader(name)) {
+            return Collections.emptyEnumeration();
+        }
+        if (HttpHeaders.ACCEPT.equalsIgnoreCase(name)) {
+            return Collections.enumeration(List.of(MediaType.APPLICATION_JSON_VALUE));
+        }
+        return super.getHeaders(name);
+    }
+
+    @Override
+    public Enumeration<String> getHeaderNames() {
+        List<String> names = new ArrayList<>();
+        for (String name : Collections.list(super.getHeaderNames())) {
+            if (!isContentHeader(name) && !HttpHeaders.ACCEPT.equalsIgnoreCase(name)) {
+                names.add(name);
+            }
+        }
+        names.add(HttpHeaders.ACCEPT);
+        return Collections.enumeration(names);
+    }
+
+    @Override
+    public int getIntHeader(String name) {
+        return isContentHeader(name) ? -1 : super.getIntHeader(name);
+    }
+
+    @Override
+    public long getDateHeader(String name) {
+        return isContentHeader(name) ? -1L : super.getDateHeader(name);
+    }
+
+    @Override
+    public String getContentType() {
+        return null;
+    }
+
+    @Override
+    public int getContentLength() {
+        return -1;
+    }
+
+    @Override
+    public long getContentLengthLong() {
+        return -1L;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() {
+        return new ServletInputStream() {
+            @Override
+            public boolean isFinished() {
+                return true;
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setReadListener(ReadListener readListener) {
+            }
+
+            @Override
+            public int read() {
+                return -1;
+            }
+        };
+    }
+
+    @Override
+    public BufferedReader getReader() {
+        return new BufferedReader(new StringReader(""));
+    }
+
+    @Override
+    public HttpSession getSession(boolean create) {
+        if (create) {
+            throw new IllegalStateException("批次子請求不支援 Session");
+        }
+        return null;
+    }
+
+    @Override
+    public HttpSession getSession() {
+        return getSession(true);
+    }
+
+    @Override
+    public String changeSessionId() {
+        throw new IllegalStateException("批次子請求不支援 Session");
+    }
+
+    @Override
+    public boolean isAsyncSupported() {
+        return false;
+    }
+
+    @Override
+    public boolean isAsyncStarted() {
+        return false;
+    }
+
+    @Override
+    public AsyncContext startAsync() {
+        throw new IllegalStateException("批次子請求不支援非同步處理");
+    }
+
+    @Override
+    public AsyncContext startAsync(ServletRequest servletRequest, ServletResponse servletResponse) {
+        throw new IllegalStateException("批次子請求不支援非同步處理");
+    }
+
+    @Override
+    public AsyncContext getAsyncContext() {
+        throw new IllegalStateException("批次子請求不支援非同步處理");
+    }
+
+    // 原始 POST 請求的內容相關標頭，不應出現在 GET 子請求中
+    private static boolean isContentHeader(String name) {
+        return HttpHeaders.CONTENT_TYPE.equalsIgnoreCase(name) || HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name);
+    }
+
+    private static Map<String, String[]> parseQuery(String query) {
+        Map<String, List<String>> values = new LinkedHashMap<>();
+        if (query != null) {
+            for (String pair : query.split("&")) {
+                if (pair.isEmpty()) {
+                    continue;
+                }
+                int eq = pair.indexOf('=');
+                String name = URLDecoder.decode(eq >= 0 ? pair.substring(0, eq) : pair, StandardCharsets.UTF_8);
+                String value = eq >= 0 ? URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8) : "";
+                values.computeIfAbsent(name, k -> new ArrayList<>()).add(value);
+            }
+        }
+
+        Map<String, String[]> result = new LinkedHashMap<>();
+        values.forEach((name, list) -> result.put(name, list.toArray(new String[0])));
+        return result;
+    }
+}
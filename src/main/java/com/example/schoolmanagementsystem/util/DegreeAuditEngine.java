@@ -0,0 +1,214 @@
+package com.example.schoolmanagementsystem.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 畢業審查引擎（純計算，不存取資料庫）
+ * 學分與分數都放大 10 倍以整數運算（0.5 學分、78.5 分皆可精確表示）；
+ * 同一門課多次修習時取最佳結果：通過 &gt; 修課中 &gt; 不及格，
+ * 平均則與 GPA 排名相同，以所有已評分的修課紀錄做學分加權
+ *
+ * 每次審查只讀取傳入的資料，可在多執行緒下同時審查不同學生
+ */
+public final class DegreeAuditEngine {
+
+    public static final int SCALE = 10;
+    private static final int PASSING_SCORE = 60 * SCALE;
+    private static final int IN_PROGRESS = -1;
+
+    private static final int FAILED = 0;
+    private static final int TAKING = 1;
+    private static final int PASSED = 2;
+
+    private DegreeAuditEngine() {
+    }
+
+    /**
+     * 學分類別
+     * @param coursePrefix 課程代碼前綴（空字串表示其餘所有課程）
+     * @param minCredits 最低學分（×10）
+     */
+    public record Bucket(String name, String coursePrefix, int minCredits) {
+    }
+
+    /**
+     * 畢業門檻
+     * @param minTotalCredits 最低總學分（×10）
+     * @param minGpa 最低學分加權平均（null 表示不限制）
+     */
+    public record Requirement(Set<String> requiredCourses, List<Bucket> buckets, int minTotalCredits, Double minGpa) {
+    }
+
+    /**
+     * 學分類別審查結果（學分皆 ×10）
+     */
+    public record BucketResult(String name, int minCredits, int earnedCredits, int inProgressCredits,
+                               boolean satisfied) {
+    }
+
+    /**
+     * 審查結果
+     * @param eligible 以已通過課程計算是否符合畢業資格
+     * @param projectedEligible 修課中的課程全部通過時是否符合畢業資格
+     * @param earnedCredits 已通過學分（×10）
+     * @param inProgressCredits 修課中學分（×10）
+     * @param missingCourses 尚未通過的必修課程（含修課中）
+     * @param inProgressCourses 修課中的必修課程
+     * @param failures 未符合的項目說明
+     */
+    public record Result(boolean eligible, boolean projectedEligible, int earnedCredits, int inProgressCredits,
+                         Double gpa, List<String> missingCourses, List<String> inProgressCourses,
+                         List<BucketResult> buckets, List<String> failures) {
+    }
+
+    /**
+     * 單一學生的修課紀錄（以平行陣列儲存，不為每筆紀錄建立物件）
+     */
+    public static final class Transcript {
+        private String[] courseIds = new String[64];
+        private int[] credits = new int[64];
+        private int[] scores = new int[64];
+        private int size;
+
+        /**
+         * 加入一筆修課紀錄
+         * @param credits 學分（×10）
+         * @param score 分數（×10）；尚未評分傳入負數
+         */
+        public void add(String courseId, int credits, int score) {
+            if (size == courseIds.length) {
+                courseIds = Arrays.copyOf(courseIds, size * 2);
+                this.credits = Arrays.copyOf(this.credits, size * 2);
+                scores = Arrays.copyOf(scores, size * 2);
+            }
+            courseIds[size] = courseId;
+            this.credits[size] = credits;
+            scores[size] = score < 0 ? IN_PROGRESS : score;
+            size++;
+        }
+
+        public int size() {
+            return size;
+        }
+    }
+
+    /**
+     * 審查單一學生
+     */
+    public static Result audit(Requirement requirement, Transcript transcript) {
+        // 課程ID → [最佳狀態, 學分]
+        Map<String, int[]> courses = new TreeMap<>();
+        long weightedScore = 0;
+        long gradedCredits = 0;
+        for (int i = 0; i < transcript.size; i++) {
+            int score = transcript.scores[i];
+            int credits = transcript.credits[i];
+            int status = score == IN_PROGRESS ? TAKING : score >= PASSING_SCORE ? PASSED : FAILED;
+            if (score != IN_PROGRESS) {
+                weightedScore += (long) score * credits;
+                gradedCredits += credits;
+            }
+            int[] best = courses.computeIfAbsent(transcript.courseIds[i], id -> new int[]{-1, credits});
+            if (status > best[0]) {
+                best[0] = status;
+                best[1] = credits;
+            }
+        }
+
+        int earned = 0;
+        int inProgress = 0;
+        int[] bucketEarned = new int[requirement.buckets().size()];
+        int[] bucketInProgress = new int[requirement.buckets().size()];
+        for (Map.Entry<String, int[]> entry : courses.entrySet()) {
+            int status = entry.getValue()[0];
+            int credits = entry.getValue()[1];
+            if (status == FAILED) {
+                continue;
+            }
+            int bucket = bucketOf(requirement.buckets(), entry.getKey());
+            if (status == PASSED) {
+                earned += credits;
+                if (bucket >= 0) {
+                    bucketEarned[bucket] += credits;
+                }
+            } else {
+                inProgress += credits;
+                if (bucket >= 0) {
+                    bucketInProgress[bucket] += credits;
+                }
+            }
+        }
+
+        List<String> failures = new ArrayList<>();
+        boolean projected = true;
+
+        List<String> missing = new ArrayList<>();
+        List<String> taking = new ArrayList<>();
+        for (String courseId : requirement.requiredCourses().stream().sorted().toList()) {
+            int[] best = courses.get(courseId);
+            int status = best == null ? -1 : best[0];
+            if (status != PASSED) {
+                missing.add(courseId);
+                if (status == TAKING) {
+                    taking.add(courseId);
+                } else {
+                    projected = false;
+                }
+            }
+        }
+        if (!missing.isEmpty()) {
+            failures.add("尚未通過必修課程: " + String.join(", ", missing));
+        }
+
+        if (earned < requirement.minTotalCredits()) {
+            failures.add(String.format("總學分不足（%s / %s）",
+                    format(earned), format(requirement.minTotalCredits())));
+            projected &= earned + inProgress >= requirement.minTotalCredits();
+        }
+
+        List<BucketResult> buckets = new ArrayList<>(requirement.buckets().size());
+        for (int b = 0; b < requirement.buckets().size(); b++) {
+            Bucket bucket = requirement.buckets().get(b);
+            boolean satisfied = bucketEarned[b] >= bucket.minCredits();
+            if (!satisfied) {
+                failures.add(String.format("%s學分不足（%s / %s）",
+                        bucket.name(), format(bucketEarned[b]), format(bucket.minCredits())));
+                projected &= bucketEarned[b] + bucketInProgress[b] >= bucket.minCredits();
+            }
+            buckets.add(new BucketResult(bucket.name(), bucket.minCredits(), bucketEarned[b],
+                    bucketInProgress[b], satisfied));
+        }
+
+        Double gpa = gradedCredits == 0 ? null
+                : Math.round(100.0 * weightedScore / gradedCredits / SCALE) / 100.0;
+        if (requirement.minGpa() != null && (gpa == null || gpa < requirement.minGpa())) {
+            failures.add(String.format("學分加權平均未達 %.2f（目前 %s）",
+                    requirement.minGpa(), gpa == null ? "無成績" : String.format("%.2f", gpa)));
+            projected = false;
+        }
+
+        return new Result(failures.isEmpty(), failures.isEmpty() || projected, earned, inProgress, gpa,
+                missing, taking, buckets, failures);
+    }
+
+    /**
+     * 課程計入第一個前綴相符的類別；找不到時為 -1
+     */
+    private static int bucketOf(List<Bucket> buckets, String courseId) {
+        for (int b = 0; b < buckets.size(); b++) {
+            if (courseId.startsWith(buckets.get(b).coursePrefix())) {
+                return b;
+            }
+        }
+        return -1;
+    }
+
+    private static String format(int scaled) {
+        return scaled % SCALE == 0 ? String.valueOf(scaled / SCALE) : String.valueOf(scaled / (double) SCALE);
+    }
+}
@@ -0,0 +1,164 @@
+package com.example.schoolmanagementsystem.util;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * 選課需求蒙地卡羅模擬器
+ * 每門課程的需求模型為：
+ * <pre>
+ *   修課率 p ~ Beta(α, β)                           （由歷史選課資料估計，反映估計本身的不確定性）
+ *   合格人數 E = 確定合格 + Binomial(待定人數, q)      （待定 = 先修課程正在修習中，q 為全數通過的平均機率）
+ *   需求 D ~ Binomial(E, p)
+ * </pre>
+ * 各課程在 fork/join 池中平行模擬，每門課程使用由種子分裂出的獨立亂數產生器；
+ * 不保存個別樣本，只累計每門課程的需求次數分布（長度為可能的最大需求 + 1），由分布直接取百分位數，
+ * 記憶體與模擬次數無關
+ */
+public final class DemandSimulator {
+
+    private DemandSimulator() {
+    }
+
+    /**
+     * 模擬輸入（所有陣列長度皆為課程數）
+     * @param certain 確定合格人數
+     * @param pending 待定人數
+     * @param pendingProbability 待定者最後合格的平均機率
+     * @param alpha 修課率 Beta 分布的 α
+     * @param beta 修課率 Beta 分布的 β
+     */
+    public record Input(int[] certain, int[] pending, double[] pendingProbability, double[] alpha, double[] beta) {
+    }
+
+    /**
+     * 單一課程的需求分布摘要
+     * @param lower 信賴區間下界
+     * @param upper 信賴區間上界
+     */
+    public record Summary(double mean, int lower, int median, int upper) {
+    }
+
+    /**
+     * 執行模擬
+     * @param input 模擬輸入
+     * @param trials 模擬次數
+     * @param confidence 信賴水準（例如 0.9 取第 5 與第 95 百分位數）
+     * @param pool 執行模擬的 fork/join 池
+     * @param seed 亂數種子（相同輸入與種子結果可重現）
+     * @return 各課程的需求摘要
+     */
+    public static Summary[] simulate(Input input, int trials, double confidence, ForkJoinPool pool, long seed) {
+        int courses = input.certain().length;
+        // 先依序分裂亂數產生器再分派，確保結果與執行緒排程無關
+        SplittableRandom root = new SplittableRandom(seed);
+        SplittableRandom[] randoms = new SplittableRandom[courses];
+        for (int c = 0; c < courses; c++) {
+            randoms[c] = root.split();
+        }
+
+        double tail = (1 - confidence) / 2;
+        Summary[] summaries = new Summary[courses];
+        pool.submit(() -> IntStream.range(0, courses).parallel().forEach(c ->
+                summaries[c] = simulateCourse(input, c, trials, tail, randoms[c]))).join();
+        return summaries;
+    }
+
+    /**
+     * 模擬單一課程：需求不會超過「確定 + 待定」人數，以該長度的次數分布取代保存每次樣本
+     */
+    private static Summary simulateCourse(Input input, int c, int trials, double tail, SplittableRandom random) {
+        int[] histogram = new int[input.certain()[c] + Math.max(0, input.pending()[c]) + 1];
+        long total = 0;
+        for (int trial = 0; trial < trials; trial++) {
+            double uptake = beta(random, input.alpha()[c], input.beta()[c]);
+            int eligible = input.certain()[c]
+                    + binomial(random, input.pending()[c], input.pendingProbability()[c]);
+            int demand = binomial(random, eligible, uptake);
+            histogram[demand]++;
+            total += demand;
+        }
+        return new Summary((double) total / trials, percentile(histogram, trials, tail),
+                percentile(histogram, trials, 0.5), percentile(histogram, trials, 1 - tail));
+    }
+
+    /**
+     * 由次數分布取百分位數（與排序後取第 ceil(fraction × n) 個樣本相同）
+     */
+    private static int percentile(int[] histogram, int count, double fraction) {
+        int rank = Math.max(0, Math.min(count - 1, (int) Math.ceil(fraction * count) - 1));
+        int cumulative = 0;
+        for (int value = 0; value < histogram.length; value++) {
+            cumulative += histogram[value];
+            if (cumulative > rank) {
+                return value;
+            }
+        }
+        return histogram.length - 1;
+    }
+
+    /**
+     * 二項分布抽樣：期望值小時用等待時間法（迭代次數約為 np），大時用常態近似
+     */
+    static int binomial(SplittableRandom random, int n, double p) {
+        if (n <= 0 || p <= 0) {
+            return 0;
+        }
+        if (p >= 1) {
+            return n;
+        }
+        if (p > 0.5) {
+            return n - binomial(random, n, 1 - p);
+        }
+
+        double mean = n * p;
+        if (mean < 30) {
+            double logQ = Math.log1p(-p);
+            int count = 0;
+            long position = 0;
+            while (true) {
+                position += (long) (Math.log(1 - random.nextDouble()) / logQ) + 1;
+                if (position > n) {
+                    return count;
+                }
+                count++;
+            }
+        }
+
+        double sample = mean + Math.sqrt(mean * (1 - p)) * random.nextGaussian();
+        return (int) Math.max(0, Math.min(n, Math.round(sample)));
+    }
+
+    /**
+     * Beta 分布抽樣（兩個 Gamma 變數的比值）
+     */
+    static double beta(SplittableRandom random, double alpha, double beta) {
+        double x = gamma(random, alpha);
+        double y = gamma(random, beta);
+        return x / (x + y);
+    }
+
+    /**
+     * Gamma 分布抽樣（Marsaglia–Tsang）；形狀參數小於 1 時以 Gamma(shape + 1) · U^(1/shape) 換算
+     */
+    private static double gamma(SplittableRandom random, double shape) {
+        if (shape < 1) {
+            return gamma(random, shape + 1) * Math.pow(random.nextDouble(), 1 / shape);
+        }
+        double d = shape - 1.0 / 3;
+        double c = 1 / Math.sqrt(9 * d);
+        while (true) {
+            double x = random.nextGaussian();
+            double v = 1 + c * x;
+            if (v <= 0) {
+                continue;
+            }
+            v = v * v * v;
+            double u = random.nextDouble();
+            if (Math.log(u) < 0.5 * x * x + d - d * v + d * Math.log(v)) {
+                return d * v;
+            }
+        }
+    }
+}
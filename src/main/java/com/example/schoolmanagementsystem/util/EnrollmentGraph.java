@@ -0,0 +1,240 @@
+package com.example.schoolmanagementsystem.util;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * 學生 ↔ 班級的二分圖（CSR 陣列）
+ * 學生與班級各自轉成連續序號，student → class 與 class → student 兩個方向都以
+ * offsets + 鄰接陣列儲存，整張圖只有少數幾個 int 陣列，不保留任何實體物件
+ *
+ * 建立後不可變，可安全地由多個執行緒同時讀取
+ */
+public final class EnrollmentGraph {
+
+    private final String[] studentIds;
+    private final int[] classIds;
+    private final int[] studentOffsets;
+    private final int[] studentClasses;
+    private final int[] classOffsets;
+    private final int[] classStudents;
+    private final Map<Integer, Integer> classIndex;
+
+    private EnrollmentGraph(String[] studentIds, int[] classIds, int[] studentOffsets, int[] studentClasses,
+                            int[] classOffsets, int[] classStudents) {
+        this.studentIds = studentIds;
+        this.classIds = classIds;
+        this.studentOffsets = studentOffsets;
+        this.studentClasses = studentClasses;
+        this.classOffsets = classOffsets;
+        this.classStudents = classStudents;
+        this.classIndex = new HashMap<>(classIds.length * 2);
+        for (int i = 0; i < classIds.length; i++) {
+            classIndex.put(classIds[i], i);
+        }
+    }
+
+    public int studentCount() {
+        return studentIds.length;
+    }
+
+    public int classCount() {
+        return classIds.length;
+    }
+
+    public int edgeCount() {
+        return studentClasses.length;
+    }
+
+    public String studentId(int student) {
+        return studentIds[student];
+    }
+
+    public int classId(int classOrdinal) {
+        return classIds[classOrdinal];
+    }
+
+    /**
+     * 班級ID → 序號（不存在時回傳 -1）
+     */
+    public int classOrdinal(int classId) {
+        return classIndex.getOrDefault(classId, -1);
+    }
+
+    public int[] classesOf(int student) {
+        return Arrays.copyOfRange(studentClasses, studentOffsets[student], studentOffsets[student + 1]);
+    }
+
+    public int classSize(int classOrdinal) {
+        return classOffsets[classOrdinal + 1] - classOffsets[classOrdinal];
+    }
+
+    public int[] studentsOf(int classOrdinal) {
+        return Arrays.copyOfRange(classStudents, classOffsets[classOrdinal], classOffsets[classOrdinal + 1]);
+    }
+
+    /**
+     * 計算群組間的共同修課人數（對稱稀疏矩陣，不含對角線）
+     * 群組可以是班級本身（classToGroup[c] = c）或班級所屬課程；同一學生在同一群組修多個班級只計一次
+     *
+     * 每一列（群組）獨立計算，以平行串流分段處理，每段重複使用自己的標記陣列
+     * @param classToGroup 班級序號 → 群組序號
+     * @param groupCount 群組數
+     * @return 第 i 列第 j 欄為同時修 i 與 j 的學生數
+     */
+    public SparseIntMatrix coEnrollment(int[] classToGroup, int groupCount) {
+        int[][] groupClasses = invert(classToGroup, groupCount);
+        int[][] rowColumns = new int[groupCount][];
+        int[][] rowValues = new int[groupCount][];
+
+        int chunks = Math.max(1, Math.min(groupCount, Runtime.getRuntime().availableProcessors() * 4));
+        int chunkSize = (groupCount + chunks - 1) / chunks;
+
+        IntStream.range(0, chunks).parallel().forEach(chunk -> {
+            // 以「目前處理的學生編號 + 1」作為標記，省去每次清空陣列
+            int[] studentMark = new int[studentIds.length];
+            int[] groupMark = new int[groupCount];
+            int[] counts = new int[groupCount];
+            int[] touched = new int[groupCount];
+            int stamp = 0;
+
+            int from = chunk * chunkSize;
+            int to = Math.min(groupCount, from + chunkSize);
+            for (int group = from; group < to; group++) {
+                int touchedCount = 0;
+                stamp++;
+                for (int classOrdinal : groupClasses[group]) {
+                    for (int e = classOffsets[classOrdinal]; e < classOffsets[classOrdinal + 1]; e++) {
+                        int student = classStudents[e];
+                        if (studentMark[student] == stamp) {
+                            continue;
+                        }
+                        studentMark[student] = stamp;
+
+                        for (int k = studentOffsets[student]; k < studentOffsets[student + 1]; k++) {
+                            int other = classToGroup[studentClasses[k]];
+                            if (other == group || groupMark[other] == student + 1) {
+                                continue;
+                            }
+                            groupMark[other] = student + 1;
+                            if (counts[other]++ == 0) {
+                                touched[touchedCount++] = other;
+                            }
+                        }
+                    }
+                }
+
+                Arrays.sort(touched, 0, touchedCount);
+                int[] columns = Arrays.copyOf(touched, touchedCount);
+                int[] values = new int[touchedCount];
+                for (int i = 0; i < touchedCount; i++) {
+                    values[i] = counts[columns[i]];
+                    counts[columns[i]] = 0;
+                }
+                rowColumns[group] = columns;
+                rowValues[group] = values;
+                // groupMark 以學生編號標記，換到下一個群組時同一學生需重新計數
+                for (int column : columns) {
+                    groupMark[column] = 0;
+                }
+            }
+        });
+
+        return SparseIntMatrix.fromRows(rowColumns, rowValues);
+    }
+
+    private int[][] invert(int[] classToGroup, int groupCount) {
+        int[] sizes = new int[groupCount];
+        for (int group : classToGroup) {
+            sizes[group]++;
+        }
+        int[][] groupClasses = new int[groupCount][];
+        for (int g = 0; g < groupCount; g++) {
+            groupClasses[g] = new int[sizes[g]];
+            sizes[g] = 0;
+        }
+        for (int c = 0; c < classToGroup.length; c++) {
+            int group = classToGroup[c];
+            groupClasses[group][sizes[group]++] = c;
+        }
+        return groupClasses;
+    }
+
+    /**
+     * 圖建構器：逐筆加入 (學生, 班級) 選課記錄後一次轉成 CSR
+     */
+    public static final class Builder {
+        private final Map<String, Integer> studentIndex = new HashMap<>();
+        private final Map<Integer, Integer> classIndex = new HashMap<>();
+        private String[] studentIds = new String[1024];
+        private int[] classIds = new int[256];
+        private int[] edgeStudents = new int[4096];
+        private int[] edgeClasses = new int[4096];
+        private int students;
+        private int classes;
+        private int edges;
+
+        /**
+         * 加入一筆選課記錄
+         * @return 班級序號
+         */
+        public int add(String studentId, int classId) {
+            int student = studentIndex.computeIfAbsent(studentId, id -> {
+                if (students == studentIds.length) {
+                    studentIds = Arrays.copyOf(studentIds, students * 2);
+                }
+                studentIds[students] = id;
+                return students++;
+            });
+            int classOrdinal = classIndex.computeIfAbsent(classId, id -> {
+                if (classes == classIds.length) {
+                    classIds = Arrays.copyOf(classIds, classes * 2);
+                }
+                classIds[classes] = id;
+                return classes++;
+            });
+
+            if (edges == edgeStudents.length) {
+                edgeStudents = Arrays.copyOf(edgeStudents, edges * 2);
+                edgeClasses = Arrays.copyOf(edgeClasses, edges * 2);
+            }
+            edgeStudents[edges] = student;
+            edgeClasses[edges] = classOrdinal;
+            edges++;
+            return classOrdinal;
+        }
+
+        public EnrollmentGraph build() {
+            int[] studentOffsets = offsets(edgeStudents, students);
+            int[] classOffsets = offsets(edgeClasses, classes);
+            int[] studentClasses = new int[edges];
+            int[] classStudents = new int[edges];
+
+            int[] studentCursor = Arrays.copyOf(studentOffsets, students);
+            int[] classCursor = Arrays.copyOf(classOffsets, classes);
+            for (int e = 0; e < edges; e++) {
+                studentClasses[studentCursor[edgeStudents[e]]++] = edgeClasses[e];
+                classStudents[classCursor[edgeClasses[e]]++] = edgeStudents[e];
+            }
+
+            return new EnrollmentGraph(Arrays.copyOf(studentIds, students), Arrays.copyOf(classIds, classes),
+                    studentOffsets, studentClasses, classOffsets, classStudents);
+        }
+
+        /**
+         * 計數排序的前綴和：offsets[v] 為頂點 v 的鄰接串列起點
+         */
+        private int[] offsets(int[] endpoints, int vertices) {
+            int[] offsets = new int[vertices + 1];
+            for (int e = 0; e < edges; e++) {
+                offsets[endpoints[e] + 1]++;
+            }
+            for (int v = 0; v < vertices; v++) {
+                offsets[v + 1] += offsets[v];
+            }
+            return offsets;
+        }
+    }
+}
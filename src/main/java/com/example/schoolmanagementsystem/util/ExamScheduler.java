@@ -0,0 +1,209 @@
+package com.example.schoolmanagementsystem.util;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * 考試時段排程器
+ * 輸入為班級衝突圖（兩班共同學生數為邊權重），目標是讓「同一時段兩場考試」與「同一天連續兩場考試」的學生人次最少
+ *
+ * 1. 先以加權度數由大到小的貪婪著色（Welsh-Powell）得到初始解
+ * 2. 再於呼叫端提供的 fork/join 池中進行多次獨立的模擬退火式局部搜尋（每次移動一個班級到成本最低的時段），取最佳解
+ *
+ * 移動一個班級的成本變化只需掃描其鄰居，為 O(度數 + 時段數)
+ */
+public final class ExamScheduler {
+
+    private ExamScheduler() {
+    }
+
+    /**
+     * 排程參數
+     * @param slotCount 時段總數
+     * @param slotsPerDay 每天時段數（用於判斷是否為同一天連續）
+     * @param sameSlotPenalty 同時段衝突的每人次懲罰
+     * @param backToBackPenalty 同一天連續考試的每人次懲罰
+     * @param timeLimit 局部搜尋時間上限
+     * @param threads 獨立局部搜尋的次數（同時執行的數量不超過池的平行度）
+     * @param seed 亂數種子（相同輸入與種子在單執行緒下結果可重現）
+     */
+    public record Options(int slotCount, int slotsPerDay, int sameSlotPenalty, int backToBackPenalty,
+                          Duration timeLimit, int threads, long seed) {
+    }
+
+    /**
+     * 排程結果
+     * @param slots 班級序號 → 時段
+     * @param cost 總懲罰
+     * @param iterations 所有執行緒合計的移動嘗試次數
+     */
+    public record Result(int[] slots, long cost, long iterations) {
+    }
+
+    /**
+     * 求解
+     * @param conflicts 對稱的班級衝突矩陣（不含對角線）
+     * @param classSizes 各班人數（貪婪著色時用來平衡各時段人數）
+     * @param options 排程參數
+     * @param pool 執行局部搜尋的 fork/join 池
+     * @return 找到的最佳解
+     */
+    public static Result solve(SparseIntMatrix conflicts, int[] classSizes, Options options, ForkJoinPool pool) {
+        int[] initial = greedy(conflicts, classSizes, options);
+        long initialCost = cost(conflicts, initial, options);
+        long deadline = System.nanoTime() + options.timeLimit().toNanos();
+
+        Result[] results = new Result[Math.max(1, options.threads())];
+        pool.submit(() -> IntStream.range(0, results.length).parallel().forEach(thread -> results[thread] =
+                search(conflicts, initial.clone(), initialCost, options, options.seed() + thread, deadline))).join();
+
+        Result best = results[0];
+        long iterations = 0;
+        for (Result result : results) {
+            iterations += result.iterations();
+            if (result.cost() < best.cost()) {
+                best = result;
+            }
+        }
+        return new Result(best.slots(), best.cost(), iterations);
+    }
+
+    /**
+     * 計算整體懲罰（每條邊只算一次）
+     */
+    public static long cost(SparseIntMatrix conflicts, int[] slots, Options options) {
+        long total = 0;
+        for (int c = 0; c < conflicts.rows(); c++) {
+            for (int index = conflicts.rowStart(c); index < conflicts.rowEnd(c); index++) {
+                int other = conflicts.columnAt(index);
+                if (other > c) {
+                    total += (long) conflicts.valueAt(index) * penalty(slots[c], slots[other], options);
+                }
+            }
+        }
+        return total;
+    }
+
+    private static int[] greedy(SparseIntMatrix conflicts, int[] classSizes, Options options) {
+        int classes = conflicts.rows();
+        long[] degree = new long[classes];
+        for (int c = 0; c < classes; c++) {
+            for (int index = conflicts.rowStart(c); index < conflicts.rowEnd(c); index++) {
+                degree[c] += conflicts.valueAt(index);
+            }
+        }
+
+        Integer[] order = new Integer[classes];
+        for (int c = 0; c < classes; c++) {
+            order[c] = c;
+        }
+        Arrays.sort(order, Comparator.<Integer>comparingLong(c -> degree[c]).reversed());
+
+        int[] slots = new int[classes];
+        Arrays.fill(slots, -1);
+        long[] load = new long[options.slotCount()];
+        long[] slotCost = new long[options.slotCount()];
+        for (int c : order) {
+            slotCosts(conflicts, slots, c, options, slotCost);
+            int bestSlot = 0;
+            for (int s = 1; s < slotCost.length; s++) {
+                if (slotCost[s] < slotCost[bestSlot]
+                        || (slotCost[s] == slotCost[bestSlot] && load[s] < load[bestSlot])) {
+                    bestSlot = s;
+                }
+            }
+            slots[c] = bestSlot;
+            load[bestSlot] += classSizes[c];
+        }
+        return slots;
+    }
+
+    private static Result search(SparseIntMatrix conflicts, int[] slots, long startCost, Options options,
+                                 long seed, long deadline) {
+        SplittableRandom random = new SplittableRandom(seed);
+        int classes = conflicts.rows();
+        long[] slotCost = new long[options.slotCount()];
+        int[] best = slots.clone();
+        long bestCost = startCost;
+        long currentCost = startCost;
+        long iterations = 0;
+
+        long start = System.nanoTime();
+        double span = Math.max(1, deadline - start);
+        double initialTemperature = Math.max(1.0, options.sameSlotPenalty());
+
+        while (classes > 0 && options.slotCount() > 1 && bestCost > 0) {
+            if ((iterations & 1023) == 0 && System.nanoTime() >= deadline) {
+                break;
+            }
+            iterations++;
+
+            int c = random.nextInt(classes);
+            if (conflicts.rowStart(c) == conflicts.rowEnd(c)) {
+                continue;
+            }
+            slotCosts(conflicts, slots, c, options, slotCost);
+
+            int current = slots[c];
+            int target = -1;
+            for (int s = 0; s < slotCost.length; s++) {
+                if (s != current && (target < 0 || slotCost[s] < slotCost[target]
+                        || (slotCost[s] == slotCost[target] && random.nextBoolean()))) {
+                    target = s;
+                }
+            }
+
+            long delta = slotCost[target] - slotCost[current];
+            // 溫度隨剩餘時間線性下降，前期允許少量變差的移動以跳出局部最佳
+            double temperature = initialTemperature * (1.0 - (System.nanoTime() - start) / span);
+            if (delta <= 0 || (temperature > 0 && random.nextDouble() < Math.exp(-delta / temperature))) {
+                slots[c] = target;
+                currentCost += delta;
+                if (currentCost < bestCost) {
+                    bestCost = currentCost;
+                    System.arraycopy(slots, 0, best, 0, classes);
+                }
+            }
+        }
+        return new Result(best, bestCost, iterations);
+    }
+
+    /**
+     * 計算班級 c 放在每個時段時與已排定鄰居產生的懲罰（未排定的鄰居時段為 -1，略過）
+     */
+    private static void slotCosts(SparseIntMatrix conflicts, int[] slots, int c, Options options, long[] slotCost) {
+        Arrays.fill(slotCost, 0);
+        for (int index = conflicts.rowStart(c); index < conflicts.rowEnd(c); index++) {
+            int slot = slots[conflicts.columnAt(index)];
+            if (slot < 0) {
+                continue;
+            }
+            long weight = conflicts.valueAt(index);
+            slotCost[slot] += weight * options.sameSlotPenalty();
+            if (slot > 0 && sameDay(slot - 1, slot, options)) {
+                slotCost[slot - 1] += weight * options.backToBackPenalty();
+            }
+            if (slot + 1 < slotCost.length && sameDay(slot, slot + 1, options)) {
+                slotCost[slot + 1] += weight * options.backToBackPenalty();
+            }
+        }
+    }
+
+    private static int penalty(int a, int b, Options options) {
+        if (a == b) {
+            return options.sameSlotPenalty();
+        }
+        if (Math.abs(a - b) == 1 && sameDay(Math.min(a, b), Math.max(a, b), options)) {
+            return options.backToBackPenalty();
+        }
+        return 0;
+    }
+
+    private static boolean sameDay(int a, int b, Options options) {
+        return a / options.slotsPerDay() == b / options.slotsPerDay();
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.schoolmanagementsystem.util;
+
+import java.math.BigDecimal;
+
+/**
+ * 成績分數驗證
+ * 分數必須介於 0 ~ 100，最多一位小數（對應 Grades.score_numeric 的 DECIMAL(4,1)）
+ */
+public final class GradeScores {
+
+    private static final BigDecimal MAX_SCORE = BigDecimal.valueOf(100);
+
+    private GradeScores() {
+    }
+
+    /**
+     * 驗證並統一為一位小數
+     * @return 正規化後的分數；不合法時回傳 null
+     */
+    public static BigDecimal normalize(BigDecimal score) {
+        if (score == null || score.signum() < 0 || score.compareTo(MAX_SCORE) > 0
+                || score.stripTrailingZeros().scale() > 1) {
+            return null;
+        }
+        return score.setScale(1);
+    }
+
+    /**
+     * 解析文字分數
+     * @return 正規化後的分數；空白或不合法時回傳 null
+     */
+    public static BigDecimal parse(String text) {
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+        try {
+            return normalize(new BigDecimal(text.strip()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 說明分數不合法的原因（供錯誤報告使用）
+     */
+    public static String describeInvalid(String text) {
+        if (text == null || text.isBlank()) {
+            return "分數不可為空";
+        }
+        try {
+            new BigDecimal(text.strip());
+            return "分數必須介於 0 ~ 100，且最多一位小數";
+        } catch (NumberFormatException e) {
+            return "分數格式錯誤: " + text;
+        }
+    }
+}
@@ -0,0 +1,393 @@
+package com.example.schoolmanagementsystem.util;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+/**
+ * 唯讀的欄式（columnar）成績快照
+ * 每筆成績拆成數個平行的 int 陣列：成績ID、班級序號、課程序號、學期序號、分數、學分；
+ * 課程、學期、班級以字典轉成連續序號，分數與學分皆乘以 10 存成整數（對應 DECIMAL(x,1)）
+ *
+ * 快照建立後不再修改，查詢時把資料切成數段平行掃描，各段以序號為索引累加到 long 陣列後合併，
+ * 過程中不產生任何物件也不需存取資料庫
+ */
+public final class GradeSnapshot {
+
+    /** 分數、學分放大倍率 */
+    public static final int SCALE = 10;
+
+    private static final int PASSING_SCORE = 60 * SCALE;
+    private static final int MAX_GROUPS = 1 << 20;
+    private static final int MIN_ROWS_PER_CHUNK = 16_384;
+
+    /**
+     * 分組維度
+     */
+    public enum Dimension {
+        COURSE, TERM, CLASS
+    }
+
+    /**
+     * 篩選條件（null 表示不限）
+     */
+    public record Filter(String courseId, Integer academicYear, String semester, Integer classId) {
+    }
+
+    /**
+     * 分組結果
+     * @param key 維度 → 值
+     * @param count 成績筆數
+     * @param average 平均分數
+     * @param weightedAverage 學分加權平均分數
+     * @param passRate 及格率（0 ~ 1）
+     * @param failCount 不及格人次
+     */
+    public record Group(Map<String, String> key, int count, double average, double weightedAverage,
+                        double passRate, int failCount) {
+    }
+
+    private final int size;
+    private final int[] gradeIds;
+    private final int[] classOrds;
+    private final int[] courseOrds;
+    private final int[] termOrds;
+    private final int[] scores;
+    private final int[] credits;
+
+    private final int[] classDictionary;
+    private final String[] courseDictionary;
+    private final int[] termYears;
+    private final String[] termSemesters;
+
+    private final int maxGradeId;
+    private final LocalDateTime builtAt;
+
+    private GradeSnapshot(Builder builder) {
+        this.size = builder.size;
+        this.gradeIds = Arrays.copyOf(builder.gradeIds, size);
+        this.classOrds = Arrays.copyOf(builder.classOrds, size);
+        this.courseOrds = Arrays.copyOf(builder.courseOrds, size);
+        this.termOrds = Arrays.copyOf(builder.termOrds, size);
+        this.scores = Arrays.copyOf(builder.scores, size);
+        this.credits = Arrays.copyOf(builder.credits, size);
+        this.classDictionary = builder.classes.stream().mapToInt(Integer::intValue).toArray();
+        this.courseDictionary = builder.courses.toArray(String[]::new);
+        this.termYears = builder.termYears.stream().mapToInt(Integer::intValue).toArray();
+        this.termSemesters = builder.termSemesters.toArray(String[]::new);
+        this.maxGradeId = builder.maxGradeId;
+        this.builtAt = LocalDateTime.now();
+    }
+
+    public static GradeSnapshot empty() {
+        return new Builder().build();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int maxGradeId() {
+        return maxGradeId;
+    }
+
+    public LocalDateTime builtAt() {
+        return builtAt;
+    }
+
+    /**
+     * 篩選後依維度分組彙總
+     * @param filter 篩選條件
+     * @param dimensions 分組維度（空清單表示整體彙總）
+     * @return 有資料的分組，依鍵值排序
+     */
+    public List<Group> aggregate(Filter filter, List<Dimension> dimensions) {
+        int courseOrd = filter.courseId() == null ? -1 : indexOf(courseDictionary, filter.courseId());
+        int classOrd = filter.classId() == null ? -1 : indexOf(classDictionary, filter.classId());
+        if (courseOrd == -2 || classOrd == -2) {
+            return List.of();
+        }
+
+        boolean[] termAllowed = new boolean[termYears.length];
+        for (int t = 0; t < termYears.length; t++) {
+            termAllowed[t] = (filter.academicYear() == null || filter.academicYear() == termYears[t])
+                    && (filter.semester() == null || filter.semester().equals(termSemesters[t]));
+        }
+
+        int[] cardinalities = new int[dimensions.size()];
+        long groups = 1;
+        for (int d = 0; d < dimensions.size(); d++) {
+            cardinalities[d] = Math.max(1, cardinality(dimensions.get(d)));
+            groups *= cardinalities[d];
+        }
+        if (groups > MAX_GROUPS) {
+            throw new IllegalArgumentException("分組數量過多（" + groups + "），請減少分組維度或加上篩選條件");
+        }
+        int groupCount = (int) groups;
+
+        // 分段數依資料量與分組陣列大小決定，避免每段的累加陣列占用過多記憶體
+        int chunks = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors() * 2, size / MIN_ROWS_PER_CHUNK));
+        chunks = Math.max(1, Math.min(chunks, (1 << 22) / groupCount));
+        int chunkSize = (size + chunks - 1) / Math.max(1, chunks);
+
+        Accumulator total = IntStream.range(0, chunks)
+                .parallel()
+                .mapToObj(chunk -> {
+                    Accumulator accumulator = new Accumulator(groupCount);
+                    int from = chunk * chunkSize;
+                    int to = Math.min(size, from + chunkSize);
+                    for (int row = from; row < to; row++) {
+                        if ((courseOrd >= 0 && courseOrds[row] != courseOrd)
+                                || (classOrd >= 0 && classOrds[row] != classOrd)
+                                || !termAllowed[termOrds[row]]) {
+                            continue;
+                        }
+                        int group = 0;
+                        for (int d = 0; d < cardinalities.length; d++) {
+                            group = group * cardinalities[d] + ordinal(dimensions.get(d), row);
+                        }
+                        accumulator.add(group, scores[row], credits[row]);
+                    }
+                    return accumulator;
+                })
+                .reduce(Accumulator::merge)
+                .orElseGet(() -> new Accumulator(groupCount));
+
+        return toGroups(total, dimensions, cardinalities);
+    }
+
+    private List<Group> toGroups(Accumulator total, List<Dimension> dimensions, int[] cardinalities) {
+        List<Group> result = new ArrayList<>();
+        for (int group = 0; group < total.count.length; group++) {
+            long count = total.count[group];
+            if (count == 0) {
+                continue;
+            }
+
+            Map<String, String> key = new LinkedHashMap<>();
+            int remainder = group;
+            String[] labels = new String[cardinalities.length];
+            for (int d = cardinalities.length - 1; d >= 0; d--) {
+                labels[d] = label(dimensions.get(d), remainder % cardinalities[d]);
+                remainder /= cardinalities[d];
+            }
+            for (int d = 0; d < labels.length; d++) {
+                key.put(dimensions.get(d).name().toLowerCase(), labels[d]);
+            }
+
+            double average = (double) total.scoreSum[group] / count / SCALE;
+            double weighted = total.creditSum[group] == 0 ? 0
+                    : (double) total.weightedSum[group] / total.creditSum[group] / SCALE;
+            result.add(new Group(key, (int) count, round(average), round(weighted),
+                    round((double) total.passed[group] / count), (int) (count - total.passed[group])));
+        }
+
+        result.sort(Comparator.comparing(group -> String.join("\u0000", group.key().values())));
+        return result;
+    }
+
+    private int cardinality(Dimension dimension) {
+        return switch (dimension) {
+            case COURSE -> courseDictionary.length;
+            case TERM -> termYears.length;
+            case CLASS -> classDictionary.length;
+        };
+    }
+
+    private int ordinal(Dimension dimension, int row) {
+        return switch (dimension) {
+            case COURSE -> courseOrds[row];
+            case TERM -> termOrds[row];
+            case CLASS -> classOrds[row];
+        };
+    }
+
+    private String label(Dimension dimension, int ordinal) {
+        return switch (dimension) {
+            case COURSE -> courseDictionary[ordinal];
+            case TERM -> termYears[ordinal] + "-" + termSemesters[ordinal];
+            case CLASS -> String.valueOf(classDictionary[ordinal]);
+        };
+    }
+
+    /**
+     * 回傳序號；-2 表示字典中不存在（篩選結果必為空）
+     */
+    private static int indexOf(String[] dictionary, String value) {
+        for (int i = 0; i < dictionary.length; i++) {
+            if (dictionary[i].equals(value)) {
+                return i;
+            }
+        }
+        return -2;
+    }
+
+    private static int indexOf(int[] dictionary, int value) {
+        for (int i = 0; i < dictionary.length; i++) {
+            if (dictionary[i] == value) {
+                return i;
+            }
+        }
+        return -2;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+
+    /**
+     * 每段掃描的累加器
+     */
+    private static final class Accumulator {
+        private final long[] count;
+        private final long[] scoreSum;
+        private final long[] weightedSum;
+        private final long[] creditSum;
+        private final long[] passed;
+
+        private Accumulator(int groups) {
+            count = new long[groups];
+            scoreSum = new long[groups];
+            weightedSum = new long[groups];
+            creditSum = new long[groups];
+            passed = new long[groups];
+        }
+
+        private void add(int group, int score, int credit) {
+            count[group]++;
+            scoreSum[group] += score;
+            weightedSum[group] += (long) score * credit;
+            creditSum[group] += credit;
+            if (score >= PASSING_SCORE) {
+                passed[group]++;
+            }
+        }
+
+        private Accumulator merge(Accumulator other) {
+            for (int i = 0; i < count.length; i++) {
+                count[i] += other.count[i];
+                scoreSum[i] += other.scoreSum[i];
+                weightedSum[i] += other.weightedSum[i];
+                creditSum[i] += other.creditSum[i];
+                passed[i] += other.passed[i];
+            }
+            return this;
+        }
+    }
+
+    /**
+     * 快照建構器
+     * 可從既有快照開始（沿用字典序號並略過指定的成績），再附加新資料列
+     */
+    public static final class Builder {
+        private int size;
+        private int[] gradeIds = new int[1024];
+        private int[] classOrds = new int[1024];
+        private int[] courseOrds = new int[1024];
+        private int[] termOrds = new int[1024];
+        private int[] scores = new int[1024];
+        private int[] credits = new int[1024];
+        private int maxGradeId;
+
+        private final List<Integer> classes = new ArrayList<>();
+        private final List<String> courses = new ArrayList<>();
+        private final List<Integer> termYears = new ArrayList<>();
+        private final List<String> termSemesters = new ArrayList<>();
+        private final Map<Integer, Integer> classIndex = new HashMap<>();
+        private final Map<String, Integer> courseIndex = new HashMap<>();
+        private final Map<String, Integer> termIndex = new HashMap<>();
+
+        public Builder() {
+        }
+
+        /**
+         * 以既有快照為基礎
+         * @param base 既有快照
+         * @param drop 要略過的成績ID（例如已修改或刪除的成績）
+         */
+        public Builder(GradeSnapshot base, IntPredicate drop) {
+            for (int classId : base.classDictionary) {
+                classIndex.put(classId, classes.size());
+                classes.add(classId);
+            }
+            for (String courseId : base.courseDictionary) {
+                courseIndex.put(courseId, courses.size());
+                courses.add(courseId);
+            }
+            for (int t = 0; t < base.termYears.length; t++) {
+                termIndex.put(base.termYears[t] + "\u0000" + base.termSemesters[t], termYears.size());
+                termYears.add(base.termYears[t]);
+                termSemesters.add(base.termSemesters[t]);
+            }
+
+            ensureCapacity(base.size);
+            for (int row = 0; row < base.size; row++) {
+                if (drop.test(base.gradeIds[row])) {
+                    continue;
+                }
+                append(base.gradeIds[row], base.classOrds[row], base.courseOrds[row], base.termOrds[row],
+                        base.scores[row], base.credits[row]);
+            }
+            this.maxGradeId = base.maxGradeId;
+        }
+
+        /**
+         * 新增一筆成績
+         * @param score 分數（已乘以 10）
+         * @param credit 學分（已乘以 10）
+         */
+        public Builder add(int gradeId, int classId, String courseId, int academicYear, String semester,
+                           int score, int credit) {
+            int classOrd = classIndex.computeIfAbsent(classId, id -> {
+                classes.add(id);
+                return classes.size() - 1;
+            });
+            int courseOrd = courseIndex.computeIfAbsent(courseId, id -> {
+                courses.add(id);
+                return courses.size() - 1;
+            });
+            int termOrd = termIndex.computeIfAbsent(academicYear + "\u0000" + semester, key -> {
+                termYears.add(academicYear);
+                termSemesters.add(semester);
+                return termYears.size() - 1;
+            });
+            append(gradeId, classOrd, courseOrd, termOrd, score, credit);
+            return this;
+        }
+
+        public GradeSnapshot build() {
+            return new GradeSnapshot(this);
+        }
+
+        private void append(int gradeId, int classOrd, int courseOrd, int termOrd, int score, int credit) {
+            ensureCapacity(size + 1);
+            gradeIds[size] = gradeId;
+            classOrds[size] = classOrd;
+            courseOrds[size] = courseOrd;
+            termOrds[size] = termOrd;
+            scores[size] = score;
+            credits[size] = credit;
+            size++;
+            maxGradeId = Math.max(maxGradeId, gradeId);
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity > gradeIds.length) {
+                int newLength = Math.max(capacity, gradeIds.length * 2);
+                gradeIds = Arrays.copyOf(gradeIds, newLength);
+                classOrds = Arrays.copyOf(classOrds, newLength);
+                courseOrds = Arrays.copyOf(courseOrds, newLength);
+                termOrds = Arrays.copyOf(termOrds, newLength);
+                scores = Arrays.copyOf(scores, newLength);
+                credits = Arrays.copyOf(credits, newLength);
+            }
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.example.schoolmanagementsystem.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 區間樹（以起點排序的 Treap，節點記錄子樹最大終點）
+ * 區間為半開區間 [start, end)，新增、刪除、是否重疊皆為 O(log n)；
+ * 列出所有重疊區間為 O(log n + k)
+ *
+ * 本類別不是執行緒安全的，由呼叫端負責同步
+ */
+public class IntervalTree {
+
+    /**
+     * 區間
+     * @param start 起點（含）
+     * @param end 終點（不含）
+     * @param id 識別碼（例如預約ID）
+     */
+    public record Interval(long start, long end, long id) {
+    }
+
+    private static final class Node {
+        private final Interval interval;
+        private final int priority;
+        private long maxEnd;
+        private Node left;
+        private Node right;
+
+        private Node(Interval interval) {
+            this.interval = interval;
+            this.priority = ThreadLocalRandom.current().nextInt();
+            this.maxEnd = interval.end();
+        }
+    }
+
+    private Node root;
+    private int size;
+
+    public int size() {
+        return size;
+    }
+
+    public void insert(long start, long end, long id) {
+        if (end <= start) {
+            throw new IllegalArgumentException("區間終點必須大於起點");
+        }
+        Interval interval = new Interval(start, end, id);
+        Node[] parts = split(root, interval);
+        root = merge(merge(parts[0], new Node(interval)), parts[1]);
+        size++;
+    }
+
+    /**
+     * 刪除區間
+     * @return 是否有找到並刪除
+     */
+    public boolean remove(long start, long id) {
+        int before = size;
+        root = remove(root, start, id);
+        return size < before;
+    }
+
+    /**
+     * 是否有任何區間與 [start, end) 重疊
+     */
+    public boolean overlaps(long start, long end) {
+        Node node = root;
+        while (node != null) {
+            if (node.interval.start() < end && start < node.interval.end()) {
+                return true;
+            }
+            // 左子樹的最大終點超過查詢起點時，重疊只可能在左邊；否則往右找
+            if (node.left != null && node.left.maxEnd > start) {
+                node = node.left;
+            } else if (node.interval.start() < end) {
+                node = node.right;
+            } else {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 列出與 [start, end) 重疊的區間（依起點排序）
+     */
+    public List<Interval> overlapping(long start, long end) {
+        List<Interval> result = new ArrayList<>();
+        collect(root, start, end, result);
+        return result;
+    }
+
+    private static void collect(Node node, long start, long end, List<Interval> result) {
+        if (node == null || node.maxEnd <= start) {
+            return;
+        }
+        collect(node.left, start, end, result);
+        if (node.interval.start() < end && start < node.interval.end()) {
+            result.add(node.interval);
+        }
+        if (node.interval.start() < end) {
+            collect(node.right, start, end, result);
+        }
+    }
+
+    private Node remove(Node node, long start, long id) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = compare(start, id, node.interval);
+        if (cmp == 0) {
+            size--;
+            return merge(node.left, node.right);
+        }
+        if (cmp < 0) {
+            node.left = remove(node.left, start, id);
+        } else {
+            node.right = remove(node.right, start, id);
+        }
+        update(node);
+        return node;
+    }
+
+    private static Node[] split(Node node, Interval interval) {
+        if (node == null) {
+            return new Node[]{null, null};
+        }
+        if (compare(interval.start(), interval.id(), node.interval) > 0) {
+            Node[] parts = split(node.right, interval);
+            node.right = parts[0];
+            update(node);
+            return new Node[]{node, parts[1]};
+        }
+        Node[] parts = split(node.left, interval);
+        node.left = parts[1];
+        update(node);
+        return new Node[]{parts[0], node};
+    }
+
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            update(left);
+            return left;
+        }
+        right.left = merge(left, right.left);
+        update(right);
+        return right;
+    }
+
+    private static int compare(long start, long id, Interval interval) {
+        int byStart = Long.compare(start, interval.start());
+        return byStart != 0 ? byStart : Long.compare(id, interval.id());
+    }
+
+    private static void update(Node node) {
+        long maxEnd = node.interval.end();
+        if (node.left != null) {
+            maxEnd = Math.max(maxEnd, node.left.maxEnd);
+        }
+        if (node.right != null) {
+            maxEnd = Math.max(maxEnd, node.right.maxEnd);
+        }
+        node.maxEnd = maxEnd;
+    }
+}
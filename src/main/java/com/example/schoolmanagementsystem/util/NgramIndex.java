@@ -0,0 +1,237 @@
+package com.example.schoolmanagementsystem.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 字元 n-gram 倒排索引
+ * 以單字元與雙字元（bigram）為詞彙單位，適合沒有空白分詞的中文姓名與課程名稱；
+ * 例如「計算機概論」會被切成 計算、算機、機概、概論（以及各單字元），
+ * 查詢「機概」或「計算概論」都能命中並依重疊程度排序
+ *
+ * 文件以整數槽位儲存，倒排串列為遞增的 int 陣列；更新採「標記刪除 + 新增」，
+ * 失效槽位過多時整體重建
+ */
+public class NgramIndex {
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Integer> slotByKey = new HashMap<>();
+    private final Map<String, IntList> postings = new HashMap<>();
+    private String[] keys = new String[1024];
+    private String[] texts = new String[1024];
+    private int size;
+
+    /**
+     * 查詢結果
+     * @param key 文件鍵值（例如課程ID）
+     * @param text 被索引的文字
+     * @param score 相關度（0 ~ 2）
+     */
+    public record Hit(String key, String text, double score) {
+    }
+
+    /**
+     * 新增或更新文件
+     */
+    public void put(String key, String text) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(key);
+            if (text == null || text.isBlank()) {
+                return;
+            }
+
+            int slot = size++;
+            ensureCapacity(size);
+            keys[slot] = key;
+            texts[slot] = text;
+            slotByKey.put(key, slot);
+
+            for (String gram : grams(normalize(text), true)) {
+                postings.computeIfAbsent(gram, g -> new IntList()).add(slot);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 移除文件
+     */
+    public void remove(String key) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(key);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 目前有效文件數
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotByKey.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 依相關度查詢
+     * 分數 = 命中的 n-gram 比例，完整包含查詢字串再加 1；同分時較短的文字優先
+     * @param query 查詢字串
+     * @param limit 最多回傳筆數
+     * @return 依分數遞減排序的結果
+     */
+    public List<Hit> search(String query, int limit) {
+        String normalized = normalize(query);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        Set<String> queryGrams = grams(normalized, false);
+        // 至少要命中一半的 n-gram 才算候選
+        int minMatches = Math.max(1, (queryGrams.size() + 1) / 2);
+
+        lock.readLock().lock();
+        try {
+            int[] matches = new int[size];
+            IntList touched = new IntList();
+            for (String gram : queryGrams) {
+                IntList posting = postings.get(gram);
+                if (posting == null) {
+                    continue;
+                }
+                for (int i = 0; i < posting.size; i++) {
+                    int slot = posting.values[i];
+                    if (keys[slot] != null && matches[slot]++ == 0) {
+                        touched.add(slot);
+                    }
+                }
+            }
+
+            List<Hit> hits = new ArrayList<>();
+            for (int i = 0; i < touched.size; i++) {
+                int slot = touched.values[i];
+                if (matches[slot] < minMatches) {
+                    continue;
+                }
+                double score = (double) matches[slot] / queryGrams.size();
+                if (normalize(texts[slot]).contains(normalized)) {
+                    score += 1.0;
+                }
+                hits.add(new Hit(keys[slot], texts[slot], score));
+            }
+
+            hits.sort(Comparator.comparingDouble(Hit::score).reversed()
+                    .thenComparingInt(hit -> hit.text().length())
+                    .thenComparing(Hit::key));
+            return hits.size() > limit ? new ArrayList<>(hits.subList(0, limit)) : hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeInternal(String key) {
+        Integer slot = slotByKey.remove(key);
+        if (slot == null) {
+            return;
+        }
+        keys[slot] = null;
+        texts[slot] = null;
+
+        // 失效槽位超過一半時重建，避免倒排串列持續膨脹
+        if (size > 1024 && slotByKey.size() < size / 2) {
+            compact();
+        }
+    }
+
+    private void compact() {
+        String[] oldKeys = keys;
+        String[] oldTexts = texts;
+        int oldSize = size;
+
+        keys = new String[Math.max(1024, slotByKey.size() * 2)];
+        texts = new String[keys.length];
+        size = 0;
+        slotByKey.clear();
+        postings.clear();
+
+        for (int i = 0; i < oldSize; i++) {
+            if (oldKeys[i] == null) {
+                continue;
+            }
+            int slot = size++;
+            keys[slot] = oldKeys[i];
+            texts[slot] = oldTexts[i];
+            slotByKey.put(oldKeys[i], slot);
+            for (String gram : grams(normalize(oldTexts[i]), true)) {
+                postings.computeIfAbsent(gram, g -> new IntList()).add(slot);
+            }
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > keys.length) {
+            int newLength = Math.max(capacity, keys.length * 2);
+            keys = Arrays.copyOf(keys, newLength);
+            texts = Arrays.copyOf(texts, newLength);
+        }
+    }
+
+    /**
+     * 正規化：轉小寫並移除空白
+     */
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.toLowerCase(Locale.ROOT).replaceAll("\\s+", "");
+    }
+
+    /**
+     * 切出 n-gram
+     * 建索引時同時收錄單字元與雙字元；查詢時只有一個字元才用單字元，否則用雙字元
+     */
+    private static Set<String> grams(String text, boolean forIndex) {
+        Set<String> grams = new LinkedHashSet<>();
+        int[] codePoints = text.codePoints().toArray();
+
+        if (forIndex || codePoints.length == 1) {
+            for (int codePoint : codePoints) {
+                grams.add(new String(Character.toChars(codePoint)));
+            }
+        }
+        for (int i = 0; i + 1 < codePoints.length; i++) {
+            grams.add(new String(codePoints, i, 2));
+        }
+        return grams;
+    }
+
+    /**
+     * 可成長的 int 陣列（避免 Integer 裝箱）
+     */
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        private void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+    }
+}
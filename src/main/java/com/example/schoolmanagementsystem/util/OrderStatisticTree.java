@@ -0,0 +1,168 @@
+package com.example.schoolmanagementsystem.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 順序統計樹（以子樹大小擴充的 Treap）
+ * 依分數由高到低、同分再依ID排序，新增、刪除、名次查詢皆為 O(log n)，
+ * 取前 k 名為 O(log n + k)；不需每次查詢都重新排序整個群體
+ *
+ * 本類別不是執行緒安全的，由呼叫端負責同步
+ */
+public class OrderStatisticTree {
+
+    /**
+     * 排名項目
+     * @param id 項目ID（例如學號）
+     * @param value 排序值（例如 GPA）
+     */
+    public record Entry(String id, double value) {
+    }
+
+    private static final class Node {
+        private final String id;
+        private final double value;
+        private final int priority;
+        private int size = 1;
+        private Node left;
+        private Node right;
+
+        private Node(String id, double value) {
+            this.id = id;
+            this.value = value;
+            this.priority = ThreadLocalRandom.current().nextInt();
+        }
+    }
+
+    private Node root;
+
+    /**
+     * 新增項目（同一ID不可重複加入，更新請先 remove）
+     */
+    public void insert(String id, double value) {
+        Node[] parts = split(root, value, id);
+        root = merge(merge(parts[0], new Node(id, value)), parts[1]);
+    }
+
+    /**
+     * 刪除項目
+     * @return 是否有找到並刪除
+     */
+    public boolean remove(String id, double value) {
+        int before = size(root);
+        root = remove(root, id, value);
+        return size(root) < before;
+    }
+
+    public int size() {
+        return size(root);
+    }
+
+    /**
+     * 分數嚴格高於 value 的項目數（同分者名次相同：名次 = countGreater + 1）
+     */
+    public int countGreater(double value) {
+        int count = 0;
+        Node node = root;
+        while (node != null) {
+            if (node.value > value) {
+                count += size(node.left) + 1;
+                node = node.right;
+            } else {
+                node = node.left;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 依名次取前 k 個項目
+     */
+    public List<Entry> top(int k) {
+        List<Entry> result = new ArrayList<>(Math.min(Math.max(k, 0), size()));
+        collect(root, k, result);
+        return result;
+    }
+
+    private static void collect(Node node, int k, List<Entry> result) {
+        if (node == null || result.size() >= k) {
+            return;
+        }
+        collect(node.left, k, result);
+        if (result.size() < k) {
+            result.add(new Entry(node.id, node.value));
+        }
+        collect(node.right, k, result);
+    }
+
+    private static Node remove(Node node, String id, double value) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = compare(value, id, node);
+        if (cmp == 0) {
+            return merge(node.left, node.right);
+        }
+        if (cmp < 0) {
+            node.left = remove(node.left, id, value);
+        } else {
+            node.right = remove(node.right, id, value);
+        }
+        update(node);
+        return node;
+    }
+
+    /**
+     * 依 (value, id) 分割：排在前面的放左邊，其餘放右邊
+     */
+    private static Node[] split(Node node, double value, String id) {
+        if (node == null) {
+            return new Node[]{null, null};
+        }
+        if (compare(value, id, node) > 0) {
+            Node[] parts = split(node.right, value, id);
+            node.right = parts[0];
+            update(node);
+            return new Node[]{node, parts[1]};
+        }
+        Node[] parts = split(node.left, value, id);
+        node.left = parts[1];
+        update(node);
+        return new Node[]{parts[0], node};
+    }
+
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            update(left);
+            return left;
+        }
+        right.left = merge(left, right.left);
+        update(right);
+        return right;
+    }
+
+    /**
+     * 比較 (value, id) 與節點：分數高者在前，同分依ID遞增
+     */
+    private static int compare(double value, String id, Node node) {
+        int byValue = Double.compare(node.value, value);
+        return byValue != 0 ? byValue : id.compareTo(node.id);
+    }
+
+    private static void update(Node node) {
+        node.size = 1 + size(node.left) + size(node.right);
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+}
@@ -0,0 +1,206 @@
+package com.example.schoolmanagementsystem.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 前綴索引（排序陣列 + 二分搜尋）
+ * 每個項目可有多個搜尋詞（例如課程代碼與課程名稱），所有搜尋詞正規化後存放在一個排序陣列中；
+ * 以二分搜尋找到前綴的起點後往後掃描，前綴相同的詞在陣列中必定相鄰
+ *
+ * 讀取端使用不可變快照，完全不需加鎖；寫入端以 copy-on-write 方式插入或刪除單一項目，
+ * 不需整體重建
+ */
+public class PrefixIndex {
+
+    /**
+     * 建議結果
+     * @param id 項目ID
+     * @param label 顯示名稱
+     */
+    public record Suggestion(String id, String label) {
+    }
+
+    /**
+     * 不可變快照：terms 為排序後的搜尋詞，ids 為對應的項目ID，labels 為項目ID → 顯示名稱
+     */
+    private record Snapshot(String[] terms, String[] ids, Map<String, String> labels) {
+    }
+
+    private volatile Snapshot snapshot = new Snapshot(new String[0], new String[0], Map.of());
+
+    /**
+     * 以完整資料重建索引
+     * @param entries 項目ID → 顯示名稱
+     * @param termsById 項目ID → 搜尋詞
+     */
+    public synchronized void rebuild(Map<String, String> entries, Map<String, ? extends Collection<String>> termsById) {
+        List<String[]> pairs = new ArrayList<>();
+        termsById.forEach((id, terms) -> {
+            for (String term : normalizeAll(terms)) {
+                pairs.add(new String[]{term, id});
+            }
+        });
+        pairs.sort((a, b) -> {
+            int byTerm = a[0].compareTo(b[0]);
+            return byTerm != 0 ? byTerm : a[1].compareTo(b[1]);
+        });
+
+        String[] terms = new String[pairs.size()];
+        String[] ids = new String[pairs.size()];
+        for (int i = 0; i < pairs.size(); i++) {
+            terms[i] = pairs.get(i)[0];
+            ids[i] = pairs.get(i)[1];
+        }
+
+        this.snapshot = new Snapshot(terms, ids, Map.copyOf(entries));
+    }
+
+    /**
+     * 新增或更新單一項目
+     */
+    public synchronized void put(String id, String label, Collection<String> terms) {
+        Snapshot current = removeFrom(snapshot, id);
+        Map<String, String> newLabels = new HashMap<>(current.labels());
+        newLabels.put(id, label);
+
+        String[] newTerms = current.terms();
+        String[] newIds = current.ids();
+        for (String term : normalizeAll(terms)) {
+            int position = lowerBound(newTerms, newIds, term, id);
+            newTerms = insert(newTerms, position, term);
+            newIds = insert(newIds, position, id);
+        }
+
+        this.snapshot = new Snapshot(newTerms, newIds, newLabels);
+    }
+
+    /**
+     * 移除單一項目
+     */
+    public synchronized void remove(String id) {
+        this.snapshot = removeFrom(snapshot, id);
+    }
+
+    /**
+     * 查詢前綴符合的項目
+     * @param prefix 前綴
+     * @param limit 最多回傳筆數
+     * @return 依搜尋詞字典序排列、不重複的項目
+     */
+    public List<Suggestion> suggest(String prefix, int limit) {
+        String normalized = normalize(prefix);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        Snapshot current = snapshot;
+        String[] terms = current.terms();
+
+        Set<String> seen = new LinkedHashSet<>();
+        for (int i = lowerBound(terms, current.ids(), normalized, ""); i < terms.length; i++) {
+            if (!terms[i].startsWith(normalized)) {
+                break;
+            }
+            seen.add(current.ids()[i]);
+            if (seen.size() >= limit) {
+                break;
+            }
+        }
+
+        List<Suggestion> suggestions = new ArrayList<>(seen.size());
+        for (String id : seen) {
+            suggestions.add(new Suggestion(id, current.labels().get(id)));
+        }
+        return suggestions;
+    }
+
+    public int size() {
+        return snapshot.labels().size();
+    }
+
+    private static Snapshot removeFrom(Snapshot source, String id) {
+        if (!source.labels().containsKey(id)) {
+            return source;
+        }
+
+        Map<String, String> labels = new HashMap<>(source.labels());
+        labels.remove(id);
+
+        String[] ids = source.ids();
+        int kept = 0;
+        for (String existing : ids) {
+            if (!existing.equals(id)) {
+                kept++;
+            }
+        }
+
+        String[] terms = new String[kept];
+        String[] newIds = new String[kept];
+        int j = 0;
+        for (int i = 0; i < ids.length; i++) {
+            if (!ids[i].equals(id)) {
+                terms[j] = source.terms()[i];
+                newIds[j] = ids[i];
+                j++;
+            }
+        }
+        return new Snapshot(terms, newIds, labels);
+    }
+
+    /**
+     * 第一個大於等於 (term, id) 的位置
+     */
+    private static int lowerBound(String[] terms, String[] ids, String term, String id) {
+        int low = 0;
+        int high = terms.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int cmp = terms[mid].compareTo(term);
+            if (cmp == 0) {
+                cmp = ids[mid].compareTo(id);
+            }
+            if (cmp < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static String[] insert(String[] array, int position, String value) {
+        String[] result = Arrays.copyOf(array, array.length + 1);
+        System.arraycopy(array, position, result, position + 1, array.length - position);
+        result[position] = value;
+        return result;
+    }
+
+    private static Set<String> normalizeAll(Collection<String> terms) {
+        Set<String> normalized = new LinkedHashSet<>();
+        for (String term : terms) {
+            String value = normalize(term);
+            if (!value.isEmpty()) {
+                normalized.add(value);
+            }
+        }
+        return normalized;
+    }
+
+    /**
+     * 正規化：轉大寫並移除空白（課程代碼、教職員編號不分大小寫）
+     */
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.toUpperCase(Locale.ROOT).replaceAll("\\s+", "");
+    }
+}
@@ -0,0 +1,255 @@
+package com.example.schoolmanagementsystem.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 先修課程有向無環圖（不可變）
+ * 建立時以拓撲排序算出每門課程的遞移閉包（所有直接與間接先修課程），
+ * 以 long[] 位元集合儲存；學生已通過的課程也以相同的位元順序表示，
+ * 檢查先修條件只需一次逐字組的子集合測試，不需遞迴查詢
+ */
+public final class PrerequisiteGraph {
+
+    private final String[] courseIds;
+    private final Map<String, Integer> ordinals;
+    private final int[][] direct;
+    private final long[][] closure;
+
+    private PrerequisiteGraph(String[] courseIds, Map<String, Integer> ordinals, int[][] direct, long[][] closure) {
+        this.courseIds = courseIds;
+        this.ordinals = ordinals;
+        this.direct = direct;
+        this.closure = closure;
+    }
+
+    /**
+     * 建立先修課程圖
+     * @param courseIds 所有課程ID
+     * @param prerequisites 課程ID → 直接先修課程ID（不在 courseIds 中的課程會被忽略）
+     * @throws IllegalArgumentException 先修關係形成循環時
+     */
+    public static PrerequisiteGraph build(Collection<String> courseIds,
+                                          Map<String, ? extends Collection<String>> prerequisites) {
+        String[] ids = courseIds.stream().distinct().sorted().toArray(String[]::new);
+        int n = ids.length;
+        Map<String, Integer> ordinals = new HashMap<>(n * 2);
+        for (int i = 0; i < n; i++) {
+            ordinals.put(ids[i], i);
+        }
+
+        int[][] direct = new int[n][];
+        List<List<Integer>> dependents = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            dependents.add(new ArrayList<>());
+        }
+        int[] remaining = new int[n];
+        for (int i = 0; i < n; i++) {
+            Collection<String> required = prerequisites.get(ids[i]);
+            direct[i] = required == null ? new int[0] : required.stream()
+                    .map(ordinals::get)
+                    .filter(ordinal -> ordinal != null)
+                    .mapToInt(Integer::intValue)
+                    .distinct()
+                    .sorted()
+                    .toArray();
+            remaining[i] = direct[i].length;
+            for (int prerequisite : direct[i]) {
+                dependents.get(prerequisite).add(i);
+            }
+        }
+
+        // Kahn 拓撲排序：先修課程的閉包一定先算好，再併入依賴它的課程
+        int words = (n + 63) >>> 6;
+        long[][] closure = new long[n][words];
+        ArrayDeque<Integer> ready = new ArrayDeque<>();
+        for (int i = 0; i < n; i++) {
+            if (remaining[i] == 0) {
+                ready.add(i);
+            }
+        }
+        int processed = 0;
+        while (!ready.isEmpty()) {
+            int course = ready.poll();
+            processed++;
+            for (int dependent : dependents.get(course)) {
+                long[] target = closure[dependent];
+                long[] source = closure[course];
+                for (int w = 0; w < words; w++) {
+                    target[w] |= source[w];
+                }
+                target[course >>> 6] |= 1L << course;
+                if (--remaining[dependent] == 0) {
+                    ready.add(dependent);
+                }
+            }
+        }
+
+        if (processed < n) {
+            throw new IllegalArgumentException("先修關係形成循環，涉及課程: "
+                    + String.join(", ", cyclicCourses(ids, direct, remaining)));
+        }
+
+        return new PrerequisiteGraph(ids, Map.copyOf(ordinals), direct, closure);
+    }
+
+    /**
+     * 拓撲排序後剩下的課程中，反覆剔除沒有未處理依賴者的課程（只是位在循環下游），
+     * 剩下的即為循環上的課程（最多列出 10 門）
+     */
+    private static List<String> cyclicCourses(String[] ids, int[][] direct, int[] remaining) {
+        int n = ids.length;
+        int[] pendingDependents = new int[n];
+        for (int i = 0; i < n; i++) {
+            if (remaining[i] > 0) {
+                for (int prerequisite : direct[i]) {
+                    pendingDependents[prerequisite]++;
+                }
+            }
+        }
+
+        boolean[] removed = new boolean[n];
+        ArrayDeque<Integer> leaves = new ArrayDeque<>();
+        for (int i = 0; i < n; i++) {
+            if (remaining[i] > 0 && pendingDependents[i] == 0) {
+                leaves.add(i);
+            }
+        }
+        while (!leaves.isEmpty()) {
+            int course = leaves.poll();
+            removed[course] = true;
+            for (int prerequisite : direct[course]) {
+                if (remaining[prerequisite] > 0 && --pendingDependents[prerequisite] == 0) {
+                    leaves.add(prerequisite);
+                }
+            }
+        }
+
+        List<String> cyclic = new ArrayList<>();
+        for (int i = 0; i < n && cyclic.size() < 10; i++) {
+            if (remaining[i] > 0 && !removed[i]) {
+                cyclic.add(ids[i]);
+            }
+        }
+        return cyclic;
+    }
+
+    public int size() {
+        return courseIds.length;
+    }
+
+    /**
+     * 課程在位元集合中的序號
+     * @return 序號；課程不存在時為 -1
+     */
+    public int ordinal(String courseId) {
+        Integer ordinal = ordinals.get(courseId);
+        return ordinal == null ? -1 : ordinal;
+    }
+
+    public String courseId(int ordinal) {
+        return courseIds[ordinal];
+    }
+
+    /**
+     * 位元集合所需的 long 個數
+     */
+    public int words() {
+        return (courseIds.length + 63) >>> 6;
+    }
+
+    /**
+     * 把尚未通過的（直接與間接）先修課程寫入 missing
+     * @param ordinal 課程序號
+     * @param passed 已通過課程的位元集合
+     * @param missing 輸出位元集合（長度為 {@link #words()}）
+     * @return 是否有任何尚未通過的先修課程
+     */
+    public boolean missingInto(int ordinal, long[] passed, long[] missing) {
+        long[] required = closure[ordinal];
+        long any = 0;
+        for (int w = 0; w < required.length; w++) {
+            missing[w] = required[w] & ~passed[w];
+            any |= missing[w];
+        }
+        return any != 0;
+    }
+
+    /**
+     * 把課程ID集合轉成位元集合（不存在的課程會被忽略）
+     */
+    public long[] toBits(Collection<String> courses) {
+        long[] bits = new long[(courseIds.length + 63) >>> 6];
+        for (String courseId : courses) {
+            Integer ordinal = ordinals.get(courseId);
+            if (ordinal != null) {
+                bits[ordinal >>> 6] |= 1L << ordinal;
+            }
+        }
+        return bits;
+    }
+
+    /**
+     * 已通過的課程是否涵蓋此課程的所有（直接與間接）先修課程
+     * @param courseId 課程ID（不在圖中的課程視為沒有先修）
+     * @param passed 以 {@link #toBits} 建立的位元集合
+     */
+    public boolean isSatisfied(String courseId, long[] passed) {
+        Integer ordinal = ordinals.get(courseId);
+        if (ordinal == null) {
+            return true;
+        }
+        long[] required = closure[ordinal];
+        for (int w = 0; w < required.length; w++) {
+            if ((required[w] & ~passed[w]) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 列出尚未通過的先修課程
+     * @return 依課程ID排序
+     */
+    public List<String> missing(String courseId, long[] passed) {
+        Integer ordinal = ordinals.get(courseId);
+        if (ordinal == null) {
+            return List.of();
+        }
+        long[] required = closure[ordinal];
+        List<String> missing = new ArrayList<>();
+        for (int w = 0; w < required.length; w++) {
+            long bits = required[w] & ~passed[w];
+            while (bits != 0) {
+                missing.add(courseIds[(w << 6) + Long.numberOfTrailingZeros(bits)]);
+                bits &= bits - 1;
+            }
+        }
+        return missing;
+    }
+
+    /**
+     * 列出課程的先修課程
+     * @param transitive true 時包含間接先修課程
+     * @return 依課程ID排序
+     */
+    public List<String> prerequisitesOf(String courseId, boolean transitive) {
+        Integer ordinal = ordinals.get(courseId);
+        if (ordinal == null) {
+            return List.of();
+        }
+        if (!transitive) {
+            List<String> result = new ArrayList<>(direct[ordinal].length);
+            for (int prerequisite : direct[ordinal]) {
+                result.add(courseIds[prerequisite]);
+            }
+            return result;
+        }
+        return missing(courseId, new long[closure[ordinal].length]);
+    }
+}
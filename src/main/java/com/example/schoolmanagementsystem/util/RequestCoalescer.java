@@ -0,0 +1,154 @@
+package com.example.schoolmanagementsystem.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 請求合併器（single-flight）
+ * 同一個 key 的並行呼叫只會執行一次，結果交給所有等待者；
+ * 可選擇把結果再保留一小段時間，讓緊接而來的相同請求直接取用
+ *
+ * 注意：結果會被多個請求共用，呼叫端必須把回傳值視為唯讀
+ */
+public class RequestCoalescer {
+
+    /**
+     * 每執行多少次計算，順便清理一次過期的結果
+     */
+    private static final int SWEEP_INTERVAL = 1024;
+
+    private final ConcurrentHashMap<String, Flight> flights = new ConcurrentHashMap<>();
+    private final long resultTtlNanos;
+
+    // 統計資訊
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder sharedInFlight = new LongAdder();
+    private final LongAdder sharedFromCache = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    /**
+     * 進行中（或剛完成）的一次計算
+     */
+    private static final class Flight {
+        private final CompletableFuture<Object> future = new CompletableFuture<>();
+        // 結果到期時間（System.nanoTime），只在 future 完成後有意義
+        private volatile long expiresAt;
+
+        private boolean isReusable(long now) {
+            return !future.isDone()
+                    || (!future.isCompletedExceptionally() && now - expiresAt < 0);
+        }
+    }
+
+    /**
+     * @param resultTtlMillis 計算完成後結果保留的毫秒數（0 表示只合併進行中的請求）
+     */
+    public RequestCoalescer(long resultTtlMillis) {
+        this.resultTtlNanos = Math.max(0, resultTtlMillis) * 1_000_000L;
+    }
+
+    /**
+     * 執行或加入一次合併計算
+     * @param key 合併鍵（相同 key 代表完全相同的唯讀查詢）
+     * @param loader 實際的計算
+     * @return 計算結果（可能與其他請求共用）
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Supplier<T> loader) {
+        requests.increment();
+
+        while (true) {
+            Flight flight = flights.get(key);
+            if (flight != null) {
+                if (!flight.future.isDone()) {
+                    sharedInFlight.increment();
+                    return (T) await(flight);
+                }
+                if (flight.isReusable(System.nanoTime())) {
+                    sharedFromCache.increment();
+                    return (T) await(flight);
+                }
+                // 結果已過期或失敗，移除後重新競爭
+                flights.remove(key, flight);
+                continue;
+            }
+
+            Flight mine = new Flight();
+            if (flights.putIfAbsent(key, mine) == null) {
+                return lead(key, mine, loader);
+            }
+        }
+    }
+
+    /**
+     * 取得目前的合併統計
+     */
+    public Stats getStats() {
+        long totalRequests = requests.sum();
+        long totalExecutions = executions.sum();
+        double ratio = totalRequests == 0 ? 0.0
+                : (double) (totalRequests - totalExecutions) / totalRequests;
+
+        return new Stats(totalRequests, totalExecutions, sharedInFlight.sum(),
+                sharedFromCache.sum(), failures.sum(), ratio, flights.size());
+    }
+
+    /**
+     * 合併統計
+     * @param requests 總請求數
+     * @param executions 實際執行的計算次數
+     * @param sharedInFlight 加入進行中計算的請求數
+     * @param sharedFromCache 直接取用保留結果的請求數
+     * @param failures 失敗的計算次數
+     * @param coalescingRatio 被合併掉的請求比例（1 - 執行次數 / 請求數）
+     * @param trackedKeys 目前追蹤中的 key 數
+     */
+    public record Stats(long requests, long executions, long sharedInFlight, long sharedFromCache,
+                        long failures, double coalescingRatio, int trackedKeys) {
+    }
+
+    private <T> T lead(String key, Flight flight, Supplier<T> loader) {
+        executions.increment();
+
+        T value;
+        try {
+            value = loader.get();
+        } catch (RuntimeException | Error e) {
+            failures.increment();
+            flights.remove(key, flight);
+            flight.future.completeExceptionally(e);
+            throw e;
+        }
+
+        flight.expiresAt = System.nanoTime() + resultTtlNanos;
+        flight.future.complete(value);
+
+        if (resultTtlNanos == 0) {
+            flights.remove(key, flight);
+        } else if (executions.sum() % SWEEP_INTERVAL == 0) {
+            long now = System.nanoTime();
+            flights.values().removeIf(f -> !f.isReusable(now));
+        }
+
+        return value;
+    }
+
+    private Object await(Flight flight) {
+        try {
+            return flight.future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package com.example.schoolmanagementsystem.util;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.IntConsumer;
+
+/**
+ * 以連續區段（run）壓縮的不可變點陣圖
+ * 位元以 [start, end) 區段遞增存放，出席名單通常是大段連續的出席中夾雜少數缺席，
+ * 區段數遠小於人數；交集、聯集、差集都是兩組區段的線性合併，不需展開成位元
+ *
+ * 序列化格式：區段數，接著每個區段與前一區段終點的間距、區段長度，全部以 varint 編碼
+ */
+public final class RunLengthBitmap {
+
+    public static final RunLengthBitmap EMPTY = new RunLengthBitmap(new int[0]);
+
+    // 依序為 start0, end0, start1, end1 ...（end 不含）
+    private final int[] runs;
+
+    private RunLengthBitmap(int[] runs) {
+        this.runs = runs;
+    }
+
+    /**
+     * 由位置集合建立（可未排序、可重複）
+     */
+    public static RunLengthBitmap of(Collection<Integer> positions) {
+        return of(positions.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    /**
+     * 由位置陣列建立（可未排序、可重複）
+     */
+    public static RunLengthBitmap of(int... positions) {
+        int[] sorted = positions.clone();
+        Arrays.sort(sorted);
+        int[] runs = new int[sorted.length * 2];
+        int count = 0;
+        for (int position : sorted) {
+            if (position < 0) {
+                throw new IllegalArgumentException("位置不可為負數: " + position);
+            }
+            if (count > 0 && position <= runs[count - 1]) {
+                if (position == runs[count - 1]) {
+                    runs[count - 1]++;
+                }
+                continue;
+            }
+            runs[count++] = position;
+            runs[count++] = position + 1;
+        }
+        return new RunLengthBitmap(Arrays.copyOf(runs, count));
+    }
+
+    /**
+     * 建立 [0, size) 全部為 1 的點陣圖
+     */
+    public static RunLengthBitmap range(int size) {
+        return size <= 0 ? EMPTY : new RunLengthBitmap(new int[]{0, size});
+    }
+
+    /**
+     * 由序列化位元組還原
+     */
+    public static RunLengthBitmap fromBytes(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            return EMPTY;
+        }
+        int[] cursor = {0};
+        int count = readVarInt(bytes, cursor);
+        int[] runs = new int[count * 2];
+        int previousEnd = 0;
+        for (int i = 0; i < count; i++) {
+            int start = previousEnd + readVarInt(bytes, cursor);
+            int end = start + readVarInt(bytes, cursor);
+            runs[2 * i] = start;
+            runs[2 * i + 1] = end;
+            previousEnd = end;
+        }
+        return new RunLengthBitmap(runs);
+    }
+
+    /**
+     * 序列化
+     */
+    public byte[] toBytes() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(2 + runs.length * 2);
+        writeVarInt(out, runs.length / 2);
+        int previousEnd = 0;
+        for (int i = 0; i < runs.length; i += 2) {
+            writeVarInt(out, runs[i] - previousEnd);
+            writeVarInt(out, runs[i + 1] - runs[i]);
+            previousEnd = runs[i + 1];
+        }
+        return out.toByteArray();
+    }
+
+    public boolean contains(int position) {
+        // 二分搜尋最後一個 start <= position 的區段
+        int low = 0;
+        int high = runs.length / 2 - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (runs[2 * mid] <= position) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return high >= 0 && position < runs[2 * high + 1];
+    }
+
+    public int cardinality() {
+        int total = 0;
+        for (int i = 0; i < runs.length; i += 2) {
+            total += runs[i + 1] - runs[i];
+        }
+        return total;
+    }
+
+    public boolean isEmpty() {
+        return runs.length == 0;
+    }
+
+    public int runCount() {
+        return runs.length / 2;
+    }
+
+    public RunLengthBitmap and(RunLengthBitmap other) {
+        return merge(this, other, Op.AND);
+    }
+
+    public RunLengthBitmap or(RunLengthBitmap other) {
+        return merge(this, other, Op.OR);
+    }
+
+    public RunLengthBitmap andNot(RunLengthBitmap other) {
+        return merge(this, other, Op.AND_NOT);
+    }
+
+    /**
+     * 依遞增順序走訪所有為 1 的位置
+     */
+    public void forEach(IntConsumer action) {
+        for (int i = 0; i < runs.length; i += 2) {
+            for (int position = runs[i]; position < runs[i + 1]; position++) {
+                action.accept(position);
+            }
+        }
+    }
+
+    /**
+     * 所有為 1 的位置在計數陣列中加一（超出陣列範圍的位置略過）
+     */
+    public void addTo(int[] counts) {
+        for (int i = 0; i < runs.length && runs[i] < counts.length; i += 2) {
+            int end = Math.min(runs[i + 1], counts.length);
+            for (int position = runs[i]; position < end; position++) {
+                counts[position]++;
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof RunLengthBitmap other && Arrays.equals(runs, other.runs);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(runs);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder("{");
+        for (int i = 0; i < runs.length; i += 2) {
+            if (i > 0) {
+                text.append(',');
+            }
+            text.append(runs[i]);
+            if (runs[i + 1] - runs[i] > 1) {
+                text.append('-').append(runs[i + 1] - 1);
+            }
+        }
+        return text.append('}').toString();
+    }
+
+    private enum Op {
+        AND, OR, AND_NOT;
+
+        boolean apply(boolean a, boolean b) {
+            return switch (this) {
+                case AND -> a && b;
+                case OR -> a || b;
+                case AND_NOT -> a && !b;
+            };
+        }
+    }
+
+    /**
+     * 掃描線合併：在兩組區段的所有端點上切換狀態，輸出結果為 1 的區段
+     */
+    private static RunLengthBitmap merge(RunLengthBitmap left, RunLengthBitmap right, Op op) {
+        int[] a = left.runs;
+        int[] b = right.runs;
+        int[] out = new int[a.length + b.length];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        boolean inA = false;
+        boolean inB = false;
+        boolean current = false;
+
+        while (i < a.length || j < b.length) {
+            int next = Math.min(i < a.length ? a[i] : Integer.MAX_VALUE, j < b.length ? b[j] : Integer.MAX_VALUE);
+            if (i < a.length && a[i] == next) {
+                inA = !inA;
+                i++;
+            }
+            if (j < b.length && b[j] == next) {
+                inB = !inB;
+                j++;
+            }
+            boolean value = op.apply(inA, inB);
+            if (value != current) {
+                // 與前一區段相接時直接延長
+                if (value && count > 0 && out[count - 1] == next) {
+                    count--;
+                } else {
+                    out[count++] = next;
+                }
+                current = value;
+            }
+        }
+        return count == 0 ? EMPTY : new RunLengthBitmap(Arrays.copyOf(out, count));
+    }
+
+    private static void writeVarInt(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    private static int readVarInt(byte[] bytes, int[] cursor) {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = bytes[cursor[0]++];
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.schoolmanagementsystem.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 成績統計計算
+ * 分數以「乘以 10 的整數」表示（對應資料庫 DECIMAL(4,1)，例如 87.5 → 875），
+ * 只掃描一次分數陣列即可同時得到平均、標準差、極值、及格率與直方圖，
+ * 中位數與百分位數再由直方圖累加求得（計數排序，與人數無關的固定成本）
+ */
+public final class ScoreStatistics {
+
+    /** 分數放大倍率 */
+    public static final int SCALE = 10;
+
+    /** 及格分數（放大後） */
+    public static final int PASSING_SCORE = 60 * SCALE;
+
+    private static final int MAX_SCORE = 100 * SCALE;
+
+    private ScoreStatistics() {
+    }
+
+    /**
+     * 統計結果（分數皆已換回原始刻度）
+     */
+    public record Summary(
+            int count,
+            double mean,
+            double median,
+            double standardDeviation,
+            double min,
+            double max,
+            double passRate,
+            Map<Integer, Double> percentiles,
+            Map<String, Integer> distribution) {
+    }
+
+    /**
+     * 計算統計值
+     * @param scores 放大後的分數
+     * @param count 有效筆數（陣列可能比實際資料長）
+     * @param percentiles 要計算的百分位數（例如 10、25、75、90）
+     * @return 統計結果；沒有任何分數時各數值為 0
+     */
+    public static Summary compute(int[] scores, int count, int... percentiles) {
+        int[] histogram = new int[MAX_SCORE + 1];
+        long sum = 0;
+        long sumOfSquares = 0;
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        int passed = 0;
+
+        for (int i = 0; i < count; i++) {
+            int score = Math.max(0, Math.min(MAX_SCORE, scores[i]));
+            histogram[score]++;
+            sum += score;
+            sumOfSquares += (long) score * score;
+            if (score < min) {
+                min = score;
+            }
+            if (score > max) {
+                max = score;
+            }
+            if (score >= PASSING_SCORE) {
+                passed++;
+            }
+        }
+
+        Map<Integer, Double> percentileValues = new LinkedHashMap<>();
+        if (count == 0) {
+            for (int p : percentiles) {
+                percentileValues.put(p, 0.0);
+            }
+            return new Summary(0, 0, 0, 0, 0, 0, 0, percentileValues, distribution(histogram));
+        }
+
+        double mean = (double) sum / count;
+        // 母體變異數 = E[X²] - E[X]²，以整數累加避免浮點誤差累積
+        double variance = Math.max(0, (double) sumOfSquares / count - mean * mean);
+
+        for (int p : percentiles) {
+            percentileValues.put(p, unscale(percentile(histogram, count, p)));
+        }
+
+        double median = count % 2 == 1
+                ? unscale(kth(histogram, count / 2))
+                : (unscale(kth(histogram, count / 2 - 1)) + unscale(kth(histogram, count / 2))) / 2;
+
+        return new Summary(
+                count,
+                round(mean / SCALE),
+                median,
+                round(Math.sqrt(variance) / SCALE),
+                unscale(min),
+                unscale(max),
+                round((double) passed / count),
+                percentileValues,
+                distribution(histogram));
+    }
+
+    /**
+     * 最近排名法（nearest-rank）百分位數
+     */
+    private static int percentile(int[] histogram, int count, int p) {
+        int rank = (int) Math.ceil(p / 100.0 * count);
+        return kth(histogram, Math.max(0, rank - 1));
+    }
+
+    /**
+     * 由直方圖取得第 k 小（從 0 起算）的分數
+     */
+    private static int kth(int[] histogram, int k) {
+        int cumulative = 0;
+        for (int score = 0; score < histogram.length; score++) {
+            cumulative += histogram[score];
+            if (cumulative > k) {
+                return score;
+            }
+        }
+        return histogram.length - 1;
+    }
+
+    /**
+     * 以 10 分為一級距的分布（90-100 含滿分）
+     */
+    private static Map<String, Integer> distribution(int[] histogram) {
+        Map<String, Integer> buckets = new LinkedHashMap<>();
+        for (int lower = 0; lower < 100; lower += 10) {
+            int upper = lower == 90 ? 100 : lower + 9;
+            int from = lower * SCALE;
+            int to = lower == 90 ? MAX_SCORE : (lower + 10) * SCALE - 1;
+            int total = 0;
+            for (int score = from; score <= to; score++) {
+                total += histogram[score];
+            }
+            buckets.put(lower + "-" + upper, total);
+        }
+        return buckets;
+    }
+
+    private static double unscale(int score) {
+        return (double) score / SCALE;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.schoolmanagementsystem.util;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+
+/**
+ * 批次期間借用的原始請求／回應
+ * 批次進行中，代理的所有呼叫都原樣轉給容器的原始物件，篩選器或容器新增的任何方法都照常運作；
+ * 批次結束時 close，之後（原始物件可能已被 Tomcat 回收並分配給其他請求）任何呼叫都拋出
+ * IllegalStateException，逾時後仍在執行的子請求因此不會讀到其他使用者的資料
+ *
+ * @param <T> 被借用的介面（HttpServletRequest 或 HttpServletResponse）
+ */
+public final class ServletLease<T> implements AutoCloseable {
+
+    private final T proxy;
+    private volatile T target;
+
+    public ServletLease(Class<T> type, T target) {
+        this.target = target;
+        this.proxy = type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                (self, method, args) -> {
+                    if (method.getDeclaringClass() == Object.class) {
+                        return switch (method.getName()) {
+                            case "equals" -> self == args[0];
+                            case "hashCode" -> System.identityHashCode(self);
+                            default -> "Leased" + type.getSimpleName();
+                        };
+                    }
+                    T current = this.target;
+                    if (current == null) {
+                        throw new IllegalStateException("批次請求已結束，無法再存取 "
+                                + type.getSimpleName() + "." + method.getName());
+                    }
+                    try {
+                        return method.invoke(current, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                }));
+    }
+
+    /**
+     * 取得代理（批次結束前轉給原始物件）
+     */
+    public T get() {
+        return proxy;
+    }
+
+    /**
+     * 歸還原始物件，之後代理的任何呼叫都會失敗
+     */
+    @Override
+    public void close() {
+        target = null;
+    }
+}
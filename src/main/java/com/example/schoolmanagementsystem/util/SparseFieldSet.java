@@ -0,0 +1,38 @@
+package com.example.schoolmanagementsystem.util;
+
+import org.springframework.util.StringUtils;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 稀疏欄位參數解析工具
+ * 將 fields=courseName,classId 形式的查詢參數轉為有序欄位集合
+ */
+public final class SparseFieldSet {
+
+    private SparseFieldSet() {
+    }
+
+    /**
+     * 解析欄位參數
+     * @param fields 逗號分隔的欄位名稱
+     * @return 欄位集合（保留請求順序）；未指定時回傳 null，代表使用完整回應
+     */
+    public static Set<String> parse(String fields) {
+        if (!StringUtils.hasText(fields)) {
+            return null;
+        }
+
+        Set<String> result = new LinkedHashSet<>();
+        for (String field : fields.split(",")) {
+            String trimmed = field.trim();
+            if (!trimmed.isEmpty()) {
+                result.add(trimmed);
+            }
+        }
+
+        return result.isEmpty() ? null : Collections.unmodifiableSet(result);
+    }
+}
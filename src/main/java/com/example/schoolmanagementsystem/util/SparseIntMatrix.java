@@ -0,0 +1,78 @@
+package com.example.schoolmanagementsystem.util;
+
+import java.util.Arrays;
+
+/**
+ * 稀疏整數矩陣（CSR 格式）
+ * 第 i 列的非零元素位於 columns / values 的 [offsets[i], offsets[i + 1]) 區間，欄位索引遞增排列
+ */
+public final class SparseIntMatrix {
+
+    private final int rows;
+    private final int[] offsets;
+    private final int[] columns;
+    private final int[] values;
+
+    public SparseIntMatrix(int rows, int[] offsets, int[] columns, int[] values) {
+        this.rows = rows;
+        this.offsets = offsets;
+        this.columns = columns;
+        this.values = values;
+    }
+
+    public int rows() {
+        return rows;
+    }
+
+    /**
+     * 非零元素數
+     */
+    public int nonZeros() {
+        return offsets[rows];
+    }
+
+    public int rowStart(int row) {
+        return offsets[row];
+    }
+
+    public int rowEnd(int row) {
+        return offsets[row + 1];
+    }
+
+    public int columnAt(int index) {
+        return columns[index];
+    }
+
+    public int valueAt(int index) {
+        return values[index];
+    }
+
+    /**
+     * 取得元素值（二分搜尋該列）
+     */
+    public int get(int row, int column) {
+        int index = Arrays.binarySearch(columns, offsets[row], offsets[row + 1], column);
+        return index >= 0 ? values[index] : 0;
+    }
+
+    /**
+     * 由各列獨立計算的結果組成矩陣
+     * @param rowColumns 每列的欄位索引（已遞增排序）
+     * @param rowValues 每列的值
+     */
+    public static SparseIntMatrix fromRows(int[][] rowColumns, int[][] rowValues) {
+        int rows = rowColumns.length;
+        int[] offsets = new int[rows + 1];
+        for (int i = 0; i < rows; i++) {
+            offsets[i + 1] = offsets[i] + rowColumns[i].length;
+        }
+
+        int[] columns = new int[offsets[rows]];
+        int[] values = new int[offsets[rows]];
+        for (int i = 0; i < rows; i++) {
+            System.arraycopy(rowColumns[i], 0, columns, offsets[i], rowColumns[i].length);
+            System.arraycopy(rowValues[i], 0, values, offsets[i], rowValues[i].length);
+        }
+        return new SparseIntMatrix(rows, offsets, columns, values);
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.schoolmanagementsystem.util;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 結構化並行範圍
+ * 在 try-with-resources 中分岔多個獨立子任務，每個子任務有自己的逾時；
+ * 離開範圍時（不論成功、失敗或逾時）所有尚未完成的子任務都會被取消（中斷）；
+ * 中斷無法停止阻塞中的 JDBC 呼叫，這類子任務可能在範圍結束後才真正停止，
+ * 因此子任務不可引用會在請求結束後被回收的物件（例如原始的 HttpServletRequest）
+ */
+public final class TaskScope implements AutoCloseable {
+
+    private final ExecutorService executor;
+    private final List<Future<?>> forks = new ArrayList<>();
+
+    public TaskScope(ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * 分岔一個子任務（立即開始執行）
+     * @param name 子任務名稱（用於錯誤訊息）
+     * @param task 子任務
+     * @param timeout 從分岔時起算的逾時
+     * @return 子任務控制代碼
+     */
+    public <T> Subtask<T> fork(String name, Callable<T> task, Duration timeout) {
+        Future<T> future = executor.submit(task);
+        forks.add(future);
+        return new Subtask<>(name, future, System.nanoTime() + timeout.toNanos());
+    }
+
+    /**
+     * 取消所有尚未完成的子任務（不等待其結束）
+     */
+    @Override
+    public void close() {
+        for (Future<?> fork : forks) {
+            if (!fork.isDone()) {
+                fork.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * 子任務控制代碼
+     */
+    public static final class Subtask<T> {
+
+        private final String name;
+        private final Future<T> future;
+        private final long deadline;
+
+        private Subtask(String name, Future<T> future, long deadline) {
+            this.name = name;
+            this.future = future;
+            this.deadline = deadline;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * 等待必要子任務的結果；失敗或逾時會以例外拋出
+         */
+        public T join() {
+            try {
+                return future.get(remainingNanos(), TimeUnit.NANOSECONDS);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                if (cause instanceof Error error) {
+                    throw error;
+                }
+                throw new IllegalStateException(name + " 執行失敗", cause);
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                throw new IllegalStateException(name + " 執行逾時");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(name + " 等待時被中斷");
+            } catch (CancellationException e) {
+                throw new IllegalStateException(name + " 已被取消");
+            }
+        }
+
+        /**
+         * 等待可選子任務的結果；失敗或逾時時回傳預設值，並把子任務名稱加入 failures
+         */
+        public T joinOrDefault(T defaultValue, List<String> failures) {
+            try {
+                return join();
+            } catch (RuntimeException e) {
+                failures.add(name);
+                return defaultValue;
+            }
+        }
+
+        private long remainingNanos() {
+            return Math.max(0, deadline - System.nanoTime());
+        }
+    }
+}
@@ -0,0 +1,326 @@
+package com.example.schoolmanagementsystem.util;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * 課表排程器
+ * 把每個班級放進一個上課時段，並在該時段內分配容量足夠的教室
+ *
+ * 硬性限制（每次違反計 HARD_PENALTY）：同一教師同時段只能上一班；同時段內每班都要分到容量足夠且不重複的教室
+ * 軟性目標：常被一起修的課程盡量不要排在同一時段（邊權重為預估共同修課人數）
+ *
+ * 教室可行性以「容量等級」計數判斷：教室依容量遞增排序後，班級的等級為第一間放得下的教室索引，
+ * 由大到小貪婪配對即可得到該時段放不下的班級數，為 O(教室數)，不需實際搜尋配對
+ *
+ * 以多條執行緒各自從不同的隨機初始解出發進行模擬退火（平行重啟），時間到後取最佳解
+ */
+public final class TimetableSolver {
+
+    /** 硬性限制違反的懲罰 */
+    public static final long HARD_PENALTY = 1_000_000L;
+
+    private TimetableSolver() {
+    }
+
+    /**
+     * 問題定義
+     * @param teachers 班級 → 教師序號
+     * @param capacities 班級 → 人數上限
+     * @param roomCapacities 教室容量（任意順序）
+     * @param overlaps 班級間預估共同修課人數（對稱稀疏矩陣）
+     * @param slotCount 時段數
+     */
+    public record Problem(int[] teachers, int[] capacities, int[] roomCapacities, SparseIntMatrix overlaps,
+                          int slotCount) {
+    }
+
+    /**
+     * 求解結果
+     * @param slots 班級 → 時段
+     * @param rooms 班級 → 教室索引（對應 Problem.roomCapacities；-1 表示放不下）
+     * @param teacherClashes 教師同時段重複的次數
+     * @param roomShortages 分不到教室的班級數
+     * @param overlapStudents 排在同時段的預估共同修課人數
+     * @param iterations 所有執行緒合計的移動嘗試次數
+     * @param restarts 平行重啟次數
+     */
+    public record Solution(int[] slots, int[] rooms, int teacherClashes, int roomShortages, long overlapStudents,
+                           long iterations, int restarts) {
+    }
+
+    /**
+     * 求解
+     * @param problem 問題定義
+     * @param timeLimit 時間上限
+     * @param threads 獨立重啟的次數（同時執行的數量不超過池的平行度）
+     * @param seed 亂數種子
+     * @param pool 執行重啟的 fork/join 池
+     * @return 最佳解
+     */
+    public static Solution solve(Problem problem, Duration timeLimit, int threads, long seed, ForkJoinPool pool) {
+        int[] roomOrder = IntStream.range(0, problem.roomCapacities().length).boxed()
+                .sorted((a, b) -> Integer.compare(problem.roomCapacities()[a], problem.roomCapacities()[b]))
+                .mapToInt(Integer::intValue).toArray();
+        int[] sortedRooms = new int[roomOrder.length];
+        for (int i = 0; i < roomOrder.length; i++) {
+            sortedRooms[i] = problem.roomCapacities()[roomOrder[i]];
+        }
+        int[] tiers = new int[problem.capacities().length];
+        for (int c = 0; c < tiers.length; c++) {
+            tiers[c] = tierOf(sortedRooms, problem.capacities()[c]);
+        }
+
+        long deadline = System.nanoTime() + timeLimit.toNanos();
+        int restarts = Math.max(1, threads);
+        Search[] searches = new Search[restarts];
+        pool.submit(() -> IntStream.range(0, restarts).parallel().forEach(i -> {
+            Search search = new Search(problem, tiers, sortedRooms.length, seed + i);
+            search.run(deadline);
+            searches[i] = search;
+        })).join();
+
+        Search best = searches[0];
+        long iterations = 0;
+        for (Search search : searches) {
+            iterations += search.iterations;
+            if (search.bestCost < best.bestCost) {
+                best = search;
+            }
+        }
+
+        int[] slots = best.best;
+        int[] rooms = assignRooms(slots, tiers, roomOrder, problem.slotCount());
+        int shortages = 0;
+        for (int room : rooms) {
+            if (room < 0) {
+                shortages++;
+            }
+        }
+        return new Solution(slots, rooms, teacherClashes(problem, slots), shortages,
+                overlap(problem, slots), iterations, restarts);
+    }
+
+    /**
+     * 依最終時段實際分配教室：每個時段由大班到小班，各取放得下的最小空教室
+     */
+    private static int[] assignRooms(int[] slots, int[] tiers, int[] roomOrder, int slotCount) {
+        int[] rooms = new int[slots.length];
+        Arrays.fill(rooms, -1);
+
+        Integer[] order = IntStream.range(0, slots.length).boxed().toArray(Integer[]::new);
+        Arrays.sort(order, (a, b) -> Integer.compare(tiers[b], tiers[a]));
+
+        List<TreeSet<Integer>> free = new ArrayList<>(slotCount);
+        for (int s = 0; s < slotCount; s++) {
+            TreeSet<Integer> available = new TreeSet<>();
+            for (int r = 0; r < roomOrder.length; r++) {
+                available.add(r);
+            }
+            free.add(available);
+        }
+        for (int c : order) {
+            Integer room = free.get(slots[c]).ceiling(tiers[c]);
+            if (room != null) {
+                free.get(slots[c]).remove(room);
+                rooms[c] = roomOrder[room];
+            }
+        }
+        return rooms;
+    }
+
+    private static int teacherClashes(Problem problem, int[] slots) {
+        Set<Long> seen = new HashSet<>();
+        int clashes = 0;
+        for (int c = 0; c < slots.length; c++) {
+            if (!seen.add(((long) problem.teachers()[c] << 32) | slots[c])) {
+                clashes++;
+            }
+        }
+        return clashes;
+    }
+
+    private static long overlap(Problem problem, int[] slots) {
+        SparseIntMatrix overlaps = problem.overlaps();
+        long total = 0;
+        for (int c = 0; c < slots.length; c++) {
+            for (int index = overlaps.rowStart(c); index < overlaps.rowEnd(c); index++) {
+                int other = overlaps.columnAt(index);
+                if (other > c && slots[other] == slots[c]) {
+                    total += overlaps.valueAt(index);
+                }
+            }
+        }
+        return total;
+    }
+
+    /**
+     * 第一間容量足夠的教室索引（教室已依容量遞增排序）；都放不下時回傳教室數
+     */
+    private static int tierOf(int[] sortedRooms, int capacity) {
+        int low = 0;
+        int high = sortedRooms.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sortedRooms[mid] < capacity) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 單一重啟的搜尋狀態
+     */
+    private static final class Search {
+        private final Problem problem;
+        private final int[] tiers;
+        private final int roomCount;
+        private final SplittableRandom random;
+        private final int classes;
+        private final int slotCount;
+
+        private final int[] slots;
+        private final int[][] teacherLoad; // [教師][時段] 班級數
+        private final int[][] tierLoad; // [時段][容量等級] 班級數
+        private final int[] shortage; // 各時段放不下的班級數
+
+        private int[] best;
+        private long bestCost;
+        private long iterations;
+
+        private Search(Problem problem, int[] tiers, int roomCount, long seed) {
+            this.problem = problem;
+            this.tiers = tiers;
+            this.roomCount = roomCount;
+            this.random = new SplittableRandom(seed);
+            this.classes = tiers.length;
+            this.slotCount = problem.slotCount();
+
+            int teacherCount = Arrays.stream(problem.teachers()).max().orElse(-1) + 1;
+            this.slots = new int[classes];
+            this.teacherLoad = new int[teacherCount][slotCount];
+            this.tierLoad = new int[slotCount][roomCount + 1];
+            this.shortage = new int[slotCount];
+
+            for (int c = 0; c < classes; c++) {
+                slots[c] = random.nextInt(slotCount);
+                teacherLoad[problem.teachers()[c]][slots[c]]++;
+                tierLoad[slots[c]][tiers[c]]++;
+            }
+            for (int s = 0; s < slotCount; s++) {
+                shortage[s] = shortage(tierLoad[s]);
+            }
+        }
+
+        private void run(long deadline) {
+            long cost = totalCost();
+            best = slots.clone();
+            bestCost = cost;
+
+            long start = System.nanoTime();
+            double span = Math.max(1, deadline - start);
+            double initialTemperature = 50.0;
+
+            while (classes > 0 && slotCount > 1 && bestCost > 0) {
+                if ((iterations & 1023) == 0 && System.nanoTime() >= deadline) {
+                    break;
+                }
+                iterations++;
+
+                int c = random.nextInt(classes);
+                int from = slots[c];
+                int to = random.nextInt(slotCount - 1);
+                if (to >= from) {
+                    to++;
+                }
+
+                long delta = moveDelta(c, from, to);
+                double temperature = initialTemperature * (1.0 - (System.nanoTime() - start) / span);
+                if (delta <= 0 || (temperature > 0 && delta < HARD_PENALTY
+                        && random.nextDouble() < Math.exp(-delta / temperature))) {
+                    apply(c, from, to);
+                    cost += delta;
+                    if (cost < bestCost) {
+                        bestCost = cost;
+                        System.arraycopy(slots, 0, best, 0, classes);
+                    }
+                }
+            }
+        }
+
+        private long moveDelta(int c, int from, int to) {
+            int teacher = problem.teachers()[c];
+            // 教師衝突：離開的時段少一次重複（若原本有重複），進入的時段多一次重複（若已有課）
+            long delta = 0;
+            if (teacherLoad[teacher][from] > 1) {
+                delta -= HARD_PENALTY;
+            }
+            if (teacherLoad[teacher][to] > 0) {
+                delta += HARD_PENALTY;
+            }
+
+            int tier = tiers[c];
+            tierLoad[from][tier]--;
+            tierLoad[to][tier]++;
+            delta += HARD_PENALTY * (shortage(tierLoad[from]) - shortage[from] + shortage(tierLoad[to]) - shortage[to]);
+            tierLoad[from][tier]++;
+            tierLoad[to][tier]--;
+
+            SparseIntMatrix overlaps = problem.overlaps();
+            for (int index = overlaps.rowStart(c); index < overlaps.rowEnd(c); index++) {
+                int slot = slots[overlaps.columnAt(index)];
+                if (slot == from) {
+                    delta -= overlaps.valueAt(index);
+                } else if (slot == to) {
+                    delta += overlaps.valueAt(index);
+                }
+            }
+            return delta;
+        }
+
+        private void apply(int c, int from, int to) {
+            int teacher = problem.teachers()[c];
+            teacherLoad[teacher][from]--;
+            teacherLoad[teacher][to]++;
+            tierLoad[from][tiers[c]]--;
+            tierLoad[to][tiers[c]]++;
+            shortage[from] = shortage(tierLoad[from]);
+            shortage[to] = shortage(tierLoad[to]);
+            slots[c] = to;
+        }
+
+        /**
+         * 由大到小貪婪配對：等級 i 的班級可用索引 ≥ i 的任何教室
+         */
+        private int shortage(int[] load) {
+            int unplaced = load[roomCount];
+            int used = 0;
+            for (int tier = roomCount - 1; tier >= 0; tier--) {
+                int pool = roomCount - tier - used;
+                int take = Math.min(load[tier], pool);
+                used += take;
+                unplaced += load[tier] - take;
+            }
+            return unplaced;
+        }
+
+        private long totalCost() {
+            long cost = HARD_PENALTY * teacherClashes(problem, slots);
+            for (int s = 0; s < slotCount; s++) {
+                cost += HARD_PENALTY * shortage[s];
+            }
+            return cost + overlap(problem, slots);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.schoolmanagementsystem.util;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * BatchSubRequest 與 ServletLease 單元測試：子請求自行提供的部分、轉給原始請求的部分，以及批次結束後的存取
+ */
+class BatchSubRequestTest {
+
+    private static MockHttpServletRequest original() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/app/api/batch");
+        request.setContextPath("/app");
+        request.setContentType("application/json");
+        request.addHeader("Content-Length", "128");
+        request.addHeader("Accept", "application/cbor");
+        request.addHeader("Authorization", "Bearer token");
+        request.setRemoteAddr("10.0.0.8");
+        request.setAttribute("shared", "original");
+        return request;
+    }
+
+    @Test
+    void pathAndQueryComeFromSubRequest() {
+        BatchSubRequest request = new BatchSubRequest(original(),
+                "/api/courses/available?academicYear=2024&tag=a&tag=%E5%BF%85%E4%BF%AE&flag");
+
+        assertEquals("GET", request.getMethod());
+        assertEquals("/api/courses/available", request.getServletPath());
+        assertNull(request.getPathInfo());
+        assertEquals("/app/api/courses/available", request.getRequestURI());
+        assertEquals("academicYear=2024&tag=a&tag=%E5%BF%85%E4%BF%AE&flag", request.getQueryString());
+        assertEquals("2024", request.getParameter("academicYear"));
+        assertArrayEquals(new String[]{"a", "必修"}, request.getParameterValues("tag"));
+        assertEquals("", request.getParameter("flag"));
+        assertNull(request.getParameter("missing"));
+    }
+
+    @Test
+    void pathWithoutQueryHasNoParameters() {
+        BatchSubRequest request = new BatchSubRequest(original(), "/api/student/S001/courses");
+
+        assertNull(request.getQueryString());
+        assertTrue(request.getParameterMap().isEmpty());
+    }
+
+    @Test
+    void contentHeadersAreHiddenAndAcceptIsJson() {
+        BatchSubRequest request = new BatchSubRequest(original(), "/api/courses");
+
+        assertNull(request.getHeader("Content-Type"));
+        assertNull(request.getHeader("content-length"));
+        assertFalse(request.getHeaders("Content-Type").hasMoreElements());
+        assertEquals("application/json", request.getHeader("accept"));
+        assertEquals(List.of("application/json"), Collections.list(request.getHeaders("Accept")));
+        assertEquals("Bearer token", request.getHeader("Authorization"));
+
+        List<String> names = Collections.list(request.getHeaderNames());
+        assertTrue(names.contains("Authorization"));
+        assertTrue(names.contains("Accept"));
+        assertFalse(names.stream().anyMatch(name -> name.equalsIgnoreCase("Content-Type")));
+        assertFalse(names.stream().anyMatch(name -> name.equalsIgnoreCase("Content-Length")));
+    }
+
+    @Test
+    void attributesAreIsolated() {
+        MockHttpServletRequest original = original();
+        BatchSubRequest first = new BatchSubRequest(original, "/api/courses");
+        BatchSubRequest second = new BatchSubRequest(original, "/api/courses");
+
+        assertNull(first.getAttribute("shared"));
+        first.setAttribute("handler", "first");
+        assertNull(second.getAttribute("handler"));
+        assertNull(original.getAttribute("handler"));
+        first.setAttribute("handler", null);
+        assertFalse(first.getAttributeNames().hasMoreElements());
+    }
+
+    @Test
+    void hasNoBodySessionOrAsync() throws IOException {
+        BatchSubRequest request = new BatchSubRequest(original(), "/api/courses");
+
+        assertNull(request.getContentType());
+        assertEquals(-1, request.getContentLength());
+        assertEquals(-1, request.getInputStream().read());
+        assertNull(request.getReader().readLine());
+        assertNull(request.getSession(false));
+        assertThrows(IllegalStateException.class, request::getSession);
+        assertFalse(request.isAsyncSupported());
+        assertThrows(IllegalStateException.class, request::startAsync);
+    }
+
+    @Test
+    void otherCallsDelegateToOriginal() {
+        BatchSubRequest request = new BatchSubRequest(original(), "/api/courses");
+
+        assertEquals("10.0.0.8", request.getRemoteAddr());
+        assertEquals("/app", request.getContextPath());
+        assertEquals("http://localhost/app/api/courses", request.getRequestURL().toString());
+    }
+
+    @Test
+    void closedLeaseRejectsDelegatedCalls() {
+        ServletLease<HttpServletRequest> lease = new ServletLease<>(HttpServletRequest.class, original());
+        BatchSubRequest request = new BatchSubRequest(lease.get(), "/api/courses?page=2");
+
+        assertEquals("Bearer token", request.getHeader("Authorization"));
+        lease.close();
+
+        assertThrows(IllegalStateException.class, () -> request.getHeader("Authorization"));
+        assertThrows(IllegalStateException.class, request::getRemoteAddr);
+        // 子請求自行提供的部分不需要原始請求
+        assertEquals("/api/courses", request.getServletPath());
+        assertEquals("2", request.getParameter("page"));
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.schoolmanagementsystem.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * EnrollmentGraph 與 SparseIntMatrix 單元測試：CSR 建構與平行共同修課矩陣（以逐對計數為對照）
+ */
+class EnrollmentGraphTest {
+
+    @Test
+    void builderAssignsOrdinalsAndBothDirections() {
+        EnrollmentGraph.Builder builder = new EnrollmentGraph.Builder();
+        builder.add("S1", 101);
+        builder.add("S2", 101);
+        builder.add("S1", 205);
+        builder.add("S3", 307);
+        EnrollmentGraph graph = builder.build();
+
+        assertEquals(3, graph.studentCount());
+        assertEquals(3, graph.classCount());
+        assertEquals(4, graph.edgeCount());
+        assertEquals(1, graph.classOrdinal(205));
+        assertEquals(-1, graph.classOrdinal(999));
+        assertEquals(307, graph.classId(2));
+        assertArrayEquals(new int[]{0, 1}, graph.classesOf(0));
+        assertArrayEquals(new int[]{0, 1}, graph.studentsOf(0));
+        assertEquals(2, graph.classSize(0));
+        assertEquals("S3", graph.studentId(2));
+    }
+
+    @Test
+    void coEnrollmentCountsEachStudentOncePerGroup() {
+        EnrollmentGraph.Builder builder = new EnrollmentGraph.Builder();
+        // S1 修同一課程（群組 0）的兩個班級，另修群組 1
+        builder.add("S1", 1);
+        builder.add("S1", 2);
+        builder.add("S1", 3);
+        builder.add("S2", 2);
+        builder.add("S2", 3);
+        EnrollmentGraph graph = builder.build();
+
+        SparseIntMatrix matrix = graph.coEnrollment(new int[]{0, 0, 1}, 2);
+
+        assertEquals(2, matrix.get(0, 1));
+        assertEquals(2, matrix.get(1, 0));
+        assertEquals(0, matrix.get(0, 0));
+        assertEquals(2, matrix.nonZeros());
+    }
+
+    @Test
+    void coEnrollmentMatchesPairwiseCount() {
+        SplittableRandom random = new SplittableRandom(7);
+        for (int round = 0; round < 20; round++) {
+            int students = 1 + random.nextInt(300);
+            int classes = 1 + random.nextInt(60);
+            int groups = 1 + random.nextInt(classes);
+
+            EnrollmentGraph.Builder builder = new EnrollmentGraph.Builder();
+            for (int s = 0; s < students; s++) {
+                Set<Integer> taken = new HashSet<>();
+                int count = random.nextInt(8);
+                for (int k = 0; k < count; k++) {
+                    int classId = 1000 + random.nextInt(classes);
+                    if (taken.add(classId)) {
+                        builder.add("S" + s, classId);
+                    }
+                }
+            }
+            EnrollmentGraph graph = builder.build();
+            int[] classToGroup = new int[graph.classCount()];
+            for (int c = 0; c < classToGroup.length; c++) {
+                classToGroup[c] = random.nextInt(groups);
+            }
+
+            SparseIntMatrix matrix = graph.coEnrollment(classToGroup, groups);
+            int[][] expected = pairwise(graph, classToGroup, groups);
+
+            int nonZeros = 0;
+            for (int i = 0; i < groups; i++) {
+                int previousColumn = -1;
+                for (int index = matrix.rowStart(i); index < matrix.rowEnd(i); index++) {
+                    // 欄位索引必須遞增，get() 才能二分搜尋
+                    assertTrue(matrix.columnAt(index) > previousColumn);
+                    previousColumn = matrix.columnAt(index);
+                }
+                for (int j = 0; j < groups; j++) {
+                    assertEquals(expected[i][j], matrix.get(i, j), "group " + i + " x " + j);
+                    if (expected[i][j] != 0) {
+                        nonZeros++;
+                    }
+                }
+            }
+            assertEquals(nonZeros, matrix.nonZeros());
+        }
+    }
+
+    @Test
+    void fromRowsBuildsOffsets() {
+        SparseIntMatrix matrix = SparseIntMatrix.fromRows(
+                new int[][]{{1, 3}, {}, {0}},
+                new int[][]{{5, 7}, {}, {9}});
+
+        assertEquals(3, matrix.rows());
+        assertEquals(3, matrix.nonZeros());
+        assertEquals(2, matrix.rowStart(1));
+        assertEquals(2, matrix.rowEnd(1));
+        assertEquals(7, matrix.get(0, 3));
+        assertEquals(0, matrix.get(0, 2));
+        assertEquals(0, matrix.get(1, 0));
+        assertEquals(9, matrix.get(2, 0));
+    }
+
+    private static int[][] pairwise(EnrollmentGraph graph, int[] classToGroup, int groups) {
+        int[][] counts = new int[groups][groups];
+        for (int s = 0; s < graph.studentCount(); s++) {
+            Set<Integer> studentGroups = new HashSet<>();
+            for (int c : graph.classesOf(s)) {
+                studentGroups.add(classToGroup[c]);
+            }
+            for (int i : studentGroups) {
+                for (int j : studentGroups) {
+                    if (i != j) {
+                        counts[i][j]++;
+                    }
+                }
+            }
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.schoolmanagementsystem.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * ExamScheduler 單元測試：懲罰計算、貪婪著色的初始解，以及局部搜尋不會比初始解差
+ */
+class ExamSchedulerTest {
+
+    private static final ForkJoinPool POOL = new ForkJoinPool(2);
+
+    private static ExamScheduler.Options options(int slotCount, int slotsPerDay, Duration timeLimit, int threads) {
+        return new ExamScheduler.Options(slotCount, slotsPerDay, 100, 10, timeLimit, threads, 1L);
+    }
+
+    @Test
+    void costCountsSameSlotAndBackToBackOncePerEdge() {
+        // 班級 0-1 有 5 位共同學生，0-2 有 2 位；每天 2 節
+        SparseIntMatrix conflicts = SparseIntMatrix.fromRows(
+                new int[][]{{1, 2}, {0}, {0}},
+                new int[][]{{5, 2}, {5}, {2}});
+        ExamScheduler.Options options = options(4, 2, Duration.ZERO, 1);
+
+        assertEquals(5 * 100, ExamScheduler.cost(conflicts, new int[]{0, 0, 2}, options));
+        assertEquals(5 * 10, ExamScheduler.cost(conflicts, new int[]{0, 1, 2}, options));
+        // 第 1 節與第 2 節分屬不同天，不算連續
+        assertEquals(0, ExamScheduler.cost(conflicts, new int[]{1, 2, 3}, options));
+        assertEquals(5 * 100 + 2 * 100, ExamScheduler.cost(conflicts, new int[]{3, 3, 3}, options));
+    }
+
+    @Test
+    void greedyColoringSeparatesATriangle() {
+        // 三個班級兩兩衝突、三個時段分在三天：著色後應沒有任何懲罰
+        SparseIntMatrix conflicts = SparseIntMatrix.fromRows(
+                new int[][]{{1, 2}, {0, 2}, {0, 1}},
+                new int[][]{{3, 4}, {3, 5}, {4, 5}});
+
+        ExamScheduler.Result result = ExamScheduler.solve(conflicts, new int[]{10, 10, 10},
+                options(3, 1, Duration.ZERO, 1), POOL);
+
+        assertEquals(0, result.cost());
+        assertTrue(result.slots()[0] != result.slots()[1]);
+        assertTrue(result.slots()[0] != result.slots()[2]);
+        assertTrue(result.slots()[1] != result.slots()[2]);
+    }
+
+    @Test
+    void greedyColoringAvoidsBackToBackWithinADay() {
+        SparseIntMatrix conflicts = SparseIntMatrix.fromRows(
+                new int[][]{{1}, {0}},
+                new int[][]{{7}, {7}});
+
+        ExamScheduler.Result result = ExamScheduler.solve(conflicts, new int[]{30, 30},
+                options(3, 3, Duration.ZERO, 1), POOL);
+
+        assertEquals(0, result.cost());
+        assertEquals(2, Math.abs(result.slots()[0] - result.slots()[1]));
+    }
+
+    @Test
+    void greedyColoringBalancesIndependentClasses() {
+        // 沒有衝突時依人數平均分配到各時段
+        SparseIntMatrix conflicts = SparseIntMatrix.fromRows(new int[4][0], new int[4][0]);
+
+        ExamScheduler.Result result = ExamScheduler.solve(conflicts, new int[]{10, 10, 10, 10},
+                options(2, 2, Duration.ZERO, 1), POOL);
+
+        int[] perSlot = new int[2];
+        for (int slot : result.slots()) {
+            perSlot[slot]++;
+        }
+        assertEquals(2, perSlot[0]);
+        assertEquals(2, perSlot[1]);
+    }
+
+    @Test
+    void localSearchNeverWorsensAndReportsConsistentCost() {
+        SplittableRandom random = new SplittableRandom(17);
+        for (int round = 0; round < 10; round++) {
+            int classes = 5 + random.nextInt(20);
+            SparseIntMatrix conflicts = randomConflicts(random, classes);
+            int[] sizes = new int[classes];
+            for (int c = 0; c < classes; c++) {
+                sizes[c] = 1 + random.nextInt(60);
+            }
+            int slotCount = 2 + random.nextInt(6);
+
+            ExamScheduler.Result initial = ExamScheduler.solve(conflicts, sizes,
+                    options(slotCount, 2, Duration.ZERO, 1), POOL);
+            ExamScheduler.Result searched = ExamScheduler.solve(conflicts, sizes,
+                    options(slotCount, 2, Duration.ofMillis(50), 3), POOL);
+
+            assertTrue(searched.cost() <= initial.cost());
+            assertEquals(ExamScheduler.cost(conflicts, searched.slots(), options(slotCount, 2, Duration.ZERO, 1)),
+                    searched.cost());
+            for (int slot : searched.slots()) {
+                assertTrue(slot >= 0 && slot < slotCount);
+            }
+        }
+    }
+
+    /**
+     * 產生對稱、不含對角線的隨機衝突矩陣
+     */
+    private static SparseIntMatrix randomConflicts(SplittableRandom random, int classes) {
+        int[][] weights = new int[classes][classes];
+        for (int a = 0; a < classes; a++) {
+            for (int b = a + 1; b < classes; b++) {
+                if (random.nextInt(3) == 0) {
+                    weights[a][b] = weights[b][a] = 1 + random.nextInt(20);
+                }
+            }
+        }
+
+        int[][] columns = new int[classes][];
+        int[][] values = new int[classes][];
+        for (int a = 0; a < classes; a++) {
+            int count = 0;
+            for (int b = 0; b < classes; b++) {
+                count += weights[a][b] > 0 ? 1 : 0;
+            }
+            columns[a] = new int[count];
+            values[a] = new int[count];
+            int index = 0;
+            for (int b = 0; b < classes; b++) {
+                if (weights[a][b] > 0) {
+                    columns[a][index] = b;
+                    values[a][index++] = weights[a][b];
+                }
+            }
+        }
+        return SparseIntMatrix.fromRows(columns, values);
+    }
+}
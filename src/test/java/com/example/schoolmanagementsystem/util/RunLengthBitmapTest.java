@@ -0,0 +1,147 @@
+package com.example.schoolmanagementsystem.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * RunLengthBitmap 單元測試：區段合併邊界、varint 序列化與集合運算（以 BitSet 為對照）
+ */
+class RunLengthBitmapTest {
+
+    @Test
+    void ofMergesUnsortedDuplicateAndAdjacentPositions() {
+        RunLengthBitmap bitmap = RunLengthBitmap.of(5, 3, 1, 2, 2, 9, 3);
+
+        assertEquals(3, bitmap.runCount());
+        assertEquals(5, bitmap.cardinality());
+        assertEquals("{1-3,5,9}", bitmap.toString());
+        assertEquals(RunLengthBitmap.of(List.of(1, 2, 3, 5, 9)), bitmap);
+    }
+
+    @Test
+    void ofRejectsNegativePositions() {
+        assertThrows(IllegalArgumentException.class, () -> RunLengthBitmap.of(1, -1));
+    }
+
+    @Test
+    void emptyInputsReturnEmptyBitmap() {
+        assertTrue(RunLengthBitmap.of().isEmpty());
+        assertSame(RunLengthBitmap.EMPTY, RunLengthBitmap.range(0));
+        assertSame(RunLengthBitmap.EMPTY, RunLengthBitmap.fromBytes(null));
+        assertSame(RunLengthBitmap.EMPTY, RunLengthBitmap.fromBytes(new byte[0]));
+        assertEquals(RunLengthBitmap.EMPTY, RunLengthBitmap.fromBytes(RunLengthBitmap.EMPTY.toBytes()));
+    }
+
+    @Test
+    void containsChecksRunBoundaries() {
+        RunLengthBitmap bitmap = RunLengthBitmap.of(2, 3, 4, 10);
+
+        assertFalse(bitmap.contains(0));
+        assertFalse(bitmap.contains(1));
+        assertTrue(bitmap.contains(2));
+        assertTrue(bitmap.contains(4));
+        assertFalse(bitmap.contains(5));
+        assertTrue(bitmap.contains(10));
+        assertFalse(bitmap.contains(11));
+        assertFalse(RunLengthBitmap.EMPTY.contains(0));
+    }
+
+    @Test
+    void orJoinsRunsThatTouch() {
+        RunLengthBitmap left = RunLengthBitmap.range(5);
+        RunLengthBitmap right = RunLengthBitmap.of(5, 6, 7, 8, 9);
+
+        RunLengthBitmap union = left.or(right);
+
+        assertEquals(1, union.runCount());
+        assertEquals(RunLengthBitmap.range(10), union);
+    }
+
+    @Test
+    void andNotSplitsRuns() {
+        RunLengthBitmap result = RunLengthBitmap.range(10).andNot(RunLengthBitmap.of(0, 4, 5, 9));
+
+        assertEquals("{1-3,6-8}", result.toString());
+        assertEquals(2, result.runCount());
+    }
+
+    @Test
+    void varintRoundTripsLargeGapsAndLengths() {
+        int[] positions = {0, 127, 128, 16_383, 16_384, 2_097_151, 2_097_152, Integer.MAX_VALUE - 1};
+        RunLengthBitmap bitmap = RunLengthBitmap.of(positions);
+
+        RunLengthBitmap restored = RunLengthBitmap.fromBytes(bitmap.toBytes());
+
+        assertEquals(bitmap, restored);
+        for (int position : positions) {
+            assertTrue(restored.contains(position));
+        }
+        RunLengthBitmap wide = RunLengthBitmap.range(300_000);
+        assertEquals(wide, RunLengthBitmap.fromBytes(wide.toBytes()));
+    }
+
+    @Test
+    void addToSkipsPositionsOutsideTheArray() {
+        int[] counts = new int[6];
+
+        RunLengthBitmap.of(1, 2, 5, 6, 7, 20).addTo(counts);
+        RunLengthBitmap.range(3).addTo(counts);
+
+        assertArrayEquals(new int[]{1, 2, 2, 0, 0, 1}, counts);
+    }
+
+    @Test
+    void setOperationsMatchBitSet() {
+        SplittableRandom random = new SplittableRandom(42);
+        for (int round = 0; round < 500; round++) {
+            int size = 1 + random.nextInt(200);
+            BitSet a = randomRuns(random, size);
+            BitSet b = randomRuns(random, size);
+            RunLengthBitmap left = toBitmap(a);
+            RunLengthBitmap right = toBitmap(b);
+
+            BitSet and = (BitSet) a.clone();
+            and.and(b);
+            BitSet or = (BitSet) a.clone();
+            or.or(b);
+            BitSet andNot = (BitSet) a.clone();
+            andNot.andNot(b);
+
+            assertEquals(toBitmap(and), left.and(right));
+            assertEquals(toBitmap(or), left.or(right));
+            assertEquals(toBitmap(andNot), left.andNot(right));
+            assertEquals(a.cardinality(), left.cardinality());
+            assertEquals(left, RunLengthBitmap.fromBytes(left.toBytes()));
+        }
+    }
+
+    /**
+     * 產生以連續區段為主的隨機位元（較容易出現相接與重疊的區段）
+     */
+    private static BitSet randomRuns(SplittableRandom random, int size) {
+        BitSet bits = new BitSet(size);
+        int position = 0;
+        while (position < size) {
+            int length = 1 + random.nextInt(8);
+            if (random.nextBoolean()) {
+                bits.set(position, Math.min(size, position + length));
+            }
+            position += length;
+        }
+        return bits;
+    }
+
+    private static RunLengthBitmap toBitmap(BitSet bits) {
+        return RunLengthBitmap.of(bits.stream().toArray());
+    }
+}
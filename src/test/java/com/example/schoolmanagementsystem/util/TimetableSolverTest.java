@@ -0,0 +1,145 @@
+package com.example.schoolmanagementsystem.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * TimetableSolver 單元測試：硬性限制、教室分配與統計值必須與最終時段一致
+ */
+class TimetableSolverTest {
+
+    private static final Duration TIME_LIMIT = Duration.ofMillis(300);
+    private static final ForkJoinPool POOL = new ForkJoinPool(2);
+
+    @Test
+    void separatesTeacherClassesAndOverlappingCourses() {
+        // 班級 0、1 同一位教師；班級 2、3 有 30 位共同修課學生
+        SparseIntMatrix overlaps = SparseIntMatrix.fromRows(
+                new int[][]{{}, {}, {3}, {2}},
+                new int[][]{{}, {}, {30}, {30}});
+        TimetableSolver.Problem problem = new TimetableSolver.Problem(
+                new int[]{0, 0, 1, 2}, new int[]{40, 40, 40, 40}, new int[]{50, 50}, overlaps, 2);
+
+        TimetableSolver.Solution solution = TimetableSolver.solve(problem, TIME_LIMIT, 2, 1L, POOL);
+
+        assertEquals(0, solution.teacherClashes());
+        assertEquals(0, solution.roomShortages());
+        assertEquals(0, solution.overlapStudents());
+        assertTrue(solution.slots()[0] != solution.slots()[1]);
+        assertTrue(solution.slots()[2] != solution.slots()[3]);
+        assertConsistent(problem, solution);
+    }
+
+    @Test
+    void reportsUnavoidableTeacherClash() {
+        // 同一位教師三個班級只有兩個時段，至少一次重複
+        TimetableSolver.Problem problem = new TimetableSolver.Problem(
+                new int[]{0, 0, 0}, new int[]{10, 10, 10}, new int[]{20, 20, 20}, emptyOverlaps(3), 2);
+
+        TimetableSolver.Solution solution = TimetableSolver.solve(problem, TIME_LIMIT, 2, 3L, POOL);
+
+        assertEquals(1, solution.teacherClashes());
+        assertConsistent(problem, solution);
+    }
+
+    @Test
+    void leavesOversizedClassWithoutRoom() {
+        TimetableSolver.Problem problem = new TimetableSolver.Problem(
+                new int[]{0, 1}, new int[]{30, 200}, new int[]{50, 100}, emptyOverlaps(2), 2);
+
+        TimetableSolver.Solution solution = TimetableSolver.solve(problem, TIME_LIMIT, 1, 5L, POOL);
+
+        assertEquals(-1, solution.rooms()[1]);
+        assertEquals(1, solution.roomShortages());
+        assertTrue(solution.rooms()[0] >= 0);
+        assertConsistent(problem, solution);
+    }
+
+    @Test
+    void largeClassesGetLargeRoomsWhenSharingASlot() {
+        // 一個時段、兩間教室：大班必須分到大教室，小班才放得進小教室
+        TimetableSolver.Problem problem = new TimetableSolver.Problem(
+                new int[]{0, 1}, new int[]{20, 80}, new int[]{100, 30}, emptyOverlaps(2), 1);
+
+        TimetableSolver.Solution solution = TimetableSolver.solve(problem, TIME_LIMIT, 1, 7L, POOL);
+
+        assertEquals(0, solution.roomShortages());
+        assertEquals(0, solution.rooms()[1]);
+        assertEquals(1, solution.rooms()[0]);
+        assertConsistent(problem, solution);
+    }
+
+    @Test
+    void randomProblemsStayConsistent() {
+        SplittableRandom random = new SplittableRandom(11);
+        for (int round = 0; round < 5; round++) {
+            int classes = 5 + random.nextInt(40);
+            int[] teachers = new int[classes];
+            int[] capacities = new int[classes];
+            for (int c = 0; c < classes; c++) {
+                teachers[c] = random.nextInt(Math.max(1, classes / 3));
+                capacities[c] = 10 + random.nextInt(90);
+            }
+            int[] rooms = new int[1 + random.nextInt(6)];
+            for (int r = 0; r < rooms.length; r++) {
+                rooms[r] = 20 + random.nextInt(100);
+            }
+            TimetableSolver.Problem problem = new TimetableSolver.Problem(
+                    teachers, capacities, rooms, emptyOverlaps(classes), 2 + random.nextInt(8));
+
+            assertConsistent(problem, TimetableSolver.solve(problem, Duration.ofMillis(100), 2, round, POOL));
+        }
+    }
+
+    /**
+     * 結果中的統計值需與時段、教室分配重新計算的結果相同，且教室分配本身合法
+     */
+    private static void assertConsistent(TimetableSolver.Problem problem, TimetableSolver.Solution solution) {
+        int classes = problem.teachers().length;
+        Set<Long> teacherSlots = new HashSet<>();
+        Set<Long> roomSlots = new HashSet<>();
+        int clashes = 0;
+        int shortages = 0;
+        for (int c = 0; c < classes; c++) {
+            int slot = solution.slots()[c];
+            assertTrue(slot >= 0 && slot < problem.slotCount());
+            if (!teacherSlots.add(((long) problem.teachers()[c] << 32) | slot)) {
+                clashes++;
+            }
+            int room = solution.rooms()[c];
+            if (room < 0) {
+                shortages++;
+                continue;
+            }
+            assertTrue(problem.roomCapacities()[room] >= problem.capacities()[c], "room too small for class " + c);
+            assertTrue(roomSlots.add(((long) room << 32) | slot), "room double-booked for class " + c);
+        }
+
+        long overlap = 0;
+        SparseIntMatrix overlaps = problem.overlaps();
+        for (int c = 0; c < classes; c++) {
+            for (int index = overlaps.rowStart(c); index < overlaps.rowEnd(c); index++) {
+                int other = overlaps.columnAt(index);
+                if (other > c && solution.slots()[other] == solution.slots()[c]) {
+                    overlap += overlaps.valueAt(index);
+                }
+            }
+        }
+
+        assertEquals(clashes, solution.teacherClashes());
+        assertEquals(shortages, solution.roomShortages());
+        assertEquals(overlap, solution.overlapStudents());
+    }
+
+    private static SparseIntMatrix emptyOverlaps(int classes) {
+        return SparseIntMatrix.fromRows(new int[classes][0], new int[classes][0]);
+    }
+}